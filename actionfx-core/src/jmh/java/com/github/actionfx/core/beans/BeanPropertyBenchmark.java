@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026 Martin Koster
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.actionfx.core.beans;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.github.actionfx.core.utils.ReflectionUtils;
+
+/**
+ * JMH benchmark comparing the accessors of {@link BeanProperty} against the reflective access path that was used
+ * before (i.e. {@link ReflectionUtils#invokeMethod(Method, Object, Object...)} on every read and write).
+ * <p>
+ * Execute with {@code gradlew :actionfx-core:jmh -Pjmh.includes=BeanPropertyBenchmark}.
+ *
+ * @author koster
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BeanPropertyBenchmark {
+
+    private Model model;
+
+    private Method getter;
+
+    private Method setter;
+
+    private BeanProperty<String> methodProperty;
+
+    private BeanProperty<Integer> primitiveProperty;
+
+    private BeanProperty<String> fieldProperty;
+
+    private int counter;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        model = new Model();
+        getter = Model.class.getMethod("getName");
+        setter = Model.class.getMethod("setName", String.class);
+        methodProperty = new BeanProperty<>(Model.class, "name");
+        primitiveProperty = new BeanProperty<>(Model.class, "age");
+        fieldProperty = new BeanProperty<>(Model.class, "description");
+    }
+
+    @Benchmark
+    public Object getValue_direct() {
+        return model.getName();
+    }
+
+    @Benchmark
+    public Object getValue_reflection() {
+        return ReflectionUtils.invokeMethod(getter, model);
+    }
+
+    @Benchmark
+    public Object getValue_beanProperty() {
+        return methodProperty.getValue(model);
+    }
+
+    @Benchmark
+    public Object getValue_beanProperty_primitive() {
+        return primitiveProperty.getValue(model);
+    }
+
+    @Benchmark
+    public Object getValue_beanProperty_field() {
+        return fieldProperty.getValue(model);
+    }
+
+    @Benchmark
+    public void setValue_direct(final Blackhole blackhole) {
+        model.setName("name");
+        blackhole.consume(model);
+    }
+
+    @Benchmark
+    public void setValue_reflection(final Blackhole blackhole) {
+        ReflectionUtils.invokeMethod(setter, model, "name");
+        blackhole.consume(model);
+    }
+
+    @Benchmark
+    public void setValue_beanProperty(final Blackhole blackhole) {
+        methodProperty.setValue(model, "name");
+        blackhole.consume(model);
+    }
+
+    @Benchmark
+    public void setValue_beanProperty_primitive(final Blackhole blackhole) {
+        primitiveProperty.setValue(model, counter++);
+        blackhole.consume(model);
+    }
+
+    public static class Model {
+
+        private String name = "ActionFX";
+
+        private int age = 42;
+
+        // no getter and setter - accessed directly
+        private String description = "A declarative JavaFX MVC framework";
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(final String name) {
+            this.name = name;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        public void setAge(final int age) {
+            this.age = age;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 Martin Koster
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.actionfx.core.method;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.actionfx.core.annotation.AFXArgHint;
+import com.github.actionfx.core.annotation.ArgumentHint;
+import com.github.actionfx.core.method.ControllerMethodInvocationAdapter.ParameterValue;
+import com.github.actionfx.core.utils.ReflectionUtils;
+
+/**
+ * JMH benchmark measuring the invocation of a value change method (as e.g. annotated by
+ * {@link com.github.actionfx.core.annotation.AFXOnControlValueChange}) via the
+ * {@link ControllerMethodInvocationAdapter} against a plain reflective invocation.
+ * <p>
+ * Execute with {@code gradlew :actionfx-core:jmh -Pjmh.includes=ControllerMethodInvocationAdapterBenchmark}. Use the
+ * JMH option {@code -prof gc} to inspect the allocation rate per invocation.
+ *
+ * @author koster
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ControllerMethodInvocationAdapterBenchmark {
+
+    private Controller controller;
+
+    private Method method;
+
+    private ParameterValue[] parameterValues;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        controller = new Controller();
+        method = Controller.class.getMethod("onValueChange", String.class, String.class, List.class);
+        parameterValues = new ParameterValue[] { ParameterValue.ofAllSelectedValues(List.of("new")),
+                ParameterValue.ofNewValue("new"), ParameterValue.ofOldValue("old"), ParameterValue.of(this) };
+    }
+
+    @Benchmark
+    public Object invoke_reflection() {
+        return ReflectionUtils.invokeMethod(method, controller, "new", "old", List.of("new"));
+    }
+
+    @Benchmark
+    public Object invoke_adapter() {
+        return new ControllerMethodInvocationAdapter(controller, method, parameterValues).invoke();
+    }
+
+    public static class Controller {
+
+        public int onValueChange(@AFXArgHint(ArgumentHint.NEW_VALUE) final String newValue,
+                @AFXArgHint(ArgumentHint.OLD_VALUE) final String oldValue,
+                @AFXArgHint(ArgumentHint.ALL_SELECTED) final List<String> selectedValues) {
+            return newValue.length() + oldValue.length() + selectedValues.size();
+        }
+    }
+}
@@ -25,12 +25,16 @@ package com.github.actionfx.core;
 
 import java.io.File;
 import java.lang.Thread.UncaughtExceptionHandler;
+import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.MissingResourceException;
 import java.util.ResourceBundle;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 
 import jakarta.inject.Inject;
@@ -46,6 +50,7 @@ import com.github.actionfx.core.annotation.AFXSubscribe;
 import com.github.actionfx.core.annotation.ValidationMode;
 import com.github.actionfx.core.container.BeanContainerFacade;
 import com.github.actionfx.core.container.DefaultActionFXBeanContainer;
+import com.github.actionfx.core.container.instantiation.BeanDefinitionPostProcessor;
 import com.github.actionfx.core.container.instantiation.ConstructorBasedInstantiationSupplier;
 import com.github.actionfx.core.converter.ConversionService;
 import com.github.actionfx.core.dialogs.DialogController;
@@ -56,7 +61,12 @@ import com.github.actionfx.core.instrumentation.ActionFXEnhancer;
 import com.github.actionfx.core.instrumentation.ActionFXEnhancer.EnhancementStrategy;
 import com.github.actionfx.core.instrumentation.ControllerWrapper;
 import com.github.actionfx.core.instrumentation.bytebuddy.ActionFXByteBuddyEnhancer;
+import com.github.actionfx.core.method.AnnotatedParameterResolver;
+import com.github.actionfx.core.method.ParameterResolverRegistry;
+import com.github.actionfx.core.profiling.StartupProfiler;
+import com.github.actionfx.core.profiling.StartupReport;
 import com.github.actionfx.core.utils.AnnotationUtils;
+import com.github.actionfx.core.utils.AsyncUtils;
 import com.github.actionfx.core.utils.ReflectionUtils;
 import com.github.actionfx.core.validation.ValidationResult;
 import com.github.actionfx.core.view.View;
@@ -176,6 +186,18 @@ public class ActionFX {
     // what is the timeout in milliseconds ActionFX shall wait before starting to trigger a validation?
     protected int validationStartTimeoutMs;
 
+    // number of threads used by the default bean container to instantiate non-lazy beans
+    protected int beanInstantiationParallelism;
+
+    // shall views be created outside the JavaFX thread?
+    protected boolean offFxThreadViewCreation;
+
+    // shall controller extensions affecting only the view's content be applied when the view is shown first?
+    protected boolean deferredControllerExtensions;
+
+    // records timings of the startup phases (disabled by default)
+    protected StartupProfiler startupProfiler = StartupProfiler.disabled();
+
     /**
      * Internal constructor. Use {@link #builder()} method to create your application-specific instance of
      * {@link ActionFX}.
@@ -244,7 +266,9 @@ public class ActionFX {
      */
     public void scanForActionFXComponents() {
         checkActionFXState(ActionFXState.CONFIGURED);
+        final long start = startupProfiler.start();
         scanForActionFXComponentsInternal();
+        startupProfiler.record(StartupProfiler.Category.PHASE, "scanForActionFXComponents", null, start);
     }
 
     /**
@@ -253,11 +277,16 @@ public class ActionFX {
     private void scanForActionFXComponentsInternal() {
         // let's register some ActionFX-specific beans in the container before we do the
         // component scan
+        final long addBeansStart = startupProfiler.start();
         beanContainer.addActionFXBeans(this);
+        startupProfiler.record(StartupProfiler.Category.PHASE, "addActionFXBeans", null, addBeansStart);
 
         // let's let the bean container implementation do the work
         if (StringUtils.isNotEmpty(scanPackage)) {
+            final long componentScanStart = startupProfiler.start();
             beanContainer.runComponentScan(scanPackage);
+            startupProfiler.record(StartupProfiler.Category.PHASE, "runComponentScan", scanPackage,
+                    componentScanStart);
         }
         actionFXState = ActionFXState.INITIALIZED;// NOSONAR
     }
@@ -434,9 +463,13 @@ public class ActionFX {
      *            the primary stage
      */
     public void showMainView(final Stage primaryStage) {
+        final long start = startupProfiler.start();
         setPrimaryStage(primaryStage);
         final View view = getMainView();
         view.show(primaryStage);
+        startupProfiler.record(StartupProfiler.Category.PHASE, "showMainView", mainViewId, start);
+        // the startup is completed, as soon as the main view is displayed
+        startupProfiler.stop();
     }
 
     /**
@@ -783,6 +816,24 @@ public class ActionFX {
         getEventBus().publish(event);
     }
 
+    /**
+     * Removes the subscriptions of all methods annotated by {@link AFXSubscribe} of the bean with the given
+     * {@code beanId} from the event bus, so that these methods are not invoked anymore for published events. Use this
+     * method e.g. for controllers that are not used anymore for the rest of the application's lifetime.
+     * <p>
+     * Please note that the subscriptions are not restored afterwards, even in case the bean is requested again from the
+     * bean container.
+     *
+     * @param beanId
+     *            the ID of the bean, whose subscriptions shall be removed
+     */
+    public void unsubscribe(final String beanId) {
+        final BeanDefinitionPostProcessor postProcessor = getBeanDefinitionPostProcessor();
+        if (postProcessor != null) {
+            postProcessor.unsubscribe(beanId);
+        }
+    }
+
     /**
      * Performs a validation on controls inside the given {@code controller}.
      * <p>
@@ -925,6 +976,62 @@ public class ActionFX {
         return validationStartTimeoutMs;
     }
 
+    /**
+     * The number of threads that are used by ActionFX' default bean container {@link DefaultActionFXBeanContainer} to
+     * instantiate non-lazy beans during the component scan. A value of {@code 1} means that beans are instantiated
+     * sequentially.
+     *
+     * @return the number of threads used for instantiating non-lazy beans
+     */
+    public int getBeanInstantiationParallelism() {
+        return beanInstantiationParallelism;
+    }
+
+    /**
+     * Flag that indicates, whether controllers and their views (FXML or {@link javafx.scene.Parent}-based views) shall
+     * be created in the calling thread instead of the JavaFX thread. Only controllers, whose views contain nodes that
+     * can be exclusively created inside the JavaFX thread (e.g. {@link javafx.scene.web.WebView}), are created inside
+     * the JavaFX thread.
+     *
+     * @return {@code true}, if views are created outside the JavaFX thread, {@code false} otherwise.
+     */
+    public boolean isOffFxThreadViewCreation() {
+        return offFxThreadViewCreation;
+    }
+
+    /**
+     * Flag that indicates, whether controller extensions, that only affect the content of a view (e.g. validation,
+     * loading of control data via {@link com.github.actionfx.core.annotation.AFXLoadControlData}, cell value
+     * configurations), are deferred until the view is shown for the first time.
+     *
+     * @return {@code true}, if these controller extensions are deferred, {@code false}, if they are applied directly
+     *         after controller creation
+     */
+    public boolean isDeferredControllerExtensions() {
+        return deferredControllerExtensions;
+    }
+
+    /**
+     * Gets the profiler that records the timings of the ActionFX startup. In case startup profiling is not enabled via
+     * {@link ActionFXBuilder#enableStartupProfiling(boolean)}, the returned profiler does not record any timings.
+     *
+     * @return the startup profiler
+     */
+    public StartupProfiler getStartupProfiler() {
+        return startupProfiler;
+    }
+
+    /**
+     * Gets the report of the timings recorded during the ActionFX startup. Recording ends after the main view has been
+     * displayed via {@link #showMainView(Stage)}. In case startup profiling is not enabled via
+     * {@link ActionFXBuilder#enableStartupProfiling(boolean)}, the returned report is empty.
+     *
+     * @return the startup report
+     */
+    public StartupReport getStartupReport() {
+        return startupProfiler.getReport();
+    }
+
     /**
      * Checks, whether ActionFX is currently in {@code expectedState}. If ActionFX's state is different from the
      * expected state, an {@link IllegalStateException} is thrown.
@@ -964,8 +1071,34 @@ public class ActionFX {
      */
     @SuppressFBWarnings(justification = "Design Decision")
     public void reset() {
+        // a custom event bus might be re-used by the next instance, so subscribers of this instance are removed
+        final BeanDefinitionPostProcessor postProcessor = getBeanDefinitionPostProcessor();
+        if (postProcessor != null) {
+            postProcessor.unsubscribeAll();
+        }
         instance = null;// NOSONAR
         actionFXState = ActionFXState.UNINITIALIZED;// NOSONAR
+        ParameterResolverRegistry.reset();
+        AsyncUtils.reset();
+    }
+
+    /**
+     * Gets the {@link BeanDefinitionPostProcessor} from the bean container.
+     *
+     * @return the post-processor, or {@code null}, in case ActionFX is not yet initialized or the bean container does
+     *         not provide it
+     */
+    private BeanDefinitionPostProcessor getBeanDefinitionPostProcessor() {
+        if (actionFXState != ActionFXState.INITIALIZED) {
+            return null;
+        }
+        try {
+            return beanContainer.getBeanDefinitionPostProcessor();
+        } catch (final RuntimeException e) {
+            // e.g. the application context of the bean container is already closed during shutdown
+            LOG.debug("Unable to retrieve the bean definition post-processor from the bean container.", e);
+            return null;
+        }
     }
 
     /**
@@ -992,6 +1125,15 @@ public class ActionFX {
 
         private final List<BeanExtension> beanExtensions = new ArrayList<>();
 
+        private final Map<Class<? extends Annotation>, AnnotatedParameterResolver<?>> parameterResolvers =
+                new LinkedHashMap<>();
+
+        private Executor asyncExecutor;
+
+        private PriorityAwareEventBus eventBus;
+
+        private final Map<String, Executor> asyncExecutors = new LinkedHashMap<>();
+
         private BeanContainerFacade beanContainer;
 
         private boolean enableBeanContainerAutodetection = true;
@@ -1004,6 +1146,14 @@ public class ActionFX {
 
         private int validationStartTimeoutMs = -1;
 
+        private int beanInstantiationParallelism = 1;
+
+        private boolean offFxThreadViewCreation;
+
+        private boolean deferredControllerExtensions;
+
+        private boolean enableStartupProfiling;
+
         /**
          * Creates the instance of {@link ActionFX} ready to use.
          *
@@ -1011,7 +1161,10 @@ public class ActionFX {
          */
         public ActionFX build() {
             final ActionFX actionFX = new ActionFX();
-            actionFX.actionFXExtensionsBean = new ActionFXExtensionsBean(controllerExtensions, beanExtensions);
+            actionFX.startupProfiler = enableStartupProfiling ? new StartupProfiler(true) : StartupProfiler.disabled();
+            final long start = actionFX.startupProfiler.start();
+            actionFX.actionFXExtensionsBean = new ActionFXExtensionsBean(controllerExtensions, beanExtensions,
+                    eventBus);
             initializeBeanContainer(actionFX);
             actionFX.mainViewId = mainViewId;
             actionFX.scanPackage = scanPackage;
@@ -1027,7 +1180,14 @@ public class ActionFX {
             actionFX.validationApplyResultDecoration = validationApplyResultDecoration;
             actionFX.validationApplyRequiredDecoration = validationApplyRequiredDecoration;
             actionFX.validationStartTimeoutMs = validationStartTimeoutMs;
+            actionFX.beanInstantiationParallelism = beanInstantiationParallelism;
+            actionFX.offFxThreadViewCreation = offFxThreadViewCreation;
+            actionFX.deferredControllerExtensions = deferredControllerExtensions;
+            configureDefaultBeanContainer(actionFX);
+            registerParameterResolvers();
+            registerAsyncExecutors();
             postConstruct(actionFX);
+            actionFX.startupProfiler.record(StartupProfiler.Category.PHASE, "build", null, start);
             return actionFX;
         }
 
@@ -1229,6 +1389,81 @@ public class ActionFX {
             return beanExtension(extensions);
         }
 
+        /**
+         * Registers a custom resolver for controller method parameters annotated by {@code annotationType}. The
+         * resolver is invoked each time the method is invoked by ActionFX (e.g. for methods annotated by
+         * {@link com.github.actionfx.core.annotation.AFXOnAction}) and provides the value for the annotated parameter.
+         * <p>
+         * A single resolver instance is shared across all method invocations, so the resolver must be stateless and
+         * thread-safe. A resolver registered for one of ActionFX' own annotations (e.g. {@link AFXControlValue})
+         * replaces the built-in resolver.
+         *
+         * @param <A>
+         *            the annotation type
+         * @param annotationType
+         *            the annotation type, must be retained at runtime
+         * @param resolver
+         *            the resolver
+         * @return this builder
+         */
+        public <A extends Annotation> ActionFXBuilder parameterResolver(final Class<A> annotationType,
+                final AnnotatedParameterResolver<A> resolver) {
+            parameterResolvers.put(annotationType, resolver);
+            return this;
+        }
+
+        /**
+         * Defines the default executor for asynchronous method invocations, e.g. for methods annotated by
+         * {@link com.github.actionfx.core.annotation.AFXOnAction} with {@code async=true}. In case no executor is
+         * defined, an unbounded cached thread pool is used.
+         * <p>
+         * Ready-to-use executors can be created via {@link AsyncUtils#newBoundedExecutor(int)} and
+         * {@link AsyncUtils#newVirtualThreadExecutor()}. ActionFX does not shut down the supplied executor.
+         *
+         * @param executor
+         *            the default executor for asynchronous method invocations
+         * @return this builder
+         */
+        public ActionFXBuilder asyncExecutor(final Executor executor) {
+            asyncExecutor = executor;
+            return this;
+        }
+
+        /**
+         * Registers a named executor for asynchronous method invocations. The executor can be selected via the
+         * {@code executor} attribute of the annotations {@link com.github.actionfx.core.annotation.AFXOnAction},
+         * {@link com.github.actionfx.core.annotation.AFXLoadControlData} and {@link AFXSubscribe}, e.g. for moving
+         * long-running I/O to a dedicated pool. ActionFX does not shut down the supplied executor.
+         *
+         * @param name
+         *            the name of the executor
+         * @param executor
+         *            the executor
+         * @return this builder
+         */
+        public ActionFXBuilder asyncExecutor(final String name, final Executor executor) {
+            asyncExecutors.put(name, executor);
+            return this;
+        }
+
+        /**
+         * Defines the event bus implementation that is used for publishing events to methods annotated by
+         * {@link AFXSubscribe} (see {@link ActionFX#publishEvent(Object)}). In case no event bus is defined, a
+         * {@link com.github.actionfx.core.events.SimplePriorityAwareEventBus} is used, which notifies all subscribers
+         * synchronously inside the publishing thread.
+         * <p>
+         * For decoupling publishers from slow subscribers, an
+         * {@link com.github.actionfx.core.events.AsyncPriorityAwareEventBus} can be supplied.
+         *
+         * @param eventBus
+         *            the event bus implementation
+         * @return this builder
+         */
+        public ActionFXBuilder eventBus(final PriorityAwareEventBus eventBus) {
+            this.eventBus = eventBus;
+            return this;
+        }
+
         /**
          * Defines the bean container instance to use for ActionFX. The container classes needs to implement the
          * {@link BeanContainerFacade} interface and need to provide routines for registering bean definitions are
@@ -1338,6 +1573,92 @@ public class ActionFX {
             return this;
         }
 
+        /**
+         * Sets the number of threads that are used by ActionFX' default bean container
+         * {@link DefaultActionFXBeanContainer} to instantiate non-lazy beans during the component scan. Beans are
+         * instantiated in the order of their {@code @Inject} dependencies, while independent beans are instantiated
+         * concurrently. Default is {@code 1} (sequential instantiation).
+         * <p>
+         * Controllers and their views are created inside the JavaFX thread, so the parallelism only applies to
+         * non-controller beans, while controllers are instantiated one after another. Controllers are only
+         * instantiated concurrently, in case {@link #offFxThreadViewCreation(boolean)} is enabled as well.
+         * <p>
+         * This setting has no effect on other bean container implementations (e.g. the Spring bean container).
+         *
+         * @param beanInstantiationParallelism
+         *            the number of threads used for instantiating non-lazy beans. Must be at least {@code 1}.
+         * @return this builder
+         */
+        public ActionFXBuilder beanInstantiationParallelism(final int beanInstantiationParallelism) {
+            if (beanInstantiationParallelism < 1) {
+                throw new IllegalArgumentException("Bean instantiation parallelism must be at least 1!");
+            }
+            this.beanInstantiationParallelism = beanInstantiationParallelism;
+            return this;
+        }
+
+        /**
+         * Specifies, whether controllers and their views shall be created in the calling thread instead of the JavaFX
+         * thread. Loading FXML and constructing a scene graph that is not yet attached to a {@link javafx.scene.Scene}
+         * is allowed outside the JavaFX thread, so that e.g. views can be created concurrently during the component
+         * scan (see {@link #beanInstantiationParallelism(int)}). Attaching the views to a scene is still performed
+         * inside the JavaFX thread.
+         * <p>
+         * Views containing nodes that can be exclusively created inside the JavaFX thread (e.g.
+         * {@link javafx.scene.web.WebView}) are created inside the JavaFX thread. Such nodes are detected inside FXML
+         * files before the controller is instantiated. Views creating such nodes programmatically need to be flagged
+         * by {@link com.github.actionfx.core.annotation.AFXController#fxThreadOnly()}. Default is {@code false}, i.e.
+         * all controllers and views are created inside the JavaFX thread.
+         *
+         * @param offFxThreadViewCreation
+         *            {@code true}, if views shall be created outside the JavaFX thread, {@code false} otherwise
+         * @return this builder
+         */
+        public ActionFXBuilder offFxThreadViewCreation(final boolean offFxThreadViewCreation) {
+            this.offFxThreadViewCreation = offFxThreadViewCreation;
+            return this;
+        }
+
+        /**
+         * Specifies, whether controller extensions that only affect the content of a view are deferred until the view
+         * is shown for the first time. In case enabled, only the extensions required to build the controller (nested
+         * views, control configurations like {@link com.github.actionfx.core.annotation.AFXUseFilteredList},
+         * {@link com.github.actionfx.core.annotation.AFXOnAction} handlers and converters) are applied, when the
+         * controller is created. Cell value configurations, data loading via
+         * {@link com.github.actionfx.core.annotation.AFXLoadControlData}, value change listeners, form bindings,
+         * validations, node activations, custom controller extensions and the initial validation are applied, when
+         * the root node of the view is attached to a {@link javafx.scene.Scene} for the first time.
+         * <p>
+         * This reduces the startup time and memory footprint of applications with many views that are rarely shown
+         * (e.g. dialogs). Please note that methods annotated with {@code @PostConstruct} are invoked before deferred
+         * extensions are applied, e.g. loaded control data is not yet available inside these methods. Default is
+         * {@code false}.
+         *
+         * @param deferredControllerExtensions
+         *            {@code true}, if controller extensions affecting only the view's content shall be deferred until
+         *            the view is shown for the first time, {@code false} otherwise
+         * @return this builder
+         */
+        public ActionFXBuilder deferredControllerExtensions(final boolean deferredControllerExtensions) {
+            this.deferredControllerExtensions = deferredControllerExtensions;
+            return this;
+        }
+
+        /**
+         * Enables the recording of startup timings. In case enabled, ActionFX records the time spent in each startup
+         * phase (e.g. the component scan), for the instantiation of each controller, for loading each view and for
+         * applying each controller extension. Recording stops, after the main view is displayed. The recorded timings
+         * are available via {@link ActionFX#getStartupReport()}. Default is {@code false}.
+         *
+         * @param enableStartupProfiling
+         *            {@code true}, if startup timings shall be recorded, {@code false} otherwise
+         * @return this builder
+         */
+        public ActionFXBuilder enableStartupProfiling(final boolean enableStartupProfiling) {
+            this.enableStartupProfiling = enableStartupProfiling;
+            return this;
+        }
+
         /**
          * Initializes the bean container to use for ActionFX.
          *
@@ -1354,6 +1675,44 @@ public class ActionFX {
             }
         }
 
+        /**
+         * Registers the custom parameter resolvers in the {@link ParameterResolverRegistry}. Resolvers registered by a
+         * previously built instance are removed.
+         */
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        private void registerParameterResolvers() {
+            ParameterResolverRegistry.reset();
+            parameterResolvers.forEach((annotationType, resolver) -> ParameterResolverRegistry
+                    .register((Class) annotationType, (AnnotatedParameterResolver) resolver));
+        }
+
+        /**
+         * Registers the default and the named executors for asynchronous method invocations in {@link AsyncUtils}.
+         * Executors registered by a previously built instance are removed.
+         */
+        private void registerAsyncExecutors() {
+            AsyncUtils.reset();
+            if (asyncExecutor != null) {
+                AsyncUtils.setDefaultExecutor(asyncExecutor);
+            }
+            asyncExecutors.forEach(AsyncUtils::registerExecutor);
+        }
+
+        /**
+         * Applies configuration settings that are specific to ActionFX' default bean container, in case this container
+         * is used.
+         *
+         * @param actionFX
+         *            the actionFX instance
+         */
+        private void configureDefaultBeanContainer(final ActionFX actionFX) {
+            if (actionFX.beanContainer instanceof DefaultActionFXBeanContainer) {
+                final DefaultActionFXBeanContainer container = (DefaultActionFXBeanContainer) actionFX.beanContainer;
+                container.setInstantiationParallelism(actionFX.beanInstantiationParallelism);
+                container.setOffFxThreadViewCreation(actionFX.offFxThreadViewCreation);
+            }
+        }
+
         /**
          * Performs an autodetection of the bean container to use for ActionFX.
          *
@@ -143,6 +143,19 @@ public @interface AFXController {
      */
     public boolean lazyInit() default true;
 
+    /**
+     * Specifies, whether the controller and its view must be created inside the JavaFX thread, even in case ActionFX
+     * is configured to create views outside the JavaFX thread (see
+     * {@link com.github.actionfx.core.ActionFX#isOffFxThreadViewCreation()}). This is required for views containing
+     * nodes that can be exclusively created inside the JavaFX thread (e.g. a {@link javafx.scene.web.WebView}). Such
+     * nodes are detected automatically inside FXML files specified in {@link #fxml()}, so this attribute only needs to
+     * be set for views that create these nodes programmatically.
+     *
+     * @return {@code true}, if controller and view must be created inside the JavaFX thread, {@code false} (default)
+     *         otherwise
+     */
+    public boolean fxThreadOnly() default false;
+
     /**
      * Which stylesheets shall be applied to the scene? This array contains a list of classpath locations to CSS files.
      *
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026 Martin Koster
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.actionfx.core.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation that can be applied at class level on a model class (e.g. a model that is bound to a form via
+ * {@link AFXFormBinding}), so that the annotation processor
+ * {@link com.github.actionfx.core.beans.BeanAccessorProcessor} generates an accessor class for the model at compile
+ * time.
+ * <p>
+ * The generated accessor class (see {@link com.github.actionfx.core.beans.GeneratedBeanAccessor}) provides getters,
+ * setters, property-getters and the declared types of all properties of the model. In case the accessor class is
+ * present at runtime, {@link com.github.actionfx.core.beans.BeanWrapper} uses it for accessing the properties instead
+ * of applying reflection. This speeds up the binding of large forms and allows property access in environments, where
+ * reflection is restricted (e.g. in native images or in strongly encapsulated modules).
+ * <p>
+ * Please note that the annotation processor needs to be added to the {@code annotationProcessor} configuration of your
+ * build, e.g. in Gradle:
+ *
+ * <pre>
+ * dependencies {
+ *     implementation "com.github.martinkoster:actionfx-core:${actionFXVersion}"
+ *     annotationProcessor "com.github.martinkoster:actionfx-core:${actionFXVersion}"
+ * }
+ * </pre>
+ *
+ * Properties that can not be accessed by generated code (e.g. properties that are only backed by a private field) are
+ * still accessed via reflection.
+ *
+ * @author koster
+ *
+ */
+@Documented
+@Target({ ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface AFXGenerateBeanAccessor {
+
+}
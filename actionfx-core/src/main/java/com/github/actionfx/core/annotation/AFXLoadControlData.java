@@ -61,6 +61,16 @@ public @interface AFXLoadControlData {
      */
     public boolean async() default false;
 
+    /**
+     * Optional name of the executor that shall execute the annotated method, in case {@link #async()} is set to
+     * {@code true}. Executors are registered by name via
+     * {@link com.github.actionfx.core.ActionFX.ActionFXBuilder#asyncExecutor(String, java.util.concurrent.Executor)}.
+     * Named executors allow to separate e.g. IO-heavy data loading from CPU-bound work.
+     *
+     * @return the name of the executor. Default is the empty string "", which refers to the default executor.
+     */
+    public String executor() default "";
+
     /**
      * An optional expression that must resolve to a field of type {@link BooleanProperty}, if specified. The annotated
      * method is only called after construction (before {@code @PostConstruct} initialization methods), when the boolean
@@ -75,6 +85,26 @@ public @interface AFXLoadControlData {
      */
     public String loadingActiveBooleanProperty() default "";
 
+    /**
+     * Optional minimum interval in milliseconds between the start of two loads. In case a reload is requested within
+     * the interval (e.g. because the {@link #loadingActiveBooleanProperty()} toggles quickly), the reload is deferred
+     * until the interval has elapsed. All reloads requested in the meantime are collapsed into this single deferred
+     * reload, which is started from inside the JavaFX thread. In case the {@link #loadingActiveBooleanProperty()} has
+     * been switched to {@code false} in the meantime, the deferred reload is dropped.
+     *
+     * @return the minimum interval in milliseconds. Default is {@code 0}, i.e. a reload is started immediately.
+     */
+    public long minReloadIntervalMs() default 0;
+
+    /**
+     * Optional flag that determines, whether the thread executing a still running asynchronous load shall be
+     * interrupted, when a new load is started. Independent of this flag, a load that has not started yet is cancelled
+     * and the result of a stale load is discarded, so that the data of the latest load is always displayed.
+     *
+     * @return {@code true}, if a stale load shall be interrupted, {@code false} otherwise. Default is {@code false}.
+     */
+    public boolean interruptStaleLoad() default false;
+
     /**
      * An optional order that can be specified to define the order of execution of the annotated method, in case more
      * than one data loading routine is present inside the ActionFX controller.
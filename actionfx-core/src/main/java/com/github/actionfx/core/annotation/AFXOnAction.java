@@ -71,4 +71,14 @@ public @interface AFXOnAction {
      */
     public boolean async() default false;
 
+    /**
+     * Optional name of the executor that shall execute the annotated method, in case {@link #async()} is set to
+     * {@code true}. Executors are registered by name via
+     * {@link com.github.actionfx.core.ActionFX.ActionFXBuilder#asyncExecutor(String, java.util.concurrent.Executor)}.
+     * Named executors allow to separate e.g. IO-heavy actions from CPU-bound work.
+     *
+     * @return the name of the executor. Default is the empty string "", which refers to the default executor.
+     */
+    public String executor() default "";
+
 }
@@ -44,6 +44,10 @@ import com.github.actionfx.core.ActionFX;
  * Please note that methods annotated by {@link AFXSubscribe} can also have
  * additional method argument, that are e.g. annotated by
  * {@link AFXControlValue}.
+ * <p>
+ * For high-frequency events where only the latest event matters, the
+ * invocations can be rate-limited via {@link #throttleMs()},
+ * {@link #debounceMs()} or {@link #fxPulse()}.
  *
  * @author koster
  *
@@ -82,4 +86,66 @@ public @interface AFXSubscribe {
 	 *         inside the JavaFX thread. Default is {@code false}.
 	 */
 	public boolean async() default false;
+
+	/**
+	 * Optional name of the executor that shall execute the annotated method, in
+	 * case {@link #async()} is set to {@code true}. Executors are registered by
+	 * name via
+	 * {@link com.github.actionfx.core.ActionFX.ActionFXBuilder#asyncExecutor(String, java.util.concurrent.Executor)}.
+	 * Named executors allow to separate e.g. IO-heavy subscribers from CPU-bound
+	 * work.
+	 *
+	 * @return the name of the executor. Default is the empty string "", which
+	 *         refers to the default executor.
+	 */
+	public String executor() default "";
+
+	/**
+	 * Optional throttle window in milliseconds. When set to a value greater than
+	 * {@code 0}, the annotated method is invoked at most once per window. Events
+	 * that are published inside the window are coalesced (see
+	 * {@link #coalesceKey()}) and delivered at the end of the window inside the
+	 * JavaFX thread.
+	 *
+	 * @return the throttle window in milliseconds. Default is {@code 0}, i.e. no
+	 *         throttling.
+	 */
+	public long throttleMs() default 0;
+
+	/**
+	 * Optional debounce window in milliseconds. When set to a value greater than
+	 * {@code 0}, the annotated method is invoked only after no further event has
+	 * been published for the given number of milliseconds. Events published in the
+	 * meantime are coalesced (see {@link #coalesceKey()}) and delivered inside the
+	 * JavaFX thread.
+	 *
+	 * @return the debounce window in milliseconds. Default is {@code 0}, i.e. no
+	 *         debouncing.
+	 */
+	public long debounceMs() default 0;
+
+	/**
+	 * Optional flag that determines, whether the delivery of events shall be
+	 * aligned to the JavaFX pulse. When set to {@code true}, events are coalesced
+	 * (see {@link #coalesceKey()}) and delivered once per rendered frame inside
+	 * the JavaFX thread. This is useful for subscribers that update the UI on
+	 * high-frequency "state changed" events.
+	 *
+	 * @return {@code true}, if events shall be delivered once per JavaFX pulse,
+	 *         {@code false} otherwise. Default is {@code false}.
+	 */
+	public boolean fxPulse() default false;
+
+	/**
+	 * Optional path to a property of the event, whose value is used as key for
+	 * coalescing events in case {@link #throttleMs()}, {@link #debounceMs()} or
+	 * {@link #fxPulse()} is set. Only the latest event per key is delivered to
+	 * the annotated method. Nested paths like {@code "customer.id"} are
+	 * supported.
+	 *
+	 * @return the path to the property used as coalescing key. Default is the
+	 *         empty string "", which means that events are coalesced by their
+	 *         class, i.e. only the latest event is delivered.
+	 */
+	public String coalesceKey() default "";
 }
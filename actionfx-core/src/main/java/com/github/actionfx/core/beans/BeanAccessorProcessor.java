@@ -0,0 +1,403 @@
+/*
+ * Copyright (c) 2026 Martin Koster
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.actionfx.core.beans;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.JavaFileObject;
+
+/**
+ * Annotation processor that generates a {@link GeneratedBeanAccessor} for each class annotated by
+ * {@link com.github.actionfx.core.annotation.AFXGenerateBeanAccessor}.
+ * <p>
+ * The generated accessor contains a {@link GeneratedPropertyAccessor} for each property of the annotated class, that
+ * can be accessed via a getter ({@code getName()} or {@code isName()}), a setter ({@code setName(value)}) or a
+ * property-getter ({@code nameProperty()}). Inherited methods are considered as well. Methods that are not accessible
+ * from the package of the annotated class (e.g. private methods) are skipped, so that these properties are accessed
+ * via reflection at runtime.
+ * <p>
+ * The processor is registered via {@code META-INF/services/javax.annotation.processing.Processor}. Please note that
+ * the annotation type is referenced by its name, so that the processor does not require JavaFX on the annotation
+ * processor path.
+ *
+ * @author koster
+ *
+ */
+@SupportedAnnotationTypes(BeanAccessorProcessor.AFX_GENERATE_BEAN_ACCESSOR_ANNOTATION)
+public class BeanAccessorProcessor extends AbstractProcessor {
+
+    static final String AFX_GENERATE_BEAN_ACCESSOR_ANNOTATION = "com.github.actionfx.core.annotation."
+            + "AFXGenerateBeanAccessor";
+
+    private static final String READ_ONLY_PROPERTY_TYPE = "javafx.beans.property.ReadOnlyProperty";
+
+    private static final String PROPERTY_GETTER_SUFFIX = "Property";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        for (final TypeElement annotation : annotations) {
+            for (final Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() != ElementKind.CLASS) {
+                    processingEnv.getMessager().printMessage(Kind.WARNING,
+                            "@AFXGenerateBeanAccessor is only supported on classes, ignoring it.", element);
+                } else if (!isAccessibleFromPackage((TypeElement) element)) {
+                    processingEnv.getMessager().printMessage(Kind.ERROR,
+                            "@AFXGenerateBeanAccessor can not be applied to private classes.", element);
+                } else {
+                    generateAccessor((TypeElement) element);
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Generates the accessor class for the supplied {@code beanType}.
+     *
+     * @param beanType
+     *            the annotated type
+     */
+    private void generateAccessor(final TypeElement beanType) {
+        final String binaryName = processingEnv.getElementUtils().getBinaryName(beanType).toString();
+        final String accessorClassName = GeneratedBeanAccessor.accessorClassName(binaryName);
+        final String packageName = getPackage(beanType).getQualifiedName().toString();
+        final String accessorSimpleName = packageName.isEmpty() ? accessorClassName
+                : accessorClassName.substring(packageName.length() + 1);
+        try {
+            final JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(accessorClassName, beanType);
+            try (Writer writer = sourceFile.openWriter()) {
+                writer.write(createSource(beanType, packageName, accessorSimpleName));
+            }
+        } catch (final IOException e) {
+            processingEnv.getMessager().printMessage(Kind.ERROR,
+                    "Unable to write ActionFX bean accessor '" + accessorClassName + "': " + e.getMessage(), beanType);
+        }
+    }
+
+    /**
+     * Creates the source code of the accessor class.
+     *
+     * @param beanType
+     *            the annotated type
+     * @param packageName
+     *            the package of the annotated type
+     * @param accessorSimpleName
+     *            the simple name of the accessor class
+     * @return the source code
+     */
+    private String createSource(final TypeElement beanType, final String packageName,
+            final String accessorSimpleName) {
+        final String beanTypeName = beanType.getQualifiedName().toString();
+        final StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("// Generated by ").append(getClass().getName()).append(" - do not edit!\n");
+        source.append("@SuppressWarnings({ \"unchecked\", \"rawtypes\" })\n");
+        source.append("public final class ").append(accessorSimpleName).append(" extends ")
+                .append(GeneratedBeanAccessor.class.getName()).append(" {\n\n");
+        source.append("    public ").append(accessorSimpleName).append("() {\n");
+        source.append("        super(").append(beanTypeName).append(".class);\n");
+        for (final PropertyMethods property : collectProperties(beanType).values()) {
+            source.append("        register(new ").append(GeneratedPropertyAccessor.class.getName()).append("(\"")
+                    .append(property.getName()).append("\", ").append(property.getTypeLiteral()).append(",\n");
+            source.append("                ").append(readerLambda(beanTypeName, property.getter)).append(",\n");
+            source.append("                ").append(writerLambda(beanTypeName, property.getName(), property.setter))
+                    .append(",\n");
+            source.append("                ").append(readerLambda(beanTypeName, property.propertyGetter))
+                    .append("));\n");
+        }
+        source.append("    }\n");
+        source.append("}\n");
+        return source.toString();
+    }
+
+    private static String readerLambda(final String beanTypeName, final ExecutableElement method) {
+        if (method == null) {
+            return "null";
+        }
+        return "bean -> ((" + beanTypeName + ") bean)." + method.getSimpleName() + "()";
+    }
+
+    private String writerLambda(final String beanTypeName, final String propertyName,
+            final ExecutableElement method) {
+        if (method == null) {
+            return "null";
+        }
+        final TypeMirror parameterType = method.getParameters().get(0).asType();
+        if (parameterType.getKind().isPrimitive()) {
+            // unboxing "null" would throw a NullPointerException
+            final String boxedType = processingEnv.getTypeUtils().boxedClass((PrimitiveType) parameterType)
+                    .getQualifiedName().toString();
+            return "(bean, value) -> ((" + beanTypeName + ") bean)." + method.getSimpleName() + "((" + boxedType
+                    + ") requireNonNullPrimitiveValue(value, " + beanTypeName + ".class, \"" + propertyName
+                    + "\"))";
+        }
+        return "(bean, value) -> ((" + beanTypeName + ") bean)." + method.getSimpleName() + "(("
+                + erasedTypeName(parameterType) + ") value)";
+    }
+
+    /**
+     * Collects getter, setter and property-getter of all properties of the supplied {@code beanType}.
+     *
+     * @param beanType
+     *            the annotated type
+     * @return a map with key: capitalized property name -> value: methods of the property. The map is sorted, so that
+     *         the generated source is reproducible.
+     */
+    private Map<String, PropertyMethods> collectProperties(final TypeElement beanType) {
+        final Map<String, PropertyMethods> properties = new TreeMap<>();
+        final Map<String, List<ExecutableElement>> setterCandidates = new TreeMap<>();
+        final TypeMirror readOnlyPropertyType = getErasedType(READ_ONLY_PROPERTY_TYPE);
+        for (final Element member : processingEnv.getElementUtils().getAllMembers(beanType)) {
+            if (member.getKind() != ElementKind.METHOD || !isAccessible(beanType, (ExecutableElement) member)) {
+                continue;
+            }
+            final ExecutableElement method = (ExecutableElement) member;
+            final String methodName = method.getSimpleName().toString();
+            final int parameterCount = method.getParameters().size();
+            final TypeMirror returnType = method.getReturnType();
+            if (parameterCount == 0 && isPrefixed(methodName, "get") && returnType.getKind() != TypeKind.VOID) {
+                properties.computeIfAbsent(methodName.substring(3), PropertyMethods::new).getter = method;
+            } else if (parameterCount == 0 && isPrefixed(methodName, "is") && isBoolean(returnType)) {
+                properties.computeIfAbsent(methodName.substring(2), PropertyMethods::new).booleanGetter = method;
+            } else if (parameterCount == 1 && isPrefixed(methodName, "set")) {
+                setterCandidates.computeIfAbsent(methodName.substring(3), key -> new ArrayList<>()).add(method);
+            } else if (parameterCount == 0 && methodName.endsWith(PROPERTY_GETTER_SUFFIX)
+                    && methodName.length() > PROPERTY_GETTER_SUFFIX.length()
+                    && isReadOnlyProperty(returnType, readOnlyPropertyType)) {
+                final String propertyName = methodName.substring(0,
+                        methodName.length() - PROPERTY_GETTER_SUFFIX.length());
+                properties.computeIfAbsent(capitalize(propertyName), PropertyMethods::new).propertyGetter = method;
+            }
+        }
+        setterCandidates.forEach((key, candidates) -> {
+            final PropertyMethods property = properties.computeIfAbsent(key, PropertyMethods::new);
+            property.setter = selectSetter(property, candidates);
+        });
+        properties.values().forEach(PropertyMethods::resolveGetter);
+        return properties;
+    }
+
+    /**
+     * Selects the setter, whose parameter type matches the getter's return type. In case there is no getter or no
+     * matching setter, the first candidate is selected.
+     */
+    private ExecutableElement selectSetter(final PropertyMethods property, final List<ExecutableElement> candidates) {
+        final ExecutableElement getter = property.getter != null ? property.getter : property.booleanGetter;
+        if (getter != null) {
+            for (final ExecutableElement candidate : candidates) {
+                if (processingEnv.getTypeUtils().isSameType(candidate.getParameters().get(0).asType(),
+                        getter.getReturnType())) {
+                    return candidate;
+                }
+            }
+        }
+        return candidates.get(0);
+    }
+
+    /**
+     * Checks, whether the supplied {@code method} can be invoked from a class in the package of {@code beanType}.
+     */
+    private boolean isAccessible(final TypeElement beanType, final ExecutableElement method) {
+        final Set<Modifier> modifiers = method.getModifiers();
+        if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.PRIVATE)) {
+            return false;
+        }
+        final TypeElement declaringType = (TypeElement) method.getEnclosingElement();
+        if (Object.class.getName().contentEquals(declaringType.getQualifiedName())) {
+            // e.g. "getClass()" shall not be treated as property
+            return false;
+        }
+        return modifiers.contains(Modifier.PUBLIC) || getPackage(declaringType).equals(getPackage(beanType));
+    }
+
+    /**
+     * Checks, whether the supplied {@code type} and all its enclosing types are not private.
+     */
+    private static boolean isAccessibleFromPackage(final TypeElement type) {
+        Element element = type;
+        while (element != null && element.getKind() != ElementKind.PACKAGE) {
+            if (element.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            element = element.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private boolean isReadOnlyProperty(final TypeMirror type, final TypeMirror readOnlyPropertyType) {
+        return readOnlyPropertyType != null && type.getKind() == TypeKind.DECLARED
+                && processingEnv.getTypeUtils().isAssignable(processingEnv.getTypeUtils().erasure(type),
+                        readOnlyPropertyType);
+    }
+
+    private static boolean isBoolean(final TypeMirror type) {
+        return type.getKind() == TypeKind.BOOLEAN || (type.getKind() == TypeKind.DECLARED
+                && Boolean.class.getName().contentEquals(((TypeElement) ((DeclaredType) type).asElement())
+                        .getQualifiedName()));
+    }
+
+    private static boolean isPrefixed(final String methodName, final String prefix) {
+        return methodName.length() > prefix.length() && methodName.startsWith(prefix);
+    }
+
+    private TypeMirror getErasedType(final String typeName) {
+        final TypeElement typeElement = processingEnv.getElementUtils().getTypeElement(typeName);
+        return typeElement != null ? processingEnv.getTypeUtils().erasure(typeElement.asType()) : null;
+    }
+
+    private PackageElement getPackage(final Element element) {
+        return processingEnv.getElementUtils().getPackageOf(element);
+    }
+
+    /**
+     * Gets the name of the erased {@code type} as it can be used inside source code (e.g. in casts or class literals).
+     */
+    private String erasedTypeName(final TypeMirror type) {
+        final TypeMirror erasure = processingEnv.getTypeUtils().erasure(type);
+        if (erasure.getKind().isPrimitive()) {
+            return erasure.getKind().name().toLowerCase();
+        } else if (erasure.getKind() == TypeKind.ARRAY) {
+            return erasedTypeName(((ArrayType) erasure).getComponentType()) + "[]";
+        } else if (erasure.getKind() == TypeKind.DECLARED) {
+            return ((TypeElement) ((DeclaredType) erasure).asElement()).getQualifiedName().toString();
+        }
+        return Object.class.getName();
+    }
+
+    /**
+     * Gets the value type of the supplied JavaFX property type, i.e. the most specific return type of its
+     * {@code getValue()} method (e.g. {@code Integer} for an {@code IntegerProperty} or {@code T} for an
+     * {@code ObjectProperty<T>}).
+     *
+     * @param propertyType
+     *            the type returned by the property-getter
+     * @return the value type, or {@code null}, in case there is no {@code getValue()} method
+     */
+    private TypeMirror observableValueType(final TypeMirror propertyType) {
+        final DeclaredType declaredType = (DeclaredType) propertyType;
+        final Types typeUtils = processingEnv.getTypeUtils();
+        TypeMirror valueType = null;
+        for (final Element member : processingEnv.getElementUtils()
+                .getAllMembers((TypeElement) declaredType.asElement())) {
+            if (member.getKind() == ElementKind.METHOD && member.getSimpleName().contentEquals("getValue")
+                    && ((ExecutableElement) member).getParameters().isEmpty()
+                    && !member.getModifiers().contains(Modifier.STATIC)) {
+                final TypeMirror returnType = ((ExecutableType) typeUtils.asMemberOf(declaredType, member))
+                        .getReturnType();
+                if (valueType == null || typeUtils.isSubtype(typeUtils.erasure(returnType),
+                        typeUtils.erasure(valueType))) {
+                    valueType = returnType;
+                }
+            }
+        }
+        return valueType;
+    }
+
+    private static String capitalize(final String name) {
+        return name.substring(0, 1).toUpperCase() + name.substring(1);
+    }
+
+    private static String decapitalize(final String name) {
+        return name.substring(0, 1).toLowerCase() + name.substring(1);
+    }
+
+    /**
+     * Methods of a single property.
+     *
+     * @author koster
+     *
+     */
+    private class PropertyMethods {
+
+        private final String capitalizedName;
+
+        private ExecutableElement getter;
+
+        private ExecutableElement booleanGetter;
+
+        private ExecutableElement setter;
+
+        private ExecutableElement propertyGetter;
+
+        PropertyMethods(final String capitalizedName) {
+            this.capitalizedName = capitalizedName;
+        }
+
+        /**
+         * "get"-methods take precedence over "is"-methods (same as in {@link BeanProperty}).
+         */
+        void resolveGetter() {
+            if (getter == null) {
+                getter = booleanGetter;
+            }
+        }
+
+        String getName() {
+            return decapitalize(capitalizedName);
+        }
+
+        String getTypeLiteral() {
+            if (getter != null) {
+                return erasedTypeName(getter.getReturnType()) + ".class";
+            } else if (setter != null) {
+                return erasedTypeName(setter.getParameters().get(0).asType()) + ".class";
+            } else if (propertyGetter != null) {
+                final TypeMirror valueType = observableValueType(propertyGetter.getReturnType());
+                return valueType != null ? erasedTypeName(valueType) + ".class" : "null";
+            }
+            return "null";
+        }
+    }
+}
@@ -23,12 +23,21 @@
  */
 package com.github.actionfx.core.beans;
 
+import java.lang.reflect.Array;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.GenericArrayType;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
 import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
-import org.apache.commons.beanutils.PropertyUtils;
+import org.apache.commons.lang3.reflect.TypeUtils;
 
 import com.github.actionfx.core.utils.ReflectionUtils;
 
@@ -40,6 +49,15 @@ import javafx.beans.property.ReadOnlyProperty;
  * <p>
  * Constructing this instance is (comparably) expensive, because it uses reflection to lookup getter, setter and field.
  * Instances of this class should be therefore cached.
+ * <p>
+ * Reading and writing the value does not use reflection. Instead, accessors (lambdas spun via
+ * {@link java.lang.invoke.LambdaMetafactory} or method handles) are created on first access and re-used for all
+ * subsequent accesses. Reflection is only used as fallback for members that are not accessible via
+ * {@link java.lang.invoke.MethodHandles}.
+ * <p>
+ * In case a {@link GeneratedPropertyAccessor} is supplied (see
+ * {@link com.github.actionfx.core.annotation.AFXGenerateBeanAccessor}), getter, setter and property-getter are taken
+ * from the generated accessor and no reflection is applied at all.
  *
  * @author koster
  *
@@ -58,6 +76,24 @@ public class BeanProperty<T> {
 
     private Field field;
 
+    // indexed getter and setter, e.g. "getValue(int index)" and "setValue(int index, Object value)", or mapped getter
+    // and setter, e.g. "getValue(String key)" and "setValue(String key, Object value)"
+    private Method keyedGetter;
+
+    private Method keyedSetter;
+
+    // accessors are created lazily on first access - in case of concurrent first accesses, an accessor might be
+    // created more than once, which is harmless
+    private Function<Object, Object> reader;
+
+    private BiConsumer<Object, Object> writer;
+
+    private Function<Object, Object> propertyReader;
+
+    private BiFunction<Object, Object, Object> keyedReader;
+
+    private KeyedWriter keyedWriter;
+
     private Class<? extends T> type;
 
     private int index;
@@ -120,11 +156,32 @@ public class BeanProperty<T> {
      *            the map key
      */
     protected BeanProperty(final Class<?> beanClass, final String name, final int index, final String mapKey) {
+        this(beanClass, name, index, mapKey, null);
+    }
+
+    /**
+     * Instantiates a property with the given {@code name} inside the supplied {@code beanClass}, that is accessed via
+     * the supplied {@code generatedAccessor}.
+     *
+     * @param beanClass
+     *            the bean class
+     * @param name
+     *            the property name
+     * @param index
+     *            the index
+     * @param mapKey
+     *            the map key
+     * @param generatedAccessor
+     *            the generated accessor of the property, can be {@code null}. In case it is {@code null}, the property
+     *            is accessed via reflection.
+     */
+    BeanProperty(final Class<?> beanClass, final String name, final int index, final String mapKey,
+            final GeneratedPropertyAccessor generatedAccessor) {
         this.beanClass = beanClass;
         this.name = name;
         this.index = index;
         this.mapKey = mapKey;
-        initialize();
+        initialize(generatedAccessor);
     }
 
     public Class<?> getBeanClass() {
@@ -171,17 +228,26 @@ public class BeanProperty<T> {
 
     @SuppressWarnings("unchecked")
     private T getSimpleValue(final Object bean) {
-        if (getter == null && propertyGetter == null && field == null) {
-            throw new IllegalStateException("Property '" + name + "' in class '" + beanClass
-                    + "' has no getter, no property-getter and can  not be resolved to a field!");
+        Function<Object, Object> accessor = reader;
+        if (accessor == null) {
+            if (getter == null && !hasFxProperty() && field == null) {
+                throw new IllegalStateException("Property '" + name + "' in class '" + beanClass
+                        + "' has no getter, no property-getter and can  not be resolved to a field!");
+            }
+            if (getter == null && hasFxProperty()) {
+                final ReadOnlyProperty<T> property = getFxProperty(bean);
+                return property.getValue();
+            }
+            accessor = getter != null ? PropertyAccessors.reader(getter) : PropertyAccessors.reader(field);
+            reader = accessor;
         }
-        if (getter != null) {
-            return ReflectionUtils.invokeMethod(getter, bean);
-        } else if (propertyGetter != null) {
-            final ReadOnlyProperty<T> property = getFxProperty(bean);
-            return property.getValue();
-        } else {
-            return (T) ReflectionUtils.getFieldValue(field, bean);
+        try {
+            return (T) accessor.apply(bean);
+        } catch (final IllegalStateException e) {
+            throw e;
+        } catch (final Exception e) { // NOSONAR - lambdas might also throw checked exceptions of the getter/setter
+            throw new IllegalStateException(
+                    "Unable to read property '" + name + "' in class '" + beanClass.getCanonicalName() + "'!", e);
         }
     }
 
@@ -205,14 +271,22 @@ public class BeanProperty<T> {
     }
 
     private void setSimpleValue(final Object bean, final T value) {
-        if (setter == null && field == null) {
-            throw new IllegalStateException("Property '" + name + "' in class '" + beanClass
-                    + "' has no setter and can  not be resolved to a field!");
+        BiConsumer<Object, Object> accessor = writer;
+        if (accessor == null) {
+            if (setter == null && field == null) {
+                throw new IllegalStateException("Property '" + name + "' in class '" + beanClass
+                        + "' has no setter and can  not be resolved to a field!");
+            }
+            accessor = setter != null ? PropertyAccessors.writer(setter) : PropertyAccessors.writer(field);
+            writer = accessor;
         }
-        if (setter != null) {
-            ReflectionUtils.invokeMethod(setter, bean, value);
-        } else {
-            ReflectionUtils.setFieldValue(field, bean, value);
+        try {
+            accessor.accept(bean, value);
+        } catch (final IllegalStateException e) {
+            throw e;
+        } catch (final Exception e) { // NOSONAR - lambdas might also throw checked exceptions of the getter/setter
+            throw new IllegalStateException("Unable to set property '" + name + "' in class '"
+                    + beanClass.getCanonicalName() + "' to value '" + value + "'!", e);
         }
     }
 
@@ -223,12 +297,25 @@ public class BeanProperty<T> {
      *            The {@code bean} instance for which the property should be read
      * @return The {@code ReadOnlyProperty} instance of the property
      */
+    @SuppressWarnings("unchecked")
     public ReadOnlyProperty<T> getFxProperty(final Object bean) {
         if (!hasFxProperty()) {
             throw new IllegalStateException(
                     "Property '" + name + "' in class '" + beanClass + "' has no property-getter!");
         }
-        return ReflectionUtils.invokeMethod(propertyGetter, bean);
+        Function<Object, Object> accessor = propertyReader;
+        if (accessor == null) {
+            accessor = PropertyAccessors.reader(propertyGetter);
+            propertyReader = accessor;
+        }
+        try {
+            return (ReadOnlyProperty<T>) accessor.apply(bean);
+        } catch (final IllegalStateException e) {
+            throw e;
+        } catch (final Exception e) { // NOSONAR - lambdas might also throw checked exceptions of the getter/setter
+            throw new IllegalStateException("Unable to get property-getter of property '" + name + "' in class '"
+                    + beanClass.getCanonicalName() + "'!", e);
+        }
     }
 
     /**
@@ -237,7 +324,7 @@ public class BeanProperty<T> {
      * @return {@code true}, if the property can be set, {@code false} otherwise
      */
     public boolean isWritable() {
-        return setter != null || field != null;
+        return writer != null || setter != null || field != null;
     }
 
     /**
@@ -246,7 +333,7 @@ public class BeanProperty<T> {
      * @return {@code true}, if the property can be get, {@code false} otherwise
      */
     public boolean isReadable() {
-        return getter != null || field != null;
+        return reader != null || getter != null || field != null;
     }
 
     /**
@@ -255,7 +342,7 @@ public class BeanProperty<T> {
      * @return {@code true}, if the property has a property-getter, {@code false} otherwise.
      */
     public boolean hasFxProperty() {
-        return propertyGetter != null;
+        return propertyGetter != null || propertyReader != null;
     }
 
     /**
@@ -286,13 +373,34 @@ public class BeanProperty<T> {
     }
 
     /**
-     * Initializes the fields in this class by applying reflection.
+     * Initializes the fields in this class, either from the supplied {@code generatedAccessor} or by applying
+     * reflection.
+     *
+     * @param generatedAccessor
+     *            the generated accessor, can be {@code null}
      */
-    private void initialize() {
-        initializeGetterAndType();
-        initializeSetterAndType();
-        initializePropertyGetterAndObservableType();
-        initializeField();
+    private void initialize(final GeneratedPropertyAccessor generatedAccessor) {
+        if (generatedAccessor != null) {
+            initializeFromGeneratedAccessor(generatedAccessor);
+        } else {
+            initializeGetterAndType();
+            initializeSetterAndType();
+            initializePropertyGetterAndObservableType();
+            initializeField();
+        }
+        initializeKeyedGetterAndSetter();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void initializeFromGeneratedAccessor(final GeneratedPropertyAccessor generatedAccessor) {
+        reader = generatedAccessor.getReader();
+        writer = generatedAccessor.getWriter();
+        propertyReader = generatedAccessor.getFxPropertyReader();
+        type = (Class<T>) generatedAccessor.getType();
+        if (reader == null || writer == null) {
+            // generated accessors only use methods - a missing getter or setter might be compensated by a field
+            initializeField();
+        }
     }
 
     @SuppressWarnings("unchecked")
@@ -322,14 +430,118 @@ public class BeanProperty<T> {
         }
     }
 
+    @SuppressWarnings("unchecked")
     private void initializePropertyGetterAndObservableType() {
         propertyGetter = ReflectionUtils.findMethod(beanClass, propertyGetterMethodName(name));
+        if (propertyGetter != null && type == null) {
+            // same as in the generated accessor: the type is derived from the value type of the property
+            type = (Class<T>) observableValueType(propertyGetter.getGenericReturnType());
+        }
+    }
+
+    /**
+     * Gets the value type of the supplied JavaFX property type, i.e. the most specific return type of its
+     * {@code getValue()} method (e.g. {@code Integer} for an {@code IntegerProperty} or {@code T} for an
+     * {@code ObjectProperty<T>}). This is the reflective counterpart to the type derivation in
+     * {@link BeanAccessorProcessor}.
+     *
+     * @param propertyType
+     *            the (generic) type returned by the property-getter
+     * @return the value type, or {@code null}, in case there is no {@code getValue()} method
+     */
+    private static Class<?> observableValueType(final Type propertyType) {
+        final Class<?> rawPropertyType = TypeUtils.getRawType(propertyType, null);
+        if (rawPropertyType == null) {
+            return null;
+        }
+        Class<?> valueType = null;
+        for (final Method method : rawPropertyType.getMethods()) {
+            if (method.getName().equals("getValue") && method.getParameterCount() == 0
+                    && !Modifier.isStatic(method.getModifiers())) {
+                final Map<TypeVariable<?>, Type> typeArguments = TypeUtils.getTypeArguments(propertyType,
+                        method.getDeclaringClass());
+                final Class<?> returnType = erasure(resolve(method.getGenericReturnType(), typeArguments));
+                if (valueType == null || valueType.isAssignableFrom(returnType)) {
+                    valueType = returnType;
+                }
+            }
+        }
+        return valueType;
+    }
+
+    /**
+     * Resolves the supplied {@code type} against the given {@code typeArguments}, in case it is a type variable.
+     *
+     * @param type
+     *            the type to resolve
+     * @param typeArguments
+     *            the actual type arguments of the type variables, can be {@code null}
+     * @return the resolved type
+     */
+    private static Type resolve(final Type type, final Map<TypeVariable<?>, Type> typeArguments) {
+        Type resolved = type;
+        while (typeArguments != null && resolved instanceof TypeVariable && typeArguments.get(resolved) != null
+                && typeArguments.get(resolved) != resolved) {
+            resolved = typeArguments.get(resolved);
+        }
+        return resolved;
+    }
+
+    /**
+     * Gets the erasure of the supplied {@code type} (e.g. the bound of a type variable, that could not be resolved).
+     *
+     * @param type
+     *            the type
+     * @return the erasure of the type
+     */
+    private static Class<?> erasure(final Type type) {
+        if (type instanceof TypeVariable) {
+            final Type[] bounds = ((TypeVariable<?>) type).getBounds();
+            return bounds.length > 0 ? erasure(bounds[0]) : Object.class;
+        } else if (type instanceof WildcardType) {
+            return erasure(TypeUtils.getImplicitUpperBounds((WildcardType) type)[0]);
+        } else if (type instanceof GenericArrayType) {
+            return Array.newInstance(erasure(((GenericArrayType) type).getGenericComponentType()), 0).getClass();
+        }
+        final Class<?> rawType = TypeUtils.getRawType(type, null);
+        return rawType != null ? rawType : Object.class;
     }
 
     private void initializeField() {
         field = ReflectionUtils.findField(beanClass, name);
     }
 
+    private void initializeKeyedGetterAndSetter() {
+        if (!isIndexed() && !isMapped()) {
+            return;
+        }
+        final Class<?> keyType = isIndexed() ? int.class : String.class;
+        keyedGetter = findPublicMethod(getterMethodName(name, false), keyType, 1);
+        keyedSetter = findPublicMethod(setterMethodName(name), keyType, 2);
+    }
+
+    /**
+     * Finds a public method with the given {@code methodName}, that accepts {@code parameterCount} parameters, where
+     * the first parameter is of type {@code keyType}.
+     *
+     * @param methodName
+     *            the method name
+     * @param keyType
+     *            the type of the first parameter
+     * @param parameterCount
+     *            the number of parameters
+     * @return the method, or {@code null}, in case there is no such method
+     */
+    private Method findPublicMethod(final String methodName, final Class<?> keyType, final int parameterCount) {
+        for (final Method method : beanClass.getMethods()) {
+            if (method.getName().equals(methodName) && method.getParameterCount() == parameterCount
+                    && method.getParameterTypes()[0] == keyType) {
+                return method;
+            }
+        }
+        return null;
+    }
+
     /**
      * Constructs the {@code getter}-method name for the supplied {@link field}
      *
@@ -370,70 +582,153 @@ public class BeanProperty<T> {
     }
 
     /**
-     * Return the value of the specified indexed property of the specified bean, with no type conversions. In addition
-     * to supporting the JavaBeans specification, this method has been extended to support {@link List} objects as well.
+     * Return the value of the specified indexed property of the specified bean, with no type conversions.
+     * <p>
+     * The value is either retrieved via an indexed getter (e.g. {@code getValue(int index)}) or by accessing the index
+     * inside the array or the {@link List} (including {@link javafx.collections.ObservableList}) that is held by the
+     * property.
      *
      * @param bean
      *            the bean
-     * @return the indexed property value
+     * @return the indexed property value, or {@code null}, in case the array or list is {@code null}
      */
     private Object getIndexedProperty(final Object bean) {
-        try {
-            return PropertyUtils.getIndexedProperty(bean, name, index);
-        } catch (IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
-            throw new IllegalArgumentException("Unable to access indexed property of name '" + name + "' in class '"
-                    + bean.getClass().getCanonicalName() + "' at index '" + index + "'!", e);
+        if (keyedGetter != null) {
+            return getKeyedValue(bean, index);
+        }
+        final Object container = getSimpleValue(bean);
+        if (container == null) {
+            return null;
+        } else if (container instanceof Object[] array) {
+            return array[index];
+        } else if (container instanceof List<?> list) {
+            return list.get(index);
+        } else if (container.getClass().isArray()) {
+            return Array.get(container, index);
         }
+        throw new IllegalArgumentException("Unable to access indexed property of name '" + name + "' in class '"
+                + bean.getClass().getCanonicalName() + "' at index '" + index
+                + "', property is neither an array nor a list!");
     }
 
     /**
      * Return the value of the specified mapped property of the specified bean, with no type conversions.
+     * <p>
+     * The value is either retrieved via a mapped getter (e.g. {@code getValue(String key)}) or by getting the value of
+     * the key from the {@link Map} (including {@link javafx.collections.ObservableMap}) that is held by the property.
      *
      * @param bean
      *            the bean
-     * @return the mapped property value
+     * @return the mapped property value, or {@code null}, in case the map is {@code null}
      */
     private Object getMappedProperty(final Object bean) {
-        try {
-            return PropertyUtils.getMappedProperty(bean, name, mapKey);
-        } catch (IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
-            throw new IllegalArgumentException("Unable to access mapped property of name '" + name + "' in class '"
-                    + bean.getClass().getCanonicalName() + "' with key '" + mapKey + "'!", e);
+        if (keyedGetter != null) {
+            return getKeyedValue(bean, mapKey);
         }
+        final Object container = getSimpleValue(bean);
+        if (container == null) {
+            return null;
+        } else if (container instanceof Map<?, ?> map) {
+            return map.get(mapKey);
+        }
+        throw new IllegalArgumentException("Unable to access mapped property of name '" + name + "' in class '"
+                + bean.getClass().getCanonicalName() + "' with key '" + mapKey + "', property is not a map!");
     }
 
     /**
-     * Sets the value of the specified indexed property of the specified bean, with no type conversions. In addition to
-     * supporting the JavaBeans specification, this method has been extended to support {@link List} objects as well.
+     * Sets the value of the specified indexed property of the specified bean, with no type conversions.
+     * <p>
+     * The value is either set via an indexed setter (e.g. {@code setValue(int index, Object value)}) or by setting the
+     * index inside the array or the {@link List} (including {@link javafx.collections.ObservableList}) that is held by
+     * the property.
      *
      * @param bean
      *            the bean
      * @param value
      *            the value to set
      */
+    @SuppressWarnings("unchecked")
     private void setIndexedProperty(final Object bean, final Object value) {
-        try {
-            PropertyUtils.setIndexedProperty(bean, name, index, value);
-        } catch (IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
+        if (keyedSetter != null) {
+            setKeyedValue(bean, index, value);
+            return;
+        }
+        final Object container = getSimpleValue(bean);
+        if (container == null) {
             throw new IllegalArgumentException("Unable to set indexed property of name '" + name + "' in class '"
-                    + bean.getClass().getCanonicalName() + "' at index '" + index + "'!", e);
+                    + bean.getClass().getCanonicalName() + "' at index '" + index + "', property value is null!");
+        } else if (container instanceof Object[] array) {
+            array[index] = value;
+        } else if (container instanceof List<?> list) {
+            ((List<Object>) list).set(index, value);
+        } else if (container.getClass().isArray()) {
+            Array.set(container, index, value);
+        } else {
+            throw new IllegalArgumentException("Unable to set indexed property of name '" + name + "' in class '"
+                    + bean.getClass().getCanonicalName() + "' at index '" + index
+                    + "', property is neither an array nor a list!");
         }
     }
 
     /**
      * Sets the value of the specified mapped property of the specified bean, with no type conversions.
+     * <p>
+     * The value is either set via a mapped setter (e.g. {@code setValue(String key, Object value)}) or by putting the
+     * value under the key into the {@link Map} (including {@link javafx.collections.ObservableMap}) that is held by
+     * the property.
      *
      * @param bean
      *            the bean
      * @param value
      *            the value to set
      */
+    @SuppressWarnings("unchecked")
     private void setMappedProperty(final Object bean, final Object value) {
-        try {
-            PropertyUtils.setMappedProperty(bean, name, mapKey, value);
-        } catch (IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
+        if (keyedSetter != null) {
+            setKeyedValue(bean, mapKey, value);
+            return;
+        }
+        final Object container = getSimpleValue(bean);
+        if (container == null) {
             throw new IllegalArgumentException("Unable to set mapped property of name '" + name + "' in class '"
-                    + bean.getClass().getCanonicalName() + "' with key '" + mapKey + "'!", e);
+                    + bean.getClass().getCanonicalName() + "' with key '" + mapKey + "', property value is null!");
+        } else if (container instanceof Map<?, ?> map) {
+            ((Map<Object, Object>) map).put(mapKey, value);
+        } else {
+            throw new IllegalArgumentException("Unable to set mapped property of name '" + name + "' in class '"
+                    + bean.getClass().getCanonicalName() + "' with key '" + mapKey + "', property is not a map!");
+        }
+    }
+
+    private Object getKeyedValue(final Object bean, final Object key) {
+        BiFunction<Object, Object, Object> accessor = keyedReader;
+        if (accessor == null) {
+            accessor = PropertyAccessors.keyedReader(keyedGetter);
+            keyedReader = accessor;
+        }
+        try {
+            return accessor.apply(bean, key);
+        } catch (final IllegalStateException | IndexOutOfBoundsException e) {
+            throw e;
+        } catch (final Exception e) { // NOSONAR - lambdas might also throw checked exceptions of the getter/setter
+            throw new IllegalStateException("Unable to read property '" + name + "' in class '"
+                    + beanClass.getCanonicalName() + "' with index/key '" + key + "'!", e);
+        }
+    }
+
+    private void setKeyedValue(final Object bean, final Object key, final Object value) {
+        KeyedWriter accessor = keyedWriter;
+        if (accessor == null) {
+            accessor = PropertyAccessors.keyedWriter(keyedSetter);
+            keyedWriter = accessor;
+        }
+        try {
+            accessor.write(bean, key, value);
+        } catch (final IllegalStateException | IndexOutOfBoundsException e) {
+            throw e;
+        } catch (final Exception e) { // NOSONAR - lambdas might also throw checked exceptions of the getter/setter
+            throw new IllegalStateException("Unable to set property '" + name + "' in class '"
+                    + beanClass.getCanonicalName() + "' with index/key '" + key + "' to value '" + value + "'!", e);
         }
     }
 
@@ -23,23 +23,29 @@
  */
 package com.github.actionfx.core.beans;
 
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Iterator;
-import java.util.Map;
+import com.github.actionfx.core.annotation.AFXGenerateBeanAccessor;
+import com.github.actionfx.core.utils.MetadataCache;
+import com.github.actionfx.core.utils.ReflectionUtils;
 
 import javafx.beans.property.ReadOnlyProperty;
 import javafx.beans.value.ObservableValue;
 
 /**
  * Wrapper around a JavaBean to access its properties via convenience methods.
+ * <p>
+ * In case the bean class is annotated by {@link AFXGenerateBeanAccessor} and the accessor class generated by the
+ * {@link BeanAccessorProcessor} is present, properties are accessed via the generated accessor instead of reflection.
  *
  * @author koster
  *
  */
 public class BeanWrapper {
 
-    private static final Map<CacheKey, BeanProperty<?>> PROPERTY_CACHE = Collections.synchronizedMap(new HashMap<>());
+    private static final MetadataCache<CacheKey, BeanProperty<?>> PROPERTY_CACHE = MetadataCache
+            .forClassScopedKeys("BeanWrapper.properties", CacheKey::getClazz);
+
+    private static final MetadataCache<Class<?>, GeneratedBeanAccessor> GENERATED_ACCESSOR_CACHE = MetadataCache
+            .forClasses("BeanWrapper.generatedAccessors");
 
     private final Object bean;
 
@@ -83,12 +89,11 @@ public class BeanWrapper {
      * @return the instance that is the provider of the filed
      */
     public <T> T getPropertyValue(final String nestedPropertyPath) {
-        final BeanPropertyReference<T> reference = getBeanPropertyReference(nestedPropertyPath);
-        if (reference == null) {
-            // can happen, when one of the path elements resolves to null
+        if (bean == null || nestedPropertyPath == null) {
             return null;
         }
-        return reference.getValue();
+        // returns null, when one of the path elements resolves to null
+        return CompiledPropertyPath.of(bean.getClass(), nestedPropertyPath).getValue(bean);
     }
 
     /**
@@ -119,6 +124,8 @@ public class BeanWrapper {
     /**
      * Retrieves a property reference described by a nested path {@code nestedPropertyPath}.
      * <p>
+     * The path is parsed only once per bean class and then cached as {@link CompiledPropertyPath}.
+     * <p>
      * In case one of the path elements of the nested path evaluates to {@code null}, {@code null} is returned by this
      * method.
      *
@@ -126,29 +133,26 @@ public class BeanWrapper {
      *            a nested path to a property
      * @return the property
      */
-    @SuppressWarnings("unchecked")
     public <T> BeanPropertyReference<T> getBeanPropertyReference(final String nestedPropertyPath) {
-        final NestedExpression expression = new NestedExpression(nestedPropertyPath);
-        BeanProperty<?> property = null;
-        Object value = bean;
-        final Iterator<SingleExpression> it = expression.iterator();
-        while (it.hasNext()) {
-            final SingleExpression se = it.next();
-            if (value == null) {
-                // one of the path elements "in the middle" is null
-                return null;
-            } else {
-                property = getBeanProperty(value.getClass(), se.getPropertyName(), se.getIndex(), se.getKey());
-            }
-            if (it.hasNext()) {
-                // in case there are further path elements, we need to resolve the value for the
-                // next iteration
-                value = property.getValue(value);
-            } else {
-                return new BeanPropertyReference<>((BeanProperty<T>) property, value);
-            }
+        if (bean == null || nestedPropertyPath == null) {
+            return null;
         }
-        return null;
+        return CompiledPropertyPath.of(bean.getClass(), nestedPropertyPath).resolve(bean);
+    }
+
+    /**
+     * Checks, whether a value described by the nested path {@code nestedPropertyPath} can be read from beans of type
+     * {@code beanClass}. This allows to validate a path before there is an instance of the bean class.
+     *
+     * @param beanClass
+     *            the bean class
+     * @param nestedPropertyPath
+     *            a nested path to a property
+     * @return {@code true}, if the path can be read from the bean class, {@code false} otherwise
+     */
+    public static boolean isReadablePropertyPath(final Class<?> beanClass, final String nestedPropertyPath) {
+        return beanClass != null && nestedPropertyPath != null
+                && CompiledPropertyPath.isReadable(beanClass, nestedPropertyPath);
     }
 
     /**
@@ -173,10 +177,40 @@ public class BeanWrapper {
      *            the mapping key (in case of mapped property, {@code null} otherwise)
      * @return the property
      */
-    private static BeanProperty<?> getBeanProperty(final Class<?> beanClass, final String name, final int index,
+    static BeanProperty<?> getBeanProperty(final Class<?> beanClass, final String name, final int index,
             final String mapKey) {
-        return PROPERTY_CACHE.computeIfAbsent(CacheKey.of(beanClass, name, index, mapKey),
-                cacheKey -> new BeanProperty<>(beanClass, name, index, mapKey));
+        return PROPERTY_CACHE.get(CacheKey.of(beanClass, name, index, mapKey), cacheKey -> {
+            final GeneratedBeanAccessor generatedAccessor = getGeneratedBeanAccessor(beanClass);
+            return new BeanProperty<>(beanClass, name, index, mapKey,
+                    generatedAccessor != null ? generatedAccessor.getPropertyAccessor(name) : null);
+        });
+    }
+
+    /**
+     * Gets the accessor that has been generated for the supplied {@code beanClass} by the
+     * {@link BeanAccessorProcessor}.
+     *
+     * @param beanClass
+     *            the bean class
+     * @return the generated accessor, or {@code null}, in case the bean class is not annotated by
+     *         {@link AFXGenerateBeanAccessor} or in case the accessor class is not present
+     */
+    static GeneratedBeanAccessor getGeneratedBeanAccessor(final Class<?> beanClass) {
+        return GENERATED_ACCESSOR_CACHE.get(beanClass, BeanWrapper::loadGeneratedBeanAccessor);
+    }
+
+    private static GeneratedBeanAccessor loadGeneratedBeanAccessor(final Class<?> beanClass) {
+        if (!beanClass.isAnnotationPresent(AFXGenerateBeanAccessor.class)) {
+            return null;
+        }
+        try {
+            final Class<?> accessorClass = Class.forName(GeneratedBeanAccessor.accessorClassName(beanClass), true,
+                    beanClass.getClassLoader());
+            return (GeneratedBeanAccessor) ReflectionUtils.instantiateClass(accessorClass);
+        } catch (final ClassNotFoundException e) {
+            // annotation processor has not been executed - fall back to reflection
+            return null;
+        }
     }
 
     private static class CacheKey {
@@ -200,6 +234,10 @@ public class BeanWrapper {
             return new CacheKey(clazz, name, index, mapKey);
         }
 
+        Class<?> getClazz() {
+            return clazz;
+        }
+
         @Override
         public int hashCode() {
             final int prime = 31;
@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) 2026 Martin Koster
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.actionfx.core.beans;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import com.github.actionfx.core.utils.MetadataCache;
+
+/**
+ * A nested property path (e.g. {@code customer.address.city}) that has been parsed once for a specific root class.
+ * <p>
+ * The compiled path holds the chain of path segments together with the {@link BeanProperty} (and thereby its
+ * accessors) that has been resolved for each segment. Resolving a value is therefore a chain of accessor calls without
+ * any string parsing.
+ * <p>
+ * As intermediate path elements can be of different runtime types (e.g. in case the getter returns an interface or a
+ * super-class), each segment remembers the bean class its property has been resolved for. In case the segment is
+ * reached with a value of another runtime type, the property is resolved again for that type.
+ *
+ * @author koster
+ *
+ */
+final class CompiledPropertyPath {
+
+    // paths are usually literals in the code, the bound protects against paths that are assembled at runtime
+    private static final int MAXIMUM_PATHS_PER_CLASS = 256;
+
+    private static final MetadataCache<PathKey, CompiledPropertyPath> PATH_CACHE = MetadataCache
+            .forClassScopedKeys("CompiledPropertyPath.paths", PathKey::getRootClass, MAXIMUM_PATHS_PER_CLASS);
+
+    private final String path;
+
+    private final Segment[] segments;
+
+    private CompiledPropertyPath(final Class<?> rootClass, final String path) {
+        this.path = path;
+        final List<Segment> segmentList = new ArrayList<>();
+        for (final SingleExpression expression : new NestedExpression(path)) {
+            segmentList.add(new Segment(expression.getPropertyName(), expression.getIndex(), expression.getKey()));
+        }
+        segments = segmentList.toArray(new Segment[segmentList.size()]);
+        if (segments.length > 0) {
+            // the root class is part of the cache key, so the first segment can be resolved right away
+            segments[0].propertyFor(rootClass);
+        }
+    }
+
+    /**
+     * Gets the compiled path for the supplied {@code rootClass} and {@code path}, either from cache or by compiling
+     * the path (which is then again cached). At most {@value #MAXIMUM_PATHS_PER_CLASS} paths are cached per root
+     * class.
+     *
+     * @param rootClass
+     *            the class of the bean the path is evaluated against
+     * @param path
+     *            the nested property path
+     * @return the compiled path
+     */
+    static CompiledPropertyPath of(final Class<?> rootClass, final String path) {
+        return PATH_CACHE.get(new PathKey(rootClass, path), key -> new CompiledPropertyPath(rootClass, path));
+    }
+
+    /**
+     * Checks, whether the supplied {@code path} can be read from beans of type {@code rootClass}, using the declared
+     * types of the path elements.
+     * <p>
+     * As the runtime type of a path element can be more specific than its declared type, the check stops (and the
+     * path is considered readable) as soon as the type of a path element is not known before runtime, e.g. because
+     * it is declared as {@link Object}, it is a list or map element or it is only accessible via its field.
+     *
+     * @param rootClass
+     *            the class of the bean the path is evaluated against
+     * @param path
+     *            the nested property path
+     * @return {@code true}, if the path can be read, {@code false} otherwise
+     */
+    static boolean isReadable(final Class<?> rootClass, final String path) {
+        Class<?> type = rootClass;
+        for (final SingleExpression expression : new NestedExpression(path)) {
+            if (type == null || type == Object.class) {
+                return true;
+            }
+            final BeanProperty<?> property = BeanWrapper.getBeanProperty(type, expression.getPropertyName(),
+                    expression.getIndex(), expression.getKey());
+            if (!property.isReadable() && !property.hasFxProperty()) {
+                return false;
+            }
+            type = property.getType();
+            if (type != null && (property.isIndexed() || property.isMapped())) {
+                type = type.getComponentType();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Resolves the property described by this path, starting from the supplied {@code root} bean.
+     *
+     * @param <T>
+     *            the property type
+     * @param root
+     *            the root bean
+     * @return the reference to the property, or {@code null}, in case the root bean or one of the path elements "in
+     *         the middle" is {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    <T> BeanPropertyReference<T> resolve(final Object root) {
+        final Object bean = resolveLastBean(root);
+        if (bean == null) {
+            return null;
+        }
+        return new BeanPropertyReference<>((BeanProperty<T>) segments[segments.length - 1].propertyFor(bean.getClass()),
+                bean);
+    }
+
+    /**
+     * Gets the value described by this path, starting from the supplied {@code root} bean.
+     *
+     * @param <T>
+     *            the property type
+     * @param root
+     *            the root bean
+     * @return the value, or {@code null}, in case the root bean or one of the path elements is {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    <T> T getValue(final Object root) {
+        final Object bean = resolveLastBean(root);
+        if (bean == null) {
+            return null;
+        }
+        return (T) segments[segments.length - 1].propertyFor(bean.getClass()).getValue(bean);
+    }
+
+    /**
+     * Walks along the path until the bean that holds the last path element.
+     *
+     * @param root
+     *            the root bean
+     * @return the bean holding the last path element or {@code null}, in case one of the path elements is
+     *         {@code null} or the path is empty
+     */
+    private Object resolveLastBean(final Object root) {
+        if (segments.length == 0) {
+            return null;
+        }
+        Object value = root;
+        for (int i = 0; i < segments.length - 1 && value != null; i++) {
+            value = segments[i].propertyFor(value.getClass()).getValue(value);
+        }
+        return value;
+    }
+
+    String getPath() {
+        return path;
+    }
+
+    int getSegmentCount() {
+        return segments.length;
+    }
+
+    /**
+     * A single element of a compiled path.
+     *
+     * @author koster
+     *
+     */
+    private static final class Segment {
+
+        private final String propertyName;
+
+        private final int index;
+
+        private final String mapKey;
+
+        // last resolved property - in case of concurrent access with different bean classes, the property might be
+        // resolved more than once, which is harmless
+        private volatile BeanProperty<?> property;
+
+        Segment(final String propertyName, final int index, final String mapKey) {
+            this.propertyName = propertyName;
+            this.index = index;
+            this.mapKey = mapKey;
+        }
+
+        BeanProperty<?> propertyFor(final Class<?> beanClass) {
+            BeanProperty<?> resolved = property;
+            if (resolved == null || resolved.getBeanClass() != beanClass) {
+                resolved = BeanWrapper.getBeanProperty(beanClass, propertyName, index, mapKey);
+                property = resolved;
+            }
+            return resolved;
+        }
+    }
+
+    /**
+     * Key of the cache of compiled paths: the root class together with the path.
+     *
+     * @author koster
+     *
+     */
+    private static final class PathKey {
+
+        private final Class<?> rootClass;
+
+        private final String path;
+
+        private final int hashCode;
+
+        private PathKey(final Class<?> rootClass, final String path) {
+            this.rootClass = rootClass;
+            this.path = path;
+            hashCode = Objects.hash(rootClass, path);
+        }
+
+        private Class<?> getRootClass() {
+            return rootClass;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof PathKey)) {
+                return false;
+            }
+            final PathKey other = (PathKey) obj;
+            return rootClass == other.rootClass && path.equals(other.path);
+        }
+    }
+}
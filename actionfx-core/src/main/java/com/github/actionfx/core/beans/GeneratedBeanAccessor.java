@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026 Martin Koster
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.actionfx.core.beans;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Base class for accessor classes that are generated by the {@link BeanAccessorProcessor} for model classes annotated
+ * by {@link com.github.actionfx.core.annotation.AFXGenerateBeanAccessor}.
+ * <p>
+ * A generated accessor registers a {@link GeneratedPropertyAccessor} for each property of the model class in its
+ * constructor. The generated class is named like the model class with suffix {@link #CLASS_NAME_SUFFIX} and is placed
+ * in the same package as the model class (see {@link #accessorClassName(Class)}).
+ *
+ * @author koster
+ *
+ */
+public abstract class GeneratedBeanAccessor {
+
+    /**
+     * Suffix of generated accessor classes.
+     */
+    public static final String CLASS_NAME_SUFFIX = "_AFXBeanAccessor";
+
+    // key is the capitalized property name, i.e. the name as used in getter and setter names
+    private final Map<String, GeneratedPropertyAccessor> propertyAccessors = new HashMap<>();
+
+    private final Class<?> beanClass;
+
+    protected GeneratedBeanAccessor(final Class<?> beanClass) {
+        this.beanClass = beanClass;
+    }
+
+    /**
+     * Registers the accessor for a single property.
+     *
+     * @param propertyAccessor
+     *            the property accessor to register
+     */
+    protected final void register(final GeneratedPropertyAccessor propertyAccessor) {
+        propertyAccessors.put(capitalize(propertyAccessor.getName()), propertyAccessor);
+    }
+
+    /**
+     * Gets the accessor for the property with the given {@code propertyName}.
+     * <p>
+     * Property names are matched in the same way as getter and setter names are derived by {@link BeanProperty}, i.e.
+     * only the first character is compared case-insensitive.
+     *
+     * @param propertyName
+     *            the property name
+     * @return the property accessor, or {@code null}, in case there is no accessor for the property
+     */
+    public GeneratedPropertyAccessor getPropertyAccessor(final String propertyName) {
+        if (propertyName == null || propertyName.isEmpty()) {
+            return null;
+        }
+        return propertyAccessors.get(capitalize(propertyName));
+    }
+
+    /**
+     * The model class that is accessed by this accessor.
+     *
+     * @return the model class
+     */
+    public Class<?> getBeanClass() {
+        return beanClass;
+    }
+
+    /**
+     * Gets the fully qualified name of the accessor class for the given {@code beanClass}.
+     *
+     * @param beanClass
+     *            the model class
+     * @return the fully qualified name of the accessor class
+     */
+    public static String accessorClassName(final Class<?> beanClass) {
+        return accessorClassName(beanClass.getName());
+    }
+
+    /**
+     * Gets the fully qualified name of the accessor class for the model class with the given binary name (e.g.
+     * {@code some.pkg.Outer$Model}). The accessor of a nested model class is a top-level class, so inner class
+     * separators are escaped by {@code _0}. Underscores are escaped by {@code _1}, so that e.g. the accessors of
+     * {@code Outer$Model} ({@code some.pkg.Outer_0Model_AFXBeanAccessor}) and {@code Outer_Model}
+     * ({@code some.pkg.Outer_1Model_AFXBeanAccessor}) do not collide.
+     *
+     * @param beanClassBinaryName
+     *            the binary name of the model class
+     * @return the fully qualified name of the accessor class
+     */
+    public static String accessorClassName(final String beanClassBinaryName) {
+        final int simpleNameStart = beanClassBinaryName.lastIndexOf('.') + 1;
+        final StringBuilder accessorClassName = new StringBuilder(
+                beanClassBinaryName.length() + CLASS_NAME_SUFFIX.length() + 4);
+        accessorClassName.append(beanClassBinaryName, 0, simpleNameStart);
+        for (int i = simpleNameStart; i < beanClassBinaryName.length(); i++) {
+            final char c = beanClassBinaryName.charAt(i);
+            if (c == '$') {
+                accessorClassName.append("_0");
+            } else if (c == '_') {
+                accessorClassName.append("_1");
+            } else {
+                accessorClassName.append(c);
+            }
+        }
+        return accessorClassName.append(CLASS_NAME_SUFFIX).toString();
+    }
+
+    /**
+     * Checks that the {@code value} that shall be set into a property of primitive type is not {@code null}. Used by
+     * generated writers, so that they fail with the same exception as the reflective access in {@link BeanProperty}.
+     *
+     * @param value
+     *            the value to check
+     * @param beanClass
+     *            the model class
+     * @param propertyName
+     *            the name of the property
+     * @return the supplied {@code value}
+     * @throws IllegalStateException
+     *             in case {@code value} is {@code null}
+     */
+    protected static Object requireNonNullPrimitiveValue(final Object value, final Class<?> beanClass,
+            final String propertyName) {
+        if (value == null) {
+            throw new IllegalStateException("Unable to set property '" + propertyName + "' in class '"
+                    + beanClass.getCanonicalName() + "' to value 'null'!",
+                    new NullPointerException("Property '" + propertyName + "' has a primitive type"));
+        }
+        return value;
+    }
+
+    private static String capitalize(final String propertyName) {
+        return propertyName.substring(0, 1).toUpperCase() + propertyName.substring(1);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 Martin Koster
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.actionfx.core.beans;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Generated accessor for a single property of a model class. Instances are created by the accessor classes generated
+ * by the {@link BeanAccessorProcessor}.
+ * <p>
+ * Each accessor function is optional, e.g. a read-only property does not have a writer.
+ *
+ * @author koster
+ *
+ */
+public final class GeneratedPropertyAccessor {
+
+    private final String name;
+
+    private final Class<?> type;
+
+    private final Function<Object, Object> reader;
+
+    private final BiConsumer<Object, Object> writer;
+
+    private final Function<Object, Object> fxPropertyReader;
+
+    /**
+     * Constructor accepting all accessors of a single property.
+     *
+     * @param name
+     *            the property name
+     * @param type
+     *            the declared type of the property (the return type of the getter or the parameter type of the setter)
+     * @param reader
+     *            function invoking the getter, can be {@code null}
+     * @param writer
+     *            consumer invoking the setter, can be {@code null}
+     * @param fxPropertyReader
+     *            function invoking the property-getter, can be {@code null}
+     */
+    public GeneratedPropertyAccessor(final String name, final Class<?> type, final Function<Object, Object> reader,
+            final BiConsumer<Object, Object> writer, final Function<Object, Object> fxPropertyReader) {
+        this.name = name;
+        this.type = type;
+        this.reader = reader;
+        this.writer = writer;
+        this.fxPropertyReader = fxPropertyReader;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    public Function<Object, Object> getReader() {
+        return reader;
+    }
+
+    public BiConsumer<Object, Object> getWriter() {
+        return writer;
+    }
+
+    public Function<Object, Object> getFxPropertyReader() {
+        return fxPropertyReader;
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026 Martin Koster
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.actionfx.core.beans;
+
+/**
+ * Writer for indexed and mapped setters that accepts the bean, the index or map key and the value to set.
+ * <p>
+ * This interface is used internally by {@link BeanProperty}. It is a public top-level type, because it is implemented
+ * by lambdas that are spun via {@link java.lang.invoke.LambdaMetafactory} inside the package of the bean class, which
+ * requires the interface to be accessible from there.
+ *
+ * @author koster
+ *
+ */
+@FunctionalInterface
+public interface KeyedWriter {
+
+    /**
+     * Writes the supplied {@code value} into the bean.
+     *
+     * @param bean
+     *            the bean
+     * @param key
+     *            the index or the map key
+     * @param value
+     *            the value to set
+     */
+    void write(Object bean, Object key, Object value);
+}
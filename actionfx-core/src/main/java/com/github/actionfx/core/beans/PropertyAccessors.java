@@ -0,0 +1,319 @@
+/*
+ * Copyright (c) 2026 Martin Koster
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.actionfx.core.beans;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.actionfx.core.utils.ReflectionUtils;
+
+/**
+ * Factory for accessors that read and write bean properties without going through {@link Method#invoke} or
+ * {@link Field#get} on every access.
+ * <p>
+ * Accessors are created in the following order of preference:
+ * <ol>
+ * <li>For methods, a {@link Function}, {@link BiConsumer}, {@link BiFunction} or {@link KeyedWriter} is spun via
+ * {@link LambdaMetafactory} inside the package of the bean class. The JIT treats these like regular lambdas, so that
+ * the call can be inlined.</li>
+ * <li>For fields and for methods, where {@link LambdaMetafactory} can not be applied (e.g. because the declaring class
+ * resides in a named module that is not opened to ActionFX), the accessor delegates to a {@link MethodHandle}.</li>
+ * <li>In case the member is not accessible through {@link MethodHandles} at all, the accessor falls back to
+ * reflection via {@link ReflectionUtils}.</li>
+ * </ol>
+ * Creating an accessor is comparably expensive, so created accessors are expected to be held by the caller (i.e.
+ * {@link BeanProperty}).
+ *
+ * @author koster
+ *
+ */
+final class PropertyAccessors {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PropertyAccessors.class);
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final MethodType READER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final MethodType WRITER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final MethodType KEYED_READER_TYPE = MethodType.methodType(Object.class, Object.class,
+            Object.class);
+
+    private static final MethodType KEYED_WRITER_TYPE = MethodType.methodType(void.class, Object.class, Object.class,
+            Object.class);
+
+    private PropertyAccessors() {
+        // class can not be instantiated
+    }
+
+    /**
+     * Creates a reader for the supplied {@code getter}, i.e. a function that accepts the bean and returns the value
+     * returned by the {@code getter}.
+     *
+     * @param getter
+     *            the getter method taking no arguments
+     * @return the reader
+     */
+    @SuppressWarnings("unchecked")
+    static Function<Object, Object> reader(final Method getter) {
+        final MethodHandles.Lookup lookup = lookupFor(getter.getDeclaringClass());
+        final MethodHandle handle = unreflect(lookup, getter);
+        if (handle != null) {
+            final Object lambda = spinLambda(lookup, handle, Function.class, "apply", READER_TYPE,
+                    handle.type().wrap());
+            if (lambda != null) {
+                return (Function<Object, Object>) lambda;
+            }
+            final MethodHandle adaptedHandle = adapt(handle, READER_TYPE);
+            if (adaptedHandle != null) {
+                return reader(adaptedHandle);
+            }
+        }
+        return bean -> ReflectionUtils.invokeMethod(getter, bean);
+    }
+
+    /**
+     * Creates a writer for the supplied {@code setter}, i.e. a consumer that accepts the bean and the value to pass
+     * into the {@code setter}.
+     *
+     * @param setter
+     *            the setter method taking exactly one argument
+     * @return the writer
+     */
+    @SuppressWarnings("unchecked")
+    static BiConsumer<Object, Object> writer(final Method setter) {
+        final MethodHandles.Lookup lookup = lookupFor(setter.getDeclaringClass());
+        final MethodHandle handle = unreflect(lookup, setter);
+        if (handle != null) {
+            final Object lambda = spinLambda(lookup, handle, BiConsumer.class, "accept", WRITER_TYPE,
+                    handle.type().wrap().changeReturnType(void.class));
+            if (lambda != null) {
+                return (BiConsumer<Object, Object>) lambda;
+            }
+            final MethodHandle adaptedHandle = adapt(handle, WRITER_TYPE);
+            if (adaptedHandle != null) {
+                return writer(adaptedHandle);
+            }
+        }
+        return (bean, value) -> ReflectionUtils.invokeMethod(setter, bean, value);
+    }
+
+    /**
+     * Creates a reader for the supplied indexed or mapped {@code getter} (e.g. {@code getValue(int index)} or
+     * {@code getValue(String key)}), i.e. a function that accepts the bean and the index or map key and returns the
+     * value returned by the {@code getter}.
+     *
+     * @param getter
+     *            the getter method taking exactly one argument (the index or the key)
+     * @return the reader
+     */
+    @SuppressWarnings("unchecked")
+    static BiFunction<Object, Object, Object> keyedReader(final Method getter) {
+        final MethodHandles.Lookup lookup = lookupFor(getter.getDeclaringClass());
+        final MethodHandle handle = unreflect(lookup, getter);
+        if (handle != null) {
+            final Object lambda = spinLambda(lookup, handle, BiFunction.class, "apply", KEYED_READER_TYPE,
+                    handle.type().wrap());
+            if (lambda != null) {
+                return (BiFunction<Object, Object, Object>) lambda;
+            }
+            final MethodHandle adaptedHandle = adapt(handle, KEYED_READER_TYPE);
+            if (adaptedHandle != null) {
+                return (bean, key) -> {
+                    try {
+                        return adaptedHandle.invokeExact(bean, key);
+                    } catch (final Throwable e) { // NOSONAR
+                        throw rethrow(e);
+                    }
+                };
+            }
+        }
+        return (bean, key) -> ReflectionUtils.invokeMethod(getter, bean, key);
+    }
+
+    /**
+     * Creates a writer for the supplied indexed or mapped {@code setter} (e.g.
+     * {@code setValue(int index, Object value)} or {@code setValue(String key, Object value)}).
+     *
+     * @param setter
+     *            the setter method taking exactly two arguments (the index or the key and the value)
+     * @return the writer
+     */
+    static KeyedWriter keyedWriter(final Method setter) {
+        final MethodHandles.Lookup lookup = lookupFor(setter.getDeclaringClass());
+        final MethodHandle handle = unreflect(lookup, setter);
+        if (handle != null) {
+            final Object lambda = spinLambda(lookup, handle, KeyedWriter.class, "write", KEYED_WRITER_TYPE,
+                    handle.type().wrap().changeReturnType(void.class));
+            if (lambda != null) {
+                return (KeyedWriter) lambda;
+            }
+            final MethodHandle adaptedHandle = adapt(handle, KEYED_WRITER_TYPE);
+            if (adaptedHandle != null) {
+                return (bean, key, value) -> {
+                    try {
+                        adaptedHandle.invokeExact(bean, key, value);
+                    } catch (final Throwable e) { // NOSONAR
+                        throw rethrow(e);
+                    }
+                };
+            }
+        }
+        return (bean, key, value) -> ReflectionUtils.invokeMethod(setter, bean, key, value);
+    }
+
+    /**
+     * Creates a reader for the supplied {@code field}.
+     *
+     * @param field
+     *            the field to read
+     * @return the reader
+     */
+    static Function<Object, Object> reader(final Field field) {
+        final MethodHandles.Lookup lookup = lookupFor(field.getDeclaringClass());
+        try {
+            return reader(lookup.unreflectGetter(field).asType(READER_TYPE));
+        } catch (final IllegalAccessException | RuntimeException e) {
+            LOG.trace("Unable to create method handle for reading field '{}', falling back to reflection.", field, e);
+            return bean -> ReflectionUtils.getFieldValue(field, bean);
+        }
+    }
+
+    /**
+     * Creates a writer for the supplied {@code field}.
+     *
+     * @param field
+     *            the field to write
+     * @return the writer
+     */
+    static BiConsumer<Object, Object> writer(final Field field) {
+        final MethodHandles.Lookup lookup = lookupFor(field.getDeclaringClass());
+        try {
+            return writer(lookup.unreflectSetter(field).asType(WRITER_TYPE));
+        } catch (final IllegalAccessException | RuntimeException e) {
+            // e.g. final fields can not be written by method handles
+            LOG.trace("Unable to create method handle for writing field '{}', falling back to reflection.", field, e);
+            return (bean, value) -> ReflectionUtils.setFieldValue(field, bean, value);
+        }
+    }
+
+    private static Function<Object, Object> reader(final MethodHandle handle) {
+        return bean -> {
+            try {
+                return handle.invokeExact(bean);
+            } catch (final Throwable e) { // NOSONAR
+                throw rethrow(e);
+            }
+        };
+    }
+
+    private static BiConsumer<Object, Object> writer(final MethodHandle handle) {
+        return (bean, value) -> {
+            try {
+                handle.invokeExact(bean, value);
+            } catch (final Throwable e) { // NOSONAR
+                throw rethrow(e);
+            }
+        };
+    }
+
+    /**
+     * Gets a lookup with private access into the supplied {@code beanClass}. In case such a lookup is not granted
+     * (e.g. because the class resides in a named module that is not opened to ActionFX), the public lookup is
+     * returned.
+     *
+     * @param beanClass
+     *            the bean class
+     * @return the lookup
+     */
+    private static MethodHandles.Lookup lookupFor(final Class<?> beanClass) {
+        try {
+            return MethodHandles.privateLookupIn(beanClass, LOOKUP);
+        } catch (final IllegalAccessException | RuntimeException e) {
+            return MethodHandles.publicLookup();
+        }
+    }
+
+    private static MethodHandle adapt(final MethodHandle handle, final MethodType type) {
+        try {
+            return handle.asType(type);
+        } catch (final RuntimeException e) {
+            LOG.trace("Unable to adapt method handle '{}' to type '{}', falling back to reflection.", handle, type, e);
+            return null;
+        }
+    }
+
+    private static MethodHandle unreflect(final MethodHandles.Lookup lookup, final Method method) {
+        try {
+            return lookup.unreflect(method);
+        } catch (final IllegalAccessException | RuntimeException e) {
+            LOG.trace("Unable to create method handle for method '{}', falling back to reflection.", method, e);
+            return null;
+        }
+    }
+
+    /**
+     * Spins a lambda implementing the functional interface {@code interfaceType} that delegates to the supplied
+     * {@code handle}.
+     *
+     * @return the lambda instance, or {@code null}, in case the lambda can not be created with the given
+     *         {@code lookup}
+     */
+    private static Object spinLambda(final MethodHandles.Lookup lookup, final MethodHandle handle,
+            final Class<?> interfaceType, final String interfaceMethodName, final MethodType erasedType,
+            final MethodType instantiatedType) {
+        if (!lookup.hasFullPrivilegeAccess()) {
+            return null;
+        }
+        try {
+            return LambdaMetafactory.metafactory(lookup, interfaceMethodName, MethodType.methodType(interfaceType),
+                    erasedType, handle, instantiatedType).getTarget().invoke();
+        } catch (final Throwable e) { // NOSONAR
+            LOG.trace("Unable to create lambda for method handle '{}', falling back to method handle invocation.",
+                    handle, e);
+            return null;
+        }
+    }
+
+    private static RuntimeException rethrow(final Throwable e) {
+        if (e instanceof Error error) {
+            throw error;
+        }
+        if (e instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new IllegalStateException(e);
+    }
+}
@@ -64,7 +64,9 @@ public abstract class AbstractActionFXBeanContainer implements BeanContainerFaca
 	 * @param extensionsBean the bean holding the extensions.
 	 */
 	protected AbstractActionFXBeanContainer(final ActionFXExtensionsBean extensionsBean) {
-		eventBus = new SimplePriorityAwareEventBus();
+		eventBus = extensionsBean != null && extensionsBean.getCustomEventBus() != null
+				? extensionsBean.getCustomEventBus()
+				: new SimplePriorityAwareEventBus();
 		controllerInstancePostProcessor = extensionsBean != null
 				? new ControllerInstancePostProcessor(extensionsBean.getCustomControllerExtensions())
 				: new ControllerInstancePostProcessor();
@@ -152,7 +154,8 @@ public abstract class AbstractActionFXBeanContainer implements BeanContainerFaca
 		return controllerInstancePostProcessor;
 	}
 
-	protected BeanDefinitionPostProcessor getBeanDefinitionPostProcessor() {
+	@Override
+	public BeanDefinitionPostProcessor getBeanDefinitionPostProcessor() {
 		return beanDefinitionPostProcessor;
 	}
 }
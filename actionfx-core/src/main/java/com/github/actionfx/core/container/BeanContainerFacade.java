@@ -29,6 +29,7 @@ import java.util.function.Supplier;
 
 import com.github.actionfx.core.ActionFX;
 import com.github.actionfx.core.annotation.AFXController;
+import com.github.actionfx.core.container.instantiation.BeanDefinitionPostProcessor;
 import com.github.actionfx.core.converter.ConversionService;
 import com.github.actionfx.core.dialogs.DialogController;
 import com.github.actionfx.core.events.PriorityAwareEventBus;
@@ -181,6 +182,22 @@ public interface BeanContainerFacade {
      */
     ResourceBundle resolveResourceBundle(Class<?> controllerClass, Locale locale);
 
+    /**
+     * Gets the {@link BeanDefinitionPostProcessor} that applies the ActionFX bean extensions to the bean definitions of
+     * this container.
+     * <p>
+     * The default implementation retrieves the post-processor via {@link #BEAN_DEFINITION_POSTPROCESSOR_BEANNAME} from
+     * this container. Implementations holding the post-processor should return it directly, so that it is also
+     * available when the container does not allow bean lookups anymore (e.g. after it has been closed).
+     *
+     * @return the post-processor, or {@code null}, in case this container does not provide one
+     */
+    default BeanDefinitionPostProcessor getBeanDefinitionPostProcessor() {
+        final Object postProcessor = getBean(BEAN_DEFINITION_POSTPROCESSOR_BEANNAME);
+        return postProcessor instanceof BeanDefinitionPostProcessor ? (BeanDefinitionPostProcessor) postProcessor
+                : null;
+    }
+
     /**
      * Derives an ID from the given {@code beanClazz} under that the component shall be stored and retrieved at.
      * <p>
@@ -0,0 +1,314 @@
+/*
+ * Copyright (c) 2026 Martin Koster
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.actionfx.core.container;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.github.actionfx.core.utils.AFXUtils;
+
+import javafx.application.Platform;
+
+/**
+ * Internal bean definition structure used by {@link DefaultActionFXBeanContainer}.
+ *
+ * @author koster
+ *
+ */
+class BeanDefinition {
+
+    private final String id;
+
+    private final Class<?> beanClass;
+
+    private final boolean singleton;
+
+    private final boolean lazyInitialisation;
+
+    private final Supplier<?> instantiationSupplier;
+
+    // IDs of beans this bean depends on, which are not expressed via @Inject (e.g. a view depends on its controller)
+    private final Set<String> dependsOn = ConcurrentHashMap.newKeySet();
+
+    // threads that wait for the creation of a singleton by another thread, used for detecting cyclic dependencies
+    // across threads
+    private static final Map<Thread, SingletonCreation> WAITING_THREADS = new ConcurrentHashMap<>();
+
+    // interval in which the JavaFX thread checks for tasks it needs to run while waiting for a singleton creation
+    private static final long FX_THREAD_HELP_INTERVAL_MS = 10;
+
+    // the singleton instance, once it is created (volatile for lock-free reads)
+    private volatile Object singletonInstance;
+
+    // the creation of the singleton instance that is currently in progress
+    private final AtomicReference<SingletonCreation> singletonCreation = new AtomicReference<>();
+
+    public BeanDefinition(final String id, final Class<?> beanClass, final boolean singleton,
+            final boolean lazyInitialisation, final Supplier<?> instantiationSupplier) {
+        this.id = id;
+        this.beanClass = beanClass;
+        this.singleton = singleton;
+        this.lazyInitialisation = lazyInitialisation;
+        this.instantiationSupplier = instantiationSupplier;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Class<?> getBeanClass() {
+        return beanClass;
+    }
+
+    public boolean isSingleton() {
+        return singleton;
+    }
+
+    public boolean isLazyInitialisation() {
+        return lazyInitialisation;
+    }
+
+    public Supplier<?> getInstantiationSupplier() {
+        return instantiationSupplier;
+    }
+
+    /**
+     * Registers an explicit dependency of this bean to the bean with the given {@code beanId}.
+     *
+     * @param beanId
+     *            the ID of the bean this bean depends on
+     */
+    public void addDependsOn(final String beanId) {
+        dependsOn.add(beanId);
+    }
+
+    /**
+     * Gets the singleton instance of this bean definition. In case the instance is not yet created, it is created by
+     * the supplied {@code factory}.
+     * <p>
+     * Reading an already created instance does not require any locking. The first requesting thread installs a
+     * placeholder for the creation and runs the {@code factory} outside of any lock, so that the singleton instance is
+     * created exactly once. Threads requesting the bean during creation wait until the instance is available. In case
+     * the waiting thread is the JavaFX thread, it runs the tasks that the creating thread waits for inside the JavaFX
+     * thread (see {@link AFXUtils#runFxTaskAwaitedBy(Thread)}), so that e.g. a controller that is created in another
+     * thread can be completed.
+     *
+     * @param <T>
+     *            the bean type
+     * @param factory
+     *            the factory that creates the instance for this bean definition
+     * @return the singleton instance
+     * @throws IllegalStateException
+     *             in case the singleton is requested again by the thread that is currently creating it or by a thread
+     *             that the creating thread waits for (i.e. there is a cyclic dependency)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getOrCreateSingleton(final Function<BeanDefinition, T> factory) {
+        final Object instance = singletonInstance;
+        if (instance != null) {
+            return (T) instance;
+        }
+        final SingletonCreation newCreation = new SingletonCreation(factory);
+        final SingletonCreation currentCreation = singletonCreation.compareAndExchange(null, newCreation);
+        if (currentCreation == null) {
+            return (T) newCreation.create();
+        }
+        return (T) currentCreation.await();
+    }
+
+    public Set<String> getDependsOn() {
+        return Collections.unmodifiableSet(dependsOn);
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + (id == null ? 0 : id.hashCode());
+        return result;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        final BeanDefinition other = (BeanDefinition) obj;
+        if (id == null) {
+            if (other.id != null) {
+                return false;
+            }
+        } else if (!id.equals(other.id)) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Placeholder for a singleton creation that is in progress.
+     *
+     * @author koster
+     *
+     */
+    private final class SingletonCreation {
+
+        private final Thread owner = Thread.currentThread();
+
+        private final FutureTask<Object> task;
+
+        private SingletonCreation(final Function<BeanDefinition, ?> factory) {
+            task = new FutureTask<>(() -> {
+                try {
+                    final Object instance = factory.apply(BeanDefinition.this);
+                    singletonInstance = instance;
+                    return instance;
+                } catch (final RuntimeException | Error e) {
+                    // allow a later request to retry the creation
+                    singletonCreation.compareAndSet(this, null);
+                    throw e;
+                }
+            });
+        }
+
+        /**
+         * Creates the singleton instance in the calling thread.
+         *
+         * @return the created instance
+         */
+        private Object create() {
+            task.run();
+            return getResult(0);
+        }
+
+        /**
+         * Waits for the creation of the singleton instance by the owning thread. In case the creation is already
+         * finished, its result is returned right away.
+         *
+         * @return the created instance
+         */
+        private Object await() {
+            if (task.isDone()) {
+                // creation is finished, but the instance might be null, so that it is not published as
+                // "singletonInstance"
+                return getResult(0);
+            }
+            final Thread currentThread = Thread.currentThread();
+            if (owner == currentThread) {
+                throw new IllegalStateException(
+                        "Bean with ID '" + id + "' is requested while being created. Is there a cyclic dependency?");
+            }
+            // register first and check afterwards, so that at least one thread of a cycle detects the cycle
+            WAITING_THREADS.put(currentThread, this);
+            try {
+                if (isAwaitedBy(currentThread)) {
+                    throw new IllegalStateException("Bean with ID '" + id
+                            + "' is requested while being created by a thread that waits for this thread. Is there a "
+                            + "cyclic dependency?");
+                }
+                return getResult(Platform.isFxApplicationThread() ? FX_THREAD_HELP_INTERVAL_MS : 0);
+            } finally {
+                WAITING_THREADS.remove(currentThread);
+            }
+        }
+
+        /**
+         * Checks, whether the owner of this creation (directly or transitively) waits for the supplied {@code thread}.
+         */
+        private boolean isAwaitedBy(final Thread thread) {
+            int remainingSteps = WAITING_THREADS.size();
+            for (SingletonCreation creation = WAITING_THREADS.get(owner); creation != null
+                    && remainingSteps-- >= 0; creation = WAITING_THREADS.get(creation.owner)) {
+                if (creation.owner == thread) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Runs the JavaFX tasks that the owner of this creation (or a thread the owner waits for) is waiting for. Must
+         * be called from inside the JavaFX thread.
+         */
+        private void runAwaitedFxTasks() {
+            int remainingSteps = WAITING_THREADS.size();
+            Thread thread = owner;
+            while (thread != null && remainingSteps-- >= 0) {
+                AFXUtils.runFxTaskAwaitedBy(thread);
+                final SingletonCreation creation = WAITING_THREADS.get(thread);
+                thread = creation != null ? creation.owner : null;
+            }
+        }
+
+        /**
+         * Gets the result of the creation.
+         *
+         * @param fxThreadHelpIntervalMs
+         *            in case greater than {@code 0}, the waiting thread is the JavaFX thread, that runs the tasks the
+         *            owner is waiting for in the given interval
+         * @return the created instance
+         */
+        private Object getResult(final long fxThreadHelpIntervalMs) {
+            try {
+                if (fxThreadHelpIntervalMs <= 0) {
+                    return task.get();
+                }
+                while (true) {
+                    runAwaitedFxTasks();
+                    try {
+                        return task.get(fxThreadHelpIntervalMs, TimeUnit.MILLISECONDS);
+                    } catch (final TimeoutException e) {
+                        // owner is still busy, check again for tasks that need to run in the JavaFX thread
+                    }
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for bean with ID '" + id + "'!", e);
+            } catch (final ExecutionException e) {
+                final Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new IllegalStateException("Unable to create bean with ID '" + id + "'!", cause);
+            }
+        }
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2026 Martin Koster
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.actionfx.core.container;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.github.actionfx.core.utils.ReflectionUtils;
+
+/**
+ * Registry for {@link BeanDefinition} instances that allows a lookup by ID and by type in constant time.
+ * <p>
+ * When a bean definition is registered, it is indexed under its bean class and under all of its super classes and
+ * implemented interfaces. In case multiple bean definitions are assignable to a requested type, the type is resolved in
+ * the following order:
+ * <ol>
+ * <li>The bean definition whose bean class is exactly the requested type. If there are several of these, the one that
+ * was registered first wins.</li>
+ * <li>Otherwise, the bean definition that was registered first among all definitions assignable to the requested
+ * type.</li>
+ * </ol>
+ * Registering a bean definition under an already existing ID replaces the previous definition. The replacing definition
+ * is treated as a new registration with regards to the resolution order.
+ * <p>
+ * The registry is safe for concurrent use: lookups by ID and by type do not require any locking, while registrations
+ * are synchronized. A bean definition that replaces an existing one is visible to readers without a gap, i.e. a lookup
+ * either returns the previous or the new bean definition.
+ *
+ * @author koster
+ *
+ */
+class BeanDefinitionRegistry {
+
+    // bean definitions with key: id -> value: bean definition
+    private final Map<String, BeanDefinition> definitionsById = new ConcurrentHashMap<>();
+
+    // all bean definitions in registration order
+    private final List<BeanDefinition> definitionsInOrder = new CopyOnWriteArrayList<>();
+
+    // all bean definitions that are assignable to a type (in registration order, only accessed during registration)
+    private final Map<Class<?>, List<BeanDefinition>> candidatesByType = new HashMap<>();
+
+    // the resolved bean definition per type, following the documented resolution order
+    private final Map<Class<?>, BeanDefinition> resolvedByType = new ConcurrentHashMap<>();
+
+    /**
+     * Registers the supplied {@code beanDefinition}.
+     *
+     * @param beanDefinition
+     *            the bean definition to register
+     */
+    public synchronized void register(final BeanDefinition beanDefinition) {
+        final BeanDefinition previous = definitionsById.put(beanDefinition.getId(), beanDefinition);
+        if (previous != null) {
+            definitionsInOrder.remove(previous);
+            definitionsInOrder.add(beanDefinition);
+            reindex(previous, beanDefinition);
+        } else {
+            definitionsInOrder.add(beanDefinition);
+            index(beanDefinition);
+        }
+    }
+
+    /**
+     * Registers the supplied {@code beanDefinition}, in case there is no bean definition registered under its ID yet.
+     *
+     * @param beanDefinition
+     *            the bean definition to register
+     * @return the bean definition that is registered under the ID after this call, i.e. either the already existing
+     *         or the supplied bean definition
+     */
+    public synchronized BeanDefinition registerIfAbsent(final BeanDefinition beanDefinition) {
+        final BeanDefinition existing = definitionsById.get(beanDefinition.getId());
+        if (existing != null) {
+            return existing;
+        }
+        register(beanDefinition);
+        return beanDefinition;
+    }
+
+    /**
+     * Gets the bean definition registered under the supplied {@code id}.
+     *
+     * @param id
+     *            the bean ID
+     * @return the bean definition, or {@code null}, if there is no definition registered under this ID
+     */
+    public BeanDefinition getById(final String id) {
+        return definitionsById.get(id);
+    }
+
+    /**
+     * Gets the bean definition for the supplied {@code type}, following the documented resolution order.
+     *
+     * @param type
+     *            the requested type
+     * @return the bean definition, or {@code null}, if there is no definition assignable to this type
+     */
+    public BeanDefinition getByType(final Class<?> type) {
+        return resolvedByType.get(type);
+    }
+
+    /**
+     * Gets a snapshot of all registered bean definitions in registration order.
+     *
+     * @return all registered bean definitions
+     */
+    public Collection<BeanDefinition> getBeanDefinitions() {
+        return Collections.unmodifiableCollection(new ArrayList<>(definitionsInOrder));
+    }
+
+    private void index(final BeanDefinition beanDefinition) {
+        for (final Class<?> type : ReflectionUtils.getAllSuperClassesAndInterfaces(beanDefinition.getBeanClass())) {
+            candidatesByType.computeIfAbsent(type, key -> new ArrayList<>(1)).add(beanDefinition);
+            final BeanDefinition resolved = resolvedByType.get(type);
+            if (resolved == null || resolved.getBeanClass() != type && beanDefinition.getBeanClass() == type) {
+                resolvedByType.put(type, beanDefinition);
+            }
+        }
+    }
+
+    /**
+     * Replaces the {@code previous} bean definition by {@code beanDefinition} in the type index. The resolved bean
+     * definitions are overwritten (and not removed and added again), so that concurrent readers do not observe a type
+     * without a bean definition.
+     *
+     * @param previous
+     *            the previously registered bean definition
+     * @param beanDefinition
+     *            the replacing bean definition
+     */
+    private void reindex(final BeanDefinition previous, final BeanDefinition beanDefinition) {
+        final Set<Class<?>> affectedTypes = new LinkedHashSet<>(
+                ReflectionUtils.getAllSuperClassesAndInterfaces(previous.getBeanClass()));
+        for (final Class<?> type : affectedTypes) {
+            final List<BeanDefinition> candidates = candidatesByType.get(type);
+            if (candidates != null) {
+                candidates.remove(previous);
+            }
+        }
+        for (final Class<?> type : ReflectionUtils.getAllSuperClassesAndInterfaces(beanDefinition.getBeanClass())) {
+            candidatesByType.computeIfAbsent(type, key -> new ArrayList<>(1)).add(beanDefinition);
+            affectedTypes.add(type);
+        }
+        for (final Class<?> type : affectedTypes) {
+            final List<BeanDefinition> candidates = candidatesByType.get(type);
+            if (candidates == null || candidates.isEmpty()) {
+                candidatesByType.remove(type);
+                resolvedByType.remove(type);
+            } else {
+                resolvedByType.put(type, resolve(type, candidates));
+            }
+        }
+    }
+
+    private static BeanDefinition resolve(final Class<?> type, final List<BeanDefinition> candidates) {
+        for (final BeanDefinition candidate : candidates) {
+            if (candidate.getBeanClass() == type) {
+                return candidate;
+            }
+        }
+        return candidates.get(0);
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026 Martin Koster
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.actionfx.core.container;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Dependency graph between {@link BeanDefinition}s that is used to instantiate beans in a dependency-respecting order.
+ * <p>
+ * The graph is built by starting from a set of root bean definitions. Dependencies of each bean definition are
+ * determined by a supplied resolver function and are added to the graph recursively.
+ *
+ * @author koster
+ *
+ */
+class BeanDependencyGraph {
+
+    // key: bean definition -> value: bean definitions the key depends on (insertion order is preserved for a
+    // deterministic instantiation order)
+    private final Map<BeanDefinition, Set<BeanDefinition>> dependencies = new LinkedHashMap<>();
+
+    private BeanDependencyGraph() {
+        // instances are created via "build"
+    }
+
+    /**
+     * Builds the dependency graph starting with the supplied {@code roots}.
+     *
+     * @param roots
+     *            the bean definitions to start with
+     * @param dependencyResolver
+     *            function that resolves the direct dependencies of a bean definition
+     * @return the built dependency graph
+     */
+    public static BeanDependencyGraph build(final Collection<BeanDefinition> roots,
+            final Function<BeanDefinition, Collection<BeanDefinition>> dependencyResolver) {
+        final BeanDependencyGraph graph = new BeanDependencyGraph();
+        final Deque<BeanDefinition> toVisit = new ArrayDeque<>(roots);
+        while (!toVisit.isEmpty()) {
+            final BeanDefinition beanDefinition = toVisit.poll();
+            if (graph.dependencies.containsKey(beanDefinition)) {
+                continue;
+            }
+            final Set<BeanDefinition> beanDependencies = new LinkedHashSet<>(
+                    dependencyResolver.apply(beanDefinition));
+            graph.dependencies.put(beanDefinition, beanDependencies);
+            toVisit.addAll(beanDependencies);
+        }
+        return graph;
+    }
+
+    /**
+     * Gets all bean definitions that are part of this graph.
+     *
+     * @return all bean definitions inside the graph
+     */
+    public Set<BeanDefinition> getBeanDefinitions() {
+        return Collections.unmodifiableSet(dependencies.keySet());
+    }
+
+    /**
+     * Gets the direct dependencies of the supplied {@code beanDefinition}.
+     *
+     * @param beanDefinition
+     *            the bean definition
+     * @return the direct dependencies
+     */
+    public Set<BeanDefinition> getDependencies(final BeanDefinition beanDefinition) {
+        return Collections.unmodifiableSet(dependencies.getOrDefault(beanDefinition, Collections.emptySet()));
+    }
+
+    /**
+     * Sorts the bean definitions in a topological order, i.e. each bean definition is placed after all of its
+     * dependencies.
+     *
+     * @return the topologically sorted bean definitions
+     * @throws IllegalStateException
+     *             in case a cyclic dependency between bean definitions is detected
+     */
+    public List<BeanDefinition> topologicalOrder() {
+        final Map<BeanDefinition, Integer> remainingDependencies = new HashMap<>();
+        final Map<BeanDefinition, List<BeanDefinition>> dependents = new HashMap<>();
+        final Deque<BeanDefinition> ready = new ArrayDeque<>();
+        dependencies.forEach((beanDefinition, beanDependencies) -> {
+            remainingDependencies.put(beanDefinition, beanDependencies.size());
+            beanDependencies.forEach(
+                    dependency -> dependents.computeIfAbsent(dependency, key -> new ArrayList<>()).add(beanDefinition));
+            if (beanDependencies.isEmpty()) {
+                ready.add(beanDefinition);
+            }
+        });
+        final List<BeanDefinition> result = new ArrayList<>(dependencies.size());
+        while (!ready.isEmpty()) {
+            final BeanDefinition beanDefinition = ready.poll();
+            result.add(beanDefinition);
+            for (final BeanDefinition dependent : dependents.getOrDefault(beanDefinition, Collections.emptyList())) {
+                if (remainingDependencies.merge(dependent, -1, Integer::sum) == 0) {
+                    ready.add(dependent);
+                }
+            }
+        }
+        if (result.size() < dependencies.size()) {
+            throw new IllegalStateException("Cyclic dependency detected between beans: " + describeCycle(result));
+        }
+        return result;
+    }
+
+    /**
+     * Finds a cycle among the bean definitions that could not be sorted and describes it as a string like
+     * {@code "a -> b -> a"}.
+     *
+     * @param sorted
+     *            the bean definitions that could be sorted
+     * @return the description of the cycle
+     */
+    private String describeCycle(final List<BeanDefinition> sorted) {
+        final Set<BeanDefinition> unsorted = new LinkedHashSet<>(dependencies.keySet());
+        sorted.forEach(unsorted::remove);
+        // each unsorted bean definition has at least one unsorted dependency, so following these dependencies
+        // eventually leads to a bean definition that was already visited
+        final List<BeanDefinition> path = new ArrayList<>();
+        BeanDefinition current = unsorted.iterator().next();
+        while (!path.contains(current)) {
+            path.add(current);
+            current = dependencies.get(current).stream().filter(unsorted::contains).findFirst().orElseThrow();
+        }
+        final List<BeanDefinition> cycle = new ArrayList<>(path.subList(path.indexOf(current), path.size()));
+        cycle.add(current);
+        return cycle.stream().map(BeanDefinition::getId).collect(Collectors.joining(" -> "));
+    }
+}
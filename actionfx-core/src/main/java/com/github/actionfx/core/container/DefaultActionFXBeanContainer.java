@@ -23,14 +23,23 @@
  */
 package com.github.actionfx.core.container;
 
-import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.inject.Inject;
@@ -39,12 +48,17 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.github.actionfx.core.annotation.AFXController;
+import com.github.actionfx.core.annotation.AFXNestedView;
+import com.github.actionfx.core.container.index.ControllerIndex;
 import com.github.actionfx.core.container.instantiation.ConstructorBasedInstantiationSupplier;
+import com.github.actionfx.core.container.instantiation.ControllerInstantiationSupplier;
 import com.github.actionfx.core.extension.ActionFXExtensionsBean;
 import com.github.actionfx.core.instrumentation.ControllerWrapper;
+import com.github.actionfx.core.profiling.StartupProfiler;
 import com.github.actionfx.core.utils.AnnotationUtils;
 import com.github.actionfx.core.utils.ClassPathScanningUtils;
-import com.github.actionfx.core.utils.ReflectionUtils;
+
+import javafx.application.Platform;
 
 /**
  * Default implementation of a bean container using an underlying hash map as bean cache.
@@ -53,6 +67,12 @@ import com.github.actionfx.core.utils.ReflectionUtils;
  * <p>
  * The bean container respects the @PostConstruct annotation and performs corresponding initialization after bean
  * creation.
+ * <p>
+ * The container is safe for concurrent use, e.g. when beans are retrieved from asynchronously executed event handlers.
+ * Retrieving an already created singleton does not require any locking. For creating a singleton, the first requesting
+ * thread installs a {@link java.util.concurrent.FutureTask} placeholder via compare-and-set and runs the factory
+ * without holding a lock, while other threads wait for the placeholder. This way, each singleton is created exactly
+ * once and cyclic dependencies across threads are reported instead of resulting in a deadlock.
  *
  * @author koster
  *
@@ -61,15 +81,18 @@ public class DefaultActionFXBeanContainer extends AbstractActionFXBeanContainer
 
     private static final Logger LOG = LoggerFactory.getLogger(DefaultActionFXBeanContainer.class);
 
-    // bean definition map with key: id -> value: bean definition
-    private final Map<String, BeanDefinition> beanDefinitionMap = new HashMap<>();
-
-    // map for bean definition -> singleton instances
-    private final Map<BeanDefinition, Object> singletonCache = new HashMap<>();
+    // bean definitions indexed by id and by all super types of the bean class
+    private final BeanDefinitionRegistry beanDefinitionRegistry = new BeanDefinitionRegistry();
 
     // strategies to resolve an ID or type to a bean
     private final List<BeanResolutionFunction> beanResolverFunctions = new ArrayList<>();
 
+    // number of threads used for instantiating non-lazy beans (1 = sequential instantiation)
+    private int instantiationParallelism = 1;
+
+    // "true", in case controllers and views are created outside the JavaFX thread and can be instantiated concurrently
+    private boolean offFxThreadViewCreation;
+
     /**
      * Default constructor for instantiating the container without custom extensions.
      */
@@ -97,8 +120,7 @@ public class DefaultActionFXBeanContainer extends AbstractActionFXBeanContainer
         // constructor, if it is not a Java primitive
         beanResolverFunctions.add((id, type) -> {
             if (isNotPrimitiveOrString(type)) {
-                addBeanDefinition(id, type, true, true, new ConstructorBasedInstantiationSupplier<>(type));
-                return getBean(id);
+                return getBeanByDefinition(addDefaultConstructorBeanDefinition(id, type));
             } else {
                 return null;
             }
@@ -106,27 +128,109 @@ public class DefaultActionFXBeanContainer extends AbstractActionFXBeanContainer
 
     }
 
+    @Override
+    public void addControllerBeanDefinition(final Class<?> controllerClass) {
+        super.addControllerBeanDefinition(controllerClass);
+        // the view is retrieved from the controller instance, so the view bean depends on the controller bean
+        final AFXController afxController = AnnotationUtils.findAnnotation(controllerClass, AFXController.class);
+        final String controllerId = deriveBeanId(controllerClass);
+        final BeanDefinition viewDefinition = beanDefinitionRegistry.getById(afxController.viewId());
+        if (viewDefinition != null) {
+            viewDefinition.addDependsOn(controllerId);
+        }
+        // nested views on class-level are embedded during the creation of the controller's view, so they need to be
+        // created first
+        final BeanDefinition controllerDefinition = beanDefinitionRegistry.getById(controllerId);
+        if (controllerDefinition != null) {
+            AnnotationUtils.findAllAnnotations(controllerClass, AFXNestedView.class)
+                    .forEach(nestedView -> controllerDefinition.addDependsOn(nestedView.refersTo()));
+        }
+    }
+
     @Override
     public void runComponentScan(final String rootPackage) {
-        final List<Class<?>> controllerClasses = ClassPathScanningUtils.findClassesWithAnnotation(rootPackage,
-                AFXController.class);
+        final StartupProfiler profiler = StartupProfiler.current();
+        long start = profiler.start();
+        final List<Class<?>> controllerClasses = findControllerClasses(rootPackage);
+        profiler.record(StartupProfiler.Category.PHASE, "findControllerClasses", rootPackage, start);
+
+        start = profiler.start();
         for (final Class<?> controllerClass : controllerClasses) {
             addControllerBeanDefinition(controllerClass);
         }
+        profiler.record(StartupProfiler.Category.PHASE, "addControllerBeanDefinitions", rootPackage, start);
+
         // all non-lazy beans are instantiated now after reading all bean definitions
+        start = profiler.start();
         instantiateNonLazyBeans();
+        profiler.record(StartupProfiler.Category.PHASE, "instantiateNonLazyBeans", rootPackage, start);
+    }
+
+    /**
+     * Finds all classes annotated by {@link AFXController} inside the given {@code rootPackage}.
+     * <p>
+     * In case a {@link ControllerIndex} generated at compile time by the
+     * {@link com.github.actionfx.core.container.index.ControllerIndexProcessor} is present for every classpath root
+     * that contains classes of the given {@code rootPackage}, the controller classes are taken from this index.
+     * Otherwise, a classpath scan is performed, so that controllers of classpath roots without index are not missed.
+     *
+     * @param rootPackage
+     *            the root package to look for controllers
+     * @return the found controller classes
+     */
+    protected List<Class<?>> findControllerClasses(final String rootPackage) {
+        final ControllerIndex controllerIndex = loadControllerIndex();
+        final ClassLoader classLoader = getClassLoader();
+        if (!controllerIndex.isComplete(classLoader, rootPackage)) {
+            LOG.debug("ActionFX controller index is not complete for package '{}', performing classpath scan.",
+                    rootPackage);
+            return scanControllerClasses(rootPackage);
+        }
+        final List<ControllerIndex.Entry> entries = controllerIndex.getEntries(rootPackage);
+        LOG.debug("Using ActionFX controller index with {} controllers for package '{}'.", entries.size(),
+                rootPackage);
+        final List<Class<?>> controllerClasses = new ArrayList<>(entries.size());
+        for (final ControllerIndex.Entry entry : entries) {
+            controllerClasses.add(entry.loadClass(classLoader));
+        }
+        return controllerClasses;
+    }
+
+    /**
+     * Scans the classpath for classes annotated by {@link AFXController} inside the given {@code rootPackage}.
+     *
+     * @param rootPackage
+     *            the root package to scan
+     * @return the found controller classes
+     */
+    protected List<Class<?>> scanControllerClasses(final String rootPackage) {
+        return ClassPathScanningUtils.findClassesWithAnnotation(rootPackage, AFXController.class);
+    }
+
+    /**
+     * Loads the {@link ControllerIndex} from the classpath.
+     *
+     * @return the loaded controller index
+     */
+    protected ControllerIndex loadControllerIndex() {
+        return ControllerIndex.load(getClassLoader());
+    }
+
+    private ClassLoader getClassLoader() {
+        final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        return contextClassLoader != null ? contextClassLoader : DefaultActionFXBeanContainer.class.getClassLoader();
     }
 
     @Override
     public void addBeanDefinition(final String id, final Class<?> beanClass, final boolean singleton,
             final boolean lazyInit, final Supplier<?> instantiationSupplier) {
-        beanDefinitionMap.put(id, new BeanDefinition(id, beanClass, singleton, lazyInit, instantiationSupplier));
+        beanDefinitionRegistry.register(new BeanDefinition(id, beanClass, singleton, lazyInit, instantiationSupplier));
         postProcessBeanDefinition(beanClass, id, singleton, lazyInit);
     }
 
     @Override
     public <T> T getBean(final String id) {
-        final BeanDefinition beanDefinition = beanDefinitionMap.get(id);
+        final BeanDefinition beanDefinition = beanDefinitionRegistry.getById(id);
         if (beanDefinition == null) {
             // no bean defined with that ID
             return null;
@@ -134,10 +238,22 @@ public class DefaultActionFXBeanContainer extends AbstractActionFXBeanContainer
         return getBeanByDefinition(beanDefinition);
     }
 
+    /**
+     * Gets a bean by the bean type described by {@code beanClass}. Bean definitions are indexed under all their super
+     * classes and interfaces, so that the lookup is performed in constant time.
+     * <p>
+     * In case there are multiple bean definitions assignable to {@code beanClass}, a bean definition whose bean class is
+     * exactly {@code beanClass} is preferred. Otherwise, the bean definition that has been added first is taken.
+     *
+     * @param <T>
+     *            the type of the bean
+     * @param beanClass
+     *            the bean class
+     * @return the bean instance, or {@code null}, if there is no bean assignable to {@code beanClass}
+     */
     @Override
     public <T> T getBean(final Class<T> beanClass) {
-        final BeanDefinition beanDefinition = beanDefinitionMap.values().stream()
-                .filter(definition -> beanClass.isAssignableFrom(definition.getBeanClass())).findFirst().orElse(null);
+        final BeanDefinition beanDefinition = beanDefinitionRegistry.getByType(beanClass);
         if (beanDefinition == null) {
             return null;
         }
@@ -166,18 +282,10 @@ public class DefaultActionFXBeanContainer extends AbstractActionFXBeanContainer
      *            the bean definition
      * @return the bean instance
      */
-    @SuppressWarnings("unchecked")
     private <T> T getBeanByDefinition(final BeanDefinition beanDefinition) {
         if (beanDefinition.isSingleton()) {
-            // no "computeIfAbsent" here as it results in "ConcurrentModificationException" on component scan
-            if (singletonCache.containsKey(beanDefinition)) {
-                return (T) singletonCache.get(beanDefinition);
-            } else {
-                // instance is singleton, but it is not yet created, so let's do this
-                final T bean = createBeanInstance(beanDefinition);
-                singletonCache.put(beanDefinition, bean);
-                return bean;
-            }
+            // lock-free in case the singleton is already created, otherwise the singleton is created exactly once
+            return beanDefinition.getOrCreateSingleton(this::createBeanInstance);
         } else {
             // bean is not a singleton, so we have to create a new instance whenever this
             // method is called
@@ -193,18 +301,23 @@ public class DefaultActionFXBeanContainer extends AbstractActionFXBeanContainer
      *            the result type
      * @param beanDefinition
      *            the bean definition
-     * @return the created instance
+     * @return the created instance, or {@code null}, in case the instantiation supplier returns {@code null}
      */
     @SuppressWarnings("unchecked")
     private <T> T createBeanInstance(final BeanDefinition beanDefinition) {
+        final StartupProfiler profiler = StartupProfiler.current();
+        final long start = profiler.start();
         final T instance = (T) beanDefinition.getInstantiationSupplier().get();
+        if (instance != null) {
+            // inject potential dependencies
+            injectDependencies(instance);
 
-        // inject potential dependencies
-        injectDependencies(instance);
-
-        // and perform multiple levels of post-processing
-        postProcessBeanInstance(instance);
+            // and perform multiple levels of post-processing
+            postProcessBeanInstance(instance);
+        }
 
+        profiler.record(StartupProfiler.Category.BEAN_CREATION, beanDefinition.getId(), beanDefinition.getBeanClass(),
+                start);
         return instance;
     }
 
@@ -230,36 +343,39 @@ public class DefaultActionFXBeanContainer extends AbstractActionFXBeanContainer
         injectMembers(clazz, bean);
     }
 
+    /**
+     * Injects all fields annotated by {@link Inject} in the supplied {@code clazz} and its super-classes. The fields
+     * are taken from a cached {@link InjectionPlan}, so that the class hierarchy is inspected only once per class.
+     *
+     * @param clazz
+     *            the class of the instance
+     * @param instance
+     *            the instance to inject dependencies into
+     */
     protected void injectMembers(final Class<?> clazz, final Object instance) {
-        LOG.debug("Injecting members for class {} and instance {}", clazz.getCanonicalName(), instance);
-        final AFXController afxController = AnnotationUtils.findAnnotation(clazz, AFXController.class);
-        final Field[] fields = clazz.getDeclaredFields();
-        for (final Field field : fields) {
-            if (field.isAnnotationPresent(Inject.class)) {
-                injectSingleField(instance, afxController, field);
-            }
+        final InjectionPlan injectionPlan = InjectionPlan.forClass(clazz);
+        if (injectionPlan.isEmpty()) {
+            return;
         }
-        final Class<?> superclass = clazz.getSuperclass();
-        if (superclass != null) {
-            injectMembers(superclass, instance);
+        LOG.debug("Injecting members for class {} and instance {}", clazz.getCanonicalName(), instance);
+        for (final InjectionPlan.InjectionPoint injectionPoint : injectionPlan.getInjectionPoints()) {
+            injectSingleField(instance, injectionPoint);
         }
     }
 
-    private void injectSingleField(final Object instance, final AFXController afxController, final Field field) {
-        final Class<?> type = field.getType();
-        final String key = field.getName();
+    private void injectSingleField(final Object instance, final InjectionPlan.InjectionPoint injectionPoint) {
         Object value;
         // in case the controller wants to have injected its own view instance,
         // we can not do the same via "resolveBean", as this would lead to a stack
         // overflow (we are still in construction phase of the controller)
-        if (afxController != null && field.getName().equals(afxController.viewId())) {
+        if (injectionPoint.isViewInjection()) {
             value = ControllerWrapper.getViewFrom(instance);
         } else {
-            value = resolveBean(key, type);
+            value = resolveBean(injectionPoint.getName(), injectionPoint.getType());
         }
-        LOG.debug("Field annotated with @Inject found: {}, resolved value: {}", field.getName(), value);
+        LOG.debug("Field annotated with @Inject found: {}, resolved value: {}", injectionPoint.getName(), value);
         if (value != null) {
-            ReflectionUtils.setFieldValue(field, instance, value);
+            injectionPoint.inject(instance, value);
         }
     }
 
@@ -289,84 +405,217 @@ public class DefaultActionFXBeanContainer extends AbstractActionFXBeanContainer
 
     /**
      * Instantiate all non-lazy beans.
+     * <p>
+     * In case the {@link #setInstantiationParallelism(int)} is greater than 1, a dependency graph is built from the
+     * {@link Inject}-annotated fields of the non-lazy beans and independent beans are instantiated concurrently on a
+     * worker pool. Beans are only instantiated after all of their dependencies have been instantiated. Cyclic
+     * dependencies are reported by an {@link IllegalStateException}.
+     * <p>
+     * Unless off-FX-thread view creation is enabled via {@link #setOffFxThreadViewCreation(boolean)}, controllers are
+     * created on the JavaFX thread, so they are instantiated one after another by a single worker, while the other
+     * beans are still instantiated concurrently. With off-FX-thread view creation enabled, controllers are
+     * instantiated concurrently like any other bean.
      */
     protected void instantiateNonLazyBeans() {
-        beanDefinitionMap.values().stream().filter(beanDefinition -> !beanDefinition.isLazyInitialisation())
-                .forEach(this::getBeanByDefinition);
+        // getBeanDefinitions() returns a copy, as instantiating beans can register new bean definitions
+        final List<BeanDefinition> nonLazyBeanDefinitions = beanDefinitionRegistry.getBeanDefinitions().stream()
+                .filter(beanDefinition -> !beanDefinition.isLazyInitialisation()).collect(Collectors.toList());
+        if (instantiationParallelism <= 1 || nonLazyBeanDefinitions.size() <= 1) {
+            nonLazyBeanDefinitions.forEach(this::getBeanByDefinition);
+        } else if (Platform.isFxApplicationThread()) {
+            // worker threads might require the JavaFX thread for instantiating views - waiting for them inside the
+            // JavaFX thread would result in a deadlock
+            LOG.debug("Non-lazy beans are instantiated inside the JavaFX thread, falling back to sequential "
+                    + "instantiation.");
+            nonLazyBeanDefinitions.forEach(this::getBeanByDefinition);
+        } else {
+            instantiateInParallel(nonLazyBeanDefinitions);
+        }
     }
 
     /**
-     * Internal bean definition structure.
-     *
-     * @author koster
+     * Instantiates the supplied {@code beanDefinitions} concurrently, respecting the dependencies between the beans.
      *
+     * @param beanDefinitions
+     *            the bean definitions to instantiate
      */
-    private static class BeanDefinition {
-
-        private final String id;
-
-        private final Class<?> beanClass;
-
-        private final boolean singleton;
-
-        private final boolean lazyInitialisation;
+    private void instantiateInParallel(final List<BeanDefinition> beanDefinitions) {
+        final BeanDependencyGraph graph = BeanDependencyGraph.build(beanDefinitions, this::resolveDependencies);
+        final List<BeanDefinition> orderedBeanDefinitions = graph.topologicalOrder();
+        final Set<BeanDefinition> nonLazyBeanDefinitions = new HashSet<>(beanDefinitions);
+        final ExecutorService executorService = createInstantiationExecutorService(instantiationParallelism,
+                "actionfx-bean-instantiation-");
+        // controllers created inside the JavaFX thread are serialized there anyway
+        final ExecutorService controllerExecutorService = offFxThreadViewCreation ? executorService
+                : createInstantiationExecutorService(1, "actionfx-controller-instantiation-");
+        try {
+            final Map<BeanDefinition, CompletableFuture<Void>> futures = new HashMap<>();
+            for (final BeanDefinition beanDefinition : orderedBeanDefinitions) {
+                // dependencies are already contained in the map due to the topological order
+                final CompletableFuture<?>[] dependencyFutures = graph.getDependencies(beanDefinition).stream()
+                        .map(futures::get).toArray(CompletableFuture[]::new);
+                final Executor executor = isControllerBeanDefinition(beanDefinition) ? controllerExecutorService
+                        : executorService;
+                futures.put(beanDefinition, CompletableFuture.allOf(dependencyFutures).thenRunAsync(() -> {
+                    // prototype beans that are only dependencies are created during injection
+                    if (beanDefinition.isSingleton() || nonLazyBeanDefinitions.contains(beanDefinition)) {
+                        getBeanByDefinition(beanDefinition);
+                    }
+                }, executor));
+            }
+            CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0])).join();
+        } catch (final CompletionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException("Failed to instantiate non-lazy beans!", cause);
+        } finally {
+            executorService.shutdown();
+            controllerExecutorService.shutdown();
+        }
+    }
 
-        private final Supplier<?> instantiationSupplier;
+    /**
+     * Checks, whether the supplied {@code beanDefinition} describes a controller.
+     *
+     * @param beanDefinition
+     *            the bean definition to check
+     * @return {@code true}, if the bean definition describes a controller, {@code false} otherwise
+     */
+    static boolean isControllerBeanDefinition(final BeanDefinition beanDefinition) {
+        return beanDefinition.getInstantiationSupplier() instanceof ControllerInstantiationSupplier;
+    }
 
-        public BeanDefinition(final String id, final Class<?> beanClass, final boolean singleton,
-                final boolean lazyInitialisation, final Supplier<?> instantiationSupplier) {
-            this.id = id;
-            this.beanClass = beanClass;
-            this.singleton = singleton;
-            this.lazyInitialisation = lazyInitialisation;
-            this.instantiationSupplier = instantiationSupplier;
+    /**
+     * Resolves the direct dependencies of the supplied {@code beanDefinition}. Dependencies are explicitly registered
+     * dependencies (see {@link BeanDefinition#getDependsOn()}) and fields annotated by {@link Inject}.
+     * <p>
+     * For injected types that are not yet known to the container, a bean definition is added in the same way as it is
+     * done during injection.
+     *
+     * @param beanDefinition
+     *            the bean definition
+     * @return the bean definitions the supplied {@code beanDefinition} depends on
+     */
+    private Collection<BeanDefinition> resolveDependencies(final BeanDefinition beanDefinition) {
+        final List<BeanDefinition> dependencies = new ArrayList<>();
+        for (final String dependsOn : beanDefinition.getDependsOn()) {
+            final BeanDefinition dependency = beanDefinitionRegistry.getById(dependsOn);
+            if (dependency != null) {
+                dependencies.add(dependency);
+            }
         }
-
-        public Class<?> getBeanClass() {
-            return beanClass;
+        for (final InjectionPlan.InjectionPoint injectionPoint : InjectionPlan.forClass(beanDefinition.getBeanClass())
+                .getInjectionPoints()) {
+            // the controller's view is not a dependency, it is created together with the controller
+            if (!injectionPoint.isViewInjection()) {
+                final BeanDefinition dependency = resolveBeanDefinition(injectionPoint.getName(),
+                        injectionPoint.getType());
+                if (dependency != null) {
+                    dependencies.add(dependency);
+                }
+            }
         }
+        return dependencies;
+    }
 
-        public boolean isSingleton() {
-            return singleton;
+    /**
+     * Resolves the bean definition for the given {@code id} and {@code type} in the same order as
+     * {@link #resolveBean(String, Class)}, but without instantiating the bean.
+     *
+     * @param id
+     *            the ID / bean name
+     * @param type
+     *            the type
+     * @return the resolved bean definition, or {@code null}, if the ID and type can not be resolved
+     */
+    private BeanDefinition resolveBeanDefinition(final String id, final Class<?> type) {
+        BeanDefinition beanDefinition = beanDefinitionRegistry.getById(id);
+        if (beanDefinition == null) {
+            beanDefinition = beanDefinitionRegistry.getByType(type);
         }
-
-        public boolean isLazyInitialisation() {
-            return lazyInitialisation;
+        if (beanDefinition == null && isNotPrimitiveOrString(type)) {
+            beanDefinition = addDefaultConstructorBeanDefinition(id, type);
         }
+        return beanDefinition;
+    }
 
-        public Supplier<?> getInstantiationSupplier() {
-            return instantiationSupplier;
+    /**
+     * Adds a lazily initialized singleton bean definition for the given {@code type}, that is instantiated via its
+     * default constructor. In case another thread registered a bean definition under the same {@code id} in the
+     * meantime, the existing bean definition is kept, so that concurrent injections resolve to the same singleton.
+     *
+     * @param id
+     *            the ID / bean name
+     * @param type
+     *            the type to instantiate
+     * @return the bean definition registered under {@code id}
+     */
+    private BeanDefinition addDefaultConstructorBeanDefinition(final String id, final Class<?> type) {
+        final BeanDefinition beanDefinition = new BeanDefinition(id, type, true, true,
+                new ConstructorBasedInstantiationSupplier<>(type));
+        final BeanDefinition registered = beanDefinitionRegistry.registerIfAbsent(beanDefinition);
+        if (registered == beanDefinition) {
+            postProcessBeanDefinition(type, id, true, true);
         }
+        return registered;
+    }
 
-        @Override
-        public int hashCode() {
-            final int prime = 31;
-            int result = 1;
-            result = prime * result + (id == null ? 0 : id.hashCode());
-            return result;
-        }
+    /**
+     * Creates an executor service used for instantiating non-lazy beans concurrently.
+     *
+     * @param numberOfThreads
+     *            the number of threads of the executor service
+     * @param threadNamePrefix
+     *            the prefix of the thread names
+     * @return the executor service
+     */
+    private static ExecutorService createInstantiationExecutorService(final int numberOfThreads,
+            final String threadNamePrefix) {
+        final AtomicInteger threadNumber = new AtomicInteger(1);
+        return Executors.newFixedThreadPool(numberOfThreads, runnable -> {
+            final Thread thread = new Thread(runnable, threadNamePrefix + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
 
-        @Override
-        public boolean equals(final Object obj) {
-            if (this == obj) {
-                return true;
-            }
-            if (obj == null) {
-                return false;
-            }
-            if (getClass() != obj.getClass()) {
-                return false;
-            }
-            final BeanDefinition other = (BeanDefinition) obj;
-            if (id == null) {
-                if (other.id != null) {
-                    return false;
-                }
-            } else if (!id.equals(other.id)) {
-                return false;
-            }
-            return true;
+    /**
+     * Sets the number of threads that are used for instantiating non-lazy beans during
+     * {@link #runComponentScan(String)}. A value of {@code 1} (default) instantiates all non-lazy beans sequentially.
+     *
+     * @param instantiationParallelism
+     *            the number of threads used for instantiating non-lazy beans
+     */
+    public void setInstantiationParallelism(final int instantiationParallelism) {
+        if (instantiationParallelism < 1) {
+            throw new IllegalArgumentException("Instantiation parallelism must be at least 1!");
         }
+        this.instantiationParallelism = instantiationParallelism;
+    }
+
+    /**
+     * Gets the number of threads that are used for instantiating non-lazy beans.
+     *
+     * @return the number of threads used for instantiating non-lazy beans
+     */
+    public int getInstantiationParallelism() {
+        return instantiationParallelism;
+    }
+
+    /**
+     * Specifies, whether controllers and their views are created outside the JavaFX thread (see
+     * {@link com.github.actionfx.core.ActionFX#isOffFxThreadViewCreation()}). Only in this case, controllers are
+     * instantiated concurrently, when {@link #setInstantiationParallelism(int)} is greater than 1. Default is
+     * {@code false}.
+     *
+     * @param offFxThreadViewCreation
+     *            {@code true}, if controllers and views are created outside the JavaFX thread, {@code false}
+     *            otherwise
+     */
+    public void setOffFxThreadViewCreation(final boolean offFxThreadViewCreation) {
+        this.offFxThreadViewCreation = offFxThreadViewCreation;
     }
 
     /**
@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2026 Martin Koster
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.actionfx.core.container;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import jakarta.inject.Inject;
+
+import com.github.actionfx.core.annotation.AFXController;
+import com.github.actionfx.core.utils.AnnotationUtils;
+
+/**
+ * Pre-computed plan for injecting dependencies into fields annotated by {@link Inject}.
+ * <p>
+ * The plan is computed once per class by inspecting the complete class hierarchy and is cached afterwards. Each
+ * injection point holds a {@link MethodHandle} for setting the field value, so that injecting dependencies into a newly
+ * created instance does not require any further reflection lookups.
+ *
+ * @author koster
+ *
+ */
+final class InjectionPlan {
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final ClassValue<InjectionPlan> PLAN_CACHE = new ClassValue<>() {
+        @Override
+        protected InjectionPlan computeValue(final Class<?> type) {
+            return compile(type);
+        }
+    };
+
+    private final List<InjectionPoint> injectionPoints;
+
+    private InjectionPlan(final List<InjectionPoint> injectionPoints) {
+        this.injectionPoints = Collections.unmodifiableList(injectionPoints);
+    }
+
+    /**
+     * Gets the injection plan for the supplied {@code clazz}. The plan is computed on first access and cached
+     * afterwards.
+     *
+     * @param clazz
+     *            the class to get the injection plan for
+     * @return the injection plan
+     */
+    static InjectionPlan forClass(final Class<?> clazz) {
+        return PLAN_CACHE.get(clazz);
+    }
+
+    /**
+     * Gets the injection points of this plan, starting with the fields declared in the class itself, followed by the
+     * fields of its super-classes.
+     *
+     * @return the injection points
+     */
+    List<InjectionPoint> getInjectionPoints() {
+        return injectionPoints;
+    }
+
+    /**
+     * Checks, whether there are any fields to inject.
+     *
+     * @return {@code true}, if there are no fields annotated by {@link Inject}, {@code false} otherwise
+     */
+    boolean isEmpty() {
+        return injectionPoints.isEmpty();
+    }
+
+    /**
+     * Computes the injection plan for the supplied {@code clazz}.
+     *
+     * @param clazz
+     *            the class to compute the plan for
+     * @return the computed plan
+     */
+    private static InjectionPlan compile(final Class<?> clazz) {
+        final List<InjectionPoint> injectionPoints = new ArrayList<>();
+        for (Class<?> c = clazz; c != null; c = c.getSuperclass()) {
+            final AFXController afxController = AnnotationUtils.findAnnotation(c, AFXController.class);
+            for (final Field field : c.getDeclaredFields()) {
+                if (field.isAnnotationPresent(Inject.class)) {
+                    // in case the controller wants to have injected its own view instance, the view is taken from
+                    // the controller itself
+                    final boolean viewInjection = afxController != null
+                            && field.getName().equals(afxController.viewId());
+                    injectionPoints.add(new InjectionPoint(field, viewInjection, createSetter(field)));
+                }
+            }
+        }
+        return new InjectionPlan(injectionPoints);
+    }
+
+    /**
+     * Creates a {@link MethodHandle} that sets the value of the supplied {@code field}. The method handle is adapted
+     * to the type {@code (Object, Object)void}, so that it can be invoked via {@link MethodHandle#invokeExact}.
+     *
+     * @param field
+     *            the field to create the setter for
+     * @return the setter method handle
+     */
+    private static MethodHandle createSetter(final Field field) {
+        try {
+            field.setAccessible(true); // NOSONAR
+            final MethodHandle setter = MethodHandles.lookup().unreflectSetter(field);
+            if (Modifier.isStatic(field.getModifiers())) {
+                // static setters do not take an instance argument, so we add one that is ignored
+                return MethodHandles.dropArguments(setter.asType(MethodType.methodType(void.class, Object.class)), 0,
+                        Object.class);
+            }
+            return setter.asType(SETTER_TYPE);
+        } catch (final IllegalAccessException | RuntimeException e) {
+            throw new IllegalStateException("Cannot create setter for field '" + field.getName() + "' in class '"
+                    + field.getDeclaringClass().getCanonicalName() + "'!", e);
+        }
+    }
+
+    /**
+     * A single field annotated by {@link Inject}.
+     *
+     * @author koster
+     *
+     */
+    static final class InjectionPoint {
+
+        private final Field field;
+
+        private final String name;
+
+        private final Class<?> type;
+
+        private final boolean viewInjection;
+
+        private final MethodHandle setter;
+
+        InjectionPoint(final Field field, final boolean viewInjection, final MethodHandle setter) {
+            this.field = field;
+            name = field.getName();
+            type = field.getType();
+            this.viewInjection = viewInjection;
+            this.setter = setter;
+        }
+
+        /**
+         * Sets the supplied {@code value} into the field of the given {@code instance}.
+         *
+         * @param instance
+         *            the instance holding the field
+         * @param value
+         *            the value to set
+         */
+        void inject(final Object instance, final Object value) {
+            try {
+                setter.invokeExact(instance, value);
+            } catch (final Throwable e) { // NOSONAR MethodHandle.invokeExact throws Throwable
+                throw new IllegalStateException("Cannot set field: " + field + " with value " + value, e);
+            }
+        }
+
+        /**
+         * The name of the field, which is used as bean ID for resolving the value.
+         *
+         * @return the field name
+         */
+        String getName() {
+            return name;
+        }
+
+        /**
+         * The type of the field.
+         *
+         * @return the field type
+         */
+        Class<?> getType() {
+            return type;
+        }
+
+        /**
+         * Flag indicating, whether the field shall receive the view of the controller holding the field.
+         *
+         * @return {@code true}, if the view of the controller shall be injected, {@code false} otherwise
+         */
+        boolean isViewInjection() {
+            return viewInjection;
+        }
+    }
+}
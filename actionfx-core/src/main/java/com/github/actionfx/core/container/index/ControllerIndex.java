@@ -0,0 +1,473 @@
+/*
+ * Copyright (c) 2026 Martin Koster
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.actionfx.core.container.index;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.JarURLConnection;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystemAlreadyExistsException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.ProviderNotFoundException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.actionfx.core.annotation.AFXController;
+
+/**
+ * Index of all classes annotated by {@link AFXController}, that is generated at compile time by the
+ * {@link ControllerIndexProcessor}.
+ * <p>
+ * The index files are stored inside the directory {@link #INDEX_DIRECTORY} of each JAR / classpath root that has been
+ * compiled with the annotation processor. Each module writes its own index file with a unique name, so that the index
+ * files of several modules survive, when the modules are merged into a single fat JAR. Reading the index only requires
+ * to list the index directory and to read a few lines per controller, while a classpath scan needs to inspect every
+ * class inside the scanned package. In case no index is present on the classpath (e.g. because the annotation
+ * processor was not executed during compilation), callers are expected to fall back to a classpath scan.
+ * <p>
+ * Each line of an index file contains the binary class name of one controller. Lines starting with {@code #} are
+ * treated as comments.
+ * <p>
+ * An index file only describes the controllers of the module it has been generated for. The index can therefore only
+ * replace a classpath scan for a package, in case every classpath root that contains classes of that package has an
+ * index (see {@link #isComplete(ClassLoader, String)}). A classpath root with an index is trusted to be complete and
+ * is never scanned. Consequently, all modules that are merged into a single fat JAR need to be compiled with the
+ * annotation processor.
+ *
+ * @author koster
+ *
+ */
+public class ControllerIndex {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ControllerIndex.class);
+
+    /**
+     * The classpath location of the directory containing the controller index files.
+     */
+    public static final String INDEX_DIRECTORY = "META-INF/actionfx/controllers";
+
+    /**
+     * The suffix of controller index files inside {@link #INDEX_DIRECTORY}.
+     */
+    public static final String INDEX_FILE_SUFFIX = ".index";
+
+    /**
+     * Prefix for comment lines in an index file.
+     */
+    static final String COMMENT_PREFIX = "#";
+
+    private static final String CLASS_FILE_SUFFIX = ".class";
+
+    private final List<Entry> entries;
+
+    // the classpath roots (e.g. "file:/path/to/classes/" or "jar:file:/path/to/lib.jar!/") that contain an index
+    private final Set<String> indexedRoots;
+
+    // the number of files and JAR entries that have been inspected for reading and checking the index
+    private final AtomicInteger visitedEntries;
+
+    ControllerIndex(final List<Entry> entries, final Set<String> indexedRoots, final AtomicInteger visitedEntries) {
+        this.entries = Collections.unmodifiableList(entries);
+        this.indexedRoots = Collections.unmodifiableSet(indexedRoots);
+        this.visitedEntries = visitedEntries;
+    }
+
+    /**
+     * Loads the controller index from {@link #INDEX_DIRECTORY} using the supplied {@code classLoader}. All index files
+     * that are found on the classpath are merged into a single index.
+     *
+     * @param classLoader
+     *            the class loader to use for loading index files
+     * @return the loaded controller index. In case no index file is present, an index is returned where
+     *         {@link #isPresent()} returns {@code false}.
+     */
+    public static ControllerIndex load(final ClassLoader classLoader) {
+        return load(classLoader, INDEX_DIRECTORY);
+    }
+
+    /**
+     * Loads the controller index from the given {@code indexDirectory} using the supplied {@code classLoader}. All
+     * index files that are found on the classpath are merged into a single index.
+     *
+     * @param classLoader
+     *            the class loader to use for loading index files
+     * @param indexDirectory
+     *            the classpath location of the directory containing the index files
+     * @return the loaded controller index. In case no index file is present, an index is returned where
+     *         {@link #isPresent()} returns {@code false}.
+     */
+    public static ControllerIndex load(final ClassLoader classLoader, final String indexDirectory) {
+        // use a linked map so that duplicate entries (e.g. same class in multiple roots) are merged in a deterministic
+        // order
+        final Map<String, Entry> entryMap = new LinkedHashMap<>();
+        final Set<String> indexedRoots = new HashSet<>();
+        final AtomicInteger visitedEntries = new AtomicInteger();
+        try {
+            final Enumeration<URL> urls = classLoader.getResources(indexDirectory);
+            while (urls.hasMoreElements()) {
+                final URL url = urls.nextElement();
+                final List<Entry> rootEntries = readIndexDirectory(url, indexDirectory, visitedEntries);
+                if (rootEntries != null) {
+                    indexedRoots.add(rootOf(url, indexDirectory));
+                    rootEntries.forEach(entry -> entryMap.putIfAbsent(entry.getClassName(), entry));
+                }
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Unable to read ActionFX controller index from '" + indexDirectory + "'!",
+                    e);
+        }
+        return new ControllerIndex(new ArrayList<>(entryMap.values()), indexedRoots, visitedEntries);
+    }
+
+    /**
+     * Flag indicating, whether at least one index file was found on the classpath.
+     *
+     * @return {@code true}, if an index file was found, {@code false} otherwise
+     */
+    public boolean isPresent() {
+        return !indexedRoots.isEmpty();
+    }
+
+    /**
+     * Checks, whether this index contains all controllers of the given {@code rootPackage}. This is the case, when
+     * every classpath root that contains classes of {@code rootPackage} (or of one of its sub-packages) has an index.
+     * Classpath roots with an index are not inspected any further, only classpath roots without an index are checked
+     * for class files (e.g. a directory that only holds resources).
+     * <p>
+     * Please note that classpath roots are detected via the directory entries of {@code rootPackage}. JAR files that
+     * are built without directory entries are therefore not detected.
+     *
+     * @param classLoader
+     *            the class loader to use for detecting classpath roots
+     * @param rootPackage
+     *            the root package
+     * @return {@code true}, if the index is complete for the package and a classpath scan is not required,
+     *         {@code false} otherwise
+     */
+    public boolean isComplete(final ClassLoader classLoader, final String rootPackage) {
+        if (!isPresent() || rootPackage == null || rootPackage.isEmpty()) {
+            return false;
+        }
+        final String packagePath = rootPackage.replace('.', '/');
+        try {
+            final Enumeration<URL> urls = classLoader.getResources(packagePath);
+            while (urls.hasMoreElements()) {
+                final URL url = urls.nextElement();
+                final String root = rootOf(url, packagePath);
+                if (!indexedRoots.contains(root) && !Boolean.FALSE.equals(containsClasses(url, packagePath))) {
+                    LOG.debug("Classpath root '{}' contains classes of package '{}', but no ActionFX controller "
+                            + "index.", root, rootPackage);
+                    return false;
+                }
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Unable to inspect classpath roots of package '" + rootPackage + "'!", e);
+        }
+        return true;
+    }
+
+    /**
+     * Gets the number of files and JAR entries that have been inspected for reading this index and for checking its
+     * completeness. This number is independent of the number of classes inside indexed classpath roots and is mainly
+     * useful for diagnostic purposes.
+     *
+     * @return the number of inspected files and JAR entries
+     */
+    public int getVisitedEntries() {
+        return visitedEntries.get();
+    }
+
+    /**
+     * Gets all entries of this index.
+     *
+     * @return all entries
+     */
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Gets all index entries, whose controller class resides in the given {@code rootPackage} or in one of its
+     * sub-packages.
+     *
+     * @param rootPackage
+     *            the root package
+     * @return the matching entries
+     */
+    public List<Entry> getEntries(final String rootPackage) {
+        return entries.stream().filter(entry -> entry.isInPackage(rootPackage)).collect(Collectors.toList());
+    }
+
+    /**
+     * Reads all index files inside the index directory described by {@code url}.
+     *
+     * @param url
+     *            the URL of the index directory
+     * @param indexDirectory
+     *            the classpath location of the index directory
+     * @param visitedEntries
+     *            the counter for the inspected files and JAR entries
+     * @return the read entries, or {@code null}, in case the index directory can not be listed (e.g. for unknown URL
+     *         protocols)
+     * @throws IOException
+     *             in case the index files can not be read
+     */
+    private static List<Entry> readIndexDirectory(final URL url, final String indexDirectory,
+            final AtomicInteger visitedEntries) throws IOException {
+        final URI uri;
+        try {
+            uri = url.toURI();
+        } catch (final URISyntaxException e) {
+            return null; // NOSONAR - null indicates that the index directory can not be listed
+        }
+        if ("file".equals(uri.getScheme())) {
+            return readIndexFiles(Paths.get(uri), visitedEntries);
+        }
+        if ("jar".equals(uri.getScheme())) {
+            // the JAR file system only reads the central directory of the JAR, so that listing the index directory
+            // does not require to visit the other JAR entries
+            try (FileSystem fileSystem = FileSystems.newFileSystem(uri, Collections.emptyMap())) {
+                return readIndexFiles(fileSystem.getPath(indexDirectory), visitedEntries);
+            } catch (final FileSystemAlreadyExistsException e) {
+                return readIndexFiles(FileSystems.getFileSystem(uri).getPath(indexDirectory), visitedEntries);
+            } catch (final ProviderNotFoundException | IllegalArgumentException e) {
+                LOG.debug("Unable to list ActionFX controller index directory '{}'.", url, e);
+            }
+        }
+        return null; // NOSONAR - null indicates that the index directory can not be listed
+    }
+
+    /**
+     * Reads all index files inside the supplied {@code indexDirectory}.
+     *
+     * @param indexDirectory
+     *            the index directory
+     * @param visitedEntries
+     *            the counter for the inspected files and JAR entries
+     * @return the read entries
+     * @throws IOException
+     *             in case the index files can not be read
+     */
+    private static List<Entry> readIndexFiles(final Path indexDirectory, final AtomicInteger visitedEntries)
+            throws IOException {
+        final List<Path> indexFiles;
+        try (Stream<Path> paths = Files.list(indexDirectory)) {
+            indexFiles = paths.peek(path -> visitedEntries.incrementAndGet())
+                    .filter(path -> path.getFileName().toString().endsWith(INDEX_FILE_SUFFIX)).sorted()
+                    .collect(Collectors.toList());
+        }
+        final List<Entry> entries = new ArrayList<>();
+        for (final Path indexFile : indexFiles) {
+            entries.addAll(readIndexFile(indexFile));
+        }
+        return entries;
+    }
+
+    /**
+     * Reads a single index file from the supplied {@code indexFile}.
+     *
+     * @param indexFile
+     *            the path to the index file
+     * @return the read entries
+     * @throws IOException
+     *             in case the index file can not be read
+     */
+    private static List<Entry> readIndexFile(final Path indexFile) throws IOException {
+        final List<Entry> entries = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(indexFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                final String trimmedLine = line.trim();
+                final Entry entry = parseLine(trimmedLine);
+                if (entry != null) {
+                    entries.add(entry);
+                } else if (!trimmedLine.isEmpty() && !trimmedLine.startsWith(COMMENT_PREFIX)) {
+                    LOG.warn("Ignoring malformed line '{}' in ActionFX controller index '{}'.", line, indexFile.toUri());
+                }
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Parses a single line of an index file.
+     *
+     * @param line
+     *            the line to parse
+     * @return the parsed entry, or {@code null}, in case the line is a comment, is empty or is malformed
+     */
+    static Entry parseLine(final String line) {
+        if (line.isEmpty() || line.startsWith(COMMENT_PREFIX) || !isBinaryClassName(line)) {
+            return null;
+        }
+        return new Entry(line);
+    }
+
+    private static boolean isBinaryClassName(final String name) {
+        if (name.isEmpty() || !Character.isJavaIdentifierStart(name.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < name.length(); i++) {
+            final char c = name.charAt(i);
+            if (c != '.' && !Character.isJavaIdentifierPart(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Derives the classpath root from the supplied resource {@code url}, e.g. {@code file:/path/to/classes/} for
+     * {@code file:/path/to/classes/com/example/} and resource path {@code com/example}.
+     *
+     * @param url
+     *            the URL of the resource
+     * @param resourcePath
+     *            the path of the resource relative to the classpath root
+     * @return the classpath root
+     */
+    static String rootOf(final URL url, final String resourcePath) {
+        String location = url.toExternalForm();
+        if (location.endsWith("/")) {
+            location = location.substring(0, location.length() - 1);
+        }
+        return location.endsWith(resourcePath) ? location.substring(0, location.length() - resourcePath.length())
+                : location;
+    }
+
+    /**
+     * Checks, whether the package directory described by {@code url} (including its sub-directories) contains class
+     * files. The check stops at the first class file that is found.
+     *
+     * @param url
+     *            the URL of the package directory
+     * @param packagePath
+     *            the package path, e.g. {@code com/example}
+     * @return {@code true}, if the package directory contains class files, {@code false}, if it does not contain class
+     *         files, or {@code null}, in case this can not be determined (e.g. for unknown URL protocols)
+     */
+    private Boolean containsClasses(final URL url, final String packagePath) throws IOException {
+        if ("file".equals(url.getProtocol())) {
+            final Path packageDirectory;
+            try {
+                packageDirectory = Paths.get(url.toURI());
+            } catch (final URISyntaxException e) {
+                return null; // NOSONAR - null indicates that this can not be determined
+            }
+            try (Stream<Path> paths = Files.walk(packageDirectory)) {
+                return paths.peek(path -> visitedEntries.incrementAndGet())
+                        .anyMatch(path -> path.getFileName().toString().endsWith(CLASS_FILE_SUFFIX));
+            }
+        }
+        final URLConnection connection = url.openConnection();
+        if (connection instanceof JarURLConnection) {
+            // the JAR file is cached by the URL connection and must not be closed here
+            final JarFile jarFile = ((JarURLConnection) connection).getJarFile();
+            final String prefix = packagePath + "/";
+            return jarFile.stream().peek(entry -> visitedEntries.incrementAndGet())
+                    .anyMatch(entry -> entry.getName().startsWith(prefix)
+                            && entry.getName().endsWith(CLASS_FILE_SUFFIX));
+        }
+        return null; // NOSONAR - null indicates that this can not be determined
+    }
+
+
+    /**
+     * A single entry inside the controller index, describing one class annotated by {@link AFXController}.
+     *
+     * @author koster
+     *
+     */
+    public static class Entry {
+
+        private final String className;
+
+        public Entry(final String className) {
+            this.className = className;
+        }
+
+        /**
+         * Formats this entry as a single line for an index file.
+         *
+         * @return the formatted index line
+         */
+        public String toIndexLine() {
+            return className;
+        }
+
+        /**
+         * Checks, whether the class of this entry resides in the given {@code rootPackage} or in one of its
+         * sub-packages.
+         *
+         * @param rootPackage
+         *            the root package
+         * @return {@code true}, if the class resides in the package, {@code false} otherwise
+         */
+        public boolean isInPackage(final String rootPackage) {
+            return rootPackage == null || rootPackage.isEmpty() || className.startsWith(rootPackage + ".");
+        }
+
+        /**
+         * Loads the class described by this entry.
+         *
+         * @param classLoader
+         *            the class loader to use
+         * @return the loaded class
+         */
+        public Class<?> loadClass(final ClassLoader classLoader) {
+            try {
+                return Class.forName(className, false, classLoader);
+            } catch (final ClassNotFoundException e) {
+                throw new IllegalStateException("Class '" + className
+                        + "' is listed in the ActionFX controller index, but can not be loaded!", e);
+            }
+        }
+
+        public String getClassName() {
+            return className;
+        }
+    }
+}
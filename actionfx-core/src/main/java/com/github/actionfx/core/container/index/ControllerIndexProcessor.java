@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2026 Martin Koster
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.actionfx.core.container.index;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor that writes an index of all classes annotated by
+ * {@link com.github.actionfx.core.annotation.AFXController} into the directory {@link ControllerIndex#INDEX_DIRECTORY}.
+ * <p>
+ * The processor is registered via {@code META-INF/services/javax.annotation.processing.Processor}. In Gradle builds, it
+ * needs to be added to the {@code annotationProcessor} configuration, e.g.:
+ *
+ * <pre>
+ * dependencies {
+ *     implementation "com.github.martinkoster:actionfx-core:${actionFXVersion}"
+ *     annotationProcessor "com.github.martinkoster:actionfx-core:${actionFXVersion}"
+ * }
+ * </pre>
+ *
+ * An index file is written for every compiled module, even when the module does not contain any controllers. The name
+ * of the index file is derived from the hash of its entries, so that the index files of several modules do not
+ * overwrite each other, when the modules are merged into a single fat JAR. Index files of modules with the same
+ * entries (e.g. modules without controllers) have the same name, but as their content is identical, no entry is lost
+ * in case they overwrite each other.
+ * <p>
+ * The processor is registered for all annotation types, as it also needs to be invoked for modules without controllers.
+ * It does not claim any annotation, so that other processors are not affected. Please note that the annotation type
+ * is referenced by its name, so that the processor does not require JavaFX on the annotation processor path.
+ *
+ * @author koster
+ *
+ */
+@SupportedAnnotationTypes("*")
+public class ControllerIndexProcessor extends AbstractProcessor {
+
+    static final String AFX_CONTROLLER_ANNOTATION = "com.github.actionfx.core.annotation.AFXController";
+
+    // sorted by class name, so that the generated index and its name are reproducible
+    private final Map<String, ControllerIndex.Entry> collectedEntries = new TreeMap<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeIndex();
+            return false;
+        }
+        final TypeElement controllerAnnotation = processingEnv.getElementUtils()
+                .getTypeElement(AFX_CONTROLLER_ANNOTATION);
+        if (controllerAnnotation != null) {
+            for (final Element element : roundEnv.getElementsAnnotatedWith(controllerAnnotation)) {
+                if (element.getKind() == ElementKind.CLASS) {
+                    final ControllerIndex.Entry entry = createEntry((TypeElement) element);
+                    collectedEntries.put(entry.getClassName(), entry);
+                }
+            }
+        }
+        // other processors shall be able to process @AFXController as well
+        return false;
+    }
+
+    /**
+     * Creates an index entry for the supplied {@code controllerType}.
+     *
+     * @param controllerType
+     *            the type that is annotated by {@code AFXController}
+     * @return the created index entry
+     */
+    private ControllerIndex.Entry createEntry(final TypeElement controllerType) {
+        return new ControllerIndex.Entry(processingEnv.getElementUtils().getBinaryName(controllerType).toString());
+    }
+
+    /**
+     * Writes the collected entries to the index file. The index file is also written, when no entries have been
+     * collected, so that the classpath root is known to be indexed at runtime.
+     */
+    private void writeIndex() {
+        final StringBuilder content = new StringBuilder();
+        for (final ControllerIndex.Entry entry : collectedEntries.values()) {
+            content.append(entry.toIndexLine()).append('\n');
+        }
+        final String indexLocation = ControllerIndex.INDEX_DIRECTORY + "/" + indexFileName(content.toString());
+        try {
+            final FileObject indexFile = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+                    indexLocation);
+            try (Writer writer = indexFile.openWriter()) {
+                writer.write(ControllerIndex.COMMENT_PREFIX + " Generated by " + getClass().getName()
+                        + " - do not edit!\n");
+                writer.write(content.toString());
+            }
+        } catch (final IOException e) {
+            processingEnv.getMessager().printMessage(Kind.ERROR,
+                    "Unable to write ActionFX controller index to '" + indexLocation + "': " + e.getMessage());
+        }
+    }
+
+    /**
+     * Derives the name of the index file from the hash of the supplied index {@code content}.
+     *
+     * @param content
+     *            the content of the index file
+     * @return the name of the index file
+     */
+    static String indexFileName(final String content) {
+        try {
+            final byte[] hash = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            final StringBuilder name = new StringBuilder();
+            // 16 bytes are more than sufficient to distinguish the modules of an application
+            for (int i = 0; i < 16; i++) {
+                name.append(String.format("%02x", hash[i]));
+            }
+            return name.append(ControllerIndex.INDEX_FILE_SUFFIX).toString();
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported by this JVM!", e);
+        }
+    }
+}
@@ -30,6 +30,7 @@ import java.util.List;
 import com.github.actionfx.core.events.PriorityAwareEventBus;
 import com.github.actionfx.core.extension.beans.BeanExtension;
 import com.github.actionfx.core.extension.beans.SubscribeMethodBeanExtension;
+import com.github.actionfx.core.profiling.StartupProfiler;
 
 /**
  * Post-processor for bean definitions after these are added to the bean container.
@@ -41,13 +42,16 @@ public class BeanDefinitionPostProcessor {
 
     private final List<BeanExtension> beanExtensions = new ArrayList<>();
 
+    private final SubscribeMethodBeanExtension subscribeMethodBeanExtension;
+
     public BeanDefinitionPostProcessor(final PriorityAwareEventBus eventBus) {
         this(eventBus, Collections.emptyList());
     }
 
     public BeanDefinitionPostProcessor(final PriorityAwareEventBus eventBus,
             final List<BeanExtension> customBeanExtensions) {
-        beanExtensions.add(new SubscribeMethodBeanExtension(eventBus));
+        subscribeMethodBeanExtension = new SubscribeMethodBeanExtension(eventBus);
+        beanExtensions.add(subscribeMethodBeanExtension);
 
         // add the custom controller extensions
         beanExtensions.addAll(customBeanExtensions);
@@ -68,10 +72,35 @@ public class BeanDefinitionPostProcessor {
      */
     public void postProcess(final Class<?> beanClass, final String beanId, final boolean singleton,
             final boolean lazyInit) {
-        beanExtensions.forEach(extension -> extension.extendBean(beanClass, beanId, singleton, lazyInit));
+        final StartupProfiler profiler = StartupProfiler.current();
+        for (final BeanExtension extension : beanExtensions) {
+            final long start = profiler.start();
+            extension.extendBean(beanClass, beanId, singleton, lazyInit);
+            profiler.record(StartupProfiler.Category.BEAN_DEFINITION_POSTPROCESSING, extension.getClass(), beanId,
+                    start);
+        }
     }
 
     public List<BeanExtension> getUnmodifiableBeanExtensions() {
         return Collections.unmodifiableList(beanExtensions);
     }
+
+    /**
+     * Removes the subscriptions of all methods annotated by {@link com.github.actionfx.core.annotation.AFXSubscribe}
+     * of the bean with the given {@code beanId} from the event bus.
+     *
+     * @param beanId
+     *            the bean Id / name
+     */
+    public void unsubscribe(final String beanId) {
+        subscribeMethodBeanExtension.unsubscribe(beanId);
+    }
+
+    /**
+     * Removes the subscriptions of all methods annotated by {@link com.github.actionfx.core.annotation.AFXSubscribe}
+     * of all beans from the event bus.
+     */
+    public void unsubscribeAll() {
+        subscribeMethodBeanExtension.unsubscribeAll();
+    }
 }
@@ -28,6 +28,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.function.Consumer;
 
+import com.github.actionfx.core.ActionFX;
 import com.github.actionfx.core.annotation.AFXLoadControlData;
 import com.github.actionfx.core.annotation.AFXNestedView.AFXNestedViews;
 import com.github.actionfx.core.annotation.AFXOnAction;
@@ -51,6 +52,14 @@ import com.github.actionfx.core.extension.controller.ValidateRequiredControllerE
 import com.github.actionfx.core.extension.controller.ValidateSizeControllerExtension;
 import com.github.actionfx.core.extension.controller.ValidateTemporalControllerExtension;
 import com.github.actionfx.core.instrumentation.ControllerWrapper;
+import com.github.actionfx.core.profiling.ControllerExtensionEvent;
+import com.github.actionfx.core.profiling.StartupProfiler;
+import com.github.actionfx.core.view.View;
+
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.scene.Node;
+import javafx.scene.Scene;
 
 /**
  * Post-processor for controller instances that is invoked after view creation and dependency injection, but before
@@ -63,6 +72,9 @@ public class ControllerInstancePostProcessor {
 
     private final List<Consumer<Object>> controllerExtensions = new ArrayList<>();
 
+    // index of the first extension that can be deferred until the view is shown for the first time
+    private final int firstDeferrableExtensionIndex;
+
     public ControllerInstancePostProcessor() {
         this(Collections.emptyList());
     }
@@ -75,6 +87,9 @@ public class ControllerInstancePostProcessor {
         controllerExtensions.add(new UseFilteredListControllerExtension());
         controllerExtensions.add(new OnActionMethodControllerExtension());
         controllerExtensions.add(new ConverterControllerExtension());
+
+        // all following extensions only affect the view's content and can be deferred until the view is shown
+        firstDeferrableExtensionIndex = controllerExtensions.size();
         controllerExtensions.add(new CellValueConfigControllerExtension());
         controllerExtensions.add(new OnLoadControlDataMethodControllerExtension());
         controllerExtensions.add(new OnControlValueChangeMethodControllerExtension());
@@ -100,15 +115,92 @@ public class ControllerInstancePostProcessor {
     /**
      * Performs a post-processing on the supplied {@code controller}, including parsing of applied ActionFX annotations
      * like {@link AFXNestedViews}, {@link AFXLoadControlData}, {@link AFXOnAction}.
+     * <p>
+     * In case {@link ActionFX#isDeferredControllerExtensions()} is enabled, only the extensions required for building
+     * the controller are applied immediately, while the remaining extensions are deferred until the view is shown for
+     * the first time (see {@link #postProcess(Object, boolean)}).
      *
      * @param controller
      *            the controller instance to post process
      */
     public void postProcess(final Object controller) {
-        applyControllerExtensions(controller);
-        // perform an initial validation of the form, so that the validation result inside the view
-        // reflects the current state of the controls.
+        postProcess(controller, ActionFX.isConfigured() && ActionFX.getInstance().isDeferredControllerExtensions());
+    }
+
+    /**
+     * Performs a post-processing on the supplied {@code controller}, including parsing of applied ActionFX annotations
+     * like {@link AFXNestedViews}, {@link AFXLoadControlData}, {@link AFXOnAction}.
+     * <p>
+     * In case {@code deferViewExtensions} is {@code true}, only the extensions required for building the controller
+     * (nested views, control configuration, action handlers and converters) are applied immediately. All other
+     * extensions (cell value configurations, data loading, value change listeners, form bindings, validations, node
+     * activations and custom extensions) and the initial validation are applied, when the root node of the view is
+     * attached to a {@link Scene} for the first time, i.e. when the view is shown or attached to a displayed scene
+     * graph.
+     *
+     * @param controller
+     *            the controller instance to post process
+     * @param deferViewExtensions
+     *            {@code true}, if extensions affecting only the view's content shall be deferred until the view is
+     *            shown for the first time, {@code false}, if all extensions shall be applied immediately
+     */
+    public void postProcess(final Object controller, final boolean deferViewExtensions) {
+        final StartupProfiler profiler = StartupProfiler.current();
+        if (!deferViewExtensions) {
+            applyControllerExtensions(controller, 0, controllerExtensions.size(), profiler);
+            validateInitially(controller, profiler);
+            return;
+        }
+        applyControllerExtensions(controller, 0, firstDeferrableExtensionIndex, profiler);
+        runWhenAttachedToScene(ControllerWrapper.getViewFrom(controller), () -> {
+            final StartupProfiler currentProfiler = StartupProfiler.current();
+            applyControllerExtensions(controller, firstDeferrableExtensionIndex, controllerExtensions.size(),
+                    currentProfiler);
+            validateInitially(controller, currentProfiler);
+        });
+    }
+
+    /**
+     * Performs an initial validation of the form, so that the validation result inside the view reflects the current
+     * state of the controls.
+     *
+     * @param controller
+     *            the controller
+     * @param profiler
+     *            the profiler that records the time spent in the validation
+     */
+    private static void validateInitially(final Object controller, final StartupProfiler profiler) {
+        final long start = profiler.start();
         ControllerWrapper.getViewFrom(controller).validate(false);
+        profiler.record(StartupProfiler.Category.VALIDATION, controller.getClass(), null, start);
+    }
+
+    /**
+     * Executes the supplied {@code action}, as soon as the root node of the given {@code view} is attached to a
+     * {@link Scene}. In case the root node is already part of a scene (or the view has no root node), the action is
+     * executed immediately.
+     *
+     * @param view
+     *            the view
+     * @param action
+     *            the action to execute once
+     */
+    private static void runWhenAttachedToScene(final View view, final Runnable action) {
+        final Object rootNode = view.getRootNode();
+        if (!(rootNode instanceof Node) || ((Node) rootNode).getScene() != null) {
+            action.run();
+            return;
+        }
+        ((Node) rootNode).sceneProperty().addListener(new ChangeListener<Scene>() {
+            @Override
+            public void changed(final ObservableValue<? extends Scene> observable, final Scene oldScene,
+                    final Scene newScene) {
+                if (newScene != null) {
+                    observable.removeListener(this);
+                    action.run();
+                }
+            }
+        });
     }
 
     /**
@@ -116,10 +208,23 @@ public class ControllerInstancePostProcessor {
      *
      * @param instance
      *            the instance that is checked for ActionFX method level annotations
+     * @param fromIndex
+     *            the index of the first extension to apply (inclusive)
+     * @param toIndex
+     *            the index of the last extension to apply (exclusive)
+     * @param profiler
+     *            the profiler that records the time spent in each extension
      */
-    private void applyControllerExtensions(final Object instance) {
-        for (final Consumer<Object> extension : controllerExtensions) {
+    private void applyControllerExtensions(final Object instance, final int fromIndex, final int toIndex,
+            final StartupProfiler profiler) {
+        for (final Consumer<Object> extension : controllerExtensions.subList(fromIndex, toIndex)) {
+            final long start = profiler.start();
+            final ControllerExtensionEvent event = new ControllerExtensionEvent();
+            event.begin();
             extension.accept(instance);
+            profiler.record(StartupProfiler.Category.CONTROLLER_EXTENSION, extension.getClass(), instance.getClass(),
+                    start);
+            event.commitFor(instance.getClass(), extension.getClass());
         }
     }
 
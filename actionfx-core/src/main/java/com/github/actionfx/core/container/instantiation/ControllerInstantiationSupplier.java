@@ -23,18 +23,35 @@
  */
 package com.github.actionfx.core.container.instantiation;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.InvocationTargetException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.HashSet;
 import java.util.List;
 import java.util.ResourceBundle;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Supplier;
 
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import com.github.actionfx.core.ActionFX;
 import com.github.actionfx.core.annotation.AFXController;
 import com.github.actionfx.core.annotation.AFXNestedView;
 import com.github.actionfx.core.instrumentation.ActionFXEnhancer;
 import com.github.actionfx.core.instrumentation.ActionFXEnhancer.EnhancementStrategy;
 import com.github.actionfx.core.instrumentation.ControllerWrapper;
+import com.github.actionfx.core.profiling.ControllerInstantiationEvent;
+import com.github.actionfx.core.profiling.StartupProfiler;
+import com.github.actionfx.core.profiling.ViewLoadEvent;
 import com.github.actionfx.core.utils.AFXUtils;
 import com.github.actionfx.core.utils.AnnotationUtils;
 import com.github.actionfx.core.view.AbstractView;
@@ -45,60 +62,211 @@ import com.github.actionfx.core.view.ViewBuilder;
 
 import javafx.application.Platform;
 import javafx.concurrent.Task;
+import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
 
 /**
  * Instantiation supplier for controller instances. This class is responsible for instantiating controller classes. In
  * case that ActionFX is configured to use {@link EnhancementStrategy#SUBCLASSING} as enhancement strategy, a dynamic
  * sub-class is created for the supplied controller class by using the configured {@link ActionFXEnhancer}.
+ * <p>
+ * By default, controller and view are created inside the JavaFX thread. In case
+ * {@link ActionFX#isOffFxThreadViewCreation()} is enabled, controller and view are created in the calling thread
+ * instead, as FXML loading and constructing a scene graph that is not yet attached to a scene is allowed outside the
+ * JavaFX thread. Controllers, whose views contain nodes that can be exclusively created inside the JavaFX thread (e.g.
+ * a {@link javafx.scene.web.WebView}), are still created inside the JavaFX thread. This is decided before the
+ * controller is instantiated by inspecting {@link AFXController#fxThreadOnly()}, the FXML file (including files
+ * referenced by {@code fx:include}) and the view class, so that a controller is never constructed twice.
  *
  * @author koster
  *
  */
 public class ControllerInstantiationSupplier<T> extends AbstractInstantiationSupplier<T> {
 
+    private static final Logger LOG = LoggerFactory.getLogger(ControllerInstantiationSupplier.class);
+
+    // nodes that can be exclusively created inside the JavaFX thread
+    private static final Set<String> FX_THREAD_ONLY_NODE_CLASS_NAMES = Set.of("javafx.scene.web.WebView",
+            "javafx.scene.web.HTMLEditor");
+
+    private static final String FX_INCLUDE_ELEMENT = "include";
+
+    private static final String FX_INCLUDE_SOURCE_ATTRIBUTE = "source";
+
     private final Class<T> controllerClass;
 
     private final Supplier<ResourceBundle> resourceBundleSupplier;
 
+    private final boolean offFxThreadViewCreation;
+
+    // lazily determined on the first instantiation outside the JavaFX thread
+    private volatile Boolean fxThreadRequired;
+
     public ControllerInstantiationSupplier(final Class<T> controllerClass) {
         this(controllerClass, null);
     }
 
     public ControllerInstantiationSupplier(final Class<T> controllerClass,
             final Supplier<ResourceBundle> resourceBundleSupplier) {
+        this(controllerClass, resourceBundleSupplier, ActionFX.getInstance().isOffFxThreadViewCreation());
+    }
+
+    public ControllerInstantiationSupplier(final Class<T> controllerClass,
+            final Supplier<ResourceBundle> resourceBundleSupplier, final boolean offFxThreadViewCreation) {
         this.controllerClass = prepareControllerClass(controllerClass);
         this.resourceBundleSupplier = resourceBundleSupplier != null ? resourceBundleSupplier : () -> null;
+        this.offFxThreadViewCreation = offFxThreadViewCreation;
     }
 
     /**
      * Creates a new, fresh instance based on the supplied bean definition. This method ensures that instantiation is
-     * performed in the JavaFX thread, as this is required for certain view components (e.g. a WebView).
+     * performed in the JavaFX thread, as this is required for certain view components (e.g. a WebView). In case
+     * off-FX-thread view creation is enabled, the instance is created in the calling thread, unless the view requires
+     * the JavaFX thread.
      *
      * @return the created bean instance
      */
     @Override
     protected T createInstance() {
-        // instance is create in JavaFX thread, because certain node e.g. WebView
-        // requires it.
         if (Platform.isFxApplicationThread()) {
             return createControllerInstance();
-        } else {
+        }
+        if (offFxThreadViewCreation && !isFxThreadRequired()) {
+            return createControllerInstance();
+        }
+        return createControllerInstanceInFxThread();
+    }
+
+    /**
+     * Checks, whether the controller and its view need to be created inside the JavaFX thread.
+     *
+     * @return {@code true}, if the JavaFX thread is required, {@code false} otherwise
+     */
+    private boolean isFxThreadRequired() {
+        Boolean required = fxThreadRequired;
+        if (required == null) {
+            required = requiresFxThread(AnnotationUtils.findAnnotation(controllerClass, AFXController.class));
+            if (required) {
+                LOG.debug("View of controller '{}' requires the JavaFX thread for its creation.",
+                        controllerClass.getCanonicalName());
+            }
+            fxThreadRequired = required;
+        }
+        return required;
+    }
+
+    /**
+     * Creates the controller instance inside the JavaFX thread and waits for the result.
+     *
+     * @return the created controller instance
+     */
+    private T createControllerInstanceInFxThread() {
+        // instance is create in JavaFX thread, because certain node e.g. WebView
+        // requires it.
+        try {
+            final Task<T> instantiationTask = new Task<>() {
+                @Override
+                protected T call() throws Exception {
+                    return createControllerInstance();
+                }
+            };
+            // execute the task in the JavaFX thread and wait for the result
+            return AFXUtils.runInFxThreadAndWait(instantiationTask);
+        } catch (InterruptedException | ExecutionException e) {
+            // Restore interrupted state...
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Failed to instantiate class in JavaFX thread!", e);
+        }
+    }
+
+    /**
+     * Checks, whether a controller annotated with the supplied {@code afxController} needs to be created inside the
+     * JavaFX thread, because its view contains nodes that can be exclusively created inside the JavaFX thread.
+     *
+     * @param afxController
+     *            the controller annotation
+     * @return {@code true}, if the JavaFX thread is required, {@code false} otherwise
+     */
+    static boolean requiresFxThread(final AFXController afxController) {
+        if (afxController == null) {
+            // controller is invalid - let the instantiation fail with a meaningful message
+            return false;
+        }
+        if (afxController.fxThreadOnly()) {
+            return true;
+        }
+        if (!"".equals(afxController.fxml())) {
+            return containsFxThreadOnlyNodes(AFXUtils.class.getResource(afxController.fxml()), new HashSet<>());
+        }
+        return isFxThreadOnlyNode(afxController.viewClass());
+    }
+
+    /**
+     * Checks, whether the FXML file at the given {@code fxmlUrl} (or one of the files included via {@code fx:include})
+     * contains nodes that can be exclusively created inside the JavaFX thread. The FXML file is only parsed, no
+     * classes are loaded.
+     *
+     * @param fxmlUrl
+     *            the URL of the FXML file
+     * @param visitedUrls
+     *            the FXML files that have been already inspected
+     * @return {@code true}, if the FXML contains nodes requiring the JavaFX thread, {@code false} otherwise
+     */
+    static boolean containsFxThreadOnlyNodes(final URL fxmlUrl, final Set<String> visitedUrls) {
+        if (fxmlUrl == null || !visitedUrls.add(fxmlUrl.toExternalForm())) {
+            return false;
+        }
+        final XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+        try (InputStream inputStream = fxmlUrl.openStream()) {
+            final XMLStreamReader reader = factory.createXMLStreamReader(inputStream);
             try {
-                final Task<T> instantiationTask = new Task<>() {
-                    @Override
-                    protected T call() throws Exception {
-                        return createControllerInstance();
+                while (reader.hasNext()) {
+                    if (reader.next() == XMLStreamConstants.START_ELEMENT
+                            && (isFxThreadOnlyElement(reader.getLocalName())
+                                    || isFxThreadOnlyInclude(reader, fxmlUrl, visitedUrls))) {
+                        return true;
                     }
-                };
-                // execute the task in the JavaFX thread and wait for the result
-                return AFXUtils.runInFxThreadAndWait(instantiationTask);
-            } catch (InterruptedException | ExecutionException e) {
-                // Restore interrupted state...
-                Thread.currentThread().interrupt();
-                throw new IllegalStateException("Failed to instantiate class in JavaFX thread!", e);
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (IOException | XMLStreamException e) {
+            // the FXML can not be read - loading the FXML will fail with a meaningful message later on
+            LOG.debug("Unable to inspect FXML '{}' for nodes requiring the JavaFX thread.", fxmlUrl, e);
+        }
+        return false;
+    }
+
+    private static boolean isFxThreadOnlyElement(final String elementName) {
+        return FX_THREAD_ONLY_NODE_CLASS_NAMES.stream().anyMatch(className -> className.equals(elementName)
+                || className.endsWith("." + elementName));
+    }
+
+    private static boolean isFxThreadOnlyInclude(final XMLStreamReader reader, final URL fxmlUrl,
+            final Set<String> visitedUrls) throws MalformedURLException {
+        if (!FX_INCLUDE_ELEMENT.equals(reader.getLocalName())
+                || !FXMLLoader.FX_NAMESPACE_PREFIX.equals(reader.getPrefix())) {
+            return false;
+        }
+        final String source = reader.getAttributeValue(null, FX_INCLUDE_SOURCE_ATTRIBUTE);
+        if (source == null) {
+            return false;
+        }
+        // resolved in the same way as the FXMLLoader does it
+        final URL includeUrl = source.startsWith("/")
+                ? ControllerInstantiationSupplier.class.getClassLoader().getResource(source.substring(1))
+                : new URL(fxmlUrl, source);
+        return containsFxThreadOnlyNodes(includeUrl, visitedUrls);
+    }
+
+    private static boolean isFxThreadOnlyNode(final Class<?> viewClass) {
+        for (Class<?> clazz = viewClass; clazz != null; clazz = clazz.getSuperclass()) {
+            if (FX_THREAD_ONLY_NODE_CLASS_NAMES.contains(clazz.getName())) {
+                return true;
             }
         }
+        return false;
     }
 
     /**
@@ -122,15 +290,21 @@ public class ControllerInstantiationSupplier<T> extends AbstractInstantiationSup
      * @return the instantiated controller
      */
     private T createControllerInstance() {
+        final StartupProfiler profiler = StartupProfiler.current();
+        final long start = profiler.start();
+        final ControllerInstantiationEvent event = new ControllerInstantiationEvent();
+        event.begin();
         try {
             final T controller = controllerClass.getDeclaredConstructor().newInstance();
             final View view = createViewInstance(controller);
             injectView(controller, view);
+            profiler.record(StartupProfiler.Category.CONTROLLER_INSTANTIATION, controllerClass, null, start);
+            event.commitFor(controllerClass);
             return controller;
         } catch (InstantiationException | IllegalAccessException | IllegalArgumentException | InvocationTargetException
                 | NoSuchMethodException | SecurityException e) {
             throw new IllegalStateException("Can not instaniate class '" + controllerClass.getCanonicalName()
-                    + "'! Is there a no-arg constructor present?");
+                    + "'! Is there a no-arg constructor present?", e);
         }
     }
 
@@ -163,12 +337,28 @@ public class ControllerInstantiationSupplier<T> extends AbstractInstantiationSup
      * @return the created view
      */
     private AbstractView instantiateView(final Object controller, final AFXController afxController) {
+        final StartupProfiler profiler = StartupProfiler.current();
         if (!"".equals(afxController.fxml())) {
-            return new FxmlView(afxController.viewId(), afxController.fxml(), controller, resourceBundleSupplier.get());
+            final ResourceBundle resourceBundle = resourceBundleSupplier.get();
+            final long start = profiler.start();
+            final ViewLoadEvent event = new ViewLoadEvent();
+            event.begin();
+            final FxmlView view = new FxmlView(afxController.viewId(), afxController.fxml(), controller,
+                    resourceBundle);
+            profiler.record(StartupProfiler.Category.VIEW_LOADING, afxController.fxml(), controllerClass, start);
+            event.commitFor(controllerClass, afxController.viewId(), afxController.fxml());
+            return view;
         }
         if (!Parent.class.equals(afxController.viewClass())) {
-            return new ParentView(afxController.viewId(), afxController.viewClass(), controller,
-                    resourceBundleSupplier.get());
+            final ResourceBundle resourceBundle = resourceBundleSupplier.get();
+            final long start = profiler.start();
+            final ViewLoadEvent event = new ViewLoadEvent();
+            event.begin();
+            final ParentView view = new ParentView(afxController.viewId(), afxController.viewClass(), controller,
+                    resourceBundle);
+            profiler.record(StartupProfiler.Category.VIEW_LOADING, afxController.viewClass(), controllerClass, start);
+            event.commitFor(controllerClass, afxController.viewId(), afxController.viewClass());
+            return view;
         }
         throw new IllegalStateException("Controller class '" + controller.getClass()
                 + "' has @AFXController annotation, which does not specify 'fxml()' or 'viewClass()' attribute!");
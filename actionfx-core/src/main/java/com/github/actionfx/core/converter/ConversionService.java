@@ -39,6 +39,7 @@ import java.util.Set;
 import java.util.function.Function;
 
 import com.github.actionfx.core.ActionFX;
+import com.github.actionfx.core.utils.MetadataCache;
 import com.github.actionfx.core.utils.ReflectionUtils;
 
 import javafx.beans.property.Property;
@@ -60,9 +61,11 @@ public class ConversionService {
 
     // the converter cache provides fast access for converter factories. It also
     // holds entries for each class of a class hierarchy, so that when accessing not
-    // the entire class hierarchy needs to be traversed again and again
+    // the entire class hierarchy needs to be traversed again and again. Entries are
+    // attached to the source class
     @SuppressWarnings("rawtypes")
-    private static final Map<ConvertiblePair, ConverterFactory> CONVERTER_FACTORY_ACCESS_CACHE = new HashMap<>();
+    private static final MetadataCache<ConvertiblePair, ConverterFactory> CONVERTER_FACTORY_ACCESS_CACHE = MetadataCache
+            .forClassScopedKeys("ConversionService.converterFactories", ConvertiblePair::getSource);
 
     // in case there is no more specific to-string converter is registered, this
     // converter is used as fallback
@@ -319,7 +322,7 @@ public class ConversionService {
     @SuppressWarnings("unchecked")
     protected <S, T> ConverterFactory<S, T> lookupConverterFactory(final Class<S> sourceType,
             final Class<T> targetType) {
-        return CONVERTER_FACTORY_ACCESS_CACHE.computeIfAbsent(ConvertiblePair.of(sourceType, targetType),
+        return CONVERTER_FACTORY_ACCESS_CACHE.get(ConvertiblePair.of(sourceType, targetType),
                 this::findConverterFactory);
     }
 
@@ -0,0 +1,450 @@
+/*
+ * Copyright (c) 2026 Martin Koster
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.actionfx.core.events;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.actionfx.core.profiling.EventBusDispatchEvent;
+import com.github.actionfx.core.profiling.EventBusPublishEvent;
+import com.github.actionfx.core.utils.AsyncUtils;
+
+/**
+ * Asynchronous implementation of the {@link PriorityAwareEventBus}.
+ * <p>
+ * Each subscriber has its own bounded FIFO mailbox. Publishing an event only
+ * puts the event into the mailboxes of the matching subscribers and returns
+ * immediately. The mailboxes are drained by an {@link Executor}, where each
+ * mailbox is drained by at most one thread at a time. This way, each subscriber
+ * receives the events in the order they were published, while a slow
+ * subscriber does not stall the publisher or other subscribers.
+ * <p>
+ * The priority of a subscriber determines the order, in which the event is put
+ * into the mailboxes. As subscribers are notified concurrently, the priority
+ * does not guarantee an order of notification across subscribers.
+ * <p>
+ * In case a mailbox is full, the {@link OverflowPolicy} of the subscriber
+ * decides, what happens with the published event. The default policy is
+ * {@link OverflowPolicy#DROP_OLDEST}. Please note that the opt-in policy
+ * {@link OverflowPolicy#BLOCK} blocks the publishing thread, which might be the
+ * JavaFX thread.
+ * <p>
+ * In case the executor rejects draining a mailbox (e.g. because it has been
+ * shut down), the events in the mailbox are dropped and logged instead of
+ * failing the publisher.
+ * <p>
+ * Subscribers are invoked outside the JavaFX thread. Subscribers that update UI
+ * components need to do this via
+ * {@link javafx.application.Platform#runLater(Runnable)}.
+ *
+ * @author koster
+ *
+ */
+public class AsyncPriorityAwareEventBus implements PriorityAwareEventBus {
+
+	private static final Logger LOG = LoggerFactory.getLogger(AsyncPriorityAwareEventBus.class);
+
+	/**
+	 * The default capacity of a subscriber's mailbox.
+	 */
+	public static final int DEFAULT_MAILBOX_CAPACITY = 1024;
+
+	/**
+	 * Callback that logs exceptions thrown by subscribers.
+	 */
+	public static final Consumer<Exception> LOG_EXCEPTION_CALLBACK = ex -> LOG
+			.error("Subscriber failed to process event!", ex);
+
+	// number of events that are delivered in one go, before the mailbox is
+	// re-submitted to the executor in order to be fair to other mailboxes
+	private static final int DRAIN_BATCH_SIZE = 64;
+
+	/**
+	 * Policy that determines what happens, when an event is published, but the
+	 * mailbox of a subscriber is full.
+	 *
+	 * @author koster
+	 *
+	 */
+	public enum OverflowPolicy {
+
+		/**
+		 * The publishing thread is blocked until there is space in the mailbox. A
+		 * subscriber must therefore not publish events to its own full mailbox.
+		 */
+		BLOCK,
+
+		/**
+		 * The oldest event in the mailbox is dropped in favour of the published event.
+		 */
+		DROP_OLDEST,
+
+		/**
+		 * The oldest event in the mailbox with the same class as the published event is
+		 * dropped in favour of the published event, so that only the latest state is
+		 * delivered. In case there is no event with the same class in the mailbox, the
+		 * oldest event is dropped.
+		 */
+		COALESCE
+	}
+
+	private final PrioritizedSubscriberMap<Mailbox> subscriberMap = new PrioritizedSubscriberMap<>(Mailbox[]::new);
+
+	private final Executor executor;
+
+	private final int mailboxCapacity;
+
+	private final OverflowPolicy overflowPolicy;
+
+	private final LongAdder droppedEvents = new LongAdder();
+
+	/**
+	 * Creates an event bus that uses the default executor of
+	 * {@link AsyncUtils#getExecutor(String)}, a mailbox capacity of
+	 * {@link #DEFAULT_MAILBOX_CAPACITY} and the overflow policy
+	 * {@link OverflowPolicy#DROP_OLDEST}.
+	 */
+	public AsyncPriorityAwareEventBus() {
+		this(null, DEFAULT_MAILBOX_CAPACITY, OverflowPolicy.DROP_OLDEST);
+	}
+
+	/**
+	 * Creates an event bus.
+	 *
+	 * @param executor        the executor that drains the mailboxes. In case
+	 *                        {@code null} is supplied, the default executor of
+	 *                        {@link AsyncUtils#getExecutor(String)} is used.
+	 * @param mailboxCapacity the capacity of each subscriber's mailbox, must be at
+	 *                        least 1
+	 * @param overflowPolicy  the default overflow policy for subscribers
+	 */
+	public AsyncPriorityAwareEventBus(final Executor executor, final int mailboxCapacity,
+			final OverflowPolicy overflowPolicy) {
+		if (mailboxCapacity < 1) {
+			throw new IllegalArgumentException("Mailbox capacity must be at least 1!");
+		}
+		if (overflowPolicy == null) {
+			throw new IllegalArgumentException("Overflow policy must not be null!");
+		}
+		this.executor = executor;
+		this.mailboxCapacity = mailboxCapacity;
+		this.overflowPolicy = overflowPolicy;
+	}
+
+	/**
+	 * Publishes the given {@code event} to the mailboxes of the subscribed
+	 * listeners. Exceptions thrown by subscribers are logged.
+	 *
+	 * @param event the event to publish
+	 */
+	@Override
+	public void publish(final Object event) {
+		publish(event, LOG_EXCEPTION_CALLBACK);
+	}
+
+	/**
+	 * Publishes the given {@code event} to the mailboxes of the subscribed
+	 * listeners. In case a subscriber throws an exception, the given
+	 * {@code exceptionCallback} is invoked from the thread that notified the
+	 * subscriber.
+	 *
+	 * @param event             the event to publish
+	 * @param exceptionCallback the callback that is invoked on exceptions
+	 */
+	@Override
+	public void publish(final Object event, final Consumer<Exception> exceptionCallback) {
+		// the JFR event is only allocated while a recording is running
+		final EventBusPublishEvent publishEvent = EventBusPublishEvent.isRecorded() ? new EventBusPublishEvent()
+				: null;
+		if (publishEvent != null) {
+			publishEvent.begin();
+		}
+		final Mailbox[] mailboxes = subscriberMap.lookup(event.getClass());
+		for (final Mailbox mailbox : mailboxes) {
+			mailbox.offer(event, exceptionCallback);
+		}
+		if (publishEvent != null) {
+			publishEvent.commitFor(event.getClass(), mailboxes.length);
+		}
+	}
+
+	@Override
+	public <T> Subscription subscribe(final Class<T> eventType, final Consumer<? super T> eventConsumer,
+			final int priority) {
+		return subscribe(eventType, eventConsumer, priority, overflowPolicy);
+	}
+
+	/**
+	 * Subscribes the given {@code eventConsumer} to events of type
+	 * {@code eventType} with an individual {@link OverflowPolicy}.
+	 *
+	 * @param <T>            the type descriptor
+	 * @param eventType      the event type
+	 * @param eventConsumer  the event consumer when events of type
+	 *                       {@code eventType} are published.
+	 * @param priority       the priority of the given {@code eventConsumer}
+	 * @param overflowPolicy the overflow policy for the mailbox of the consumer
+	 * @return the subscription handle that allows to unsubscribe the consumer.
+	 *         Events that are still in the mailbox of the consumer are discarded
+	 *         on unsubscription.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> Subscription subscribe(final Class<T> eventType, final Consumer<? super T> eventConsumer,
+			final int priority, final OverflowPolicy overflowPolicy) {
+		final Mailbox mailbox = new Mailbox((Consumer<Object>) eventConsumer, overflowPolicy);
+		final Subscription registration = subscriberMap.register(eventType, mailbox, priority);
+		return () -> {
+			registration.unsubscribe();
+			mailbox.close();
+		};
+	}
+
+	/**
+	 * Gets the number of events that have been dropped so far, because the mailbox
+	 * of a subscriber was full or because the executor rejected draining it.
+	 *
+	 * @return the number of dropped events
+	 */
+	public long getDroppedEventCount() {
+		return droppedEvents.sum();
+	}
+
+	private Executor getExecutor() {
+		return executor != null ? executor : AsyncUtils.getExecutor(AsyncUtils.DEFAULT_EXECUTOR);
+	}
+
+	/**
+	 * Event together with the callback for exceptions thrown by the subscriber.
+	 */
+	private static final class Envelope {
+
+		private final Object event;
+
+		private final Consumer<Exception> exceptionCallback;
+
+		private Envelope(final Object event, final Consumer<Exception> exceptionCallback) {
+			this.event = event;
+			this.exceptionCallback = exceptionCallback;
+		}
+	}
+
+	/**
+	 * Bounded FIFO mailbox of a single subscriber.
+	 */
+	private final class Mailbox implements Runnable {
+
+		private final Consumer<Object> subscriber;
+
+		private final OverflowPolicy overflowPolicy;
+
+		private final ReentrantLock lock = new ReentrantLock();
+
+		private final Condition notFull = lock.newCondition();
+
+		// guarded by "lock"
+		private final Deque<Envelope> queue = new ArrayDeque<>();
+
+		// guarded by "lock", "true" while the mailbox is submitted to or drained by the
+		// executor
+		private boolean drainScheduled;
+
+		// guarded by "lock", "true" after the subscriber has been unsubscribed
+		private boolean closed;
+
+		private Mailbox(final Consumer<Object> subscriber, final OverflowPolicy overflowPolicy) {
+			this.subscriber = subscriber;
+			this.overflowPolicy = overflowPolicy;
+		}
+
+		/**
+		 * Puts the given {@code event} into the mailbox and schedules the draining of
+		 * the mailbox, in case it is not yet scheduled.
+		 *
+		 * @param event             the event
+		 * @param exceptionCallback the callback for exceptions thrown by the
+		 *                          subscriber
+		 */
+		void offer(final Object event, final Consumer<Exception> exceptionCallback) {
+			final boolean scheduleDrain;
+			lock.lock();
+			try {
+				if (closed || (queue.size() >= mailboxCapacity && !makeRoomFor(event))) {
+					return;
+				}
+				queue.addLast(new Envelope(event, exceptionCallback));
+				scheduleDrain = !drainScheduled;
+				drainScheduled = true;
+			} finally {
+				lock.unlock();
+			}
+			if (scheduleDrain) {
+				scheduleDrain();
+			}
+		}
+
+		/**
+		 * Makes room for the given {@code event} according to the overflow policy.
+		 * Must be called while holding the lock.
+		 *
+		 * @param event the event that shall be put into the mailbox
+		 * @return {@code true}, if there is room for the event, {@code false}, if the
+		 *         event shall be discarded
+		 */
+		private boolean makeRoomFor(final Object event) {
+			switch (overflowPolicy) {
+			case BLOCK:
+				try {
+					while (queue.size() >= mailboxCapacity && !closed) {
+						notFull.await();
+					}
+					return !closed;
+				} catch (final InterruptedException e) {
+					Thread.currentThread().interrupt();
+					LOG.warn("Interrupted while waiting for room in a mailbox, event '{}' is discarded.", event);
+					droppedEvents.increment();
+					return false;
+				}
+			case COALESCE:
+				final Iterator<Envelope> it = queue.iterator();
+				while (it.hasNext()) {
+					if (it.next().event.getClass() == event.getClass()) {
+						it.remove();
+						droppedEvents.increment();
+						return true;
+					}
+				}
+				queue.pollFirst();
+				droppedEvents.increment();
+				return true;
+			case DROP_OLDEST:
+			default:
+				queue.pollFirst();
+				droppedEvents.increment();
+				return true;
+			}
+		}
+
+		/**
+		 * Closes the mailbox. Events that are still in the mailbox are discarded and
+		 * publishers waiting for room in the mailbox are released.
+		 */
+		void close() {
+			lock.lock();
+			try {
+				closed = true;
+				queue.clear();
+				notFull.signalAll();
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		/**
+		 * Submits the mailbox to the executor for draining. In case the executor
+		 * rejects the mailbox, the queued events are dropped, so that neither the
+		 * publisher fails nor publishers waiting for room in the mailbox are blocked
+		 * forever.
+		 */
+		private void scheduleDrain() {
+			try {
+				getExecutor().execute(this);
+			} catch (final RejectedExecutionException e) {
+				final int numberOfDroppedEvents;
+				lock.lock();
+				try {
+					drainScheduled = false;
+					numberOfDroppedEvents = queue.size();
+					queue.clear();
+					notFull.signalAll();
+				} finally {
+					lock.unlock();
+				}
+				droppedEvents.add(numberOfDroppedEvents);
+				LOG.error("Executor rejected draining the mailbox of a subscriber, {} event(s) are dropped.",
+						numberOfDroppedEvents, e);
+			}
+		}
+
+		/**
+		 * Drains the mailbox by delivering the queued events to the subscriber.
+		 */
+		@Override
+		public void run() {
+			for (int i = 0; i < DRAIN_BATCH_SIZE; i++) {
+				final Envelope envelope;
+				lock.lock();
+				try {
+					envelope = queue.pollFirst();
+					if (envelope == null) {
+						drainScheduled = false;
+						return;
+					}
+					notFull.signal();
+				} finally {
+					lock.unlock();
+				}
+				deliver(envelope);
+			}
+			// batch is delivered, give other mailboxes a chance to be drained
+			scheduleDrain();
+		}
+
+		private void deliver(final Envelope envelope) {
+			// the JFR event is only allocated while a recording is running
+			final EventBusDispatchEvent dispatchEvent = EventBusDispatchEvent.isRecorded()
+					? new EventBusDispatchEvent()
+					: null;
+			try {
+				if (dispatchEvent != null) {
+					dispatchEvent.begin();
+				}
+				subscriber.accept(envelope.event);
+				if (dispatchEvent != null) {
+					dispatchEvent.commitFor(envelope.event.getClass(), subscriber);
+				}
+			} catch (final Exception e) { // NOSONAR
+				handleException(envelope, e);
+			}
+		}
+
+		private void handleException(final Envelope envelope, final Exception exception) {
+			try {
+				envelope.exceptionCallback.accept(exception);
+			} catch (final RuntimeException e) {
+				// the mailbox must continue to be drained
+				LOG.error("Exception callback failed for event '{}'!", envelope.event, e);
+			}
+		}
+	}
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2026 Martin Koster
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.actionfx.core.events;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+
+import com.github.actionfx.core.utils.ReflectionUtils;
+
+/**
+ * Internal structure of the event bus implementations for looking up
+ * subscribers.
+ * <p>
+ * The registered subscribers are held in an immutable snapshot that is replaced
+ * on each subscription change (copy-on-write). Looking up subscribers does
+ * therefore not require any lock, while subscribing and unsubscribing are
+ * serialized.
+ * <p>
+ * For each concrete event class, the subscribers of the class and its super
+ * types are flattened into an array that is sorted by priority. This array is
+ * cached inside the snapshot, so that looking up the subscribers of an event
+ * only requires a single map lookup. As each snapshot has its own cache, the
+ * cache is implicitly invalidated, when the subscriptions change.
+ *
+ * @param <S> the subscriber type
+ * @author koster
+ *
+ */
+class PrioritizedSubscriberMap<S> {
+
+	private static final Comparator<PrioritizedSubscriber<?>> PRIORITY_COMPARATOR = Comparator
+			.comparingInt(PrioritizedSubscriber::getPriority);
+
+	private final IntFunction<S[]> arrayFactory;
+
+	private final S[] noSubscribers;
+
+	// replaced while holding the lock on "this", read without lock
+	private volatile Snapshot<S> snapshot = new Snapshot<>(Collections.emptyMap());
+
+	/**
+	 * Creates a new subscriber map.
+	 *
+	 * @param arrayFactory factory for creating subscriber arrays of the given size
+	 */
+	PrioritizedSubscriberMap(final IntFunction<S[]> arrayFactory) {
+		this.arrayFactory = arrayFactory;
+		noSubscribers = arrayFactory.apply(0);
+	}
+
+	/**
+	 * Registers a single subscriber to the given {@code clazz}.
+	 *
+	 * @param clazz      the clazz to subscribe to
+	 * @param subscriber the subscriber
+	 * @param priority   the priority (lower value means "higher" priority)
+	 * @return the subscription handle that removes the subscriber again
+	 */
+	public Subscription register(final Class<?> clazz, final S subscriber, final int priority) {
+		final PrioritizedSubscriber<S> entry = new PrioritizedSubscriber<>(priority, subscriber);
+		synchronized (this) {
+			final Map<Class<?>, List<PrioritizedSubscriber<S>>> typeSubscriberMap = new HashMap<>(
+					snapshot.typeSubscriberMap);
+			final List<PrioritizedSubscriber<S>> subscriberList = new ArrayList<>(
+					typeSubscriberMap.getOrDefault(clazz, Collections.emptyList()));
+			subscriberList.add(entry);
+			typeSubscriberMap.put(clazz, Collections.unmodifiableList(subscriberList));
+			snapshot = new Snapshot<>(typeSubscriberMap);
+		}
+		return () -> unregister(clazz, entry);
+	}
+
+	/**
+	 * Removes the given {@code entry} from the subscribers of {@code clazz}.
+	 *
+	 * @param clazz the class the entry is subscribed to
+	 * @param entry the entry to remove
+	 */
+	private synchronized void unregister(final Class<?> clazz, final PrioritizedSubscriber<S> entry) {
+		final List<PrioritizedSubscriber<S>> currentList = snapshot.typeSubscriberMap.get(clazz);
+		if (currentList == null || !currentList.contains(entry)) {
+			// already unsubscribed
+			return;
+		}
+		final List<PrioritizedSubscriber<S>> subscriberList = new ArrayList<>(currentList);
+		subscriberList.remove(entry);
+		final Map<Class<?>, List<PrioritizedSubscriber<S>>> typeSubscriberMap = new HashMap<>(
+				snapshot.typeSubscriberMap);
+		if (subscriberList.isEmpty()) {
+			typeSubscriberMap.remove(clazz);
+		} else {
+			typeSubscriberMap.put(clazz, Collections.unmodifiableList(subscriberList));
+		}
+		snapshot = new Snapshot<>(typeSubscriberMap);
+	}
+
+	/**
+	 * Looks up all subscriber for the given {@code clazz}, while the order in the
+	 * returned array is impacted by the priority provided during subscription
+	 * time.
+	 *
+	 * @param clazz the class to lookup subscribers for
+	 * @return the subscribers for the given {@code clazz}, or an empty array, in
+	 *         case there are no subscribers. The returned array is shared and must
+	 *         not be modified.
+	 */
+	public S[] lookup(final Class<?> clazz) {
+		final Snapshot<S> current = snapshot;
+		final S[] subscribers = current.dispatchTable.get(clazz);
+		if (subscribers != null) {
+			return subscribers;
+		}
+		final S[] built = buildDispatchEntry(current, clazz);
+		final S[] existing = current.dispatchTable.putIfAbsent(clazz, built);
+		return existing != null ? existing : built;
+	}
+
+	/**
+	 * Gets the number of registered subscribers.
+	 *
+	 * @return the number of registered subscribers
+	 */
+	int size() {
+		return snapshot.typeSubscriberMap.values().stream().mapToInt(List::size).sum();
+	}
+
+	/**
+	 * Flattens the subscribers of the given {@code clazz} and its super types into
+	 * an array sorted by priority.
+	 *
+	 * @param current the snapshot holding the subscribers
+	 * @param clazz   the class to build the dispatch entry for
+	 * @return the subscribers for the given {@code clazz}
+	 */
+	private S[] buildDispatchEntry(final Snapshot<S> current, final Class<?> clazz) {
+		final Set<Class<?>> superTypes = ReflectionUtils.getAllSuperClassesAndInterfaces(clazz);
+		final List<PrioritizedSubscriber<S>> prioritizedSubscribers = new ArrayList<>();
+		for (final Class<?> superType : superTypes) {
+			final List<PrioritizedSubscriber<S>> subscriberList = current.typeSubscriberMap.get(superType);
+			if (subscriberList != null) {
+				prioritizedSubscribers.addAll(subscriberList);
+			}
+		}
+		// stable sort, so that subscribers with same priority keep their order
+		prioritizedSubscribers.sort(PRIORITY_COMPARATOR);
+		return prioritizedSubscribers.isEmpty() ? noSubscribers
+				: prioritizedSubscribers.stream().map(PrioritizedSubscriber::getSubscriber).toArray(arrayFactory);
+	}
+
+	/**
+	 * Immutable snapshot of the registered subscribers together with the dispatch
+	 * table that is derived from these subscribers.
+	 *
+	 * @param <S> the subscriber type
+	 * @author koster
+	 *
+	 */
+	private static class Snapshot<S> {
+
+		private final Map<Class<?>, List<PrioritizedSubscriber<S>>> typeSubscriberMap;
+
+		// dispatch table: concrete event class -> subscribers of the class and its
+		// super types, sorted by priority
+		private final Map<Class<?>, S[]> dispatchTable = new ConcurrentHashMap<>();
+
+		Snapshot(final Map<Class<?>, List<PrioritizedSubscriber<S>>> typeSubscriberMap) {
+			this.typeSubscriberMap = typeSubscriberMap;
+		}
+	}
+
+	/**
+	 * Subscriber with an assigned priority. Entries are compared by identity, so
+	 * that the same subscriber can be registered more than once.
+	 *
+	 * @param <S> the subscriber type
+	 * @author koster
+	 *
+	 */
+	private static class PrioritizedSubscriber<S> {
+
+		private final int priority;
+
+		private final S subscriber;
+
+		public PrioritizedSubscriber(final int priority, final S subscriber) {
+			this.priority = priority;
+			this.subscriber = subscriber;
+		}
+
+		public int getPriority() {
+			return priority;
+		}
+
+		public S getSubscriber() {
+			return subscriber;
+		}
+	}
+}
@@ -23,6 +23,9 @@
  */
 package com.github.actionfx.core.events;
 
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 /**
@@ -68,6 +71,62 @@ public interface PriorityAwareEventBus {
 	 *                      consumer with a lower value for priority will be
 	 *                      notified on publications before consumer with a higher
 	 *                      priority value.
+	 * @return the subscription handle that allows to unsubscribe the consumer
 	 */
-	<T> void subscribe(Class<T> eventType, Consumer<? super T> eventConsumer, int priority);
+	<T> Subscription subscribe(Class<T> eventType, Consumer<? super T> eventConsumer, int priority);
+
+	/**
+	 * Subscribes the given {@code eventConsumer} to events of type
+	 * {@code eventType}, while the {@code owner} of the consumer (e.g. a
+	 * controller) is only weakly referenced by the event bus. Once the owner is
+	 * garbage-collected, the consumer is not notified anymore and unsubscribes
+	 * itself on the next published event.
+	 * <p>
+	 * The owner is passed to the {@code eventConsumer} on each notification. The
+	 * consumer must not reference the owner itself (e.g. by capturing it inside a
+	 * lambda expression), otherwise the owner can not be garbage-collected.
+	 *
+	 * @param <O>           the owner type
+	 * @param <T>           the type descriptor
+	 * @param eventType     the event type
+	 * @param owner         the owner of the consumer, which is weakly referenced
+	 * @param eventConsumer the event consumer that accepts the owner and the event
+	 * @param priority      the priority of the given {@code eventConsumer}
+	 * @return the subscription handle that allows to unsubscribe the consumer
+	 */
+	default <O, T> Subscription subscribeWeakly(final Class<T> eventType, final O owner,
+			final BiConsumer<? super O, ? super T> eventConsumer, final int priority) {
+		return subscribeWeakly(eventType, new WeakReference<>(owner), eventConsumer, priority);
+	}
+
+	/**
+	 * Subscribes the given {@code eventConsumer} to events of type
+	 * {@code eventType}, while the owner of the consumer is referenced by the
+	 * supplied {@code ownerReference}. Once the reference is cleared (e.g. because
+	 * the owner is garbage-collected), the consumer is not notified anymore and
+	 * unsubscribes itself on the next published event.
+	 *
+	 * @param <O>            the owner type
+	 * @param <T>            the type descriptor
+	 * @param eventType      the event type
+	 * @param ownerReference the reference to the owner of the consumer
+	 * @param eventConsumer  the event consumer that accepts the owner and the
+	 *                       event
+	 * @param priority       the priority of the given {@code eventConsumer}
+	 * @return the subscription handle that allows to unsubscribe the consumer
+	 * @see #subscribeWeakly(Class, Object, BiConsumer, int)
+	 */
+	default <O, T> Subscription subscribeWeakly(final Class<T> eventType, final WeakReference<O> ownerReference,
+			final BiConsumer<? super O, ? super T> eventConsumer, final int priority) {
+		final AtomicReference<Subscription> subscription = new AtomicReference<>();
+		subscription.set(subscribe(eventType, event -> {
+			final O currentOwner = ownerReference.get();
+			if (currentOwner != null) {
+				eventConsumer.accept(currentOwner, event);
+			} else if (subscription.get() != null) {
+				subscription.get().unsubscribe();
+			}
+		}, priority));
+		return subscription.get();
+	}
 }
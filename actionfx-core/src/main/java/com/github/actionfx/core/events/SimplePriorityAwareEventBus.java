@@ -23,17 +23,11 @@
  */
 package com.github.actionfx.core.events;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.Objects;
-import java.util.Set;
 import java.util.function.Consumer;
 
+import com.github.actionfx.core.profiling.EventBusDispatchEvent;
+import com.github.actionfx.core.profiling.EventBusPublishEvent;
 import com.github.actionfx.core.utils.ExceptionUtils;
-import com.github.actionfx.core.utils.ReflectionUtils;
 
 /**
  * Straight forward implementation of the {@link PriorityAwareEventBus}
@@ -46,13 +40,22 @@ import com.github.actionfx.core.utils.ReflectionUtils;
  * <p>
  * Furthermore, asynchronous invocations need to be implemented in the provided
  * {@link Consumer} itself and is not provided by this event bus implementation.
+ * For asynchronous delivery of events, see {@link AsyncPriorityAwareEventBus}.
+ * <p>
+ * For each concrete event class, the subscribers of the class and its super
+ * types are flattened into an array that is sorted by priority. This array is
+ * cached until the subscriptions change, so that publishing an event only
+ * requires a single map lookup and a loop over the cached array. Subscribers
+ * are held in a copy-on-write registry, so that events can be published
+ * concurrently to subscribing and unsubscribing without any lock.
  *
  * @author koster
  *
  */
 public class SimplePriorityAwareEventBus implements PriorityAwareEventBus {
 
-	private final PrioritizedSubscriberMap subscriberMap = new PrioritizedSubscriberMap();
+	@SuppressWarnings("rawtypes")
+	private final PrioritizedSubscriberMap<Consumer> subscriberMap = new PrioritizedSubscriberMap<>(Consumer[]::new);
 
 	public static final Consumer<Exception> RETHROW_EXCEPTION_CALLBACK = ex -> {
 		throw ExceptionUtils.wrapInRuntimeExceptionIfNecessary(ex);
@@ -66,95 +69,57 @@ public class SimplePriorityAwareEventBus implements PriorityAwareEventBus {
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	@Override
 	public void publish(final Object event, final Consumer<Exception> exceptionCallback) {
+		if (EventBusPublishEvent.isRecorded() || EventBusDispatchEvent.isRecorded()) {
+			publishRecorded(event, exceptionCallback);
+			return;
+		}
 		try {
-			final List<Consumer> subscribers = subscriberMap.lookup(event.getClass());
+			for (final Consumer subscriber : subscriberMap.lookup(event.getClass())) {
+				subscriber.accept(event);
+			}
+		} catch (final Exception throwable) { // NOSONAR
+			exceptionCallback.accept(throwable);
+		}
+	}
+
+	/**
+	 * Publishes the given {@code event} and emits JFR events for the publishing
+	 * and for the dispatch to each subscriber. This is only done while a recording
+	 * is running, so that no JFR events are allocated otherwise.
+	 *
+	 * @param event             the event to publish
+	 * @param exceptionCallback the callback that is invoked on exceptions
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private void publishRecorded(final Object event, final Consumer<Exception> exceptionCallback) {
+		final EventBusPublishEvent publishEvent = new EventBusPublishEvent();
+		publishEvent.begin();
+		try {
+			final Consumer[] subscribers = subscriberMap.lookup(event.getClass());
 			for (final Consumer subscriber : subscribers) {
+				final EventBusDispatchEvent dispatchEvent = new EventBusDispatchEvent();
+				dispatchEvent.begin();
 				subscriber.accept(event);
+				dispatchEvent.commitFor(event.getClass(), subscriber);
 			}
+			publishEvent.commitFor(event.getClass(), subscribers.length);
 		} catch (final Exception throwable) { // NOSONAR
 			exceptionCallback.accept(throwable);
 		}
 	}
 
 	@Override
-	public <T> void subscribe(final Class<T> eventType, final Consumer<? super T> eventConsumer, final int priority) {
-		subscriberMap.register(eventType, eventConsumer, priority);
+	public <T> Subscription subscribe(final Class<T> eventType, final Consumer<? super T> eventConsumer,
+			final int priority) {
+		return subscriberMap.register(eventType, eventConsumer, priority);
 	}
 
 	/**
-	 * Internal structure for looking up subscribers.
-	 *
-	 * @author koster
+	 * Gets the number of subscriptions over all event types.
 	 *
+	 * @return the number of subscriptions
 	 */
-	private static class PrioritizedSubscriberMap {
-
-		@SuppressWarnings("rawtypes")
-		private final Map<Class, List<PrioritizedConsumer>> typeSubscriberMap = new HashMap<>();
-
-		/**
-		 * Registers a single subscriber to the given {@code clazz}.
-		 *
-		 * @param clazz      the clazz to subscribe to
-		 * @param subscriber the subscriber
-		 * @param priority   the priority (lower value means "higher" priority)
-		 */
-		@SuppressWarnings("rawtypes")
-		public void register(final Class clazz, final Consumer subscriber, final int priority) {
-			final List<PrioritizedConsumer> subscriberList = typeSubscriberMap.computeIfAbsent(clazz,
-					cls -> new ArrayList<>());
-			subscriberList.add(PrioritizedConsumer.of(priority, subscriber));
-		}
-
-		/**
-		 * Looks up all subscriber for the given {@code clazz}, while the order in the
-		 * returned list is impacted by the priority provided during subscription time.
-		 *
-		 * @param clazz the class to lookup subscribers for
-		 * @return the subscribers for the given {@code clazz}, or an empty list, in
-		 *         case there are no subscribers.
-		 */
-		@SuppressWarnings("rawtypes")
-		public List<Consumer> lookup(final Class clazz) {
-			final Set<Class<?>> superTypes = ReflectionUtils.getAllSuperClassesAndInterfaces(clazz);
-			return superTypes.stream().map(typeSubscriberMap::get).filter(Objects::nonNull).flatMap(Collection::stream)
-					.sorted((c1, c2) -> Integer.compare(c1.getPriority(), c2.getPriority()))
-                    .map(PrioritizedConsumer::getConsumer).toList();
-		}
-
-		/**
-		 * Consumer with an assigned priority.
-		 *
-		 * @author koster
-		 *
-		 */
-		private static class PrioritizedConsumer {
-
-			private final int priority;
-
-			@SuppressWarnings("rawtypes")
-			private final Consumer consumer;
-
-			@SuppressWarnings("rawtypes")
-			public PrioritizedConsumer(final int priority, final Consumer consumer) {
-				this.priority = priority;
-				this.consumer = consumer;
-			}
-
-			@SuppressWarnings("rawtypes")
-			public static PrioritizedConsumer of(final int priority, final Consumer consumer) {
-				return new PrioritizedConsumer(priority, consumer);
-			}
-
-			public int getPriority() {
-				return priority;
-			}
-
-			@SuppressWarnings("rawtypes")
-			public Consumer getConsumer() {
-				return consumer;
-			}
-
-		}
+	int getNumberOfSubscriptions() {
+		return subscriberMap.size();
 	}
 }
@@ -27,6 +27,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
 
+import com.github.actionfx.core.events.PriorityAwareEventBus;
 import com.github.actionfx.core.extension.beans.BeanExtension;
 
 /**
@@ -42,10 +43,18 @@ public class ActionFXExtensionsBean {
 
 	private final List<BeanExtension> customBeanExtensions = new ArrayList<>();
 
+	private final PriorityAwareEventBus customEventBus;
+
 	public ActionFXExtensionsBean(final List<Consumer<Object>> customControllerExtensions,
 			final List<BeanExtension> customBeanExtensions) {
+		this(customControllerExtensions, customBeanExtensions, null);
+	}
+
+	public ActionFXExtensionsBean(final List<Consumer<Object>> customControllerExtensions,
+			final List<BeanExtension> customBeanExtensions, final PriorityAwareEventBus customEventBus) {
 		this.customControllerExtensions.addAll(customControllerExtensions);
 		this.customBeanExtensions.addAll(customBeanExtensions);
+		this.customEventBus = customEventBus;
 	}
 
 	public List<Consumer<Object>> getCustomControllerExtensions() {
@@ -55,4 +64,14 @@ public class ActionFXExtensionsBean {
 	public List<BeanExtension> getCustomBeanExtensions() {
 		return customBeanExtensions;
 	}
+
+	/**
+	 * The custom event bus implementation, or {@code null}, in case the default
+	 * event bus shall be used.
+	 *
+	 * @return the custom event bus, or {@code null}
+	 */
+	public PriorityAwareEventBus getCustomEventBus() {
+		return customEventBus;
+	}
 }
@@ -0,0 +1,344 @@
+/*
+ * Copyright (c) 2026 Martin Koster
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.actionfx.core.extension.beans;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+import com.github.actionfx.core.annotation.AFXSubscribe;
+import com.github.actionfx.core.beans.BeanWrapper;
+import com.github.actionfx.core.utils.AsyncUtils;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+
+/**
+ * Subscriber that rate-limits the delivery of events to a delegate subscriber,
+ * as configured by {@link AFXSubscribe#throttleMs()},
+ * {@link AFXSubscribe#debounceMs()} or {@link AFXSubscribe#fxPulse()}.
+ * <p>
+ * Events that arrive before the next delivery are coalesced by key, i.e. only
+ * the latest event per key is delivered. The key is either the event class or
+ * the value of the property described by {@link AFXSubscribe#coalesceKey()}.
+ * Events are delivered inside the JavaFX thread in the order of their latest
+ * arrival. An exception thrown by the delegate for one event is passed to the
+ * {@link Thread.UncaughtExceptionHandler} of the JavaFX thread and does not
+ * prevent the delivery of the remaining events.
+ *
+ * @author koster
+ *
+ */
+class RateLimitedSubscriber implements Consumer<Object> {
+
+	/**
+	 * The mode that defines when coalesced events are delivered.
+	 */
+	enum Mode {
+
+		/**
+		 * At most one delivery per window.
+		 */
+		THROTTLE,
+
+		/**
+		 * Delivery after a quiet period of the length of the window.
+		 */
+		DEBOUNCE,
+
+		/**
+		 * One delivery per JavaFX pulse.
+		 */
+		FX_PULSE
+	}
+
+	/**
+	 * Executes a flush inside the JavaFX thread after a delay.
+	 */
+	@FunctionalInterface
+	interface FlushScheduler {
+
+		/**
+		 * Executes the given {@code flush} inside the JavaFX thread after
+		 * {@code delayMs} milliseconds.
+		 *
+		 * @param flush   the flush to execute
+		 * @param delayMs the delay in milliseconds
+		 * @return the future that can be used to cancel the delayed execution
+		 */
+		Future<?> schedule(Runnable flush, long delayMs);
+	}
+
+	private final Consumer<Object> delegate;
+
+	private final Mode mode;
+
+	private final long windowMs;
+
+	private final String coalesceKey;
+
+	private final LongSupplier nanoClock;
+
+	private final FlushScheduler flushScheduler;
+
+	private final Object lock = new Object();
+
+	private final AnimationTimer pulseTimer;
+
+	// guarded by "lock"
+	private Map<Object, Object> pendingEvents = new LinkedHashMap<>();
+
+	// guarded by "lock"
+	private boolean flushRequested;
+
+	// guarded by "lock"
+	private Future<?> scheduledFlush;
+
+	// guarded by "lock", used for discarding outdated debounce flushes
+	private long generation;
+
+	// guarded by "lock"
+	private long lastFlushNanos;
+
+	/**
+	 * Creates a rate-limiting subscriber.
+	 *
+	 * @param delegate    the subscriber that receives the coalesced events
+	 * @param mode        the delivery mode
+	 * @param windowMs    the window in milliseconds for {@link Mode#THROTTLE}
+	 *                    and {@link Mode#DEBOUNCE}, ignored for
+	 *                    {@link Mode#FX_PULSE}
+	 * @param coalesceKey the path to the event property that is used as
+	 *                    coalescing key, or the empty string for coalescing by
+	 *                    event class
+	 */
+	RateLimitedSubscriber(final Consumer<Object> delegate, final Mode mode, final long windowMs,
+			final String coalesceKey) {
+		this(delegate, mode, windowMs, coalesceKey, System::nanoTime,
+				(flush, delayMs) -> AsyncUtils.executeDelayedInFxThread(flush, delayMs, TimeUnit.MILLISECONDS));
+	}
+
+	/**
+	 * Creates a rate-limiting subscriber that uses the supplied time source and
+	 * scheduler (e.g. for a deterministic time in tests).
+	 *
+	 * @param delegate       the subscriber that receives the coalesced events
+	 * @param mode           the delivery mode
+	 * @param windowMs       the window in milliseconds for {@link Mode#THROTTLE}
+	 *                       and {@link Mode#DEBOUNCE}, ignored for
+	 *                       {@link Mode#FX_PULSE}
+	 * @param coalesceKey    the path to the event property that is used as
+	 *                       coalescing key, or the empty string for coalescing
+	 *                       by event class
+	 * @param nanoClock      the time source in nanoseconds, used for
+	 *                       {@link Mode#THROTTLE}
+	 * @param flushScheduler the scheduler for delayed flushes, used for
+	 *                       {@link Mode#THROTTLE} and {@link Mode#DEBOUNCE}
+	 */
+	RateLimitedSubscriber(final Consumer<Object> delegate, final Mode mode, final long windowMs,
+			final String coalesceKey, final LongSupplier nanoClock, final FlushScheduler flushScheduler) {
+		this.delegate = delegate;
+		this.mode = mode;
+		this.windowMs = windowMs;
+		this.coalesceKey = coalesceKey;
+		this.nanoClock = nanoClock;
+		this.flushScheduler = flushScheduler;
+		lastFlushNanos = nanoClock.getAsLong() - TimeUnit.MILLISECONDS.toNanos(windowMs);
+		pulseTimer = mode == Mode.FX_PULSE ? new AnimationTimer() {
+			@Override
+			public void handle(final long now) {
+				stop();
+				flush(generationForFlush());
+			}
+		} : null;
+	}
+
+	/**
+	 * Creates a rate-limiting subscriber for the settings of the supplied
+	 * {@code annotation}.
+	 *
+	 * @param delegate   the subscriber that receives the coalesced events
+	 * @param annotation the annotation holding the rate-limit settings
+	 * @return the rate-limiting subscriber, or {@code null}, in case the
+	 *         annotation does not define a rate limit
+	 */
+	static RateLimitedSubscriber forAnnotation(final Consumer<Object> delegate, final AFXSubscribe annotation) {
+		if (annotation.throttleMs() > 0) {
+			return new RateLimitedSubscriber(delegate, Mode.THROTTLE, annotation.throttleMs(),
+					annotation.coalesceKey());
+		}
+		if (annotation.debounceMs() > 0) {
+			return new RateLimitedSubscriber(delegate, Mode.DEBOUNCE, annotation.debounceMs(),
+					annotation.coalesceKey());
+		}
+		if (annotation.fxPulse()) {
+			return new RateLimitedSubscriber(delegate, Mode.FX_PULSE, 0, annotation.coalesceKey());
+		}
+		return null;
+	}
+
+	@Override
+	public void accept(final Object event) {
+		final Object key = extractKey(event);
+		synchronized (lock) {
+			// remove first, so that the event moves to the end of the delivery order
+			pendingEvents.remove(key);
+			pendingEvents.put(key, event);
+			switch (mode) {
+			case DEBOUNCE:
+				if (scheduledFlush != null) {
+					scheduledFlush.cancel(false);
+				}
+				scheduleFlush(windowMs);
+				break;
+			case THROTTLE:
+				if (!flushRequested) {
+					final long elapsedMs = TimeUnit.NANOSECONDS.toMillis(nanoClock.getAsLong() - lastFlushNanos);
+					scheduleFlush(Math.max(0, windowMs - elapsedMs));
+				}
+				break;
+			case FX_PULSE:
+				if (!flushRequested) {
+					flushRequested = true;
+					startPulseTimer();
+				}
+				break;
+			}
+		}
+	}
+
+	/**
+	 * Discards all pending events, cancels a scheduled delivery and stops the
+	 * pulse timer.
+	 */
+	void cancel() {
+		synchronized (lock) {
+			pendingEvents.clear();
+			generation++;
+			flushRequested = false;
+			if (scheduledFlush != null) {
+				scheduledFlush.cancel(false);
+				scheduledFlush = null;
+			}
+		}
+		stopPulseTimer();
+	}
+
+	private void scheduleFlush(final long delayMs) {
+		flushRequested = true;
+		final long flushGeneration = ++generation;
+		scheduledFlush = flushScheduler.schedule(() -> flush(flushGeneration), delayMs);
+	}
+
+	private void startPulseTimer() {
+		if (Platform.isFxApplicationThread()) {
+			pulseTimer.start();
+		} else {
+			Platform.runLater(pulseTimer::start);
+		}
+	}
+
+	private void stopPulseTimer() {
+		if (pulseTimer == null) {
+			return;
+		}
+		if (Platform.isFxApplicationThread()) {
+			stopPulseTimerIfIdle();
+		} else {
+			Platform.runLater(this::stopPulseTimerIfIdle);
+		}
+	}
+
+	private void stopPulseTimerIfIdle() {
+		synchronized (lock) {
+			// an event that arrived after the cancellation might have restarted the timer
+			if (!flushRequested) {
+				pulseTimer.stop();
+			}
+		}
+	}
+
+	private long generationForFlush() {
+		synchronized (lock) {
+			return generation;
+		}
+	}
+
+	/**
+	 * Delivers all pending events to the delegate, in case the flush is still
+	 * current.
+	 *
+	 * @param flushGeneration the generation the flush has been requested for
+	 */
+	private void flush(final long flushGeneration) {
+		final Collection<Object> events;
+		synchronized (lock) {
+			if (flushGeneration != generation || pendingEvents.isEmpty()) {
+				// a newer flush is scheduled or the subscriber has been cancelled
+				return;
+			}
+			events = pendingEvents.values();
+			pendingEvents = new LinkedHashMap<>();
+			flushRequested = false;
+			scheduledFlush = null;
+			lastFlushNanos = nanoClock.getAsLong();
+		}
+		for (final Object event : events) {
+			deliver(event);
+		}
+	}
+
+	/**
+	 * Delivers a single event to the delegate. Exceptions are passed to the
+	 * uncaught exception handler of the current thread, so that the remaining
+	 * events of the flush are still delivered.
+	 *
+	 * @param event the event to deliver
+	 */
+	private void deliver(final Object event) {
+		try {
+			delegate.accept(event);
+		} catch (final RuntimeException e) {
+			final Thread thread = Thread.currentThread();
+			thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+		}
+	}
+
+	@Override
+	public String toString() {
+		// the label of the subscriber is e.g. used for JFR events
+		return delegate.toString();
+	}
+
+	private Object extractKey(final Object event) {
+		if (coalesceKey.isEmpty() || event == null) {
+			return event != null ? event.getClass() : null;
+		}
+		return BeanWrapper.of(event).getPropertyValue(coalesceKey);
+	}
+}
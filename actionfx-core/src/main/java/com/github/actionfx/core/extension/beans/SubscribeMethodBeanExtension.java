@@ -24,12 +24,19 @@
 package com.github.actionfx.core.extension.beans;
 
 import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
 
 import com.github.actionfx.core.ActionFX;
 import com.github.actionfx.core.annotation.AFXSubscribe;
+import com.github.actionfx.core.beans.BeanWrapper;
 import com.github.actionfx.core.events.PriorityAwareEventBus;
+import com.github.actionfx.core.events.Subscription;
 import com.github.actionfx.core.method.ActionFXMethodInvocation;
+import com.github.actionfx.core.utils.AsyncUtils;
 
 /**
  * Extends beans for methods annotated by {@link AFXSubscribe}, which allows a
@@ -42,6 +49,22 @@ import com.github.actionfx.core.method.ActionFXMethodInvocation;
  * respecting also the bean lifecycle of prototype-scope beans. In order to
  * guarantee this, the bean itself is retrieved with
  * {@link ActionFX#getBean(Class)} inside the consumer.
+ * <p>
+ * For singleton beans, the bean is retrieved only once on the first event and
+ * the annotated method is bound to it (see
+ * {@link ActionFXMethodInvocation#forSingletonSubscriber(Object, Method, Class)}),
+ * so that further events neither require a container lookup nor a parameter
+ * matching.
+ * <p>
+ * Subscribers that define a rate limit (see {@link AFXSubscribe#throttleMs()},
+ * {@link AFXSubscribe#debounceMs()} and {@link AFXSubscribe#fxPulse()}) are
+ * wrapped into a {@link RateLimitedSubscriber}, that coalesces events before
+ * invoking the annotated method.
+ * <p>
+ * The subscriptions are kept per bean ID, so that they can be removed from the
+ * event bus via {@link #unsubscribe(String)} (see
+ * {@link ActionFX#unsubscribe(String)}) or all at once via
+ * {@link #unsubscribeAll()} (see {@link ActionFX#reset()}).
  *
  * @author koster
  *
@@ -50,6 +73,8 @@ public class SubscribeMethodBeanExtension extends AbstractAnnotatedMethodBeansEx
 
 	private final PriorityAwareEventBus eventBus;
 
+	private final Map<String, List<Subscription>> subscriptions = new ConcurrentHashMap<>();
+
 	public SubscribeMethodBeanExtension(final PriorityAwareEventBus eventBus) {
 		super(AFXSubscribe.class);
 		this.eventBus = eventBus;
@@ -59,8 +84,83 @@ public class SubscribeMethodBeanExtension extends AbstractAnnotatedMethodBeansEx
 	@Override
 	protected void extend(final Class<?> beanClass, final String beanId, final boolean singleton,
 			final boolean lazyInit, final Method annotatedElement, final AFXSubscribe annotation) {
-		final Consumer subscriber = createSubscriber(annotation.async(), beanId, annotatedElement);
-		eventBus.subscribe(annotation.value(), subscriber, annotation.order());
+		if (annotation.async()) {
+			// fail fast in case the executor is not registered
+			AsyncUtils.getExecutor(annotation.executor());
+		}
+		validateRateLimit(annotatedElement, annotation);
+		final Consumer subscriber = singleton
+				? new SingletonSubscriber(annotation.async(), annotation.executor(), beanId, annotatedElement,
+						annotation.value())
+				: createSubscriber(annotation.async(), annotation.executor(), beanId, annotatedElement);
+		final RateLimitedSubscriber rateLimitedSubscriber = RateLimitedSubscriber.forAnnotation(subscriber,
+				annotation);
+		if (rateLimitedSubscriber == null) {
+			final Subscription subscription = eventBus.subscribe(annotation.value(), subscriber,
+					annotation.order());
+			subscriptions.computeIfAbsent(beanId, id -> new CopyOnWriteArrayList<>()).add(subscription);
+		} else {
+			final Subscription subscription = eventBus.subscribe(annotation.value(), (Consumer) rateLimitedSubscriber,
+					annotation.order());
+			// pending events shall not be delivered anymore after unsubscribing
+			subscriptions.computeIfAbsent(beanId, id -> new CopyOnWriteArrayList<>()).add(() -> {
+				subscription.unsubscribe();
+				rateLimitedSubscriber.cancel();
+			});
+		}
+	}
+
+	/**
+	 * Removes the subscriptions of all methods annotated by {@link AFXSubscribe}
+	 * of the bean with the given {@code beanId} from the event bus.
+	 *
+	 * @param beanId the ID of the bean
+	 */
+	public void unsubscribe(final String beanId) {
+		final List<Subscription> beanSubscriptions = subscriptions.remove(beanId);
+		if (beanSubscriptions != null) {
+			beanSubscriptions.forEach(Subscription::unsubscribe);
+		}
+	}
+
+	/**
+	 * Removes the subscriptions of all methods annotated by {@link AFXSubscribe}
+	 * of all beans from the event bus.
+	 */
+	public void unsubscribeAll() {
+		subscriptions.keySet().forEach(this::unsubscribe);
+	}
+
+	/**
+	 * Checks that at most one of the rate limits {@link AFXSubscribe#throttleMs()},
+	 * {@link AFXSubscribe#debounceMs()} and {@link AFXSubscribe#fxPulse()} is set
+	 * and that a {@link AFXSubscribe#coalesceKey()} is only used together with a
+	 * rate limit and can be read from the event type {@link AFXSubscribe#value()}.
+	 *
+	 * @param annotatedElement the annotated method
+	 * @param annotation       the annotation
+	 */
+	private static void validateRateLimit(final Method annotatedElement, final AFXSubscribe annotation) {
+		if (annotation.throttleMs() < 0 || annotation.debounceMs() < 0) {
+			throw new IllegalStateException("Attributes 'throttleMs' and 'debounceMs' of @AFXSubscribe on method '"
+					+ annotatedElement.getName() + "' must not be negative!");
+		}
+		final int rateLimits = (annotation.throttleMs() > 0 ? 1 : 0) + (annotation.debounceMs() > 0 ? 1 : 0)
+				+ (annotation.fxPulse() ? 1 : 0);
+		if (rateLimits > 1) {
+			throw new IllegalStateException("Only one of the attributes 'throttleMs', 'debounceMs' and 'fxPulse' of "
+					+ "@AFXSubscribe can be set on method '" + annotatedElement.getName() + "'!");
+		}
+		if (rateLimits == 0 && !annotation.coalesceKey().isEmpty()) {
+			throw new IllegalStateException("Attribute 'coalesceKey' of @AFXSubscribe on method '"
+					+ annotatedElement.getName() + "' requires one of 'throttleMs', 'debounceMs' or 'fxPulse'!");
+		}
+		if (!annotation.coalesceKey().isEmpty()
+				&& !BeanWrapper.isReadablePropertyPath(annotation.value(), annotation.coalesceKey())) {
+			throw new IllegalStateException("Attribute 'coalesceKey' of @AFXSubscribe on method '"
+					+ annotatedElement.getName() + "' refers to property path '" + annotation.coalesceKey()
+					+ "' that can not be read from event type '" + annotation.value().getCanonicalName() + "'!");
+		}
 	}
 
 	/**
@@ -70,20 +170,129 @@ public class SubscribeMethodBeanExtension extends AbstractAnnotatedMethodBeansEx
 	 * @param async            {@code true}, if the method invocation shall be
 	 *                         executed in an asynchronous fashion and {@code false}
 	 *                         for a synchronous fashion.
+	 * @param executorName     the name of the executor that is used for
+	 *                         asynchronous invocations
 	 * @param beanId           the ID of the bean that shall be retrieved from the
 	 *                         bean container
 	 * @param annotatedElement the annotated element
 	 * @return the consumer that can be used as subscriber for the event bus
 	 */
-	@SuppressWarnings({ "rawtypes", "unchecked" })
-	private Consumer createSubscriber(final boolean async, final String beanId, final Method annotatedElement) {
-		return event -> {
+	@SuppressWarnings("rawtypes")
+	private Consumer createSubscriber(final boolean async, final String executorName, final String beanId,
+			final Method annotatedElement) {
+		return new PrototypeSubscriber(async, executorName, beanId, annotatedElement);
+	}
+
+	/**
+	 * Creates a label for a subscriber that invokes the given
+	 * {@code annotatedElement}, e.g. for JFR events.
+	 *
+	 * @param annotatedElement the annotated method
+	 * @return the label consisting of the declaring class and the method name
+	 */
+	private static String subscriberLabel(final Method annotatedElement) {
+		return annotatedElement.getDeclaringClass().getName() + "." + annotatedElement.getName();
+	}
+
+	/**
+	 * Subscriber for beans that are not singletons, that retrieves the bean from
+	 * the bean container on each event.
+	 *
+	 * @author koster
+	 *
+	 */
+	private static class PrototypeSubscriber implements Consumer<Object> {
+
+		private final boolean async;
+
+		private final String executorName;
+
+		private final String beanId;
+
+		private final Method annotatedElement;
+
+		PrototypeSubscriber(final boolean async, final String executorName, final String beanId,
+				final Method annotatedElement) {
+			this.async = async;
+			this.executorName = executorName;
+			this.beanId = beanId;
+			this.annotatedElement = annotatedElement;
+		}
+
+		@SuppressWarnings({ "rawtypes", "unchecked" })
+		@Override
+		public void accept(final Object event) {
 			final Object bean = ActionFX.getInstance().getBean(beanId);
 			final Consumer methodInvocationConsumer = async
-					? ActionFXMethodInvocation.forSubscriberWithAsyncCall(bean, annotatedElement)
+					? ActionFXMethodInvocation.forSubscriberWithAsyncCall(executorName, bean, annotatedElement)
 					: ActionFXMethodInvocation.forSubscriber(bean, annotatedElement);
 			methodInvocationConsumer.accept(event);
-		};
+		}
+
+		@Override
+		public String toString() {
+			return subscriberLabel(annotatedElement);
+		}
+	}
+
+	/**
+	 * Subscriber for singleton beans, that retrieves the bean from the bean
+	 * container on the first event and binds the annotated method to it. The bean
+	 * is not retrieved on subscription, so that lazily initialized beans are not
+	 * instantiated before the first event is published.
+	 *
+	 * @author koster
+	 *
+	 */
+	private static class SingletonSubscriber implements Consumer<Object> {
+
+		private final boolean async;
+
+		private final String executorName;
+
+		private final String beanId;
+
+		private final Method annotatedElement;
+
+		private final Class<?> eventType;
+
+		private volatile Consumer<Object> boundSubscriber;
+
+		SingletonSubscriber(final boolean async, final String executorName, final String beanId,
+				final Method annotatedElement, final Class<?> eventType) {
+			this.async = async;
+			this.executorName = executorName;
+			this.beanId = beanId;
+			this.annotatedElement = annotatedElement;
+			this.eventType = eventType;
+		}
+
+		@Override
+		public void accept(final Object event) {
+			Consumer<Object> subscriber = boundSubscriber;
+			if (subscriber == null) {
+				// binding twice in case of concurrent events is harmless, as the bean is a
+				// singleton
+				subscriber = bind();
+				boundSubscriber = subscriber;
+			}
+			subscriber.accept(event);
+		}
+
+		@SuppressWarnings("unchecked")
+		private Consumer<Object> bind() {
+			final Object bean = ActionFX.getInstance().getBean(beanId);
+			final Class<Object> type = (Class<Object>) eventType;
+			return async
+					? ActionFXMethodInvocation.forSingletonSubscriberWithAsyncCall(executorName, bean,
+							annotatedElement, type)
+					: ActionFXMethodInvocation.forSingletonSubscriber(bean, annotatedElement, type);
+		}
+
+		@Override
+		public String toString() {
+			return subscriberLabel(annotatedElement);
+		}
 	}
 
 }
@@ -28,7 +28,6 @@ import java.lang.reflect.Field;
 import java.util.List;
 import java.util.Map;
 
-import com.github.actionfx.core.utils.AnnotationUtils;
 import com.github.actionfx.core.utils.ReflectionUtils;
 
 /**
@@ -47,7 +46,7 @@ public abstract class AbstractAnnotatedFieldControllerExtension<A extends Annota
 
 	@Override
 	protected Map<Field, List<A>> lookupAnnotatedElements(final Class<?> clazz) {
-		return AnnotationUtils.findAnnotatedFields(clazz, annotationType, true);
+		return ControllerMetadata.of(clazz).getAnnotatedFields(annotationType);
 	}
 
 	/**
@@ -28,10 +28,8 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.TreeMap;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -39,8 +37,6 @@ import com.github.actionfx.core.listener.TimedChangeListener;
 import com.github.actionfx.core.listener.TimedListChangeListener;
 import com.github.actionfx.core.method.ControllerMethodInvocationAdapter;
 import com.github.actionfx.core.method.ControllerMethodInvocationAdapter.ParameterValue;
-import com.github.actionfx.core.utils.AnnotationUtils;
-import com.github.actionfx.core.utils.ReflectionUtils;
 
 import javafx.beans.property.BooleanProperty;
 
@@ -68,15 +64,7 @@ public abstract class AbstractAnnotatedMethodControllerExtension<A extends Annot
 
 	@Override
 	protected Map<Method, List<A>> lookupAnnotatedElements(final Class<?> clazz) {
-		final var result = methodComparator != null ? new TreeMap<Method, List<A>>(methodComparator)
-				: new LinkedHashMap<Method, List<A>>();
-		final List<Method> annotatedMethods = ReflectionUtils.findMethods(clazz,
-				method -> method.getAnnotation(annotationType) != null);
-		for (final Method annotatedMethod : annotatedMethods) {
-			final List<A> annotations = AnnotationUtils.findAllAnnotations(annotatedMethod, annotationType);
-			result.put(annotatedMethod, annotations);
-		}
-		return result;
+		return ControllerMetadata.of(clazz).getAnnotatedMethods(annotationType, methodComparator);
 	}
 
 	/**
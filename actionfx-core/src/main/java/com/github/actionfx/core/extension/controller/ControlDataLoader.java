@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2026 Martin Koster
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.actionfx.core.extension.controller;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.actionfx.core.method.ControllerMethodInvocationAdapter;
+import com.github.actionfx.core.profiling.ControlDataLoadEvent;
+import com.github.actionfx.core.utils.AsyncUtils;
+
+/**
+ * Loads the data of a single control via a method annotated by
+ * {@link com.github.actionfx.core.annotation.AFXLoadControlData} following a "latest wins" strategy.
+ * <p>
+ * Each load receives a generation number. Starting a new load cancels a still pending asynchronous load (and
+ * optionally interrupts a running one). Results of stale loads are discarded, so that a slow, older load can not
+ * overwrite the data of a newer load. Additionally, reloads can be throttled by a minimum interval: reloads requested
+ * within the interval are collapsed into a single reload that is started after the interval has elapsed. A deferred
+ * reload is dropped, in case loading is not active anymore at the time the interval has elapsed.
+ *
+ * @author koster
+ *
+ */
+final class ControlDataLoader {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ControlDataLoader.class);
+
+    private final ControllerMethodInvocationAdapter methodInvocationAdapter;
+
+    private final String controlId;
+
+    private final Consumer<Object> dataConsumer;
+
+    private final String executorName;
+
+    private final long minReloadIntervalNanos;
+
+    private final boolean interruptStaleLoad;
+
+    private final BooleanSupplier loadingActive;
+
+    // all following fields are guarded by "this"
+    private long generation;
+
+    private boolean loadStarted;
+
+    private long lastLoadStartNanos;
+
+    private Future<?> loadInProgress;
+
+    private ScheduledFuture<?> deferredLoad;
+
+    /**
+     * Creates a new loader.
+     *
+     * @param methodInvocationAdapter
+     *            the method invocation adapter that provides the data
+     * @param controlId
+     *            the ID of the populated control
+     * @param dataConsumer
+     *            the consumer that sets the loaded data into the control
+     * @param executorName
+     *            the name of the executor, if the data shall be asynchronously loaded, {@code null}, if it should be
+     *            loaded in the calling thread
+     * @param minReloadIntervalMs
+     *            the minimum interval in milliseconds between the start of two loads, {@code 0} for no interval
+     * @param interruptStaleLoad
+     *            {@code true}, if a running asynchronous load shall be interrupted, when a new load is started
+     * @param loadingActive
+     *            supplies {@code true}, if loading is currently active. A deferred load is only executed, in case this
+     *            supplier still returns {@code true}, when the minimum reload interval has elapsed
+     */
+    ControlDataLoader(final ControllerMethodInvocationAdapter methodInvocationAdapter, final String controlId,
+            final Consumer<Object> dataConsumer, final String executorName, final long minReloadIntervalMs,
+            final boolean interruptStaleLoad, final BooleanSupplier loadingActive) {
+        this.methodInvocationAdapter = methodInvocationAdapter;
+        this.controlId = controlId;
+        this.dataConsumer = dataConsumer;
+        this.executorName = executorName;
+        this.minReloadIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, minReloadIntervalMs));
+        this.interruptStaleLoad = interruptStaleLoad;
+        this.loadingActive = loadingActive;
+    }
+
+    /**
+     * Loads the data into the control. In case the previous load was started less than the minimum reload interval
+     * ago, the load is deferred until the interval has elapsed.
+     */
+    void load() {
+        final long loadGeneration;
+        synchronized (this) {
+            if (deferredLoad != null) {
+                // there is already a deferred load that will pick up the latest data
+                return;
+            }
+            final long remainingNanos = remainingIntervalNanos();
+            if (remainingNanos > 0) {
+                deferredLoad = AsyncUtils.executeDelayedInFxThread(this::loadDeferred, remainingNanos,
+                        TimeUnit.NANOSECONDS);
+                return;
+            }
+            loadGeneration = beginLoad();
+        }
+        executeLoad(loadGeneration);
+    }
+
+    /**
+     * Executes a deferred load, in case loading is still active.
+     */
+    private void loadDeferred() {
+        final long loadGeneration;
+        synchronized (this) {
+            deferredLoad = null;
+            if (!loadingActive.getAsBoolean()) {
+                LOG.debug("Dropping deferred load for control with ID='{}', loading is not active anymore.",
+                        controlId);
+                return;
+            }
+            loadGeneration = beginLoad();
+        }
+        executeLoad(loadGeneration);
+    }
+
+    private long remainingIntervalNanos() {
+        if (!loadStarted || minReloadIntervalNanos == 0) {
+            return 0;
+        }
+        return minReloadIntervalNanos - (System.nanoTime() - lastLoadStartNanos);
+    }
+
+    /**
+     * Starts a new generation of loads and cancels the load in progress, in case there is one. Must be called while
+     * holding the lock on "this".
+     *
+     * @return the generation of the new load
+     */
+    private long beginLoad() {
+        generation++;
+        loadStarted = true;
+        lastLoadStartNanos = System.nanoTime();
+        if (loadInProgress != null) {
+            loadInProgress.cancel(interruptStaleLoad);
+            loadInProgress = null;
+        }
+        return generation;
+    }
+
+    private void executeLoad(final long loadGeneration) {
+        final ControlDataLoadEvent event = new ControlDataLoadEvent();
+        event.begin();
+        if (executorName != null) {
+            final Future<Object> future = methodInvocationAdapter.submitAsynchronously(executorName,
+                    data -> applyData(loadGeneration, data, event, true));
+            synchronized (this) {
+                if (loadGeneration == generation && future != null && !future.isDone()) {
+                    loadInProgress = future;
+                }
+            }
+        } else {
+            applyData(loadGeneration, methodInvocationAdapter.invoke(), event, false);
+        }
+    }
+
+    private void applyData(final long loadGeneration, final Object data, final ControlDataLoadEvent event,
+            final boolean asynchronous) {
+        synchronized (this) {
+            if (loadGeneration != generation) {
+                LOG.debug("Discarding stale data for control with ID='{}'.", controlId);
+                return;
+            }
+            loadInProgress = null;
+        }
+        dataConsumer.accept(data);
+        event.commitFor(methodInvocationAdapter.getInstance().getClass(), methodInvocationAdapter.getMethod().getName(),
+                controlId, asynchronous);
+    }
+}
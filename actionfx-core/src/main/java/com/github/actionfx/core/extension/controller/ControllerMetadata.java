@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2026 Martin Koster
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.actionfx.core.extension.controller;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.github.actionfx.core.utils.ReflectionUtils;
+
+/**
+ * Metadata of a controller class, holding the annotated fields and methods of the complete class hierarchy grouped by
+ * annotation type.
+ * <p>
+ * The class hierarchy is inspected only once per controller class. The annotated elements per annotation type are
+ * grouped on first request and are then shared by all controller extensions and all instances of the controller
+ * class, so that creating further instances of a controller (e.g. prototype controllers) does not require any further
+ * reflective inspection of the controller class.
+ * <p>
+ * All returned maps are unmodifiable.
+ *
+ * @author koster
+ *
+ */
+public final class ControllerMetadata {
+
+    private static final ClassValue<ControllerMetadata> METADATA_CACHE = new ClassValue<>() {
+        @Override
+        protected ControllerMetadata computeValue(final Class<?> type) {
+            return new ControllerMetadata(type);
+        }
+    };
+
+    private final Class<?> controllerClass;
+
+    // declared fields of the class hierarchy, starting with the fields of the controller class itself
+    private final List<Field> fields = new ArrayList<>();
+
+    // declared methods per class in the hierarchy, starting with the methods of the controller class itself
+    private final List<Method[]> methodsPerClass = new ArrayList<>();
+
+    private final Map<Class<? extends Annotation>, Map<Field, List<Annotation>>> annotatedFields =
+            new ConcurrentHashMap<>();
+
+    private final Map<MethodGroupKey, Map<Method, List<Annotation>>> annotatedMethods = new ConcurrentHashMap<>();
+
+    private ControllerMetadata(final Class<?> controllerClass) {
+        this.controllerClass = controllerClass;
+        for (Class<?> clazz = controllerClass; clazz != null; clazz = clazz.getSuperclass()) {
+            fields.addAll(Arrays.asList(ReflectionUtils.getDeclaredFields(clazz)));
+            if (clazz != Object.class) {
+                methodsPerClass.add(clazz.getDeclaredMethods());
+            }
+        }
+    }
+
+    /**
+     * Gets the metadata for the supplied {@code controllerClass}. The metadata is computed once per class and is cached
+     * afterwards.
+     *
+     * @param controllerClass
+     *            the controller class
+     * @return the metadata of the controller class
+     */
+    public static ControllerMetadata of(final Class<?> controllerClass) {
+        return METADATA_CACHE.get(controllerClass);
+    }
+
+    /**
+     * Gets the controller class that this metadata describes.
+     *
+     * @return the controller class
+     */
+    public Class<?> getControllerClass() {
+        return controllerClass;
+    }
+
+    /**
+     * Gets all fields of the controller class and its super-classes that are annotated by {@code annotationType}. The
+     * value of the returned map is a list of annotations, because annotations can be repeatable.
+     *
+     * @param <A>
+     *            the annotation type
+     * @param annotationType
+     *            the annotation type
+     * @return an unmodifiable map with the annotated fields and their annotations
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public <A extends Annotation> Map<Field, List<A>> getAnnotatedFields(final Class<A> annotationType) {
+        return (Map) annotatedFields.computeIfAbsent(annotationType, this::groupAnnotatedFields);
+    }
+
+    /**
+     * Gets all methods of the controller class and its super-classes that are annotated by {@code annotationType}.
+     * Methods that are overridden by an annotated method in a sub-class are not contained. The methods are ordered
+     * like declared, starting with the methods of the controller class itself.
+     *
+     * @param <A>
+     *            the annotation type
+     * @param annotationType
+     *            the annotation type
+     * @return an unmodifiable map with the annotated methods and their annotations
+     */
+    public <A extends Annotation> Map<Method, List<A>> getAnnotatedMethods(final Class<A> annotationType) {
+        return getAnnotatedMethods(annotationType, null);
+    }
+
+    /**
+     * Gets all methods of the controller class and its super-classes that are annotated by {@code annotationType},
+     * sorted by the supplied {@code methodComparator}. Methods that are overridden by an annotated method in a
+     * sub-class are not contained.
+     *
+     * @param <A>
+     *            the annotation type
+     * @param annotationType
+     *            the annotation type
+     * @param methodComparator
+     *            the comparator to sort the methods. In case the comparator is {@code null}, methods are ordered like
+     *            declared, starting with the methods of the controller class itself. Comparators should be constants,
+     *            because the sorted result is cached per comparator instance.
+     * @return an unmodifiable map with the annotated methods and their annotations
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public <A extends Annotation> Map<Method, List<A>> getAnnotatedMethods(final Class<A> annotationType,
+            final Comparator<Method> methodComparator) {
+        return (Map) annotatedMethods.computeIfAbsent(new MethodGroupKey(annotationType, methodComparator),
+                this::groupAnnotatedMethods);
+    }
+
+    private Map<Field, List<Annotation>> groupAnnotatedFields(final Class<? extends Annotation> annotationType) {
+        final Map<Field, List<Annotation>> result = new HashMap<>();
+        for (final Field field : fields) {
+            final Annotation[] annotations = field.getAnnotationsByType(annotationType);
+            if (annotations.length > 0) {
+                result.put(field, List.of(annotations));
+            }
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    private Map<Method, List<Annotation>> groupAnnotatedMethods(final MethodGroupKey key) {
+        final Map<Method, List<Annotation>> result = key.methodComparator != null ? new TreeMap<>(key.methodComparator)
+                : new LinkedHashMap<>();
+        final List<Method> annotatedMethodList = new ArrayList<>();
+        for (final Method[] methods : methodsPerClass) {
+            final List<Method> annotatedInClass = new ArrayList<>();
+            for (final Method method : methods) {
+                // methods overridden by an annotated method in a sub-class are skipped
+                if (method.getAnnotation(key.annotationType) != null
+                        && !containsMethodWithSameSignature(annotatedMethodList, method)) {
+                    annotatedInClass.add(method);
+                }
+            }
+            annotatedMethodList.addAll(annotatedInClass);
+        }
+        for (final Method method : annotatedMethodList) {
+            result.put(method, List.of(method.getAnnotationsByType(key.annotationType)));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    private static boolean containsMethodWithSameSignature(final List<Method> methods, final Method method) {
+        for (final Method m : methods) {
+            if (m.getName().equals(method.getName())
+                    && Arrays.equals(m.getParameterTypes(), method.getParameterTypes())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Key for grouped methods, consisting of the annotation type and an optional comparator.
+     *
+     * @author koster
+     *
+     */
+    private static final class MethodGroupKey {
+
+        private final Class<? extends Annotation> annotationType;
+
+        private final Comparator<Method> methodComparator;
+
+        private MethodGroupKey(final Class<? extends Annotation> annotationType,
+                final Comparator<Method> methodComparator) {
+            this.annotationType = annotationType;
+            this.methodComparator = methodComparator;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(annotationType, methodComparator);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof MethodGroupKey)) {
+                return false;
+            }
+            final MethodGroupKey other = (MethodGroupKey) obj;
+            return annotationType == other.annotationType && Objects.equals(methodComparator, other.methodComparator);
+        }
+    }
+}
@@ -24,6 +24,7 @@
 package com.github.actionfx.core.extension.controller;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -148,9 +149,9 @@ public class FormBindingControllerExtension extends AbstractAnnotatedFieldContro
             final ControlWrapper controlWrapper) {
         if (!"".equals(fm.validationMethod())) {
             final Object currentValue = controlWrapper.getValue(fm.targetProperty());
-            final ActionFXMethodInvocation methodInvocation = new ActionFXMethodInvocation(controller,
+            final Method method = ActionFXMethodInvocation.resolveMethod(controller.getClass(),
                     fm.validationMethod(), true, currentValue);
-            validatorList.add(new CustomMethodValidator(controller, methodInvocation.getMethod()));
+            validatorList.add(new CustomMethodValidator(controller, method));
         }
     }
 
@@ -28,6 +28,8 @@ import java.lang.reflect.Method;
 import com.github.actionfx.core.annotation.AFXOnAction;
 import com.github.actionfx.core.instrumentation.ControllerWrapper;
 import com.github.actionfx.core.method.ActionFXMethodInvocation;
+import com.github.actionfx.core.profiling.ActionInvocationEvent;
+import com.github.actionfx.core.utils.AsyncUtils;
 import com.github.actionfx.core.view.View;
 import com.github.actionfx.core.view.graph.NodeWrapper;
 
@@ -60,13 +62,37 @@ public class OnActionMethodControllerExtension extends AbstractAnnotatedMethodCo
 					+ "' does not support an 'onAction' property! Please verify your @AFXOnAction annotation in controller class '"
 					+ controller.getClass().getCanonicalName() + "', method '" + annotatedElement.getName() + "'!");
 		}
+		final EventHandler<ActionEvent> eventHandler;
 		if (annotation.async()) {
-			onActionProperty.setValue(ActionFXMethodInvocation.forOnActionPropertyWithAsyncCall(returnValue -> {
-			}, controller, annotatedElement));
+			// fail fast in case the executor is not registered
+			AsyncUtils.getExecutor(annotation.executor());
+			eventHandler = ActionFXMethodInvocation.forOnActionPropertyWithAsyncCall(annotation.executor(),
+					returnValue -> {
+					}, controller, annotatedElement);
 		} else {
-			onActionProperty.setValue(ActionFXMethodInvocation.forOnActionProperty(controller, annotatedElement));
-
+			eventHandler = ActionFXMethodInvocation.forOnActionProperty(controller, annotatedElement);
 		}
+		onActionProperty.setValue(withInvocationEvent(eventHandler, controller, annotatedElement, annotation));
+	}
+
+	/**
+	 * Wraps the given {@code eventHandler} so that each invocation is recorded as
+	 * {@link ActionInvocationEvent} in Java Flight Recorder.
+	 *
+	 * @param eventHandler the event handler to wrap
+	 * @param controller   the controller holding the method
+	 * @param method       the invoked method
+	 * @param annotation   the annotation applied to the method
+	 * @return the wrapped event handler
+	 */
+	private static EventHandler<ActionEvent> withInvocationEvent(final EventHandler<ActionEvent> eventHandler,
+			final Object controller, final Method method, final AFXOnAction annotation) {
+		return actionEvent -> {
+			final ActionInvocationEvent event = new ActionInvocationEvent();
+			event.begin();
+			eventHandler.handle(actionEvent);
+			event.commitFor(controller.getClass(), method.getName(), annotation.nodeId(), annotation.async());
+		};
 	}
 
 }
@@ -26,11 +26,13 @@ package com.github.actionfx.core.extension.controller;
 import java.lang.reflect.Method;
 import java.util.Comparator;
 import java.util.List;
+import java.util.function.Consumer;
 
 import com.github.actionfx.core.annotation.AFXLoadControlData;
 import com.github.actionfx.core.collections.ObservableListAdapter;
 import com.github.actionfx.core.instrumentation.ControllerWrapper;
 import com.github.actionfx.core.method.ControllerMethodInvocationAdapter;
+import com.github.actionfx.core.utils.AsyncUtils;
 import com.github.actionfx.core.view.View;
 import com.github.actionfx.core.view.graph.ControlWrapper;
 
@@ -64,14 +66,18 @@ public class OnLoadControlDataMethodControllerExtension
 		final BooleanProperty loadingActiveBooleanProperty = lookupObservableValue(controller,
 				annotation.loadingActiveBooleanProperty(), BooleanProperty.class);
 		final ControlWrapper controlWrapper = createControlWrapper(view, annotation.controlId());
+		if (annotation.async()) {
+			// fail fast in case the executor is not registered
+			AsyncUtils.getExecutor(annotation.executor());
+		}
 		// check, whether the wrapped control supports multi-selection or only single
 		// selection
 		if (controlWrapper.supportsItems()) {
 			populateControlsObservableList(controller, annotatedElement, loadingActiveBooleanProperty, controlWrapper,
-					annotation.async());
+					annotation);
 		} else if (controlWrapper.supportsValue()) {
 			populateControlsWritableValue(controller, annotatedElement, loadingActiveBooleanProperty, controlWrapper,
-					annotation.async());
+					annotation);
 		} else {
 
 			throw new IllegalStateException("Control with ID='" + annotation.controlId()
@@ -91,54 +97,16 @@ public class OnLoadControlDataMethodControllerExtension
 	 *                                     signalizes, whether the data can be
 	 *                                     loaded (when set to {@code true})
 	 * @param controlWrapper               the wrapped control
-	 * @param asynchronous                 {@code true},if the data shall be
-	 *                                     asynchronously loaded in a separate
-	 *                                     thread without blocking the JavaFX
-	 *                                     thread, {@code false},if it should be
-	 *                                     loaded in the same thread.
+	 * @param annotation                   the annotation holding the load settings
 	 */
+	@SuppressWarnings({ "rawtypes" })
 	private void populateControlsObservableList(final Object instance, final Method method,
 			final BooleanProperty loadingActiveBooleanProperty, final ControlWrapper controlWrapper,
-			final boolean asynchronous) {
+			final AFXLoadControlData annotation) {
 		final ObservableList<Object> valuesObservableList = controlWrapper.getItems();
-		final ControllerMethodInvocationAdapter methodInvocationAdapter = createMethodInvocationAdapter(instance,
-				method);
-		if (loadingActiveBooleanProperty == null || loadingActiveBooleanProperty.get()) {
-			populateObservableList(valuesObservableList, methodInvocationAdapter, asynchronous);
-		}
-		if (loadingActiveBooleanProperty != null) {
-			// whenever value switches from false to true, we trigger a loading
-			loadingActiveBooleanProperty.addListener((observable, oldValue, newValue) -> {
-				if (Boolean.FALSE.equals(oldValue) && Boolean.TRUE.equals(newValue)) {
-					populateObservableList(valuesObservableList, methodInvocationAdapter, asynchronous);
-				}
-			});
-		}
-	}
-
-	/**
-	 * Populates the given {@code observableList} with values from the supplied
-	 * {@code methodInvocationAdapter}.
-	 *
-	 * @param observableList          the observable list to populate with values
-	 *                                from the method invocation
-	 * @param methodInvocationAdapter the method invocation adapter that will
-	 *                                provide the values
-	 * @param asynchronous            {@code true},if the data shall be
-	 *                                asynchronously loaded in a separate thread
-	 *                                without blocking the JavaFX thread,
-	 *                                {@code false},if it should be loaded in the
-	 *                                same thread.
-	 */
-	@SuppressWarnings({ "rawtypes" })
-	private void populateObservableList(final ObservableList observableList,
-			final ControllerMethodInvocationAdapter methodInvocationAdapter, final boolean asynchronous) {
-		if (asynchronous) {
-			methodInvocationAdapter.invokeAsynchronously(data -> setDataInObservableList(observableList, (List) data));
-		} else {
-			final List data = methodInvocationAdapter.invoke();
-			setDataInObservableList(observableList, data);
-		}
+		final ControlDataLoader loader = createControlDataLoader(instance, method, loadingActiveBooleanProperty,
+				controlWrapper, data -> setDataInObservableList(valuesObservableList, (List) data), annotation);
+		populateControl(loader, loadingActiveBooleanProperty);
 	}
 
 	@SuppressWarnings({ "rawtypes", "unchecked" })
@@ -158,60 +126,74 @@ public class OnLoadControlDataMethodControllerExtension
 	 *                                     signalizes, whether the data can be
 	 *                                     loaded (when set to {@code true})
 	 * @param controlWrapper               the wrapped control
-	 * @param asynchronous                 {@code true},if the data shall be
-	 *                                     asynchronously loaded in a separate
-	 *                                     thread without blocking the JavaFX
-	 *                                     thread, {@code false},if it should be
-	 *                                     loaded in the same thread.
+	 * @param annotation                   the annotation holding the load settings
 	 */
 	@SuppressWarnings("unchecked")
 	private void populateControlsWritableValue(final Object instance, final Method method,
 			final BooleanProperty loadingActiveBooleanProperty, final ControlWrapper controlWrapper,
-			final boolean asynchronous) {
+			final AFXLoadControlData annotation) {
 		final ObservableValue<Object> observable = controlWrapper.getValueProperty();
 		if (observable == null || !WritableValue.class.isAssignableFrom(observable.getClass())) {
 			throw new IllegalStateException("Value property of control with ID='" + controlWrapper.getId()
 					+ "' can not be populated with data from method '" + method.getName() + "' inside controller '"
 					+ instance.getClass().getCanonicalName() + "'! Is the control holding a writable value property?");
 		}
+		final WritableValue<Object> writableValue = (WritableValue<Object>) observable;
+		final ControlDataLoader loader = createControlDataLoader(instance, method, loadingActiveBooleanProperty,
+				controlWrapper, writableValue::setValue, annotation);
+		populateControl(loader, loadingActiveBooleanProperty);
+	}
+
+	/**
+	 * Creates a {@link ControlDataLoader} that loads the data for the wrapped
+	 * control via the given {@link Method}.
+	 *
+	 * @param instance                     the instance holding the method
+	 * @param method                       the method that returns the control data
+	 * @param loadingActiveBooleanProperty an optional boolean property that
+	 *                                     signalizes, whether the data can be
+	 *                                     loaded (when set to {@code true})
+	 * @param controlWrapper               the wrapped control
+	 * @param dataConsumer                 the consumer that sets the loaded data
+	 *                                     into the control
+	 * @param annotation                   the annotation holding the load settings
+	 * @return the created loader
+	 */
+	private ControlDataLoader createControlDataLoader(final Object instance, final Method method,
+			final BooleanProperty loadingActiveBooleanProperty, final ControlWrapper controlWrapper,
+			final Consumer<Object> dataConsumer, final AFXLoadControlData annotation) {
 		final ControllerMethodInvocationAdapter methodInvocationAdapter = createMethodInvocationAdapter(instance,
 				method);
-		final WritableValue<Object> writableValue = (WritableValue<Object>) observable;
+		return new ControlDataLoader(methodInvocationAdapter, controlWrapper.getId(), dataConsumer,
+				annotation.async() ? annotation.executor() : null, annotation.minReloadIntervalMs(),
+				annotation.interruptStaleLoad(),
+				() -> loadingActiveBooleanProperty == null || loadingActiveBooleanProperty.get());
+	}
+
+	/**
+	 * Loads the data via the supplied {@code loader}, in case the optional
+	 * {@code loadingActiveBooleanProperty} is {@code null} or holds the value
+	 * {@code true}. Additionally, the data is reloaded each time the boolean
+	 * property switches from {@code false} to {@code true}.
+	 *
+	 * @param loader                       the loader for the control data
+	 * @param loadingActiveBooleanProperty an optional boolean property that
+	 *                                     signalizes, whether the data can be
+	 *                                     loaded (when set to {@code true})
+	 */
+	private static void populateControl(final ControlDataLoader loader,
+			final BooleanProperty loadingActiveBooleanProperty) {
 		if (loadingActiveBooleanProperty == null || loadingActiveBooleanProperty.get()) {
-			populateWritableValue(writableValue, methodInvocationAdapter, asynchronous);
+			loader.load();
 		}
 		if (loadingActiveBooleanProperty != null) {
 			// whenever value switches from false to true, we trigger a loading
-			loadingActiveBooleanProperty.addListener((obs, oldValue, newValue) -> {
+			loadingActiveBooleanProperty.addListener((observable, oldValue, newValue) -> {
 				if (Boolean.FALSE.equals(oldValue) && Boolean.TRUE.equals(newValue)) {
-					populateWritableValue(writableValue, methodInvocationAdapter, asynchronous);
+					loader.load();
 				}
 			});
 		}
 	}
 
-	/**
-	 * Populates the given {@code writableValue} with values from the supplied
-	 * {@code methodInvocationAdapter}.
-	 *
-	 * @param writableValue           the writable value to be populated with values
-	 *                                from the method invocation
-	 * @param methodInvocationAdapter the method invocation adapter that will
-	 *                                provide the values
-	 * @param asynchronous            {@code true},if the data shall be
-	 *                                asynchronously loaded in a separate thread
-	 *                                without blocking the JavaFX thread,
-	 *                                {@code false},if it should be loaded in the
-	 *                                same thread.
-	 */
-	private void populateWritableValue(final WritableValue<Object> writableValue,
-			final ControllerMethodInvocationAdapter methodInvocationAdapter, final boolean asynchronous) {
-		if (asynchronous) {
-			methodInvocationAdapter.invokeAsynchronously(writableValue::setValue);
-		} else {
-			final Object data = methodInvocationAdapter.invoke();
-			writableValue.setValue(data);
-		}
-	}
-
 }
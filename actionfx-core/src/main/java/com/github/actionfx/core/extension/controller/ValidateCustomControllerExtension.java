@@ -23,6 +23,8 @@
  */
 package com.github.actionfx.core.extension.controller;
 
+import java.lang.reflect.Method;
+
 import com.github.actionfx.core.annotation.AFXValidateCustom;
 import com.github.actionfx.core.method.ActionFXMethodInvocation;
 import com.github.actionfx.core.validation.CustomMethodValidator;
@@ -50,9 +52,9 @@ public class ValidateCustomControllerExtension extends AbstractValidationControl
             final AFXValidateCustom annotation) {
         final ControlWrapper controlWrapper = ControlWrapper.of(control);
         final Object currentValue = controlWrapper.getValue(annotation.validationTargeProperty());
-        final ActionFXMethodInvocation methodInvocation = new ActionFXMethodInvocation(controller,
+        final Method method = ActionFXMethodInvocation.resolveMethod(controller.getClass(),
                 annotation.validationMethod(), true, currentValue);
-        return new CustomMethodValidator(controller, methodInvocation.getMethod());
+        return new CustomMethodValidator(controller, method);
     }
 
     @Override
@@ -25,8 +25,6 @@ package com.github.actionfx.core.instrumentation.bytebuddy;
 
 import java.lang.instrument.Instrumentation;
 import java.lang.reflect.Method;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.concurrent.Callable;
 
 import org.slf4j.Logger;
@@ -36,6 +34,7 @@ import com.github.actionfx.core.annotation.AFXController;
 import com.github.actionfx.core.annotation.AFXShowView;
 import com.github.actionfx.core.instrumentation.ActionFXEnhancer;
 import com.github.actionfx.core.instrumentation.interceptors.AFXActionMethodInterceptor;
+import com.github.actionfx.core.utils.MetadataCache;
 import com.github.actionfx.core.view.View;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
@@ -63,9 +62,9 @@ public class ActionFXByteBuddyEnhancer implements ActionFXEnhancer {
 
 	private static final Logger LOG = LoggerFactory.getLogger(ActionFXByteBuddyEnhancer.class);
 
-	// Cache of already enhanced classes, where the key is the canonical name of the
-	// class
-	private static final Map<String, Class<?>> ENHANCED_CLASSES_CACHE = new HashMap<>();
+	// Cache of already enhanced classes, where the key is the original class
+	private static final MetadataCache<Class<?>, Class<?>> ENHANCED_CLASSES_CACHE = MetadataCache
+			.forClasses("ActionFXByteBuddyEnhancer.enhancedClasses");
 
 	// enhanced classes have this fragment in its canonical name. by that, we can
 	// recognized whether the given class is already enhanced or not
@@ -106,16 +105,13 @@ public class ActionFXByteBuddyEnhancer implements ActionFXEnhancer {
 			// class is already enhanced!
 			return originalClass;
 		}
-		final Class<?> enhancedClassFromCache = ENHANCED_CLASSES_CACHE.get(originalClass.getCanonicalName());
-		if (enhancedClassFromCache != null) {
-			return enhancedClassFromCache;
-		}
-		final DynamicType.Unloaded unloadedType = addViewField(
-				interceptMethods(new ByteBuddy().subclass(originalClass))).make();
-
-		final Class<?> enhancedClass = unloadedType.load(getClass().getClassLoader()).getLoaded();
-		ENHANCED_CLASSES_CACHE.put(originalClass.getCanonicalName(), enhancedClass);
-		return enhancedClass;
+		// compute-once, so that concurrent requests do not create several subclasses
+		// of the same class
+		return ENHANCED_CLASSES_CACHE.computeIfAbsent(originalClass, clazz -> {
+			final DynamicType.Unloaded unloadedType = addViewField(
+					interceptMethods(new ByteBuddy().subclass(clazz))).make();
+			return unloadedType.load(getClass().getClassLoader()).getLoaded();
+		});
 	}
 
 	/**
@@ -29,14 +29,22 @@ import java.lang.reflect.Parameter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 
 import org.apache.commons.lang3.ClassUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.github.actionfx.core.annotation.AFXControlValue;
 import com.github.actionfx.core.annotation.AFXOnAction;
 import com.github.actionfx.core.annotation.AFXRequiresUserConfirmation;
+import com.github.actionfx.core.utils.AsyncUtils;
 import com.github.actionfx.core.utils.ExceptionUtils;
+import com.github.actionfx.core.utils.MetadataCache;
 import com.github.actionfx.core.utils.ReflectionUtils;
 
 import javafx.event.ActionEvent;
@@ -55,6 +63,13 @@ import javafx.event.EventHandler;
  */
 public class ActionFXMethodInvocation {
 
+    private static final Logger LOG = LoggerFactory.getLogger(ActionFXMethodInvocation.class);
+
+    // resolved methods by class, method name, argument types and "allowLessOrNoMethodArguments" - unsuccessful
+    // resolutions are cached as well
+    private static final MetadataCache<MethodResolutionKey, MethodResolution> METHOD_RESOLUTION_CACHE = MetadataCache
+            .forClassScopedKeys("ActionFXMethodInvocation.methodResolutions", MethodResolutionKey::getClazz);
+
     private final ControllerMethodInvocationAdapter controllerMethodInvocationAdapter;
 
     /**
@@ -78,8 +93,7 @@ public class ActionFXMethodInvocation {
      */
     public ActionFXMethodInvocation(final Object instance, final String methodName,
             final boolean allowLessOrNoMethodArguments, final Object... arguments) {
-        this(instance,
-                identifyBestMatchingMethod(instance.getClass(), methodName, allowLessOrNoMethodArguments, arguments),
+        this(instance, resolveMethod(instance.getClass(), methodName, allowLessOrNoMethodArguments, arguments),
                 arguments);
     }
 
@@ -122,6 +136,22 @@ public class ActionFXMethodInvocation {
         controllerMethodInvocationAdapter.invokeAsynchronously(consumer);
     }
 
+    /**
+     * Performs an asynchronous method call by the executor with the supplied {@code executorName}, where the return
+     * value of the method is passed on to the supplied {@link Consumer}. The consumer is guaranteed to be executed
+     * inside the JavaFX-thread.
+     *
+     * @param <T>
+     *            the return type
+     * @param executorName
+     *            the name of the executor (see {@link AsyncUtils#getExecutor(String)})
+     * @param consumer
+     *            the consumer
+     */
+    public <T> void callAsync(final String executorName, final Consumer<T> consumer) {
+        controllerMethodInvocationAdapter.invokeAsynchronously(executorName, consumer);
+    }
+
     /**
      * Returns the method on that the invocation is applied to.
      *
@@ -132,9 +162,11 @@ public class ActionFXMethodInvocation {
     }
 
     /**
-     * Tries to identify the best match of methods with nane {@code methodName} and the supplied {@code arguments},
-     * considering that there can be also additionally ActionFX-annotated method arguments. In case there is no match or
-     * matches are ambiguous, then an {@link IllegalArgumentException} is thrown.
+     * Resolves the method with name {@code methodName} in the supplied {@code clazz} that accepts the supplied
+     * {@code arguments}, considering that there can be also additionally ActionFX-annotated method arguments.
+     * <p>
+     * The resolution only depends on the types of the supplied arguments. Resolved methods (as well as unsuccessful
+     * resolutions) are therefore cached per class, method name and argument types.
      *
      * @param clazz
      *            the class that is supposed to hold the method
@@ -150,7 +182,49 @@ public class ActionFXMethodInvocation {
      * @throws IllegalArgumentException
      *             in case there is no match or the matches are ambiguous
      */
-    private static Method identifyBestMatchingMethod(final Class<?> clazz, final String methodName,
+    public static Method resolveMethod(final Class<?> clazz, final String methodName,
+            final boolean allowLessOrNoMethodArguments, final Object... arguments) {
+        final MethodResolution resolution = METHOD_RESOLUTION_CACHE.get(
+                new MethodResolutionKey(clazz, methodName, allowLessOrNoMethodArguments, arguments),
+                key -> identifyBestMatchingMethod(clazz, methodName, allowLessOrNoMethodArguments, arguments));
+        if (resolution.method != null) {
+            return resolution.method;
+        }
+        if (resolution.ambiguous) {
+            throw new IllegalArgumentException("Class '" + clazz.getCanonicalName()
+                    + "' has ambiguously matching methods with name '" + methodName
+                    + "' that accept the supplied arguments '" + ExceptionUtils.toPrintableString(arguments) + "'!");
+        }
+        throw new IllegalArgumentException("Class '" + clazz.getCanonicalName() + "' does not have method with name '"
+                + methodName + "' that accepts the supplied arguments '" + ExceptionUtils.toPrintableString(arguments)
+                + "'!");
+    }
+
+    /**
+     * Discards all cached method resolutions, e.g. because the registered parameter resolvers have changed.
+     */
+    static void clearMethodResolutionCache() {
+        METHOD_RESOLUTION_CACHE.clear();
+    }
+
+    /**
+     * Tries to identify the best match of methods with nane {@code methodName} and the supplied {@code arguments},
+     * considering that there can be also additionally ActionFX-annotated method arguments. In case there is no match or
+     * matches are ambiguous, the returned resolution does not hold a method.
+     *
+     * @param clazz
+     *            the class that is supposed to hold the method
+     * @param methodName
+     *            the method name to search for
+     * @param allowLessOrNoMethodArguments
+     *            in case there is no method that supports the full set of {@code arguments}, this flag determines
+     *            whether it is OK to "downgrade" to a method that only accepts a subset of arguments, or even no
+     *            arguments at all.
+     * @param arguments
+     *            the method arguments
+     * @return the resolution holding the best matching method, or describing why there is no match
+     */
+    private static MethodResolution identifyBestMatchingMethod(final Class<?> clazz, final String methodName,
             final boolean allowLessOrNoMethodArguments,
             final Object[] arguments) {
         final List<Method> methods = ReflectionUtils.findMethods(clazz,
@@ -163,19 +237,15 @@ public class ActionFXMethodInvocation {
                         method -> method.getName().equals(methodName)
                                 && parameterMatches(method, true, arguments));
                 if (!fallbackMethods.isEmpty() && fallbackMethods.size() == 1) {
-                    return fallbackMethods.get(0);
+                    return MethodResolution.resolved(fallbackMethods.get(0));
                 }
             }
-            throw new IllegalArgumentException("Class '" + clazz.getCanonicalName()
-                    + "' does not have method with name '" + methodName + "' that accepts the supplied arguments '"
-                    + ExceptionUtils.toPrintableString(arguments) + "'!");
+            return MethodResolution.NOT_FOUND;
         } else if (methods.size() > 1) {
-            throw new IllegalArgumentException("Class '" + clazz.getCanonicalName()
-                    + "' has ambiguously matching methods with name '" + methodName
-                    + "' that accept the supplied arguments '" + ExceptionUtils.toPrintableString(arguments) + "'!");
+            return MethodResolution.AMBIGUOUS;
         } else {
             // perfect, we found one match
-            return methods.get(0);
+            return MethodResolution.resolved(methods.get(0));
         }
     }
 
@@ -228,16 +298,19 @@ public class ActionFXMethodInvocation {
     }
 
     /**
-     * Checks, if the supplied array of {@link Annotation} contains an ActionFX annotation.
+     * Checks, if the supplied array of {@link Annotation} contains an ActionFX annotation or an annotation with a
+     * registered {@link AnnotatedParameterResolver}.
      *
      * @param annotations
      *            the array to check
-     * @return {@code true}, if and only if the array contains an ActionFX annotation.
+     * @return {@code true}, if and only if the array contains an ActionFX annotation or an annotation with a registered
+     *         resolver.
      */
     private static boolean containsActionFXAnnotations(final Annotation[] annotations) {
         for (int i = 0; i < annotations.length; i++) {
-            if (annotations[i].annotationType().getPackage().getName()
-                    .equals(AFXControlValue.class.getPackage().getName())) {
+            final Class<? extends Annotation> annotationType = annotations[i].annotationType();
+            if (annotationType.getPackage().getName().equals(AFXControlValue.class.getPackage().getName())
+                    || ParameterResolverRegistry.hasResolver(annotationType)) {
                 return true;
             }
         }
@@ -266,11 +339,12 @@ public class ActionFXMethodInvocation {
      * @param arguments
      *            the method arguments to additionally provide to the method.
      * @return the created event handler instance
+     * @throws IllegalArgumentException
+     *             in case there is no matching method or the matches are ambiguous
      */
     public static EventHandler<ActionEvent> forOnActionProperty(final Object instance, final String methodName,
             final Object... arguments) {
-        return actionEvent -> new ActionFXMethodInvocation(instance, methodName, true, merge(actionEvent, arguments))
-                .call();
+        return forOnActionProperty(instance, resolveOnActionMethod(instance, methodName, arguments), arguments);
     }
 
     /**
@@ -306,11 +380,13 @@ public class ActionFXMethodInvocation {
      * @param arguments
      *            the method arguments to additionally provide to the method.
      * @return the created event handler instance
+     * @throws IllegalArgumentException
+     *             in case there is no matching method or the matches are ambiguous
      */
     public static <T> EventHandler<ActionEvent> forOnActionPropertyWithAsyncCall(final Consumer<T> consumer,
             final Object instance, final String methodName, final Object... arguments) {
-        return actionEvent -> new ActionFXMethodInvocation(instance, methodName, true, merge(actionEvent, arguments))
-                .callAsync(consumer);
+        return forOnActionPropertyWithAsyncCall(consumer, instance,
+                resolveOnActionMethod(instance, methodName, arguments), arguments);
     }
 
     /**
@@ -331,8 +407,31 @@ public class ActionFXMethodInvocation {
      */
     public static <T> EventHandler<ActionEvent> forOnActionPropertyWithAsyncCall(final Consumer<T> consumer,
             final Object instance, final Method method, final Object... arguments) {
+        return forOnActionPropertyWithAsyncCall(AsyncUtils.DEFAULT_EXECUTOR, consumer, instance, method, arguments);
+    }
+
+    /**
+     * Creates an {@link EventHandler} that can be directly set to an "onAction" property of a JavaFX node. The method
+     * is called in a asynchronous fashion by the executor with the supplied {@code executorName}.
+     *
+     * @param <T>
+     *            the return type of the method to invoke
+     * @param executorName
+     *            the name of the executor (see {@link AsyncUtils#getExecutor(String)})
+     * @param consumer
+     *            the consumer
+     * @param instance
+     *            the instance holding the method to invoke
+     * @param method
+     *            the method to invoke
+     * @param arguments
+     *            the method arguments to additionally provide to the method.
+     * @return the created event handler instance
+     */
+    public static <T> EventHandler<ActionEvent> forOnActionPropertyWithAsyncCall(final String executorName,
+            final Consumer<T> consumer, final Object instance, final Method method, final Object... arguments) {
         return actionEvent -> new ActionFXMethodInvocation(instance, method, merge(actionEvent, arguments))
-                .callAsync(consumer);
+                .callAsync(executorName, consumer);
     }
 
     /**
@@ -372,10 +471,117 @@ public class ActionFXMethodInvocation {
      * @return the subscriber that can be handed over to the event bus for performing a subscription
      */
     public static <T> Consumer<T> forSubscriberWithAsyncCall(final Object instance, final Method method) {
-        return event -> new ActionFXMethodInvocation(instance, method, event).callAsync(retValue -> {
+        return forSubscriberWithAsyncCall(AsyncUtils.DEFAULT_EXECUTOR, instance, method);
+    }
+
+    /**
+     * Creates a subscriber that executes the given {@code method} asynchronously in the supplied {@code instance} by
+     * the executor with the supplied {@code executorName}, while a published event is passed on to the method
+     * invocation.
+     *
+     * @param <T>
+     *            the event type
+     * @param executorName
+     *            the name of the executor (see {@link AsyncUtils#getExecutor(String)})
+     * @param instance
+     *            the instance hosting the supplied method
+     * @param method
+     *            the method to execute
+     * @return the subscriber that can be handed over to the event bus for performing a subscription
+     */
+    public static <T> Consumer<T> forSubscriberWithAsyncCall(final String executorName, final Object instance,
+            final Method method) {
+        return event -> new ActionFXMethodInvocation(instance, method, event).callAsync(executorName, retValue -> {
         });
     }
 
+    /**
+     * Creates a subscriber that executes the given {@code method} in the supplied {@code instance}, where the instance
+     * does not change over the lifetime of the subscriber (e.g. a singleton bean).
+     * <p>
+     * In contrast to {@link #forSubscriber(Object, Method)}, the method is bound to the instance once, when the
+     * subscriber is created. In case the method does not require a user confirmation, does not have parameters that
+     * are resolved by an {@link AnnotatedParameterResolver} (e.g. {@link AFXControlValue}) and accepts either no
+     * argument or the published event as its only argument, an event is passed on to the method via a precompiled
+     * {@link java.lang.invoke.MethodHandle} without any parameter matching. All other methods are invoked as in
+     * {@link #forSubscriber(Object, Method)}.
+     *
+     * @param <T>
+     *            the event type
+     * @param instance
+     *            the instance hosting the supplied method
+     * @param method
+     *            the method to execute
+     * @param eventType
+     *            the type of the events the subscriber is subscribed to
+     * @return the subscriber that can be handed over to the event bus for performing a subscription
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Consumer<T> forSingletonSubscriber(final Object instance, final Method method,
+            final Class<T> eventType) {
+        final Consumer<Object> boundSubscriber = InvocationPlan.of(method, ParameterResolverRegistry.getResolvers())
+                .bindSubscriber(instance, eventType);
+        return boundSubscriber != null ? (Consumer<T>) boundSubscriber : forSubscriber(instance, method);
+    }
+
+    /**
+     * Creates a subscriber that executes the given {@code method} asynchronously in the supplied {@code instance} by
+     * the executor with the supplied {@code executorName}, where the instance does not change over the lifetime of the
+     * subscriber (e.g. a singleton bean).
+     * <p>
+     * The method is bound to the instance once, when the subscriber is created (see
+     * {@link #forSingletonSubscriber(Object, Method, Class)}).
+     *
+     * @param <T>
+     *            the event type
+     * @param executorName
+     *            the name of the executor (see {@link AsyncUtils#getExecutor(String)})
+     * @param instance
+     *            the instance hosting the supplied method
+     * @param method
+     *            the method to execute
+     * @param eventType
+     *            the type of the events the subscriber is subscribed to
+     * @return the subscriber that can be handed over to the event bus for performing a subscription
+     */
+    public static <T> Consumer<T> forSingletonSubscriberWithAsyncCall(final String executorName,
+            final Object instance, final Method method, final Class<T> eventType) {
+        final Consumer<Object> boundSubscriber = InvocationPlan.of(method, ParameterResolverRegistry.getResolvers())
+                .bindSubscriber(instance, eventType);
+        if (boundSubscriber == null) {
+            return forSubscriberWithAsyncCall(executorName, instance, method);
+        }
+        final Executor executor = AsyncUtils.getExecutor(executorName);
+        // the return value is not of interest, so there is no need to switch back into the JavaFX thread
+        return event -> CompletableFuture.runAsync(() -> boundSubscriber.accept(event), executor)
+                .whenComplete((result, throwable) -> {
+                    if (throwable != null) {
+                        LOG.error("Asynchronous invocation of subscriber method '{}' failed!", method.getName(),
+                                throwable instanceof CompletionException && throwable.getCause() != null
+                                        ? throwable.getCause()
+                                        : throwable);
+                    }
+                });
+    }
+
+    /**
+     * Resolves the method for an "onAction" event handler once, when the handler is created. The {@link ActionEvent}
+     * does not need to be part of the supplied {@code arguments}, because action events are not considered for the
+     * method resolution.
+     *
+     * @param instance
+     *            the instance holding the method to invoke
+     * @param methodName
+     *            the name of the method to invoke
+     * @param arguments
+     *            the method arguments to additionally provide to the method.
+     * @return the resolved method
+     */
+    private static Method resolveOnActionMethod(final Object instance, final String methodName,
+            final Object... arguments) {
+        return resolveMethod(instance.getClass(), methodName, true, arguments);
+    }
+
     /**
      * Adds an argument to a var-arg.
      *
@@ -391,4 +597,84 @@ public class ActionFXMethodInvocation {
         System.arraycopy(arr, 0, newArray, 1, arr.length);
         return newArray;
     }
+
+    /**
+     * Result of a method resolution.
+     *
+     * @author koster
+     *
+     */
+    private static final class MethodResolution {
+
+        private static final MethodResolution NOT_FOUND = new MethodResolution(null, false);
+
+        private static final MethodResolution AMBIGUOUS = new MethodResolution(null, true);
+
+        private final Method method;
+
+        private final boolean ambiguous;
+
+        private MethodResolution(final Method method, final boolean ambiguous) {
+            this.method = method;
+            this.ambiguous = ambiguous;
+        }
+
+        private static MethodResolution resolved(final Method method) {
+            return new MethodResolution(method, false);
+        }
+    }
+
+    /**
+     * Cache key for method resolutions. Arguments are represented by their types ({@code null} for {@code null}
+     * arguments), because the resolution only depends on the argument types.
+     *
+     * @author koster
+     *
+     */
+    private static final class MethodResolutionKey {
+
+        private final Class<?> clazz;
+
+        private final String methodName;
+
+        private final boolean allowLessOrNoMethodArguments;
+
+        private final Class<?>[] argumentTypes;
+
+        private final int hashCode;
+
+        private MethodResolutionKey(final Class<?> clazz, final String methodName,
+                final boolean allowLessOrNoMethodArguments, final Object[] arguments) {
+            this.clazz = clazz;
+            this.methodName = methodName;
+            this.allowLessOrNoMethodArguments = allowLessOrNoMethodArguments;
+            argumentTypes = new Class<?>[arguments.length];
+            for (int i = 0; i < arguments.length; i++) {
+                argumentTypes[i] = arguments[i] != null ? arguments[i].getClass() : null;
+            }
+            hashCode = Objects.hash(clazz, methodName, allowLessOrNoMethodArguments, Arrays.hashCode(argumentTypes));
+        }
+
+        private Class<?> getClazz() {
+            return clazz;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof MethodResolutionKey)) {
+                return false;
+            }
+            final MethodResolutionKey other = (MethodResolutionKey) obj;
+            return clazz == other.clazz && allowLessOrNoMethodArguments == other.allowLessOrNoMethodArguments
+                    && methodName.equals(other.methodName) && Arrays.equals(argumentTypes, other.argumentTypes);
+        }
+    }
 }
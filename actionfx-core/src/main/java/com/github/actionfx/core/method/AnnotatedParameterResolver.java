@@ -28,8 +28,11 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 
 /**
- * Interface for resolving a method parameter having an annotation to a value. Derived classes can be stateful as new
- * instances are created for each parameter resolution.
+ * Interface for resolving a method parameter having an annotation to a value.
+ * <p>
+ * Implementations are registered once per annotation type in the {@link ParameterResolverRegistry} and a single
+ * instance is shared across all method invocations. Implementations must therefore be stateless and thread-safe.
+ * Whether the method invocation shall continue is reported as part of the returned {@link ParameterResolution}.
  *
  * @author koster
  *
@@ -54,20 +57,12 @@ public interface AnnotatedParameterResolver<A extends Annotation> {
      *            the annotation that is applied to the given {@code parameter}
      * @param expectedType
      *            the expected type the parameter shall be resolved to
-     * @return the resolved parameter
+     * @return the resolution holding the resolved parameter value. In case the method shall not be invoked at all
+     *         (e.g. when a value shall be taken from a UI dialog, but the user cancels this UI dialog), use
+     *         {@link ParameterResolution#cancel()}.
      * @throws IllegalStateException
      *             in case the parameter can not be resolved to the desired type {@code expectedType}
      */
-    <T> T resolve(Object controller, Method method, final Parameter parameter, A annotation,
+    <T> ParameterResolution<T> resolve(Object controller, Method method, final Parameter parameter, A annotation,
             final Class<T> expectedType);
-
-    /**
-     * Method that determines whether method invocation shall continue. Derived classes can override this method to stop
-     * method invocation (e.g. when a value shall be taken from a UI dialog, but the user cancels this UI dialog).
-     *
-     * @return {@code true}, if method invocation shall proceed, {@code false}, if method shall not be invoked.
-     */
-    public default boolean continueMethodInvocation() {
-        return true;
-    }
 }
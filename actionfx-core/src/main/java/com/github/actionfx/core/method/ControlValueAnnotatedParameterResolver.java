@@ -45,7 +45,7 @@ public class ControlValueAnnotatedParameterResolver implements AnnotatedParamete
 
     @SuppressWarnings("unchecked")
     @Override
-    public <T> T resolve(final Object controller, final Method method, final Parameter parameter,
+    public <T> ParameterResolution<T> resolve(final Object controller, final Method method, final Parameter parameter,
             final AFXControlValue controlValue, final Class<T> expectedType) {
         final View view = ControllerWrapper.getViewFrom(controller);
         final ConversionService conversionService = ActionFX.getInstance().getConversionService();
@@ -86,9 +86,9 @@ public class ControlValueAnnotatedParameterResolver implements AnnotatedParamete
                     + "'! Control value is of type '" + value.getClass() + "'");
 
         }
-        return value == null ? null
+        return ParameterResolution.of(value == null ? null
                 : (T) conversionService.convert(value, value.getClass(), parameter.getType(),
-                        controlValue.formatPattern());
+                        controlValue.formatPattern()));
     }
 
 }
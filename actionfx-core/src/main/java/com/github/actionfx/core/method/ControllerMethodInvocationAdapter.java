@@ -23,33 +23,19 @@
  */
 package com.github.actionfx.core.method;
 
-import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
-import java.lang.reflect.Parameter;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.HashMap;
-import java.util.List;
-import java.util.ListIterator;
-import java.util.Map;
 import java.util.ResourceBundle;
+import java.util.concurrent.Future;
 import java.util.function.Consumer;
 
-import org.apache.commons.lang3.ClassUtils;
-
 import com.github.actionfx.core.ActionFX;
 import com.github.actionfx.core.annotation.AFXArgHint;
 import com.github.actionfx.core.annotation.AFXControlValue;
-import com.github.actionfx.core.annotation.AFXFromDirectoryChooserDialog;
-import com.github.actionfx.core.annotation.AFXFromFileOpenDialog;
-import com.github.actionfx.core.annotation.AFXFromFileSaveDialog;
-import com.github.actionfx.core.annotation.AFXFromTextInputDialog;
 import com.github.actionfx.core.annotation.AFXRequiresUserConfirmation;
 import com.github.actionfx.core.annotation.ArgumentHint;
-import com.github.actionfx.core.utils.AnnotationUtils;
+import com.github.actionfx.core.method.InvocationPlan.ParameterSlot;
 import com.github.actionfx.core.utils.AsyncUtils;
 import com.github.actionfx.core.utils.MessageUtils;
-import com.github.actionfx.core.utils.ReflectionUtils;
 
 import javafx.beans.property.SimpleObjectProperty;
 
@@ -61,7 +47,11 @@ import javafx.beans.property.SimpleObjectProperty;
  * hints, which value to take for which method argument.
  * <p>
  * Additionally, method arguments are allowed to be annotated by {@link AFXControlValue}. In this case, the user value
- * is retrieved from the referenced control and is used as method argument.
+ * is retrieved from the referenced control and is used as method argument. Further annotations can be supported by
+ * registering an {@link AnnotatedParameterResolver} in the {@link ParameterResolverRegistry}.
+ * <p>
+ * The analysis of the method parameters is performed only once per method (see {@link InvocationPlan}), so that
+ * creating an adapter only requires to match the supplied values to the precomputed parameter slots.
  *
  * @author koster
  *
@@ -81,21 +71,20 @@ public class ControllerMethodInvocationAdapter {
         EXECUTION_CANCELLED
     }
 
-    // map for registering parameter resolvers
-    private static final Map<Class<? extends Annotation>, Class<? extends AnnotatedParameterResolver<?>>> PARAMETER_RESOLVER_MAP = new HashMap<>();
+    private static final Object[] NO_ARGUMENTS = new Object[0];
 
-    static {
-        registerParameterResolver();
-    }
+    private static final ParameterValue[] NO_PARAMETER_VALUES = new ParameterValue[0];
 
     private final Object controller;
 
-    private final Method method;
+    private final InvocationPlan plan;
 
     private final Object[] methodArguments;
 
-    private final SimpleObjectProperty<MethodExecutionState> methodExecutionState = new SimpleObjectProperty<>(
-            MethodExecutionState.NOT_EXECUTED);
+    private volatile MethodExecutionState executionState = MethodExecutionState.NOT_EXECUTED;
+
+    // created on demand, as most callers are not interested in observing the execution state
+    private volatile SimpleObjectProperty<MethodExecutionState> methodExecutionState;
 
     /**
      * Constructor that accepts a method together with the holding {@code instance} and candidates for method arguments.
@@ -112,15 +101,6 @@ public class ControllerMethodInvocationAdapter {
         this(controller, method, toParameterValues(availableParameterValues));
     }
 
-    private static void registerParameterResolver() {
-        PARAMETER_RESOLVER_MAP.put(AFXControlValue.class, ControlValueAnnotatedParameterResolver.class);
-        PARAMETER_RESOLVER_MAP.put(AFXFromFileOpenDialog.class, FromFileOpenDialogParameterResolver.class);
-        PARAMETER_RESOLVER_MAP.put(AFXFromFileSaveDialog.class, FromFileSaveDialogParameterResolver.class);
-        PARAMETER_RESOLVER_MAP.put(AFXFromDirectoryChooserDialog.class,
-                FromDirectoryChooserDialogParameterResolver.class);
-        PARAMETER_RESOLVER_MAP.put(AFXFromTextInputDialog.class, FromTextInputDialogParameterResolver.class);
-    }
-
     /**
      * Constructor that accepts a method together with the holding {@code instance} and candidates for method arguments
      * of type {@link ParameterValue}. Use this constructor, if you have two method arguments of the same type, while
@@ -136,9 +116,9 @@ public class ControllerMethodInvocationAdapter {
     public ControllerMethodInvocationAdapter(final Object controller, final Method method,
             final ParameterValue... availableParameterValues) {
         this.controller = controller;
-        this.method = method;
-        methodArguments = matchValuesToParameters(method.getParameters(),
-                availableParameterValues != null ? availableParameterValues : new ParameterValue[0]);
+        plan = InvocationPlan.of(method, ParameterResolverRegistry.getResolvers());
+        methodArguments = resolveArguments(
+                availableParameterValues != null ? availableParameterValues : NO_PARAMETER_VALUES);
     }
 
     /**
@@ -162,11 +142,49 @@ public class ControllerMethodInvocationAdapter {
      *            the consumer accepting the return value of the asynchronous method invocation
      */
     public <T> void invokeAsynchronously(final Consumer<T> consumer) {
+        invokeAsynchronously(AsyncUtils.DEFAULT_EXECUTOR, consumer);
+    }
+
+    /**
+     * Invokes the method by the executor with the supplied {@code executorName} and calls the consumer once the result
+     * of the method invocation is available. The consumer is guaranteed to be executed inside the JavaFX-thread.
+     *
+     * @param <T>
+     *            the return type of the method
+     * @param executorName
+     *            the name of the executor (see {@link AsyncUtils#getExecutor(String)})
+     * @param consumer
+     *            the consumer accepting the return value of the asynchronous method invocation
+     */
+    public <T> void invokeAsynchronously(final String executorName, final Consumer<T> consumer) {
         if (invocationAllowed()) {
-            AsyncUtils.executeAsynchronously(this::invokeInternal, consumer);
+            AsyncUtils.executeAsynchronously(executorName, this::invokeInternal, consumer);
         }
     }
 
+    /**
+     * Invokes the method by the executor with the supplied {@code executorName} and calls the consumer once the result
+     * of the method invocation is available. The consumer is guaranteed to be executed inside the JavaFX-thread.
+     * <p>
+     * In contrast to {@link #invokeAsynchronously(String, Consumer)}, the returned {@link Future} allows to cancel the
+     * invocation. A cancelled invocation does not call the consumer.
+     *
+     * @param <T>
+     *            the return type of the method
+     * @param executorName
+     *            the name of the executor (see {@link AsyncUtils#getExecutor(String)})
+     * @param consumer
+     *            the consumer accepting the return value of the asynchronous method invocation
+     * @return the future representing the asynchronous method invocation, or {@code null}, in case the invocation is
+     *         not allowed (e.g. because the user did not confirm the invocation)
+     */
+    public <T> Future<T> submitAsynchronously(final String executorName, final Consumer<T> consumer) {
+        if (invocationAllowed()) {
+            return AsyncUtils.submitAsynchronously(executorName, this::invokeInternal, consumer);
+        }
+        return null;
+    }
+
     /**
      * Internal method invocation routine. Will not check for user confirmation.
      *
@@ -175,8 +193,8 @@ public class ControllerMethodInvocationAdapter {
      * @return the return value of the method
      */
     protected <T> T invokeInternal() {
-        final T returnValue = ReflectionUtils.invokeMethod(method, controller, methodArguments);
-        methodExecutionState.set(MethodExecutionState.EXECUTED);
+        final T returnValue = plan.invoke(controller, methodArguments);
+        setMethodExecutionState(MethodExecutionState.EXECUTED);
         return returnValue;
     }
 
@@ -188,9 +206,8 @@ public class ControllerMethodInvocationAdapter {
      * @return {@code true}, if invocation is allowed, {@code false} otherwise.
      */
     protected boolean invocationAllowed() {
-        final AFXRequiresUserConfirmation userConfirmation = AnnotationUtils.findAnnotation(method,
-                AFXRequiresUserConfirmation.class);
-        if (methodExecutionState.get() == MethodExecutionState.EXECUTION_CANCELLED) {
+        final AFXRequiresUserConfirmation userConfirmation = plan.getUserConfirmation();
+        if (executionState == MethodExecutionState.EXECUTION_CANCELLED) {
             return false;
         }
         if (userConfirmation == null) {
@@ -209,157 +226,61 @@ public class ControllerMethodInvocationAdapter {
     }
 
     public Method getMethod() {
-        return method;
+        return plan.getMethod();
     }
 
-    public SimpleObjectProperty<MethodExecutionState> getMethodExecutionState() {
+    public synchronized SimpleObjectProperty<MethodExecutionState> getMethodExecutionState() {
+        if (methodExecutionState == null) {
+            methodExecutionState = new SimpleObjectProperty<>(executionState);
+        }
         return methodExecutionState;
     }
 
-    /**
-     * Matches values from {@link #availableParameter} to the given {@code parameters}.
-     *
-     * @param parameters
-     *            the desired parameters
-     * @param availableParameterValues
-     *            all available parameter value candidates
-     * @return the values that match the desired parameters
-     */
-    @SuppressWarnings({ "rawtypes", "unchecked" })
-    private Object[] matchValuesToParameters(final Parameter[] parameters,
-            final ParameterValue[] availableParameterValues) {
-        // create a new list with parameter values - the values will be "consumed"
-        final List<ParameterValue> parameterValues = new ArrayList<>(Arrays.asList(availableParameterValues));
-        final Object[] values = new Object[parameters.length];
-        for (int i = 0; i < parameters.length; i++) {
-            final Annotation[] annotations = parameters[i].getAnnotations();
-            boolean isResolved = false;
-            for (final Annotation annotation : annotations) {
-                final Class<? extends AnnotatedParameterResolver<?>> resolverClass = PARAMETER_RESOLVER_MAP
-                        .get(annotation.annotationType());
-                if (resolverClass != null) {
-                    final AnnotatedParameterResolver resolver = ReflectionUtils.instantiateClass(resolverClass);
-                    values[i] = resolver.resolve(controller, method, parameters[i], annotation,
-                            parameters[i].getType());
-                    if (!resolver.continueMethodInvocation()) {
-                        // resolver tells not to continue method invocation, so we set the internal
-                        // state to "cancelled"
-                        methodExecutionState.set(MethodExecutionState.EXECUTION_CANCELLED);
-                    }
-                    isResolved = true;
-                    break;
-                }
-            }
-            // not yet resolved? then try to match the supplied parameters
-            if (!isResolved) {
-                values[i] = determineInstanceForParameter(parameters[i], parameterValues);
-            }
+    private void setMethodExecutionState(final MethodExecutionState state) {
+        executionState = state;
+        final SimpleObjectProperty<MethodExecutionState> property = methodExecutionState;
+        if (property != null) {
+            property.set(state);
         }
-        return values;
     }
 
     /**
-     * Determines an instance for the given {@code parameter} from a list of {@code candidates}.
+     * Resolves the method arguments. Parameters carrying an annotation with a registered
+     * {@link AnnotatedParameterResolver} are resolved by the resolver, all other parameters are matched against the
+     * supplied {@code availableParameterValues} (see {@link InvocationPlan#matchCandidates(ParameterValue[], Object[])}.
+     * In case a resolver cancels the method invocation, the remaining parameters are not resolved anymore.
      *
-     * @param parameter
-     *            the parameter to search a value for
-     * @param candidates
-     *            the list of candidates to be searched for the best matching parameter
-     * @return the instance matching the given {@code type}, or {@code null}, if no instance matches the given
-     *         {@code type}
+     * @param availableParameterValues
+     *            all available parameter value candidates
+     * @return the values that match the method parameters
      */
-    private Object determineInstanceForParameter(final Parameter parameter, final List<ParameterValue> candidates) {
-        if (candidates.isEmpty()) {
-            return null;
-        }
-        ParameterValue bestMatch = null;
-
-        for (final ListIterator<ParameterValue> iterator = candidates.listIterator(); iterator.hasNext();) {
-            final ParameterValue candidate = iterator.next();
-            // check for @AFXArgHint annotations, these have the highest priority
-            if (candidateMatchesParameterByHint(parameter, candidate)) {
-                // we will not find a better match than this, so we "consume" the parameter and
-                // immediately return it
-                iterator.remove();
-                return candidate.getValue();
-            }
-            // check if the type matches. in this case, the first arguments have higher
-            // priority than the last ones
-            if (candidateMatchesTypeParameter(parameter, candidate) && bestMatch == null) {
-                // no bestMatch yet found and current matches by type -
-                // save this match in a local variable, we still might find a better match
-                bestMatch = candidate;
-            }
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private Object[] resolveArguments(final ParameterValue[] availableParameterValues) {
+        final int parameterCount = plan.getParameterCount();
+        if (parameterCount == 0) {
+            return NO_ARGUMENTS;
         }
-        if (bestMatch == null) {
-            // no match found...
-            return null;
-        } else {
-            // we found the proper type, so we consume the match and return its value
-            candidates.remove(bestMatch);
-            return bestMatch.getValue();
+        final Object[] values = new Object[parameterCount];
+        plan.matchCandidates(availableParameterValues, values);
+        if (!plan.hasResolvers()) {
+            return values;
         }
-    }
-
-    /**
-     * Checks, whether the given {@code candidate} matches the method {@link Parameter} by an {@link ArgumentHint}.
-     *
-     * @param the
-     *            method parameter
-     * @param candidate
-     *            the candidate
-     * @return {@link true}, if and only if the candidate is suitable for the given {@link Parameter}.
-     */
-    private static boolean candidateMatchesParameterByHint(final Parameter parameter, final ParameterValue candidate) {
-        for (final ArgumentHint hint : ArgumentHint.values()) {
-            if (parameterHasHint(parameter, hint) && parameterValueHasHint(candidate, hint)
-                    && candidateMatchesTypeParameter(parameter, candidate)) {
-                return true;
+        for (int i = 0; i < parameterCount; i++) {
+            final ParameterSlot slot = plan.getSlot(i);
+            if (slot.hasResolver()) {
+                final AnnotatedParameterResolver resolver = slot.getResolver();
+                final ParameterResolution<?> resolution = resolver.resolve(controller, plan.getMethod(),
+                        slot.getParameter(), slot.getResolverAnnotation(), slot.getType());
+                if (!resolution.continueMethodInvocation()) {
+                    // resolver tells not to continue method invocation, so we set the internal
+                    // state to "cancelled"
+                    setMethodExecutionState(MethodExecutionState.EXECUTION_CANCELLED);
+                    return values;
+                }
+                values[i] = resolution.getValue();
             }
         }
-        return false;
-    }
-
-    /**
-     * Checks, if the given {@code parameter} has the supplied {@code hint}.
-     *
-     * @param parameter
-     *            the parameter to check
-     * @param hint
-     *            the hint
-     * @return {@code true}, if and only if the supplied parameter carries the given hint
-     */
-    private static boolean parameterHasHint(final Parameter parameter, final ArgumentHint hint) {
-        final AFXArgHint argHint = parameter.getAnnotation(AFXArgHint.class);
-        return argHint != null && argHint.value() == hint;
-    }
-
-    /**
-     *
-     * @param parameterValue
-     *            the parameter value to check
-     * @param hint
-     *            the expected argument hint
-     * @return {@code true}, if and only if the parameter value holds the expected {@code hint}.
-     */
-    private static boolean parameterValueHasHint(final ParameterValue parameterValue, final ArgumentHint hint) {
-        return parameterValue.getHint() == hint;
-    }
-
-    /**
-     * Checks, whether the given {@code candidate} matches the type of the method {@link Parameter}. In case the
-     * parameter value is {@code null}, it is possible to assign this {@code null} value to a non-primitive method
-     * parameter.
-     *
-     * @param parameter
-     *            the method parameter
-     * @param candidate
-     *            the candidate
-     * @return {@code true}, if and only if the candidate has the desired type of the method parameter
-     */
-    private static boolean candidateMatchesTypeParameter(final Parameter parameter, final ParameterValue candidate) {
-        return candidate.getValue() == null && !parameter.getType().isPrimitive()
-                || ClassUtils.isAssignable(candidate.getType(), parameter.getType(), true);
+        return values;
     }
 
     /**
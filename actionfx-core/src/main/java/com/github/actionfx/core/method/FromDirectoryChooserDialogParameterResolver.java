@@ -44,11 +44,9 @@ import com.github.actionfx.core.view.View;
 public class FromDirectoryChooserDialogParameterResolver
 		implements AnnotatedParameterResolver<AFXFromDirectoryChooserDialog> {
 
-	private boolean continueMethodInvocation = true;
-
 	@SuppressWarnings("unchecked")
 	@Override
-	public <T> T resolve(final Object controller, final Method method, final Parameter parameter,
+	public <T> ParameterResolution<T> resolve(final Object controller, final Method method, final Parameter parameter,
 			final AFXFromDirectoryChooserDialog annotation, final Class<T> expectedType) {
 		final ActionFX actionFX = ActionFX.getInstance();
 		final ResourceBundle resourceBundle = actionFX.getControllerResourceBundle(controller.getClass());
@@ -58,13 +56,8 @@ public class FromDirectoryChooserDialogParameterResolver
 				view.getWindow());
 		if (selectedFile == null && !annotation.continueOnCancel()) {
 			// user cancelled selection and annotation tells not to continue
-			continueMethodInvocation = false;
+			return ParameterResolution.cancel();
 		}
-		return (T) actionFX.getConversionService().convert(selectedFile, parameter.getType());
-	}
-
-	@Override
-	public boolean continueMethodInvocation() {
-		return continueMethodInvocation;
+		return ParameterResolution.of((T) actionFX.getConversionService().convert(selectedFile, parameter.getType()));
 	}
 }
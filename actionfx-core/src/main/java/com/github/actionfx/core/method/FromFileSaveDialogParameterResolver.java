@@ -47,11 +47,9 @@ import javafx.stage.FileChooser.ExtensionFilter;
  */
 public class FromFileSaveDialogParameterResolver implements AnnotatedParameterResolver<AFXFromFileSaveDialog> {
 
-	private boolean continueMethodInvocation = true;
-
 	@SuppressWarnings("unchecked")
 	@Override
-	public <T> T resolve(final Object controller, final Method method, final Parameter parameter,
+	public <T> ParameterResolution<T> resolve(final Object controller, final Method method, final Parameter parameter,
 			final AFXFromFileSaveDialog annotation, final Class<T> expectedType) {
 		final ActionFX actionFX = ActionFX.getInstance();
 		final ResourceBundle resourceBundle = actionFX.getControllerResourceBundle(controller.getClass());
@@ -65,13 +63,8 @@ public class FromFileSaveDialogParameterResolver implements AnnotatedParameterRe
 				extensionFilter, view.getWindow());
 		if (selectedFile == null && !annotation.continueOnCancel()) {
 			// user cancelled selection and annotation tells not to continue
-			continueMethodInvocation = false;
+			return ParameterResolution.cancel();
 		}
-		return (T) actionFX.getConversionService().convert(selectedFile, parameter.getType());
-	}
-
-	@Override
-	public boolean continueMethodInvocation() {
-		return continueMethodInvocation;
+		return ParameterResolution.of((T) actionFX.getConversionService().convert(selectedFile, parameter.getType()));
 	}
 }
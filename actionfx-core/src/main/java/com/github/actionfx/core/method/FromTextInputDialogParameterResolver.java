@@ -40,11 +40,9 @@ import com.github.actionfx.core.utils.MessageUtils;
  */
 public class FromTextInputDialogParameterResolver implements AnnotatedParameterResolver<AFXFromTextInputDialog> {
 
-	private boolean continueMethodInvocation = true;
-
 	@SuppressWarnings("unchecked")
 	@Override
-	public <T> T resolve(final Object controller, final Method method, final Parameter parameter,
+	public <T> ParameterResolution<T> resolve(final Object controller, final Method method, final Parameter parameter,
 			final AFXFromTextInputDialog annotation, final Class<T> expectedType) {
 		final ActionFX actionFX = ActionFX.getInstance();
 		final ResourceBundle resourceBundle = actionFX.getControllerResourceBundle(controller.getClass());
@@ -55,13 +53,8 @@ public class FromTextInputDialogParameterResolver implements AnnotatedParameterR
 				annotation.defaultValue());
 		if (text == null && !annotation.continueOnCancel()) {
 			// user cancelled selection and annotation tells not to continue
-			continueMethodInvocation = false;
+			return ParameterResolution.cancel();
 		}
-		return (T) actionFX.getConversionService().convert(text, parameter.getType());
-	}
-
-	@Override
-	public boolean continueMethodInvocation() {
-		return continueMethodInvocation;
+		return ParameterResolution.of((T) actionFX.getConversionService().convert(text, parameter.getType()));
 	}
 }
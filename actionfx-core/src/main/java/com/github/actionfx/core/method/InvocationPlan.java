@@ -0,0 +1,384 @@
+/*
+ * Copyright (c) 2026 Martin Koster
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.actionfx.core.method;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.apache.commons.lang3.ClassUtils;
+
+import com.github.actionfx.core.annotation.AFXArgHint;
+import com.github.actionfx.core.annotation.AFXRequiresUserConfirmation;
+import com.github.actionfx.core.annotation.ArgumentHint;
+import com.github.actionfx.core.method.ControllerMethodInvocationAdapter.ParameterValue;
+import com.github.actionfx.core.utils.MetadataCache;
+import com.github.actionfx.core.utils.ReflectionUtils;
+
+/**
+ * Immutable, precompiled plan for invoking a controller {@link Method} via the
+ * {@link ControllerMethodInvocationAdapter}.
+ * <p>
+ * The plan is computed once per method and holds everything that is required for matching
+ * {@link ParameterValue}s to the method parameters: for each parameter slot the expected type, the
+ * {@link AFXArgHint} (if any) and the {@link AnnotatedParameterResolver} (if the parameter carries a resolver
+ * annotation). The method itself is invoked via a {@link MethodHandle} that spreads the argument array, so that no
+ * reflection is involved when invoking the method.
+ *
+ * @author koster
+ *
+ */
+final class InvocationPlan {
+
+    private static final MetadataCache<Method, InvocationPlan> PLAN_CACHE = MetadataCache
+            .forClassScopedKeys("InvocationPlan.plans", Method::getDeclaringClass);
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private final Method method;
+
+    private final ParameterSlot[] slots;
+
+    private final boolean hasResolvers;
+
+    private final AFXRequiresUserConfirmation userConfirmation;
+
+    // direct handle of the method, null in case the method is not accessible via method handles
+    private final MethodHandle methodHandle;
+
+    // "(Object, Object[])Object", null in case the method is not accessible via method handles
+    private final MethodHandle invoker;
+
+    private InvocationPlan(final Method method,
+            final Map<Class<? extends Annotation>, AnnotatedParameterResolver<?>> resolvers) {
+        this.method = method;
+        final Parameter[] parameters = method.getParameters();
+        slots = new ParameterSlot[parameters.length];
+        boolean anyResolver = false;
+        for (int i = 0; i < parameters.length; i++) {
+            slots[i] = ParameterSlot.of(parameters[i], resolvers);
+            anyResolver |= slots[i].hasResolver();
+        }
+        hasResolvers = anyResolver;
+        userConfirmation = method.getAnnotation(AFXRequiresUserConfirmation.class);
+        methodHandle = createMethodHandle(method);
+        invoker = methodHandle != null ? createInvoker(method, methodHandle) : null;
+    }
+
+    /**
+     * Gets the plan for the supplied {@code method}. The plan is computed on first access and then cached.
+     *
+     * @param method
+     *            the method
+     * @param resolvers
+     *            the registered parameter resolvers with key: annotation type -> value: resolver
+     * @return the plan
+     */
+    static InvocationPlan of(final Method method,
+            final Map<Class<? extends Annotation>, AnnotatedParameterResolver<?>> resolvers) {
+        return PLAN_CACHE.get(method, m -> new InvocationPlan(m, resolvers));
+    }
+
+    /**
+     * Discards all cached plans, e.g. because the registered parameter resolvers have changed.
+     */
+    static void clearCache() {
+        PLAN_CACHE.clear();
+    }
+
+    Method getMethod() {
+        return method;
+    }
+
+    AFXRequiresUserConfirmation getUserConfirmation() {
+        return userConfirmation;
+    }
+
+    int getParameterCount() {
+        return slots.length;
+    }
+
+    /**
+     * Checks, whether at least one parameter is resolved by an {@link AnnotatedParameterResolver}.
+     *
+     * @return {@code true}, if at least one parameter has a resolver, {@code false} otherwise
+     */
+    boolean hasResolvers() {
+        return hasResolvers;
+    }
+
+    ParameterSlot getSlot(final int index) {
+        return slots[index];
+    }
+
+    /**
+     * Matches the supplied {@code candidates} to the parameter slots without a resolver. Candidates are "consumed",
+     * i.e. each candidate is assigned to at most one parameter. A candidate carrying the {@link ArgumentHint} of the
+     * parameter takes precedence over the first candidate that matches by type.
+     * <p>
+     * Slots having a resolver are left untouched in the supplied {@code arguments} array.
+     *
+     * @param candidates
+     *            the parameter value candidates
+     * @param arguments
+     *            the array receiving the matched values, must have the length {@link #getParameterCount()}
+     */
+    void matchCandidates(final ParameterValue[] candidates, final Object[] arguments) {
+        if (candidates.length == 0) {
+            return;
+        }
+        // candidates are usually a handful, so consumed candidates are tracked in a bit mask
+        long consumedMask = 0L;
+        final boolean[] consumedFlags = candidates.length > Long.SIZE ? new boolean[candidates.length] : null;
+        for (int i = 0; i < slots.length; i++) {
+            final ParameterSlot slot = slots[i];
+            if (slot.hasResolver()) {
+                continue;
+            }
+            final int match = slot.findCandidate(candidates, consumedMask, consumedFlags);
+            if (match >= 0) {
+                if (consumedFlags != null) {
+                    consumedFlags[match] = true;
+                } else {
+                    consumedMask |= 1L << match;
+                }
+                arguments[i] = candidates[match].getValue();
+            }
+        }
+    }
+
+    /**
+     * Invokes the method on the supplied {@code controller}.
+     *
+     * @param <T>
+     *            the return type
+     * @param controller
+     *            the instance holding the method
+     * @param arguments
+     *            the method arguments
+     * @return the return value of the method, {@code null} for {@code void} methods
+     */
+    @SuppressWarnings("unchecked")
+    <T> T invoke(final Object controller, final Object[] arguments) {
+        if (invoker == null) {
+            return ReflectionUtils.invokeMethod(method, controller, arguments);
+        }
+        try {
+            return (T) invoker.invokeExact(controller, arguments);
+        } catch (final Throwable t) { // NOSONAR - same behavior as reflective invocation
+            throw new IllegalStateException("Problem invoking method '" + method.getName() + "'!",
+                    new InvocationTargetException(t));
+        }
+    }
+
+    /**
+     * Binds the method to the supplied {@code controller} for being invoked with a published event as single
+     * argument, so that neither parameter matching nor reflection is involved in the invocation.
+     * <p>
+     * Binding is only possible, in case the method is accessible via method handles, the method does not require a
+     * user confirmation, no parameter is resolved by an {@link AnnotatedParameterResolver} and the method either has
+     * no parameter or a single, non-primitive parameter that is assignable from {@code eventType}. For these methods,
+     * the parameter matching of {@link #matchCandidates(ParameterValue[], Object[])} yields the event itself for any
+     * published event of type {@code eventType}.
+     *
+     * @param controller
+     *            the instance holding the method
+     * @param eventType
+     *            the type of the events that are passed on to the method
+     * @return the bound subscriber, or {@code null}, in case the method can not be bound
+     */
+    Consumer<Object> bindSubscriber(final Object controller, final Class<?> eventType) {
+        if (methodHandle == null || userConfirmation != null || hasResolvers || slots.length > 1
+                || slots.length == 1 && (slots[0].primitive || !slots[0].type.isAssignableFrom(eventType))) {
+            return null;
+        }
+        MethodHandle handle = Modifier.isStatic(method.getModifiers()) ? methodHandle
+                : methodHandle.bindTo(controller);
+        if (slots.length == 0) {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+        final MethodHandle boundHandle = handle.asType(MethodType.methodType(void.class, Object.class));
+        return event -> {
+            try {
+                boundHandle.invokeExact(event);
+            } catch (final Throwable t) { // NOSONAR - same behavior as reflective invocation
+                throw new IllegalStateException("Problem invoking method '" + method.getName() + "'!",
+                        new InvocationTargetException(t));
+            }
+        };
+    }
+
+    /**
+     * Creates a direct method handle for the supplied {@code method}.
+     * <p>
+     * The handle is created via a lookup with private access into the declaring class, so that the accessibility
+     * of the (shared) {@link Method} instance is not altered. In case such a lookup is not granted (e.g. because the
+     * class resides in a named module that is not opened to ActionFX), only public methods of public classes are
+     * accessible via method handles.
+     *
+     * @param method
+     *            the method
+     * @return the method handle, or {@code null}, in case the method is not accessible via method handles
+     */
+    private static MethodHandle createMethodHandle(final Method method) {
+        try {
+            return MethodHandles.privateLookupIn(method.getDeclaringClass(), LOOKUP).unreflect(method);
+        } catch (final IllegalAccessException | RuntimeException e) {
+            // not opened to ActionFX - try the public lookup
+        }
+        if (!Modifier.isPublic(method.getModifiers())
+                || !Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+            return null;
+        }
+        try {
+            return MethodHandles.publicLookup().unreflect(method);
+        } catch (final IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Creates a method handle of type {@code (Object, Object[])Object} for the supplied {@code method}.
+     *
+     * @param method
+     *            the method
+     * @param handle
+     *            the direct method handle of the method
+     * @return the method handle
+     */
+    private static MethodHandle createInvoker(final Method method, final MethodHandle handle) {
+        final int parameterCount = method.getParameterCount();
+        final MethodHandle receiverHandle = Modifier.isStatic(method.getModifiers())
+                ? MethodHandles.dropArguments(handle, 0, Object.class)
+                : handle;
+        return receiverHandle.asType(MethodType.genericMethodType(parameterCount + 1))
+                .asSpreader(Object[].class, parameterCount);
+    }
+
+    /**
+     * A single parameter slot of the method.
+     *
+     * @author koster
+     *
+     */
+    static final class ParameterSlot {
+
+        private final Parameter parameter;
+
+        private final Class<?> type;
+
+        private final boolean primitive;
+
+        private final ArgumentHint hint;
+
+        private final Annotation resolverAnnotation;
+
+        private final AnnotatedParameterResolver<?> resolver;
+
+        private ParameterSlot(final Parameter parameter, final ArgumentHint hint, final Annotation resolverAnnotation,
+                final AnnotatedParameterResolver<?> resolver) {
+            this.parameter = parameter;
+            type = parameter.getType();
+            primitive = type.isPrimitive();
+            this.hint = hint;
+            this.resolverAnnotation = resolverAnnotation;
+            this.resolver = resolver;
+        }
+
+        private static ParameterSlot of(final Parameter parameter,
+                final Map<Class<? extends Annotation>, AnnotatedParameterResolver<?>> resolvers) {
+            final AFXArgHint argHint = parameter.getAnnotation(AFXArgHint.class);
+            for (final Annotation annotation : parameter.getAnnotations()) {
+                final AnnotatedParameterResolver<?> resolver = resolvers.get(annotation.annotationType());
+                if (resolver != null) {
+                    return new ParameterSlot(parameter, null, annotation, resolver);
+                }
+            }
+            return new ParameterSlot(parameter, argHint != null ? argHint.value() : null, null, null);
+        }
+
+        Parameter getParameter() {
+            return parameter;
+        }
+
+        Class<?> getType() {
+            return type;
+        }
+
+        boolean hasResolver() {
+            return resolver != null;
+        }
+
+        Annotation getResolverAnnotation() {
+            return resolverAnnotation;
+        }
+
+        AnnotatedParameterResolver<?> getResolver() {
+            return resolver;
+        }
+
+        /**
+         * Finds the best matching, not yet consumed candidate for this slot.
+         *
+         * @return the index of the best matching candidate, or {@code -1}, in case no candidate matches
+         */
+        private int findCandidate(final ParameterValue[] candidates, final long consumedMask,
+                final boolean[] consumedFlags) {
+            int bestMatch = -1;
+            for (int j = 0; j < candidates.length; j++) {
+                if (consumedFlags != null ? consumedFlags[j] : (consumedMask & 1L << j) != 0) {
+                    continue;
+                }
+                final ParameterValue candidate = candidates[j];
+                if (matchesType(candidate)) {
+                    if (hint != null && candidate.getHint() == hint) {
+                        // we will not find a better match than this
+                        return j;
+                    }
+                    if (bestMatch == -1) {
+                        // the first arguments have higher priority than the last ones
+                        bestMatch = j;
+                    }
+                }
+            }
+            return bestMatch;
+        }
+
+        /**
+         * Checks, whether the given {@code candidate} matches the type of this slot. In case the parameter value is
+         * {@code null}, it is possible to assign this {@code null} value to a non-primitive method parameter.
+         */
+        private boolean matchesType(final ParameterValue candidate) {
+            final Object value = candidate.getValue();
+            return value == null ? !primitive : ClassUtils.isAssignable(value.getClass(), type, true);
+        }
+    }
+}
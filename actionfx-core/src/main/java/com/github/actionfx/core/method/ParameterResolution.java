@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 Martin Koster
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.actionfx.core.method;
+
+/**
+ * Result of resolving a method parameter by an {@link AnnotatedParameterResolver}. Next to the resolved value, the
+ * result tells whether the method invocation shall continue (e.g. the user might have cancelled a dialog that was
+ * supposed to provide the value).
+ *
+ * @author koster
+ *
+ * @param <T>
+ *            the type of the resolved value
+ */
+public final class ParameterResolution<T> {
+
+    private static final ParameterResolution<Object> CANCELLED = new ParameterResolution<>(null, false);
+
+    private static final ParameterResolution<Object> NULL_VALUE = new ParameterResolution<>(null, true);
+
+    private final T value;
+
+    private final boolean continueMethodInvocation;
+
+    private ParameterResolution(final T value, final boolean continueMethodInvocation) {
+        this.value = value;
+        this.continueMethodInvocation = continueMethodInvocation;
+    }
+
+    /**
+     * Creates a resolution holding the supplied {@code value}. The method invocation shall continue.
+     *
+     * @param <T>
+     *            the type of the resolved value
+     * @param value
+     *            the resolved value (can be {@code null})
+     * @return the resolution
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ParameterResolution<T> of(final T value) {
+        return value == null ? (ParameterResolution<T>) NULL_VALUE : new ParameterResolution<>(value, true);
+    }
+
+    /**
+     * Creates a resolution that tells to not invoke the method at all (e.g. because the user cancelled a dialog).
+     *
+     * @param <T>
+     *            the type of the resolved value
+     * @return the resolution
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ParameterResolution<T> cancel() {
+        return (ParameterResolution<T>) CANCELLED;
+    }
+
+    /**
+     * The resolved value.
+     *
+     * @return the resolved value, can be {@code null}
+     */
+    public T getValue() {
+        return value;
+    }
+
+    /**
+     * Determines whether method invocation shall continue.
+     *
+     * @return {@code true}, if method invocation shall proceed, {@code false}, if method shall not be invoked.
+     */
+    public boolean continueMethodInvocation() {
+        return continueMethodInvocation;
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026 Martin Koster
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.actionfx.core.method;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.github.actionfx.core.annotation.AFXControlValue;
+import com.github.actionfx.core.annotation.AFXFromDirectoryChooserDialog;
+import com.github.actionfx.core.annotation.AFXFromFileOpenDialog;
+import com.github.actionfx.core.annotation.AFXFromFileSaveDialog;
+import com.github.actionfx.core.annotation.AFXFromTextInputDialog;
+
+/**
+ * Registry of {@link AnnotatedParameterResolver}s by the annotation type they resolve.
+ * <p>
+ * The registry holds exactly one resolver instance per annotation type, which is shared across all method invocations.
+ * ActionFX' own resolvers (e.g. for {@link AFXControlValue}) are registered by default. Custom resolvers are usually
+ * registered via the {@link com.github.actionfx.core.ActionFX.ActionFXBuilder}.
+ * <p>
+ * The registry is copy-on-write: lookups are lock-free, while registering a resolver replaces the complete map.
+ * Registering or resetting resolvers discards already computed {@link InvocationPlan}s and method resolutions, as these
+ * depend on the registered resolvers.
+ *
+ * @author koster
+ *
+ */
+public final class ParameterResolverRegistry {
+
+    private static volatile Map<Class<? extends Annotation>, AnnotatedParameterResolver<?>> resolvers = Collections
+            .unmodifiableMap(defaultResolvers());
+
+    private ParameterResolverRegistry() {
+        // class can not be instantiated
+    }
+
+    /**
+     * Registers the supplied {@code resolver} for method parameters annotated by {@code annotationType}. An already
+     * registered resolver for the same annotation type is replaced.
+     *
+     * @param <A>
+     *            the annotation type
+     * @param annotationType
+     *            the annotation type, must be retained at runtime
+     * @param resolver
+     *            the resolver, must be stateless and thread-safe
+     * @throws IllegalArgumentException
+     *             in case the annotation is not retained at runtime
+     */
+    public static synchronized <A extends Annotation> void register(final Class<A> annotationType,
+            final AnnotatedParameterResolver<A> resolver) {
+        final Retention retention = annotationType.getAnnotation(Retention.class);
+        if (retention == null || retention.value() != RetentionPolicy.RUNTIME) {
+            throw new IllegalArgumentException("Annotation '" + annotationType.getCanonicalName()
+                    + "' is not retained at runtime and can not be used for resolving method parameters!");
+        }
+        final Map<Class<? extends Annotation>, AnnotatedParameterResolver<?>> copy = new HashMap<>(resolvers);
+        copy.put(annotationType, resolver);
+        update(copy);
+    }
+
+    /**
+     * Resets the registry to ActionFX' default resolvers, i.e. all custom resolvers are removed.
+     */
+    public static synchronized void reset() {
+        update(defaultResolvers());
+    }
+
+    /**
+     * Gets the resolver for the supplied {@code annotationType}.
+     *
+     * @param annotationType
+     *            the annotation type
+     * @return the resolver, or {@code null}, in case there is no resolver registered for the annotation type
+     */
+    public static AnnotatedParameterResolver<?> getResolver(final Class<? extends Annotation> annotationType) {
+        return resolvers.get(annotationType);
+    }
+
+    /**
+     * Checks, whether there is a resolver registered for the supplied {@code annotationType}.
+     *
+     * @param annotationType
+     *            the annotation type
+     * @return {@code true}, if there is a resolver, {@code false} otherwise
+     */
+    public static boolean hasResolver(final Class<? extends Annotation> annotationType) {
+        return resolvers.containsKey(annotationType);
+    }
+
+    /**
+     * Gets all registered resolvers.
+     *
+     * @return an unmodifiable map with key: annotation type -> value: resolver
+     */
+    static Map<Class<? extends Annotation>, AnnotatedParameterResolver<?>> getResolvers() {
+        return resolvers;
+    }
+
+    private static void update(final Map<Class<? extends Annotation>, AnnotatedParameterResolver<?>> newResolvers) {
+        resolvers = Collections.unmodifiableMap(newResolvers);
+        InvocationPlan.clearCache();
+        ActionFXMethodInvocation.clearMethodResolutionCache();
+    }
+
+    private static Map<Class<? extends Annotation>, AnnotatedParameterResolver<?>> defaultResolvers() {
+        final Map<Class<? extends Annotation>, AnnotatedParameterResolver<?>> defaults = new HashMap<>();
+        defaults.put(AFXControlValue.class, new ControlValueAnnotatedParameterResolver());
+        defaults.put(AFXFromFileOpenDialog.class, new FromFileOpenDialogParameterResolver());
+        defaults.put(AFXFromFileSaveDialog.class, new FromFileSaveDialogParameterResolver());
+        defaults.put(AFXFromDirectoryChooserDialog.class, new FromDirectoryChooserDialogParameterResolver());
+        defaults.put(AFXFromTextInputDialog.class, new FromTextInputDialogParameterResolver());
+        return defaults;
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 Martin Koster
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.actionfx.core.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+
+/**
+ * Base class for all Java Flight Recorder (JFR) events emitted by ActionFX. Each event carries the controller class,
+ * the controller method and the control ID it refers to (where applicable). The duration of an event is recorded by JFR
+ * between {@link #begin()} and the commit of the event.
+ * <p>
+ * Events are emitted in the following way, so that field values are only computed in case the event is enabled in
+ * the running recording:
+ *
+ * <pre>
+ * final ControllerInstantiationEvent event = new ControllerInstantiationEvent();
+ * event.begin();
+ * // ...the code to measure...
+ * event.commitFor(controllerClass);
+ * </pre>
+ *
+ * In case no recording is running or the event is disabled, {@link #begin()} and {@link #shouldCommit()} are no-ops
+ * that are optimized away by the JIT compiler together with the event allocation.
+ *
+ * @author koster
+ *
+ */
+@Category("ActionFX")
+public abstract class ActionFXEvent extends Event {
+
+    // fields must not be private, otherwise JFR does not include them in the sub-classes
+
+    @Label("Controller Class")
+    protected String controllerClass;
+
+    @Label("Method")
+    protected String method;
+
+    @Label("Control ID")
+    protected String controlId;
+
+    /**
+     * Sets the controller class, method and control ID of this event. In case {@code controllerClass} is a dynamically
+     * enhanced sub-class of a controller, the name of the original controller class is used.
+     *
+     * @param controllerClass
+     *            the controller class, may be {@code null}
+     * @param method
+     *            the name of the controller method, may be {@code null}
+     * @param controlId
+     *            the ID of the control, may be {@code null}
+     */
+    protected void setControllerInfo(final Class<?> controllerClass, final String method, final String controlId) {
+        this.controllerClass = controllerClass != null ? StartupProfiler.controllerClassName(controllerClass) : null;
+        this.method = method;
+        this.controlId = controlId;
+    }
+}
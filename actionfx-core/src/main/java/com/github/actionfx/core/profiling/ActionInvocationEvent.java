@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026 Martin Koster
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.actionfx.core.profiling;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for the invocation of a controller method annotated by
+ * {@link com.github.actionfx.core.annotation.AFXOnAction}. For asynchronous invocations, the event covers the
+ * submission of the method call to the executor.
+ *
+ * @author koster
+ *
+ */
+@Name("com.github.actionfx.ActionInvocation")
+@Label("Action Invocation")
+@Description("Invocation of an @AFXOnAction annotated controller method")
+public class ActionInvocationEvent extends ActionFXEvent {
+
+    @Label("Asynchronous")
+    protected boolean async;
+
+    /**
+     * Commits this event, in case it is enabled.
+     *
+     * @param controllerClass
+     *            the controller class
+     * @param method
+     *            the name of the invoked method
+     * @param controlId
+     *            the ID of the control that fired the action
+     * @param async
+     *            {@code true}, if the method is invoked asynchronously
+     */
+    public void commitFor(final Class<?> controllerClass, final String method, final String controlId,
+            final boolean async) {
+        if (shouldCommit()) {
+            setControllerInfo(controllerClass, method, controlId);
+            this.async = async;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026 Martin Koster
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.actionfx.core.profiling;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for binding a model instance to the controls of a view.
+ *
+ * @author koster
+ *
+ */
+@Name("com.github.actionfx.Binding")
+@Label("Binding")
+@Description("Binding of a model instance to the controls of an ActionFX view")
+public class BindingEvent extends ActionFXEvent {
+
+    @Label("Model Class")
+    protected String modelClass;
+
+    @Label("Binding Target Count")
+    protected int bindingTargetCount;
+
+    /**
+     * Commits this event, in case it is enabled.
+     *
+     * @param controllerClass
+     *            the controller class of the view
+     * @param modelClass
+     *            the class of the bound model
+     * @param bindingTargetCount
+     *            the number of bound targets
+     */
+    public void commitFor(final Class<?> controllerClass, final Class<?> modelClass, final int bindingTargetCount) {
+        if (shouldCommit()) {
+            setControllerInfo(controllerClass, null, null);
+            this.modelClass = modelClass.getName();
+            this.bindingTargetCount = bindingTargetCount;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026 Martin Koster
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.actionfx.core.profiling;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for the application of a single controller extension to a controller instance.
+ *
+ * @author koster
+ *
+ */
+@Name("com.github.actionfx.ControllerExtension")
+@Label("Controller Extension")
+@Description("Application of a single controller extension to an ActionFX controller")
+public class ControllerExtensionEvent extends ActionFXEvent {
+
+    @Label("Extension")
+    protected String extension;
+
+    /**
+     * Commits this event, in case it is enabled.
+     *
+     * @param controllerClass
+     *            the extended controller class
+     * @param extensionClass
+     *            the class of the applied extension
+     */
+    public void commitFor(final Class<?> controllerClass, final Class<?> extensionClass) {
+        if (shouldCommit()) {
+            setControllerInfo(controllerClass, null, null);
+            extension = extensionClass.getName();
+            commit();
+        }
+    }
+}
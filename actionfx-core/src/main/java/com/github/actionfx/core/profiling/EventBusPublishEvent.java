@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026 Martin Koster
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.actionfx.core.profiling;
+
+import jdk.jfr.Description;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for publishing an event via the ActionFX event bus. The duration covers the lookup of the subscribers and
+ * the (synchronous) dispatch to all of them.
+ *
+ * @author koster
+ *
+ */
+@Name("com.github.actionfx.EventBusPublish")
+@Label("Event Bus Publish")
+@Description("Publishing of an event via the ActionFX event bus")
+public class EventBusPublishEvent extends ActionFXEvent {
+
+    // cached, so that the check in the hot path of the event bus does not require a lookup
+    private static final EventType EVENT_TYPE = EventType.getEventType(EventBusPublishEvent.class);
+
+    @Label("Event Type")
+    protected String eventType;
+
+    @Label("Subscriber Count")
+    protected int subscriberCount;
+
+    /**
+     * Checks, whether this event type is enabled in at least one running recording. The event bus checks this before
+     * allocating an event, as it is invoked for every published event.
+     *
+     * @return {@code true}, if the event type is enabled, {@code false} otherwise
+     */
+    public static boolean isRecorded() {
+        return EVENT_TYPE.isEnabled();
+    }
+
+    /**
+     * Commits this event, in case it is enabled.
+     *
+     * @param eventType
+     *            the type of the published event
+     * @param subscriberCount
+     *            the number of subscribers the event was dispatched to
+     */
+    public void commitFor(final Class<?> eventType, final int subscriberCount) {
+        if (shouldCommit()) {
+            this.eventType = eventType.getName();
+            this.subscriberCount = subscriberCount;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2026 Martin Koster
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.actionfx.core.profiling;
+
+import java.util.ArrayList;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.github.actionfx.core.ActionFX;
+import com.github.actionfx.core.annotation.AFXController;
+
+/**
+ * Records the time spent in the different phases of the ActionFX startup, e.g. the component scan, the instantiation of
+ * each controller, the loading of FXML files and the application of each controller extension.
+ * <p>
+ * Profiling is enabled via {@link com.github.actionfx.core.ActionFX.ActionFXBuilder#enableStartupProfiling(boolean)}.
+ * Recording starts when the {@link ActionFX} instance is built and stops, after the main view is displayed via
+ * {@link ActionFX#showMainView(javafx.stage.Stage)} (or explicitly via {@link #stop()}). The recorded timings are
+ * available as {@link StartupReport} via {@link #getReport()}.
+ * <p>
+ * Measuring a code block is done in the following way:
+ *
+ * <pre>
+ * final StartupProfiler profiler = StartupProfiler.current();
+ * final long start = profiler.start();
+ * // ...the code to measure...
+ * profiler.record(StartupProfiler.Category.PHASE, "myPhase", null, start);
+ * </pre>
+ *
+ * In case profiling is disabled, {@link #start()} and {@link #record(Category, Object, Object, long)} return
+ * immediately without taking any time measurement. This class is thread-safe, so timings can be recorded from
+ * multiple threads (e.g. when beans are instantiated in parallel).
+ *
+ * @author koster
+ *
+ */
+public class StartupProfiler {
+
+    /**
+     * Maximum number of recorded timings, so that the memory consumption stays bounded in case {@link #stop()} is
+     * never called.
+     */
+    static final int MAX_ENTRIES = 10_000;
+
+    private static final StartupProfiler DISABLED = new StartupProfiler(false);
+
+    private final Queue<StartupReport.Entry> entries = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger entryCount = new AtomicInteger();
+
+    private final long startNanos;
+
+    private volatile long stopNanos;
+
+    private volatile boolean recording;
+
+    /**
+     * Creates a new profiler. In case {@code enabled} is {@code true}, the recording starts immediately.
+     *
+     * @param enabled
+     *            flag that indicates, whether timings shall be recorded
+     */
+    public StartupProfiler(final boolean enabled) {
+        recording = enabled;
+        startNanos = enabled ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Gets the profiler of the current {@link ActionFX} instance. In case there is no configured ActionFX instance, a
+     * disabled profiler is returned.
+     *
+     * @return the profiler of the current ActionFX instance
+     */
+    public static StartupProfiler current() {
+        return ActionFX.isConfigured() ? ActionFX.getInstance().getStartupProfiler() : DISABLED;
+    }
+
+    /**
+     * Gets a profiler that never records any timings.
+     *
+     * @return the disabled profiler
+     */
+    public static StartupProfiler disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Flag that indicates, whether this profiler is currently recording timings.
+     *
+     * @return {@code true}, if timings are recorded, {@code false} otherwise
+     */
+    public boolean isRecording() {
+        return recording;
+    }
+
+    /**
+     * Takes the start timestamp of a measurement.
+     *
+     * @return the start timestamp in nanoseconds, or {@code 0}, in case the profiler is not recording
+     */
+    public long start() {
+        return recording ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Records a timing that started at {@code start} (taken by {@link #start()}) and ends now.
+     * <p>
+     * The {@code name} and {@code context} are converted into strings only in case the profiler is recording. Classes
+     * are converted into their fully qualified name, where dynamically enhanced sub-classes of controllers are
+     * reported by the name of the original controller class.
+     *
+     * @param category
+     *            the category of the timing
+     * @param name
+     *            the name of the measured element (e.g. a phase name or a class), must not be {@code null}
+     * @param context
+     *            an optional context of the measured element (e.g. the controller that an extension is applied to),
+     *            may be {@code null}
+     * @param start
+     *            the start timestamp as returned by {@link #start()}
+     */
+    public void record(final Category category, final Object name, final Object context, final long start) {
+        if (!recording || start == 0L) {
+            return;
+        }
+        final long end = System.nanoTime();
+        if (entryCount.incrementAndGet() > MAX_ENTRIES) {
+            return;
+        }
+        entries.add(new StartupReport.Entry(category, toName(name), toName(context), Thread.currentThread().getName(),
+                start - startNanos, end - start));
+    }
+
+    /**
+     * Stops the recording. Timings recorded after this call are ignored.
+     */
+    public void stop() {
+        if (recording) {
+            stopNanos = System.nanoTime();
+            recording = false;
+        }
+    }
+
+    /**
+     * Creates a report from the timings recorded so far.
+     *
+     * @return the startup report
+     */
+    public StartupReport getReport() {
+        final long end = recording ? System.nanoTime() : stopNanos;
+        final long wallClockNanos = startNanos == 0L ? 0L : end - startNanos;
+        return new StartupReport(new ArrayList<>(entries), wallClockNanos);
+    }
+
+    /**
+     * Converts the supplied {@code value} into a name.
+     *
+     * @param value
+     *            the value to convert
+     * @return the name
+     */
+    private static String toName(final Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof Class) {
+            return controllerClassName((Class<?>) value);
+        }
+        return String.valueOf(value);
+    }
+
+    /**
+     * Gets the name of the class in the hierarchy of {@code clazz} that declares the {@link AFXController}
+     * annotation. This way, dynamically created sub-classes of controllers are reported under the name of the original
+     * controller class.
+     *
+     * @param clazz
+     *            the class
+     * @return the class name
+     */
+    static String controllerClassName(final Class<?> clazz) {
+        for (Class<?> c = clazz; c != null; c = c.getSuperclass()) {
+            if (c.getDeclaredAnnotation(AFXController.class) != null) {
+                return c.getName();
+            }
+        }
+        return clazz.getName();
+    }
+
+    /**
+     * The category of a recorded timing.
+     *
+     * @author koster
+     *
+     */
+    public enum Category {
+
+        /**
+         * A startup phase, e.g. the component scan.
+         */
+        PHASE,
+
+        /**
+         * Post-processing of a bean definition by a bean extension.
+         */
+        BEAN_DEFINITION_POSTPROCESSING,
+
+        /**
+         * Creation of a bean including dependency injection and post-processing.
+         */
+        BEAN_CREATION,
+
+        /**
+         * Instantiation of a controller including the creation of its view.
+         */
+        CONTROLLER_INSTANTIATION,
+
+        /**
+         * Loading of a view, e.g. from FXML.
+         */
+        VIEW_LOADING,
+
+        /**
+         * Application of a single controller extension to a controller.
+         */
+        CONTROLLER_EXTENSION,
+
+        /**
+         * The initial validation of a controller's view.
+         */
+        VALIDATION
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2026 Martin Koster
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.actionfx.core.profiling;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable report of the timings recorded by a {@link StartupProfiler}.
+ * <p>
+ * All durations are given in nanoseconds. The entries are sorted by their start time. The report can be used e.g. in
+ * tests to detect startup regressions, or can be logged in production via {@link #toString()}.
+ *
+ * @author koster
+ *
+ */
+public class StartupReport {
+
+    private final List<Entry> entries;
+
+    private final long wallClockNanos;
+
+    StartupReport(final List<Entry> entries, final long wallClockNanos) {
+        entries.sort(Comparator.comparingLong(Entry::getStartOffsetNanos));
+        this.entries = Collections.unmodifiableList(entries);
+        this.wallClockNanos = wallClockNanos;
+    }
+
+    /**
+     * Gets all recorded timings, sorted by their start time.
+     *
+     * @return all recorded timings
+     */
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Gets all recorded timings of the given {@code category}, sorted by their start time.
+     *
+     * @param category
+     *            the category
+     * @return the recorded timings of the category
+     */
+    public List<Entry> getEntries(final StartupProfiler.Category category) {
+        return entries.stream().filter(entry -> entry.getCategory() == category).collect(Collectors.toList());
+    }
+
+    /**
+     * Gets the entry of the given {@code category} and {@code name}, that was recorded first.
+     *
+     * @param category
+     *            the category
+     * @param name
+     *            the name
+     * @return the entry, or {@code null}, if there is no such entry
+     */
+    public Entry getEntry(final StartupProfiler.Category category, final String name) {
+        return entries.stream().filter(entry -> entry.getCategory() == category && entry.getName().equals(name))
+                .findFirst().orElse(null);
+    }
+
+    /**
+     * Sums up the durations of all timings of the given {@code category}. Please note that timings might be nested
+     * (e.g. controller extensions are applied during bean creation) and might be recorded in parallel threads, so the
+     * sum is not necessarily smaller than the wall clock time.
+     *
+     * @param category
+     *            the category
+     * @return the total duration in nanoseconds
+     */
+    public long getTotalDurationNanos(final StartupProfiler.Category category) {
+        return entries.stream().filter(entry -> entry.getCategory() == category)
+                .mapToLong(Entry::getDurationNanos).sum();
+    }
+
+    /**
+     * The wall clock time between the start of the profiler and the end of the recording (or the creation of this
+     * report, in case the recording is still ongoing).
+     *
+     * @return the wall clock time in nanoseconds
+     */
+    public long getWallClockNanos() {
+        return wallClockNanos;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        builder.append(String.format(Locale.ROOT, "ActionFX startup report (wall clock: %.3f ms, %d entries)%n",
+                wallClockNanos / 1_000_000.0, entries.size()));
+        for (final Entry entry : entries) {
+            builder.append(String.format(Locale.ROOT, "%12.3f ms %12.3f ms  %-30s %s%s [%s]%n",
+                    entry.getStartOffsetNanos() / 1_000_000.0, entry.getDurationNanos() / 1_000_000.0,
+                    entry.getCategory(), entry.getName(),
+                    entry.getContext().isEmpty() ? "" : " (" + entry.getContext() + ")", entry.getThreadName()));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * A single recorded timing.
+     *
+     * @author koster
+     *
+     */
+    public static class Entry {
+
+        private final StartupProfiler.Category category;
+
+        private final String name;
+
+        private final String context;
+
+        private final String threadName;
+
+        private final long startOffsetNanos;
+
+        private final long durationNanos;
+
+        public Entry(final StartupProfiler.Category category, final String name, final String context,
+                final String threadName, final long startOffsetNanos, final long durationNanos) {
+            this.category = category;
+            this.name = name;
+            this.context = context;
+            this.threadName = threadName;
+            this.startOffsetNanos = startOffsetNanos;
+            this.durationNanos = durationNanos;
+        }
+
+        public StartupProfiler.Category getCategory() {
+            return category;
+        }
+
+        /**
+         * The name of the measured element, e.g. the phase name, the controller class or the extension class.
+         *
+         * @return the name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * The context of the measured element, e.g. the controller class an extension is applied to. Returns an empty
+         * string, in case there is no context.
+         *
+         * @return the context
+         */
+        public String getContext() {
+            return context;
+        }
+
+        public String getThreadName() {
+            return threadName;
+        }
+
+        /**
+         * The start time of this timing relative to the start of the profiler.
+         *
+         * @return the start offset in nanoseconds
+         */
+        public long getStartOffsetNanos() {
+            return startOffsetNanos;
+        }
+
+        public long getDurationNanos() {
+            return durationNanos;
+        }
+
+        @Override
+        public String toString() {
+            return category + " " + name + (context.isEmpty() ? "" : " (" + context + ")") + ": " + durationNanos
+                    + " ns";
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026 Martin Koster
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.actionfx.core.profiling;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for loading a view, i.e. loading an FXML file or instantiating a {@code Parent}-based view class.
+ *
+ * @author koster
+ *
+ */
+@Name("com.github.actionfx.ViewLoad")
+@Label("View Load")
+@Description("Loading of an ActionFX view from FXML or from a Parent class")
+public class ViewLoadEvent extends ActionFXEvent {
+
+    @Label("View ID")
+    protected String viewId;
+
+    @Label("View Source")
+    @Description("The FXML location or the Parent class of the view")
+    protected String viewSource;
+
+    /**
+     * Commits this event, in case it is enabled.
+     *
+     * @param controllerClass
+     *            the controller class the view belongs to
+     * @param viewId
+     *            the ID of the loaded view
+     * @param viewSource
+     *            the FXML location or the {@code Parent} class of the view
+     */
+    public void commitFor(final Class<?> controllerClass, final String viewId, final Object viewSource) {
+        if (shouldCommit()) {
+            setControllerInfo(controllerClass, null, null);
+            this.viewId = viewId;
+            this.viewSource = viewSource instanceof Class ? ((Class<?>) viewSource).getName()
+                    : String.valueOf(viewSource);
+            commit();
+        }
+    }
+}
@@ -28,7 +28,9 @@ import java.io.InputStream;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Consumer;
 
@@ -84,6 +86,9 @@ import javafx.util.Duration;
  */
 public final class AFXUtils {
 
+    // tasks that threads are waiting for in "runInFxThreadAndWait", key: the waiting thread
+    private static final Map<Thread, Task<?>> FX_TASKS_AWAITED_BY_THREAD = new ConcurrentHashMap<>();
+
     /**
      * Class is not instantiable.
      */
@@ -243,8 +248,40 @@ public final class AFXUtils {
      *             If a exception is occurred in the run method of the Runnable
      */
     public static <T> T runInFxThreadAndWait(final Task<T> task) throws InterruptedException, ExecutionException {
-        runInFxThread(task);
-        return task.get();
+        if (Platform.isFxApplicationThread()) {
+            runInFxThread(task);
+            return task.get();
+        }
+        final Thread currentThread = Thread.currentThread();
+        FX_TASKS_AWAITED_BY_THREAD.put(currentThread, task);
+        try {
+            runInFxThread(task);
+            return task.get();
+        } finally {
+            FX_TASKS_AWAITED_BY_THREAD.remove(currentThread, task);
+        }
+    }
+
+    /**
+     * Runs the task, that the supplied {@code thread} is currently waiting for in
+     * {@link #runInFxThreadAndWait(Task)}, directly in the calling thread. The task is not run again, when it is
+     * processed later in the JavaFX thread.
+     * <p>
+     * This method is intended to be called from inside the JavaFX thread, in case the JavaFX thread itself needs to
+     * wait for the supplied {@code thread}, which would otherwise result in a deadlock.
+     *
+     * @param thread
+     *            the thread that is potentially waiting for a task to be executed in the JavaFX thread
+     * @return {@code true}, if there was a task that has been run, {@code false} otherwise
+     */
+    public static boolean runFxTaskAwaitedBy(final Thread thread) {
+        final Task<?> task = FX_TASKS_AWAITED_BY_THREAD.get(thread);
+        if (task == null || task.isDone()) {
+            return false;
+        }
+        // does nothing, in case the task is already running or completed
+        task.run();
+        return true;
     }
 
     /**
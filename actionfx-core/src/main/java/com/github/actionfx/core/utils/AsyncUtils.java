@@ -23,23 +23,56 @@
  */
 package com.github.actionfx.core.utils;
 
+import java.lang.reflect.Method;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import javafx.application.Platform;
 
 /**
  * Utils for performing tasks in an asynchronous fashion.
+ * <p>
+ * Tasks are executed by the default executor, unless the name of an executor is supplied that was registered before
+ * via {@link #registerExecutor(String, Executor)} (usually by
+ * {@link com.github.actionfx.core.ActionFX.ActionFXBuilder#asyncExecutor(String, Executor)}). Named executors allow to
+ * separate e.g. IO-heavy data loading from CPU-bound work. In case no default executor is configured, a cached thread
+ * pool with daemon threads is used.
  *
  * @author koster
  *
  */
 public final class AsyncUtils {
 
-    private static final ExecutorService AFX_EXECUTOR_SERVICE = getExecutorService();
+    private static final Logger LOG = LoggerFactory.getLogger(AsyncUtils.class);
+
+    /**
+     * Name that refers to the default executor.
+     */
+    public static final String DEFAULT_EXECUTOR = "";
+
+    private static final Map<String, Executor> NAMED_EXECUTORS = new ConcurrentHashMap<>();
+
+    // configured default executor, null means that the built-in executor is used
+    private static volatile Executor defaultExecutor;
 
     private AsyncUtils() {
         // class can not be instantiated
@@ -58,21 +91,254 @@ public final class AsyncUtils {
      *            the consumer - called inside the JavaFX thread
      */
     public static <V> void executeAsynchronously(final Supplier<V> supplier, final Consumer<V> consumer) {
-        CompletableFuture.supplyAsync(supplier, AFX_EXECUTOR_SERVICE).thenAcceptAsync(consumer, Platform::runLater);
+        executeAsynchronously(DEFAULT_EXECUTOR, supplier, consumer);
+    }
+
+    /**
+     * Executes the given {@link Supplier} asynchronously by the executor with the supplied {@code executorName}. Once
+     * the supplier is executed, the given {@link Consumer} is called with the result of the {@link Supplier}. The call
+     * of the consumer is guaranteed to be inside the JavaFX thread.
+     *
+     * @param <V>
+     *            the returned value of the supplier
+     * @param executorName
+     *            the name of the executor, {@link #DEFAULT_EXECUTOR} or {@code null} for the default executor
+     * @param supplier
+     *            the supplier
+     * @param consumer
+     *            the consumer - called inside the JavaFX thread
+     * @throws IllegalArgumentException
+     *             in case there is no executor registered with the supplied name
+     */
+    public static <V> void executeAsynchronously(final String executorName, final Supplier<V> supplier,
+            final Consumer<V> consumer) {
+        CompletableFuture.supplyAsync(supplier, getExecutor(executorName)).thenAcceptAsync(consumer,
+                Platform::runLater);
+    }
+
+    /**
+     * Executes the given {@link Supplier} asynchronously by the executor with the supplied {@code executorName} and
+     * returns a {@link Future} that allows to cancel the execution. Once the supplier is executed, the given
+     * {@link Consumer} is called with the result of the {@link Supplier} inside the JavaFX thread. The consumer is not
+     * called, in case the execution is cancelled or the supplier throws an exception (which is logged).
+     * <p>
+     * In contrast to a {@link CompletableFuture}, cancelling the returned future via {@code cancel(true)} interrupts
+     * the thread that executes the supplier.
+     *
+     * @param <V>
+     *            the returned value of the supplier
+     * @param executorName
+     *            the name of the executor, {@link #DEFAULT_EXECUTOR} or {@code null} for the default executor
+     * @param supplier
+     *            the supplier
+     * @param consumer
+     *            the consumer - called inside the JavaFX thread
+     * @return the future representing the asynchronous execution of the supplier
+     * @throws IllegalArgumentException
+     *             in case there is no executor registered with the supplied name
+     */
+    public static <V> Future<V> submitAsynchronously(final String executorName, final Supplier<V> supplier,
+            final Consumer<V> consumer) {
+        final FutureTask<V> task = new FutureTask<>(supplier::get) {
+            @Override
+            protected void done() {
+                if (isCancelled()) {
+                    return;
+                }
+                try {
+                    final V value = get();
+                    Platform.runLater(() -> consumer.accept(value));
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (final ExecutionException e) {
+                    LOG.error("Asynchronous execution failed!", e.getCause());
+                }
+            }
+        };
+        getExecutor(executorName).execute(task);
+        return task;
+    }
+
+    /**
+     * Executes the given {@link Runnable} inside the JavaFX thread after the given {@code delay}.
+     *
+     * @param runnable
+     *            the runnable to execute
+     * @param delay
+     *            the delay
+     * @param unit
+     *            the time unit of the delay
+     * @return the future that can be used to cancel the delayed execution
+     */
+    public static ScheduledFuture<?> executeDelayedInFxThread(final Runnable runnable, final long delay,
+            final TimeUnit unit) {
+        return SchedulerHolder.SCHEDULER.schedule(() -> Platform.runLater(runnable), delay, unit);
     }
 
     /**
-     * Creates a new {@link ExecutorService} that executes {@link Runnable} as a daemon thread.
+     * Gets the executor with the supplied {@code executorName}.
      *
+     * @param executorName
+     *            the name of the executor, {@link #DEFAULT_EXECUTOR} or {@code null} for the default executor
+     * @return the executor
+     * @throws IllegalArgumentException
+     *             in case there is no executor registered with the supplied name
+     */
+    public static Executor getExecutor(final String executorName) {
+        if (executorName == null || DEFAULT_EXECUTOR.equals(executorName)) {
+            final Executor executor = defaultExecutor;
+            return executor != null ? executor : BuiltInExecutorHolder.EXECUTOR;
+        }
+        final Executor executor = NAMED_EXECUTORS.get(executorName);
+        if (executor == null) {
+            throw new IllegalArgumentException("There is no executor registered with name '" + executorName
+                    + "'! Please register the executor via ActionFXBuilder.asyncExecutor(String, Executor).");
+        }
+        return executor;
+    }
+
+    /**
+     * Sets the default executor that is used for asynchronous executions.
+     *
+     * @param executor
+     *            the executor, {@code null} to use the built-in cached thread pool
+     */
+    public static void setDefaultExecutor(final Executor executor) {
+        defaultExecutor = executor;
+    }
+
+    /**
+     * Registers an executor under the supplied {@code executorName}. An already registered executor with the same name
+     * is replaced.
+     *
+     * @param executorName
+     *            the name of the executor, must not be empty
+     * @param executor
+     *            the executor
+     * @throws IllegalArgumentException
+     *             in case the name is empty or the executor is {@code null}
+     */
+    public static void registerExecutor(final String executorName, final Executor executor) {
+        if (executorName == null || executorName.isEmpty()) {
+            throw new IllegalArgumentException(
+                    "Executor name must not be empty! Use setDefaultExecutor(Executor) for the default executor.");
+        }
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor with name '" + executorName + "' must not be null!");
+        }
+        NAMED_EXECUTORS.put(executorName, executor);
+    }
+
+    /**
+     * Removes all registered executors and restores the built-in default executor. Executors are not shut down.
+     */
+    public static void reset() {
+        NAMED_EXECUTORS.clear();
+        defaultExecutor = null;
+    }
+
+    /**
+     * Creates an executor that creates new daemon threads as needed and reuses idle threads. The number of threads is
+     * not bounded. This is the built-in default executor of ActionFX.
+     *
+     * @return the created executor service
+     */
+    public static ExecutorService newCachedExecutor() {
+        return Executors.newCachedThreadPool(daemonThreadFactory());
+    }
+
+    /**
+     * Creates an executor that uses at most {@code maximumThreads} daemon threads. Tasks that are submitted while all
+     * threads are busy are queued. Idle threads are terminated after 60 seconds.
+     *
+     * @param maximumThreads
+     *            the maximum number of threads
      * @return the created executor service
+     * @throws IllegalArgumentException
+     *             in case {@code maximumThreads} is less than 1
      */
-    private static ExecutorService getExecutorService() {
-        return Executors.newCachedThreadPool(r -> {
+    public static ExecutorService newBoundedExecutor(final int maximumThreads) {
+        if (maximumThreads < 1) {
+            throw new IllegalArgumentException("Maximum number of threads must be at least 1!");
+        }
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(maximumThreads, maximumThreads, 60L,
+                TimeUnit.SECONDS, new LinkedBlockingQueue<>(), daemonThreadFactory());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Creates an executor that starts a new virtual thread for each task. Virtual threads are available from JDK 21 on.
+     * On older JDKs, a warning is logged and an executor created by {@link #newCachedExecutor()} is returned.
+     *
+     * @return the created executor service
+     */
+    public static ExecutorService newVirtualThreadExecutor() {
+        final Method factoryMethod = virtualThreadExecutorFactoryMethod();
+        if (factoryMethod == null) {
+            LOG.warn("Virtual threads are not supported by this JDK (requires JDK 21+), using a cached thread pool.");
+            return newCachedExecutor();
+        }
+        try {
+            return (ExecutorService) factoryMethod.invoke(null);
+        } catch (final ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to create executor for virtual threads!", e);
+        }
+    }
+
+    /**
+     * Checks, whether the running JDK supports virtual threads.
+     *
+     * @return {@code true}, if virtual threads are supported, {@code false} otherwise
+     */
+    public static boolean isVirtualThreadSupported() {
+        return virtualThreadExecutorFactoryMethod() != null;
+    }
+
+    private static Method virtualThreadExecutorFactoryMethod() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (final NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Creates a {@link ThreadFactory} that creates daemon threads with prefix "actionfx-".
+     *
+     * @return the created thread factory
+     */
+    private static ThreadFactory daemonThreadFactory() {
+        return r -> {
             final Thread thread = Executors.defaultThreadFactory().newThread(r);
             final String name = thread.getName();
             thread.setName("actionfx-" + name);
             thread.setDaemon(true);
             return thread;
-        });
+        };
+    }
+
+    /**
+     * Holder for the scheduler that delays executions, so that the scheduler thread is only started on first use.
+     */
+    private static final class SchedulerHolder {
+
+        private static final ScheduledExecutorService SCHEDULER = createScheduler();
+
+        private static ScheduledExecutorService createScheduler() {
+            final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, daemonThreadFactory());
+            // cancelled executions shall not pile up in the queue
+            scheduler.setRemoveOnCancelPolicy(true);
+            return scheduler;
+        }
+    }
+
+    /**
+     * Holder for the built-in executor, so that no thread pool is created in case a custom default executor is
+     * configured.
+     */
+    private static final class BuiltInExecutorHolder {
+
+        private static final Executor EXECUTOR = newCachedExecutor();
     }
 }
@@ -0,0 +1,457 @@
+/*
+ * Copyright (c) 2026 Martin Koster
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.actionfx.core.utils;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Cache for metadata that is derived from classes, e.g. looked up fields, methods, properties or configurations.
+ * <p>
+ * Reads are lock-free, so that concurrent lookups (e.g. during concurrent controller creation) do not serialize on a
+ * single monitor. Cache entries can be stored in two ways:
+ * <ul>
+ * <li><b>Class-scoped</b> (see {@link #forClasses(String)} and {@link #forClassScopedKeys(String, Function)}): entries
+ * are attached to the class the key belongs to via {@link ClassValue}. The cache does therefore not pin classes in
+ * memory, so that class loaders (e.g. of plugins) can be unloaded.</li>
+ * <li><b>Global</b> (see {@link #create(String)}): entries are held in a single {@link ConcurrentHashMap}. Use this
+ * only for keys that are not related to a class.</li>
+ * </ul>
+ * Caches can be bounded via a maximum size. For class-scoped caches, the maximum size applies to the entries of each
+ * single class. When a bound is reached, an arbitrary entry is evicted.
+ * <p>
+ * Values that are computed as {@code null} are cached as well, so that unsuccessful lookups are not repeated.
+ * <p>
+ * Each cache counts hits, misses and evictions, while its size is computed from the live entries, so that entries of
+ * unloaded classes are not counted. Statistics of all created caches are available via
+ * {@link #getStatisticsOfAllCaches()}.
+ *
+ * @param <K>
+ *            the key type
+ * @param <V>
+ *            the value type
+ * @author koster
+ *
+ */
+public final class MetadataCache<K, V> {
+
+    private static final List<MetadataCache<?, ?>> ALL_CACHES = new CopyOnWriteArrayList<>();
+
+    // placeholder for cached null values, because ConcurrentHashMap does not accept null values
+    private static final Object NULL_VALUE = new Object();
+
+    private final String name;
+
+    private final Function<? super K, Class<?>> classOfKey;
+
+    private final int maximumSize;
+
+    private final ConcurrentMap<K, Object> globalEntries = new ConcurrentHashMap<>();
+
+    // weakly references the entry maps of all classes, so that the size can be computed from the live maps without
+    // preventing class unloading
+    private final Queue<WeakReference<ConcurrentMap<K, Object>>> classScopedEntryMaps = new ConcurrentLinkedQueue<>();
+
+    private volatile ClassValue<ConcurrentMap<K, Object>> classScopedEntries = createClassValue();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    private MetadataCache(final String name, final Function<? super K, Class<?>> classOfKey, final int maximumSize) {
+        this.name = name;
+        this.classOfKey = classOfKey;
+        this.maximumSize = maximumSize;
+        ALL_CACHES.add(this);
+    }
+
+    /**
+     * Creates a cache, where the key is a class.
+     *
+     * @param <V>
+     *            the value type
+     * @param name
+     *            the name of the cache (used in statistics)
+     * @return the created cache
+     */
+    public static <V> MetadataCache<Class<?>, V> forClasses(final String name) {
+        return new MetadataCache<>(name, Function.identity(), 0);
+    }
+
+    /**
+     * Creates a cache, where each key belongs to a class, e.g. a key consisting of class and property name.
+     *
+     * @param <K>
+     *            the key type
+     * @param <V>
+     *            the value type
+     * @param name
+     *            the name of the cache (used in statistics)
+     * @param classOfKey
+     *            function that returns the class a key belongs to. In case the function returns {@code null}, the entry
+     *            is held globally.
+     * @return the created cache
+     */
+    public static <K, V> MetadataCache<K, V> forClassScopedKeys(final String name,
+            final Function<? super K, Class<?>> classOfKey) {
+        return forClassScopedKeys(name, classOfKey, 0);
+    }
+
+    /**
+     * Creates a cache, where each key belongs to a class, e.g. a key consisting of class and property name. The number
+     * of entries per class is bounded by {@code maximumSizePerClass}.
+     *
+     * @param <K>
+     *            the key type
+     * @param <V>
+     *            the value type
+     * @param name
+     *            the name of the cache (used in statistics)
+     * @param classOfKey
+     *            function that returns the class a key belongs to. In case the function returns {@code null}, the entry
+     *            is held globally.
+     * @param maximumSizePerClass
+     *            the maximum number of entries per class, a value less or equal to {@code 0} means unbounded
+     * @return the created cache
+     */
+    public static <K, V> MetadataCache<K, V> forClassScopedKeys(final String name,
+            final Function<? super K, Class<?>> classOfKey, final int maximumSizePerClass) {
+        return new MetadataCache<>(name, classOfKey, maximumSizePerClass);
+    }
+
+    /**
+     * Creates a global cache, where keys are not related to a class.
+     *
+     * @param <K>
+     *            the key type
+     * @param <V>
+     *            the value type
+     * @param name
+     *            the name of the cache (used in statistics)
+     * @return the created cache
+     */
+    public static <K, V> MetadataCache<K, V> create(final String name) {
+        return create(name, 0);
+    }
+
+    /**
+     * Creates a global cache, where keys are not related to a class. The number of entries is bounded by
+     * {@code maximumSize}.
+     *
+     * @param <K>
+     *            the key type
+     * @param <V>
+     *            the value type
+     * @param name
+     *            the name of the cache (used in statistics)
+     * @param maximumSize
+     *            the maximum number of entries, a value less or equal to {@code 0} means unbounded
+     * @return the created cache
+     */
+    public static <K, V> MetadataCache<K, V> create(final String name, final int maximumSize) {
+        return new MetadataCache<>(name, null, maximumSize);
+    }
+
+    /**
+     * Gets the value for the supplied {@code key}. In case the value is not yet cached, it is computed by the given
+     * {@code loader} and then cached.
+     * <p>
+     * Please note that the {@code loader} is not invoked under a lock. In case of concurrent misses for the same key,
+     * the value might be computed more than once, but all callers receive the value that has been cached first. Use
+     * {@link #computeIfAbsent(Object, Function)} for loaders that must run only once per key.
+     *
+     * @param key
+     *            the key
+     * @param loader
+     *            the function computing the value for the key in case of a cache miss
+     * @return the cached or computed value (can be {@code null})
+     */
+    public V get(final K key, final Function<? super K, ? extends V> loader) {
+        final ConcurrentMap<K, Object> entries = entriesFor(key);
+        final Object cached = entries.get(key);
+        if (cached != null) {
+            hits.increment();
+            return unmask(cached);
+        }
+        misses.increment();
+        final V value = loader.apply(key);
+        evictIfNecessary(entries);
+        final Object existing = entries.putIfAbsent(key, mask(value));
+        return existing != null ? unmask(existing) : value;
+    }
+
+    /**
+     * Gets the value for the supplied {@code key}. In case the value is not yet cached, it is computed by the given
+     * {@code loader} and then cached. In contrast to {@link #get(Object, Function)}, the {@code loader} is invoked at
+     * most once per key: concurrent misses for the same key wait until the value has been computed.
+     * <p>
+     * Use this method for loaders that are expensive or that must not run twice (e.g. because they define classes).
+     * The {@code loader} must not access this cache for keys that belong to the same class.
+     *
+     * @param key
+     *            the key
+     * @param loader
+     *            the function computing the value for the key in case of a cache miss
+     * @return the cached or computed value (can be {@code null})
+     */
+    public V computeIfAbsent(final K key, final Function<? super K, ? extends V> loader) {
+        final ConcurrentMap<K, Object> entries = entriesFor(key);
+        final Object cached = entries.get(key);
+        if (cached != null) {
+            hits.increment();
+            return unmask(cached);
+        }
+        evictIfNecessary(entries);
+        final boolean[] computed = new boolean[1];
+        final Object value = entries.computeIfAbsent(key, k -> {
+            computed[0] = true;
+            return mask(loader.apply(k));
+        });
+        if (computed[0]) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return unmask(value);
+    }
+
+    /**
+     * Gets the value for the supplied {@code key}, in case it is cached.
+     *
+     * @param key
+     *            the key
+     * @return the cached value, or {@code null}, in case there is no value cached for the key (or the cached value is
+     *         {@code null})
+     */
+    public V getIfPresent(final K key) {
+        final Object cached = entriesFor(key).get(key);
+        if (cached != null) {
+            hits.increment();
+            return unmask(cached);
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Removes the value for the supplied {@code key} from the cache.
+     *
+     * @param key
+     *            the key
+     */
+    public void invalidate(final K key) {
+        entriesFor(key).remove(key);
+    }
+
+    /**
+     * Removes all values from the cache and resets the statistics.
+     */
+    public void clear() {
+        globalEntries.clear();
+        classScopedEntries = createClassValue();
+        classScopedEntryMaps.clear();
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+
+    /**
+     * Gets the statistics of this cache.
+     *
+     * @return the statistics
+     */
+    public Statistics getStatistics() {
+        return new Statistics(name, hits.sum(), misses.sum(), evictions.sum(), size());
+    }
+
+    /**
+     * Computes the number of entries from the live entry maps. Entry maps of unloaded classes are not counted anymore.
+     *
+     * @return the number of entries
+     */
+    private long size() {
+        return globalEntries.size() + countLiveEntries(classScopedEntryMaps);
+    }
+
+    /**
+     * Counts the entries of the supplied entry maps that are still referenced. References to entry maps that have
+     * been garbage-collected (i.e. the class holding the entry map has been unloaded) are removed from
+     * {@code entryMaps}.
+     *
+     * @param entryMaps
+     *            the weakly referenced entry maps
+     * @return the number of entries in the referenced entry maps
+     */
+    static long countLiveEntries(final Collection<? extends WeakReference<? extends Map<?, ?>>> entryMaps) {
+        long numberOfEntries = 0;
+        final Iterator<? extends WeakReference<? extends Map<?, ?>>> it = entryMaps.iterator();
+        while (it.hasNext()) {
+            final Map<?, ?> entries = it.next().get();
+            if (entries == null) {
+                it.remove();
+            } else {
+                numberOfEntries += entries.size();
+            }
+        }
+        return numberOfEntries;
+    }
+
+    /**
+     * Gets the statistics of all caches that have been created.
+     *
+     * @return the statistics of all caches
+     */
+    public static List<Statistics> getStatisticsOfAllCaches() {
+        final List<Statistics> statistics = new ArrayList<>(ALL_CACHES.size());
+        for (final MetadataCache<?, ?> cache : ALL_CACHES) {
+            statistics.add(cache.getStatistics());
+        }
+        return Collections.unmodifiableList(statistics);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    private ConcurrentMap<K, Object> entriesFor(final K key) {
+        final Class<?> clazz = classOfKey != null ? classOfKey.apply(key) : null;
+        return clazz != null ? classScopedEntries.get(clazz) : globalEntries;
+    }
+
+    private void evictIfNecessary(final ConcurrentMap<K, Object> entries) {
+        if (maximumSize <= 0) {
+            return;
+        }
+        final Iterator<K> it = entries.keySet().iterator();
+        while (entries.size() >= maximumSize && it.hasNext()) {
+            if (entries.remove(it.next()) != null) {
+                evictions.increment();
+            }
+        }
+    }
+
+    private ClassValue<ConcurrentMap<K, Object>> createClassValue() {
+        return new ClassValue<>() {
+            @Override
+            protected ConcurrentMap<K, Object> computeValue(final Class<?> type) {
+                final ConcurrentMap<K, Object> entries = new ConcurrentHashMap<>();
+                classScopedEntryMaps.add(new WeakReference<>(entries));
+                return entries;
+            }
+        };
+    }
+
+    private static Object mask(final Object value) {
+        return value != null ? value : NULL_VALUE;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V unmask(final Object value) {
+        return value == NULL_VALUE ? null : (V) value;
+    }
+
+    /**
+     * Snapshot of the statistics of a {@link MetadataCache}.
+     *
+     * @author koster
+     *
+     */
+    public static final class Statistics {
+
+        private final String name;
+
+        private final long hitCount;
+
+        private final long missCount;
+
+        private final long evictionCount;
+
+        private final long size;
+
+        Statistics(final String name, final long hitCount, final long missCount, final long evictionCount,
+                final long size) {
+            this.name = name;
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.evictionCount = evictionCount;
+            this.size = size;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        public long getMissCount() {
+            return missCount;
+        }
+
+        public long getEvictionCount() {
+            return evictionCount;
+        }
+
+        /**
+         * The number of entries currently held by the cache. Entries of classes that have been unloaded are not
+         * counted.
+         *
+         * @return the number of entries
+         */
+        public long getSize() {
+            return size;
+        }
+
+        /**
+         * The ratio of hits to all requests.
+         *
+         * @return the hit rate between {@code 0.0} and {@code 1.0}, or {@code 1.0}, in case there were no requests yet
+         */
+        public double getHitRate() {
+            final long requests = hitCount + missCount;
+            return requests == 0 ? 1.0 : (double) hitCount / requests;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: size=%d, hits=%d, misses=%d, evictions=%d, hitRate=%.2f", name, size, hitCount,
+                    missCount, evictionCount, getHitRate());
+        }
+    }
+}
@@ -31,8 +31,6 @@ import java.lang.reflect.Modifier;
 import java.lang.reflect.Parameter;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.List;
@@ -57,7 +55,8 @@ public final class ReflectionUtils {
     /**
      * Cache for {@link Class#getDeclaredFields()}, allowing for fast iteration.
      */
-    private static final Map<Class<?>, Field[]> DECLARED_FIELD_CACHE = Collections.synchronizedMap(new HashMap<>());
+    private static final MetadataCache<Class<?>, Field[]> DECLARED_FIELD_CACHE = MetadataCache
+            .forClasses("ReflectionUtils.declaredFields");
 
     /**
      * Map with primitive type to its wrapper type, e.g. int.class -> Integer.class.
@@ -386,17 +385,14 @@ public final class ReflectionUtils {
      * @see Class#getDeclaredFields()
      */
     public static Field[] getDeclaredFields(final Class<?> clazz) {
-        Field[] result = DECLARED_FIELD_CACHE.get(clazz);
-        if (result == null) {
+        return DECLARED_FIELD_CACHE.get(clazz, type -> {
             try {
-                result = clazz.getDeclaredFields();
-                DECLARED_FIELD_CACHE.put(clazz, result.length == 0 ? new Field[0] : result);
+                return type.getDeclaredFields();
             } catch (final Exception ex) {
-                throw new IllegalStateException("Failed to retrieved declared fields from class '" + clazz.getName()
-                        + "' with classLoader '" + clazz.getClassLoader() + "'", ex);
+                throw new IllegalStateException("Failed to retrieved declared fields from class '" + type.getName()
+                        + "' with classLoader '" + type.getClassLoader() + "'", ex);
             }
-        }
-        return result;
+        });
     }
 
     /**
@@ -31,6 +31,7 @@ import java.util.Map;
 import com.github.actionfx.core.bind.BindingModelProxy;
 import com.github.actionfx.core.bind.BindingTarget;
 import com.github.actionfx.core.bind.BindingTargetResolver;
+import com.github.actionfx.core.profiling.BindingEvent;
 
 /**
  * Abstract base class for an ActionFX view implementations that support a binding of a model class to JavaFX controls.
@@ -46,6 +47,8 @@ public abstract class AbstractBindingView extends AbstractValidatingView {
 
     @Override
     public void bind(final Object model, final BindingTargetResolver resolver) {
+        final BindingEvent event = new BindingEvent();
+        event.begin();
         final List<BindingTarget> bindingTargets = resolver.resolve(model, this);
         if (bindingTargets.isEmpty()) {
             // nothing to bind
@@ -54,6 +57,7 @@ public abstract class AbstractBindingView extends AbstractValidatingView {
         final BindingModelProxy bindingModelProxy = new BindingModelProxy(model, bindingTargets);
         bindingModelProxy.bind();
         boundModelInstancesMap.put(model, bindingModelProxy);
+        event.commitFor(getControllerClass(), model.getClass(), bindingTargets.size());
     }
 
     @Override
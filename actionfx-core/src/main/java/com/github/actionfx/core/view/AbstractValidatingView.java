@@ -40,6 +40,7 @@ import com.github.actionfx.core.decoration.StyleClassValidationDecoration;
 import com.github.actionfx.core.decoration.ValidationDecoration;
 import com.github.actionfx.core.listener.TimedChangeListener;
 import com.github.actionfx.core.listener.TimedListChangeListener;
+import com.github.actionfx.core.profiling.ValidationEvent;
 import com.github.actionfx.core.utils.AFXUtils;
 import com.github.actionfx.core.validation.ValidationMessage;
 import com.github.actionfx.core.validation.ValidationOptions;
@@ -218,11 +219,14 @@ public abstract class AbstractValidatingView extends AbstractView {
     private ValidationTask createValidationTask(final Control control, final ControlProperties controlProperty,
             final Validator validator) {
         return new ValidationTask(applyValidationResultDecoration -> AFXUtils.runInFxThread(() -> {
+            final ValidationEvent event = new ValidationEvent();
+            event.begin();
             final ValidationResult validationResult = validator.validate(control, controlProperty);
             if (validationResult != null) {
                 validationResult.overrideApplyValidationResultDecoration(applyValidationResultDecoration);
                 validationResults.put(control, validationResult);
             }
+            event.commitFor(getControllerClass(), control.getId(), validator.getClass());
         }));
     }
 
@@ -242,6 +246,16 @@ public abstract class AbstractValidatingView extends AbstractView {
         registerValidator(control, controlProperty, validator, options);
     }
 
+    /**
+     * Gets the class of the controller of this view.
+     *
+     * @return the controller class, or {@code null}, in case this view has no controller
+     */
+    protected Class<?> getControllerClass() {
+        final Object controller = getController();
+        return controller != null ? controller.getClass() : null;
+    }
+
     /**
      * Redecorates all known components Only decorations related to validation are affected
      */
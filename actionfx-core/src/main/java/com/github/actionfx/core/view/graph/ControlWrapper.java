@@ -27,10 +27,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 
@@ -45,6 +42,7 @@ import com.github.actionfx.core.bind.ObservableListBinding;
 import com.github.actionfx.core.bind.ObservableValueBinding;
 import com.github.actionfx.core.collections.ValueChangeAwareObservableList;
 import com.github.actionfx.core.container.instantiation.ConstructorBasedInstantiationSupplier;
+import com.github.actionfx.core.utils.MetadataCache;
 import com.github.actionfx.core.utils.ReflectionUtils;
 
 import javafx.beans.Observable;
@@ -110,13 +108,13 @@ public class ControlWrapper extends NodeWrapper {
     public static final String PROPERTIES_TEMPLATE = "/afxcontrolwrapper/%s.properties";
 
     // cache for control configurations read from external Properties-file
-    private static final Map<Class<? extends Control>, ControlConfig> CONTROL_CONFIG_CACHE = Collections
-            .synchronizedMap(new HashMap<>());
+    private static final MetadataCache<Class<?>, ControlConfig> CONTROL_CONFIG_CACHE = MetadataCache
+            .forClasses("ControlWrapper.controlConfig");
 
     // cache for selection model wrapper classes (used for integrating 3rd party
     // libraries like ControlsFX (CheckModel is wrapped)
-    private static final Map<Class<?>, Class<? extends SelectionModel<?>>> SELECTION_MODEL_WRAPPER = Collections
-            .synchronizedMap(new HashMap<>());
+    private static final MetadataCache<Class<?>, Class<? extends SelectionModel<?>>> SELECTION_MODEL_WRAPPER =
+            MetadataCache.forClasses("ControlWrapper.selectionModelWrapper");
 
     // the field name of a converter property for controls that support it
     private static final String CONVERTER_PROPERTY_NAME = "converter";
@@ -1036,8 +1034,8 @@ public class ControlWrapper extends NodeWrapper {
      * @return the loaded properties
      */
     private ControlConfig retrieveControlConfig(final Class<? extends Control> clazz) {
-        // check the cache first in order to avoid unnecessary IO-operations
-        return CONTROL_CONFIG_CACHE.computeIfAbsent(clazz, controlClass -> {
+        // check the cache first in order to avoid unnecessary IO-operations (also for controls without configuration)
+        return CONTROL_CONFIG_CACHE.get(clazz, controlClass -> {
             final String configPropertiesPath = String.format(PROPERTIES_TEMPLATE, controlClass.getCanonicalName());
             try (InputStream inputStream = ControlWrapper.class.getResourceAsStream(configPropertiesPath)) {
                 final Properties controlConfigProperties = new Properties();
@@ -1062,7 +1060,7 @@ public class ControlWrapper extends NodeWrapper {
     @SuppressWarnings("unchecked")
     private Class<? extends SelectionModel<?>> getSelectionModelWrapperClass(
             final Class<?> thirdPartySelectionModelClass) {
-        return SELECTION_MODEL_WRAPPER.computeIfAbsent(thirdPartySelectionModelClass, selectionModelClass -> {
+        return SELECTION_MODEL_WRAPPER.get(thirdPartySelectionModelClass, selectionModelClass -> {
             final Set<Class<?>> classesToCheck = ReflectionUtils.getAllSuperClassesAndInterfaces(selectionModelClass);
             for (final Class<?> clazz : classesToCheck) {
                 final String configPropertiesPath = String.format(PROPERTIES_TEMPLATE, clazz.getCanonicalName());
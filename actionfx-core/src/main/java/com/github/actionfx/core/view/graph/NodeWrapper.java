@@ -25,7 +25,6 @@ package com.github.actionfx.core.view.graph;
 
 import java.lang.reflect.Field;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -38,6 +37,7 @@ import com.github.actionfx.core.decoration.Decoration;
 import com.github.actionfx.core.decoration.DecorationUtils;
 import com.github.actionfx.core.utils.AFXUtils;
 import com.github.actionfx.core.utils.AnnotationUtils;
+import com.github.actionfx.core.utils.MetadataCache;
 import com.github.actionfx.core.utils.ReflectionUtils;
 import com.github.actionfx.core.view.BorderPanePosition;
 
@@ -73,19 +73,22 @@ import javafx.stage.Window;
  */
 public class NodeWrapper {
 
-	private static final Map<Class<?>, Field> CHILDREN_FIELD_CACHE = Collections.synchronizedMap(new HashMap<>());
+	private static final MetadataCache<Class<?>, Field> CHILDREN_FIELD_CACHE = MetadataCache
+			.forClasses("NodeWrapper.childrenField");
 
-	private static final Map<Class<?>, Field> ID_FIELD_CACHE = Collections.synchronizedMap(new HashMap<>());
+	private static final MetadataCache<Class<?>, Field> ID_FIELD_CACHE = MetadataCache
+			.forClasses("NodeWrapper.idField");
 
-	private static final Map<Class<?>, Boolean> SUPPORTS_MULTIPLE_CHILDREN = Collections
-			.synchronizedMap(new HashMap<>());
+	private static final MetadataCache<Class<?>, Boolean> SUPPORTS_MULTIPLE_CHILDREN = MetadataCache
+			.forClasses("NodeWrapper.supportsMultipleChildren");
 
 	// candidates to lookup the children values in case the node does not offer a
 	// "DefaultProperty" annotation (more specific candidate names go first, generic
 	// ones like "children" go last)
 	private static final String[] CHILDREN_FIELD_CANDIDATES = new String[] { "panes", "content", "items", "children" };
 
-	private static final Map<Class<?>, Boolean> SUPPORTS_SINGLE_CHILD = Collections.synchronizedMap(new HashMap<>());
+	private static final MetadataCache<Class<?>, Boolean> SUPPORTS_SINGLE_CHILD = MetadataCache
+			.forClasses("NodeWrapper.supportsSingleChild");
 
 	// the field name of the "onAction" property inside controls that do support it
 	private static final String ON_ACTION_FIELD_NAME = "onAction";
@@ -324,20 +327,18 @@ public class NodeWrapper {
 	 * @return {@code true}, if the node supports multiple children, {@code false},
 	 *         if the node supports only a single child.
 	 */
-	@SuppressWarnings("unchecked")
 	public boolean supportsMultipleChildren() {
-		final Boolean cached = SUPPORTS_MULTIPLE_CHILDREN.get(getWrappedType());
-		if (cached != null) {
-			return cached;
-		}
+		return SUPPORTS_MULTIPLE_CHILDREN.get(getWrappedType(), type -> computeSupportsMultipleChildren());
+	}
+
+	@SuppressWarnings("unchecked")
+	private boolean computeSupportsMultipleChildren() {
 		final Field childField = lookupChildrenField(getWrappedType());
 		if (childField == null) {
-			SUPPORTS_MULTIPLE_CHILDREN.put(getWrappedType(), Boolean.FALSE);
 			return false;
 		}
 		// check, if field type is a list already...
 		if (List.class.isAssignableFrom(childField.getType())) {
-			SUPPORTS_MULTIPLE_CHILDREN.put(getWrappedType(), Boolean.TRUE);
 			return true;
 		}
 		// check, if wrapped node holds a property with an observable list inside (e.g.
@@ -346,12 +347,8 @@ public class NodeWrapper {
 		if (fieldValue != null && Property.class.isAssignableFrom(fieldValue.getClass())) {
 			final Property<Object> property = (Property<Object>) fieldValue;
 			final Object value = property.getValue();
-			if (value != null && List.class.isAssignableFrom(value.getClass())) {
-				SUPPORTS_MULTIPLE_CHILDREN.put(getWrappedType(), Boolean.TRUE);
-				return true;
-			}
+			return value != null && List.class.isAssignableFrom(value.getClass());
 		}
-		SUPPORTS_MULTIPLE_CHILDREN.put(getWrappedType(), Boolean.FALSE);
 		return false;
 	}
 
@@ -364,18 +361,10 @@ public class NodeWrapper {
 	 *         the node supports only multiple children.
 	 */
 	public boolean supportsSingleChild() {
-		final Boolean cached = SUPPORTS_SINGLE_CHILD.get(getWrappedType());
-		if (cached != null) {
-			return cached;
-		}
-		final Field childField = lookupChildrenField(getWrappedType());
-		if (childField == null) {
-			SUPPORTS_SINGLE_CHILD.put(getWrappedType(), Boolean.FALSE);
-			return false;
-		}
-		final boolean supportsSingleChild = Property.class.isAssignableFrom(childField.getType());
-		SUPPORTS_SINGLE_CHILD.put(getWrappedType(), Boolean.valueOf(supportsSingleChild));
-		return supportsSingleChild;
+		return SUPPORTS_SINGLE_CHILD.get(getWrappedType(), type -> {
+			final Field childField = lookupChildrenField(type);
+			return childField != null && Property.class.isAssignableFrom(childField.getType());
+		});
 	}
 
 	/**
@@ -837,7 +826,7 @@ public class NodeWrapper {
 	 *                               property
 	 */
 	private Field lookupChildrenField(final Class<?> nodeClass) {
-		return CHILDREN_FIELD_CACHE.computeIfAbsent(nodeClass, this::lookupChildrenPropertyFieldInternal);
+		return CHILDREN_FIELD_CACHE.get(nodeClass, this::lookupChildrenPropertyFieldInternal);
 	}
 
 	private Field lookupChildrenPropertyFieldInternal(final Class<?> nodeClass) {
@@ -875,17 +864,8 @@ public class NodeWrapper {
 	 * @throws IllegalStateException in case {@code nodeClass} has no ID property
 	 */
 	private Field lookupIdField(final Class<?> nodeClass) {
-		Field idField = ID_FIELD_CACHE.get(nodeClass);
-		if (idField == null) {
-			// check, if the class holds an "id" field
-			idField = ReflectionUtils.findField(nodeClass, "id");
-			if (idField == null) {
-				// no ID field
-				return null;
-			}
-			ID_FIELD_CACHE.put(nodeClass, idField);
-		}
-		return idField;
+		// check, if the class holds an "id" field (classes without ID field are cached with a null value)
+		return ID_FIELD_CACHE.get(nodeClass, type -> ReflectionUtils.findField(type, "id"));
 	}
 
 	/**
@@ -45,6 +45,7 @@ import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
 
 import com.github.actionfx.core.ActionFX.ActionFXBuilder;
+import com.github.actionfx.core.annotation.AFXSubscribe;
 import com.github.actionfx.core.annotation.ValidationMode;
 import com.github.actionfx.core.container.BeanContainerFacade;
 import com.github.actionfx.core.container.DefaultActionFXBeanContainer;
@@ -52,12 +53,16 @@ import com.github.actionfx.core.converter.ConversionService;
 import com.github.actionfx.core.dialogs.DialogController;
 import com.github.actionfx.core.events.PriorityAwareEventBus;
 import com.github.actionfx.core.events.SimplePriorityAwareEventBus;
+import com.github.actionfx.core.events.Subscription;
 import com.github.actionfx.core.extension.beans.BeanExtension;
 import com.github.actionfx.core.instrumentation.ActionFXEnhancer;
 import com.github.actionfx.core.instrumentation.ActionFXEnhancer.EnhancementStrategy;
 import com.github.actionfx.core.instrumentation.bytebuddy.ActionFXByteBuddyEnhancer;
+import com.github.actionfx.core.profiling.StartupProfiler.Category;
+import com.github.actionfx.core.profiling.StartupReport;
 import com.github.actionfx.core.test.TestController;
 import com.github.actionfx.core.test.app.MainController;
+import com.github.actionfx.core.test.app.NonLazilyInitializedController;
 import com.github.actionfx.core.test.app.SampleApp;
 import com.github.actionfx.core.view.View;
 import com.github.actionfx.testing.annotation.TestInFxThread;
@@ -245,6 +250,100 @@ class ActionFXTest {
 		assertThat(actionFX.getBeanContainer()).isInstanceOf(DefaultActionFXBeanContainer.class);
 	}
 
+	@Test
+	void testBuilder_beanInstantiationParallelism() {
+		// WHEN
+		final ActionFX actionFX = ActionFX.builder().beanInstantiationParallelism(4).build();
+
+		// THEN
+		assertThat(actionFX.getBeanInstantiationParallelism()).isEqualTo(4);
+		assertThat(actionFX.getBeanContainer()).isInstanceOf(DefaultActionFXBeanContainer.class);
+		assertThat(((DefaultActionFXBeanContainer) actionFX.getBeanContainer()).getInstantiationParallelism())
+				.isEqualTo(4);
+	}
+
+	@Test
+	void testBuilder_beanInstantiationParallelism_invalidValue() {
+		// GIVEN
+		final ActionFXBuilder builder = ActionFX.builder();
+
+		// WHEN and THEN
+		assertThrows(IllegalArgumentException.class, () -> builder.beanInstantiationParallelism(0));
+	}
+
+	@Test
+	void testBuilder_offFxThreadViewCreation() {
+		// WHEN
+		final ActionFX actionFX = ActionFX.builder().offFxThreadViewCreation(true).build();
+
+		// THEN
+		assertThat(actionFX.isOffFxThreadViewCreation()).isTrue();
+	}
+
+	@Test
+	void testBuilder_deferredControllerExtensions() {
+		// WHEN
+		final ActionFX actionFX = ActionFX.builder().deferredControllerExtensions(true).build();
+
+		// THEN
+		assertThat(actionFX.isDeferredControllerExtensions()).isTrue();
+	}
+
+	@Test
+	void testBuilder_startupProfilingDisabledByDefault() {
+		// GIVEN
+		final ActionFX actionFX = ActionFX.builder().configurationClass(SampleApp.class).locale(Locale.US).build();
+
+		// WHEN
+		actionFX.scanForActionFXComponents();
+
+		// THEN
+		assertThat(actionFX.getStartupProfiler().isRecording()).isFalse();
+		assertThat(actionFX.getStartupReport().getEntries()).isEmpty();
+	}
+
+	@Test
+	void testBuilder_enableStartupProfiling() {
+		// GIVEN
+		final ActionFX actionFX = ActionFX.builder().configurationClass(SampleApp.class).locale(Locale.US)
+				.enableStartupProfiling(true).build();
+
+		// WHEN
+		actionFX.scanForActionFXComponents();
+
+		// THEN
+		assertThat(actionFX.getStartupProfiler().isRecording()).isTrue();
+		final StartupReport report = actionFX.getStartupReport();
+		assertThat(report.getEntry(Category.PHASE, "build")).isNotNull();
+		assertThat(report.getEntry(Category.PHASE, "scanForActionFXComponents")).isNotNull();
+		assertThat(report.getEntry(Category.PHASE, "runComponentScan")).isNotNull();
+		assertThat(report.getEntry(Category.PHASE, "instantiateNonLazyBeans")).isNotNull();
+		assertThat(report.getEntry(Category.CONTROLLER_INSTANTIATION, NonLazilyInitializedController.class.getName()))
+				.isNotNull();
+		assertThat(report.getEntry(Category.VIEW_LOADING, "/testfxml/SampleView.fxml")).isNotNull();
+		assertThat(report.getEntries(Category.CONTROLLER_EXTENSION)).isNotEmpty().anyMatch(
+				entry -> entry.getContext().equals(NonLazilyInitializedController.class.getName()));
+		// lazily initialized controllers are only recorded when they are requested
+		assertThat(report.getEntry(Category.CONTROLLER_INSTANTIATION, MainController.class.getName())).isNull();
+	}
+
+	@Test
+	void testBuilder_enableStartupProfiling_recordingStopped() {
+		// GIVEN
+		final ActionFX actionFX = ActionFX.builder().configurationClass(SampleApp.class).locale(Locale.US)
+				.enableStartupProfiling(true).build();
+		actionFX.scanForActionFXComponents();
+
+		// WHEN
+		actionFX.getStartupProfiler().stop();
+		actionFX.getBean("mainController");
+
+		// THEN
+		assertThat(actionFX.getStartupProfiler().isRecording()).isFalse();
+		assertThat(actionFX.getStartupReport().getEntry(Category.CONTROLLER_INSTANTIATION,
+				MainController.class.getName())).isNull();
+	}
+
 	@Test
 	void testScanForActionFXComponents_usingDefaultBeanContainer() {
 		// GIVEN
@@ -377,6 +476,65 @@ class ActionFXTest {
 		assertThat(eventBus).isNotNull().isInstanceOf(SimplePriorityAwareEventBus.class);
 	}
 
+	@Test
+	void testUnsubscribe() {
+		// GIVEN
+		final PriorityAwareEventBus eventBus = Mockito.mock(PriorityAwareEventBus.class);
+		final Subscription subscription = Mockito.mock(Subscription.class);
+		when(eventBus.subscribe(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.anyInt()))
+				.thenReturn(subscription);
+		final ActionFX actionFX = ActionFX.builder().configurationClass(SampleApp.class).eventBus(eventBus).build();
+		actionFX.scanForActionFXComponents();
+		actionFX.getBeanContainer().addBeanDefinition("subscriber", Subscriber.class, true, true, Subscriber::new);
+
+		// WHEN
+		actionFX.unsubscribe("subscriber");
+
+		// THEN
+		verify(subscription, times(1)).unsubscribe();
+	}
+
+	@Test
+	void testReset_subscriptionsAreRemoved() {
+		// GIVEN
+		final PriorityAwareEventBus eventBus = Mockito.mock(PriorityAwareEventBus.class);
+		final Subscription subscription = Mockito.mock(Subscription.class);
+		when(eventBus.subscribe(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.anyInt()))
+				.thenReturn(subscription);
+		final ActionFX actionFX = ActionFX.builder().configurationClass(SampleApp.class).eventBus(eventBus).build();
+		actionFX.scanForActionFXComponents();
+		actionFX.getBeanContainer().addBeanDefinition("subscriber", Subscriber.class, true, true, Subscriber::new);
+
+		// WHEN
+		actionFX.reset();
+
+		// THEN (the custom event bus does not hold subscribers of the discarded instance anymore)
+		verify(subscription, times(1)).unsubscribe();
+	}
+
+	@Test
+	void testReset_beanContainerIsClosed() {
+		// GIVEN
+		final PriorityAwareEventBus eventBus = Mockito.mock(PriorityAwareEventBus.class);
+		final Subscription subscription = Mockito.mock(Subscription.class);
+		when(eventBus.subscribe(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.anyInt()))
+				.thenReturn(subscription);
+		final ActionFX actionFX = ActionFX.builder().configurationClass(SampleApp.class).eventBus(eventBus).build();
+		actionFX.scanForActionFXComponents();
+		actionFX.getBeanContainer().addBeanDefinition("subscriber", Subscriber.class, true, true, Subscriber::new);
+		// bean lookups fail like in a closed Spring application context
+		final BeanContainerFacade closedContainer = Mockito.spy(actionFX.getBeanContainer());
+		Mockito.doThrow(new IllegalStateException("Container is closed")).when(closedContainer)
+				.getBean(ArgumentMatchers.anyString());
+		actionFX.beanContainer = closedContainer;
+
+		// WHEN
+		actionFX.reset();
+
+		// THEN (subscriptions are removed nevertheless)
+		verify(subscription, times(1)).unsubscribe();
+	}
+
 	@Test
 	void testGetView() {
 		// GIVEN
@@ -757,4 +915,11 @@ class ActionFXTest {
 	public static class CustomBeanContainer extends DefaultActionFXBeanContainer {
 
 	}
+
+	public static class Subscriber {
+
+		@AFXSubscribe(String.class)
+		public void onEvent(final String event) {
+		}
+	}
 }
@@ -0,0 +1,280 @@
+/*
+ * Copyright (c) 2026 Martin Koster
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.actionfx.core.beans;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.github.actionfx.core.utils.ReflectionUtils;
+
+/**
+ * JUnit test case for {@link BeanAccessorProcessor}.
+ *
+ * @author koster
+ *
+ */
+class BeanAccessorProcessorTest {
+
+    private static final String MODEL_SOURCE = String.join("\n", "package some.pkg;",
+            "import com.github.actionfx.core.annotation.AFXGenerateBeanAccessor;",
+            "import javafx.beans.property.SimpleStringProperty;", "import javafx.beans.property.StringProperty;",
+            "import javafx.beans.property.IntegerProperty;", "import javafx.beans.property.SimpleIntegerProperty;",
+            "import javafx.beans.property.ObjectProperty;", "import javafx.beans.property.SimpleObjectProperty;",
+            "@AFXGenerateBeanAccessor", "public class Person {",
+            "  private final StringProperty name = new SimpleStringProperty();", "  private int age;",
+            "  private final IntegerProperty score = new SimpleIntegerProperty();",
+            "  private final ObjectProperty<java.time.LocalDate> birthday = new SimpleObjectProperty<>();",
+            "  public IntegerProperty scoreProperty() { return score; }",
+            "  public ObjectProperty<java.time.LocalDate> birthdayProperty() { return birthday; }",
+            "  private boolean active;", "  String nickName;",
+            "  public StringProperty nameProperty() { return name; }",
+            "  public String getName() { return name.get(); }",
+            "  public void setName(String name) { this.name.set(name); }", "  public int getAge() { return age; }",
+            "  void setAge(int age) { this.age = age; }", "  public boolean isActive() { return active; }",
+            "  public void setActive(boolean active) { this.active = active; }",
+            "  public void setNickName(String nickName) { this.nickName = nickName; }",
+            "  private String getSecret() { return \"secret\"; }", "}");
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testProcess() throws Exception {
+        // GIVEN
+        final Path outputDir = Files.createDirectory(tempDir.resolve("classes"));
+
+        // WHEN
+        final boolean success = compile(writeSource("Person.java", MODEL_SOURCE), outputDir);
+
+        // THEN
+        assertThat(success).isTrue();
+        assertThat(outputDir.resolve("some/pkg/Person_AFXBeanAccessor.class")).exists();
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { outputDir.toUri().toURL() },
+                getClass().getClassLoader())) {
+            final Class<?> modelClass = classLoader.loadClass("some.pkg.Person");
+            final GeneratedBeanAccessor accessor = BeanWrapper.getGeneratedBeanAccessor(modelClass);
+            assertThat(accessor).isNotNull();
+            assertThat(accessor.getBeanClass()).isEqualTo(modelClass);
+            assertThat(accessor.getPropertyAccessor("name").getType()).isEqualTo(String.class);
+            assertThat(accessor.getPropertyAccessor("name").getFxPropertyReader()).isNotNull();
+            assertThat(accessor.getPropertyAccessor("age").getType()).isEqualTo(int.class);
+            // type of properties only accessible via property-getter is derived from the property's value type
+            assertThat(accessor.getPropertyAccessor("score").getType()).isEqualTo(Integer.class);
+            assertThat(accessor.getPropertyAccessor("birthday").getType()).isEqualTo(LocalDate.class);
+            assertThat(accessor.getPropertyAccessor("active").getReader()).isNotNull();
+            assertThat(accessor.getPropertyAccessor("nickName").getReader()).isNull();
+            assertThat(accessor.getPropertyAccessor("secret")).isNull();
+            assertThat(accessor.getPropertyAccessor("class")).isNull();
+        }
+    }
+
+    @Test
+    void testProcess_typesMatchReflectiveBeanProperty() throws Exception {
+        // GIVEN
+        final Path outputDir = Files.createDirectory(tempDir.resolve("classes"));
+        compile(writeSource("Person.java", MODEL_SOURCE), outputDir);
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { outputDir.toUri().toURL() },
+                getClass().getClassLoader())) {
+            final Class<?> modelClass = classLoader.loadClass("some.pkg.Person");
+            final GeneratedBeanAccessor accessor = BeanWrapper.getGeneratedBeanAccessor(modelClass);
+
+            for (final String name : Arrays.asList("name", "age", "score", "birthday", "active", "nickName")) {
+                // WHEN
+                final BeanProperty<?> generated = new BeanProperty<>(modelClass, name, -1, null,
+                        accessor.getPropertyAccessor(name));
+                final BeanProperty<?> reflective = new BeanProperty<>(modelClass, name);
+
+                // THEN
+                assertThat(generated.getType()).as("type of property '%s'", name).isEqualTo(reflective.getType());
+            }
+        }
+    }
+
+    @Test
+    void testProcess_accessViaBeanWrapper() throws Exception {
+        // GIVEN
+        final Path outputDir = Files.createDirectory(tempDir.resolve("classes"));
+        compile(writeSource("Person.java", MODEL_SOURCE), outputDir);
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { outputDir.toUri().toURL() },
+                getClass().getClassLoader())) {
+            final Object model = ReflectionUtils.instantiateClass(classLoader.loadClass("some.pkg.Person"));
+            final BeanWrapper wrapper = BeanWrapper.of(model);
+
+            // WHEN
+            wrapper.getBeanPropertyReference("name").setValue("Martin");
+            wrapper.getBeanPropertyReference("age").setValue(42);
+            wrapper.getBeanPropertyReference("active").setValue(true);
+            wrapper.getBeanPropertyReference("nickName").setValue("Koster");
+
+            // THEN
+            assertThat(wrapper.<String> getPropertyValue("name")).isEqualTo("Martin");
+            assertThat(wrapper.getFxProperty("name").getValue()).isEqualTo("Martin");
+            assertThat(wrapper.<Integer> getPropertyValue("age")).isEqualTo(42);
+            assertThat(wrapper.<Boolean> getPropertyValue("active")).isTrue();
+            // read via field, because there is no getter
+            assertThat(wrapper.<String> getPropertyValue("nickName")).isEqualTo("Koster");
+        }
+    }
+
+    @Test
+    void testProcess_setNullIntoPrimitiveProperty() throws Exception {
+        // GIVEN
+        final Path outputDir = Files.createDirectory(tempDir.resolve("classes"));
+        compile(writeSource("Person.java", MODEL_SOURCE), outputDir);
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { outputDir.toUri().toURL() },
+                getClass().getClassLoader())) {
+            final Object model = ReflectionUtils.instantiateClass(classLoader.loadClass("some.pkg.Person"));
+            final BeanWrapper wrapper = BeanWrapper.of(model);
+
+            // WHEN
+            final IllegalStateException ex = assertThrows(IllegalStateException.class,
+                    () -> wrapper.getBeanPropertyReference("age").setValue(null));
+
+            // THEN (same exception as thrown by the reflective access)
+            assertThat(ex.getMessage())
+                    .isEqualTo("Unable to set property 'age' in class 'some.pkg.Person' to value 'null'!");
+            assertThat(ex.getCause()).isInstanceOf(NullPointerException.class);
+        }
+    }
+
+    @Test
+    void testProcess_nestedClass() throws IOException {
+        // GIVEN
+        final Path sourceFile = writeSource("Outer.java", String.join("\n", "package some.pkg;",
+                "import com.github.actionfx.core.annotation.AFXGenerateBeanAccessor;", "public class Outer {",
+                "  @AFXGenerateBeanAccessor", "  public static class Inner<T extends Number> {",
+                "    private T value;", "    public T getValue() { return value; }",
+                "    public void setValue(T value) { this.value = value; }", "  }", "}"));
+        final Path outputDir = Files.createDirectory(tempDir.resolve("classes"));
+
+        // WHEN
+        final boolean success = compile(sourceFile, outputDir);
+
+        // THEN
+        assertThat(success).isTrue();
+        assertThat(outputDir.resolve("some/pkg/Outer_0Inner_AFXBeanAccessor.class")).exists();
+    }
+
+    @Test
+    void testProcess_nestedClassAndClassWithUnderscore() throws IOException {
+        // GIVEN ('Outer$Model' and 'Outer_Model' must not result in the same accessor class)
+        final Path sourceFile = writeSource("Outer.java", String.join("\n", "package some.pkg;",
+                "import com.github.actionfx.core.annotation.AFXGenerateBeanAccessor;", "public class Outer {",
+                "  @AFXGenerateBeanAccessor", "  public static class Model {}", "}", "@AFXGenerateBeanAccessor",
+                "class Outer_Model {}"));
+        final Path outputDir = Files.createDirectory(tempDir.resolve("classes"));
+
+        // WHEN
+        final boolean success = compile(sourceFile, outputDir);
+
+        // THEN
+        assertThat(success).isTrue();
+        assertThat(outputDir.resolve("some/pkg/Outer_0Model_AFXBeanAccessor.class")).exists();
+        assertThat(outputDir.resolve("some/pkg/Outer_1Model_AFXBeanAccessor.class")).exists();
+    }
+
+    @Test
+    void testAccessorClassName() {
+        // WHEN and THEN
+        assertThat(GeneratedBeanAccessor.accessorClassName("some.pkg.Person"))
+                .isEqualTo("some.pkg.Person_AFXBeanAccessor");
+        assertThat(GeneratedBeanAccessor.accessorClassName("some.my_pkg.Outer$Model"))
+                .isEqualTo("some.my_pkg.Outer_0Model_AFXBeanAccessor");
+        assertThat(GeneratedBeanAccessor.accessorClassName("some.my_pkg.Outer_Model"))
+                .isEqualTo("some.my_pkg.Outer_1Model_AFXBeanAccessor");
+        assertThat(GeneratedBeanAccessor.accessorClassName("Model")).isEqualTo("Model_AFXBeanAccessor");
+    }
+
+    @Test
+    void testProcess_privateClass() throws IOException {
+        // GIVEN
+        final Path sourceFile = writeSource("Outer.java", String.join("\n", "package some.pkg;",
+                "import com.github.actionfx.core.annotation.AFXGenerateBeanAccessor;", "public class Outer {",
+                "  @AFXGenerateBeanAccessor", "  private static class Inner {}", "}"));
+        final Path outputDir = Files.createDirectory(tempDir.resolve("classes"));
+
+        // WHEN
+        final boolean success = compile(sourceFile, outputDir);
+
+        // THEN
+        assertThat(success).isFalse();
+    }
+
+    @Test
+    void testGetGeneratedBeanAccessor_notAnnotated() {
+        // WHEN and THEN
+        assertThat(BeanWrapper.getGeneratedBeanAccessor(String.class)).isNull();
+    }
+
+    private Path writeSource(final String fileName, final String source) throws IOException {
+        final Path sourceFile = tempDir.resolve(fileName);
+        Files.writeString(sourceFile, source, StandardCharsets.UTF_8);
+        return sourceFile;
+    }
+
+    private static boolean compile(final Path sourceFile, final Path outputDir) throws IOException {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null,
+                StandardCharsets.UTF_8)) {
+            final Iterable<? extends JavaFileObject> compilationUnits = fileManager
+                    .getJavaFileObjects(sourceFile.toFile());
+            final List<String> options = Arrays.asList("-classpath", testClasspath(), "-d", outputDir.toString(),
+                    "-s", outputDir.toString());
+            final JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null, options, null,
+                    compilationUnits);
+            task.setProcessors(List.of(new BeanAccessorProcessor()));
+            return task.call();
+        }
+    }
+
+    private static String testClasspath() {
+        // JavaFX might be placed on the module path - we need it on the classpath for compilation
+        return Stream.of(System.getProperty("java.class.path"), System.getProperty("jdk.module.path"))
+                .filter(path -> path != null && !path.isEmpty()).collect(Collectors.joining(File.pathSeparator));
+    }
+}
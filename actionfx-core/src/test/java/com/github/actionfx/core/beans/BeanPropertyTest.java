@@ -33,6 +33,9 @@ import org.junit.jupiter.api.Test;
 
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
 
 /**
  * JUnit test for {@link BeanProperty}.
@@ -326,6 +329,288 @@ class BeanPropertyTest {
 		assertThat(property.getType()).isEqualTo(boolean.class);
 	}
 
+	@Test
+	void testGetType_javaFXPropertyWithoutGetterSetter_butPropertyGetter() {
+		// GIVEN
+		final BeanProperty<String> property = new BeanProperty<>(Model.class, "javaFXPropertyWithoutGetterSetter");
+
+		// WHEN and THEN (type is derived from the value type of the property)
+		assertThat(property.getType()).isEqualTo(String.class);
+	}
+
+	@Test
+	void testGetValue_getterThrowsException() {
+		// GIVEN
+		final Model model = model();
+		final BeanProperty<String> property = new BeanProperty<>(Model.class, "failingProperty");
+
+		// WHEN
+		final IllegalStateException ex = assertThrows(IllegalStateException.class, () -> property.getValue(model));
+
+		// THEN
+		assertThat(ex.getMessage()).contains("Unable to read property 'failingProperty'");
+		assertThat(ex.getCause()).isInstanceOf(UnsupportedOperationException.class);
+	}
+
+	@Test
+	void testSetValue_primitiveSetterWithIncompatibleValue() {
+		// GIVEN
+		final Model model = model();
+		final BeanProperty<Object> property = new BeanProperty<>(Model.class, "javaBeanProperty");
+
+		// WHEN
+		final IllegalStateException ex = assertThrows(IllegalStateException.class,
+				() -> property.setValue(model, "true"));
+
+		// THEN
+		assertThat(ex.getMessage()).contains("Unable to set property 'javaBeanProperty'");
+	}
+
+	@Test
+	void testSetValue_finalFieldProperty() {
+		// GIVEN
+		final Model model = model();
+		final BeanProperty<String> property = new BeanProperty<>(Model.class, "finalFieldProperty");
+
+		// WHEN
+		property.setValue(model, "Hello World");
+
+		// THEN
+		assertThat(property.getValue(model)).isEqualTo("Hello World");
+	}
+
+	@Test
+	void testGetValue_repeatedAccess() {
+		// GIVEN
+		final Model model = model();
+		final BeanProperty<Boolean> property = new BeanProperty<>(Model.class, "javaBeanProperty");
+
+		// WHEN and THEN (accessor is created on first access and re-used afterwards)
+		assertThat(property.getValue(model)).isTrue();
+		property.setValue(model, Boolean.FALSE);
+		assertThat(property.getValue(model)).isFalse();
+		assertThat(model.isJavaBeanProperty()).isFalse();
+	}
+
+	@Test
+	void testGetValue_indexedProperty_observableList() {
+		// GIVEN
+		final Model model = model();
+		final BeanProperty<String> property = new BeanProperty<>(Model.class, "observableListProperty", 1);
+
+		// WHEN and THEN
+		assertThat(property.getValue(model)).isEqualTo("World");
+	}
+
+	@Test
+	void testGetValue_indexedProperty_primitiveArray() {
+		// GIVEN
+		final Model model = model();
+		final BeanProperty<Integer> property = new BeanProperty<>(Model.class, "primitiveArrayProperty", 2);
+
+		// WHEN and THEN
+		assertThat(property.getValue(model)).isEqualTo(3);
+	}
+
+	@Test
+	void testGetValue_indexedProperty_indexedGetter() {
+		// GIVEN
+		final Model model = model();
+		final BeanProperty<String> property = new BeanProperty<>(Model.class, "slot", 1);
+
+		// WHEN and THEN
+		assertThat(property.getValue(model)).isEqualTo("slot-1");
+	}
+
+	@Test
+	void testGetValue_indexedProperty_valueIsNull() {
+		// GIVEN
+		final Model model = model();
+		final BeanProperty<String> property = new BeanProperty<>(Model.class, "nullIndexedProperty", 0);
+
+		// WHEN and THEN
+		assertThat(property.getValue(model)).isNull();
+	}
+
+	@Test
+	void testGetValue_indexedProperty_propertyIsNotIndexed() {
+		// GIVEN
+		final Model model = model();
+		final BeanProperty<String> property = new BeanProperty<>(Model.class, "fieldProperty", 0);
+
+		// WHEN
+		final IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+				() -> property.getValue(model));
+
+		// THEN
+		assertThat(ex.getMessage()).contains("property is neither an array nor a list!");
+	}
+
+	@Test
+	void testGetValue_mappedProperty_observableMap() {
+		// GIVEN
+		final Model model = model();
+		final BeanProperty<String> property = new BeanProperty<>(Model.class, "observableMapProperty", "hello");
+
+		// WHEN and THEN
+		assertThat(property.getValue(model)).isEqualTo("observable world");
+	}
+
+	@Test
+	void testGetValue_mappedProperty_mappedGetter() {
+		// GIVEN
+		final Model model = model();
+		model.setAttribute("color", "red");
+		final BeanProperty<String> property = new BeanProperty<>(Model.class, "attribute", "color");
+
+		// WHEN and THEN
+		assertThat(property.getValue(model)).isEqualTo("red");
+	}
+
+	@Test
+	void testGetValue_mappedProperty_propertyIsNotMapped() {
+		// GIVEN
+		final Model model = model();
+		final BeanProperty<String> property = new BeanProperty<>(Model.class, "fieldProperty", "hello");
+
+		// WHEN
+		final IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+				() -> property.getValue(model));
+
+		// THEN
+		assertThat(ex.getMessage()).contains("property is not a map!");
+	}
+
+	@Test
+	void testSetValue_indexedProperty_observableList() {
+		// GIVEN
+		final Model model = model();
+		final BeanProperty<String> property = new BeanProperty<>(Model.class, "observableListProperty", 0);
+
+		// WHEN
+		property.setValue(model, "Hi");
+
+		// THEN
+		assertThat(model.observableListProperty).containsExactly("Hi", "World");
+	}
+
+	@Test
+	void testSetValue_indexedProperty_indexedSetter() {
+		// GIVEN
+		final Model model = model();
+		final BeanProperty<String> property = new BeanProperty<>(Model.class, "slot", 0);
+
+		// WHEN
+		property.setValue(model, "Hello World");
+
+		// THEN
+		assertThat(model.getSlot(0)).isEqualTo("Hello World");
+	}
+
+	@Test
+	void testSetValue_indexedProperty_valueIsNull() {
+		// GIVEN
+		final Model model = model();
+		final BeanProperty<String> property = new BeanProperty<>(Model.class, "nullIndexedProperty", 0);
+
+		// WHEN
+		final IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+				() -> property.setValue(model, "Hello World"));
+
+		// THEN
+		assertThat(ex.getMessage()).contains("property value is null!");
+	}
+
+	@Test
+	void testSetValue_mappedProperty_observableMap() {
+		// GIVEN
+		final Model model = model();
+		final BeanProperty<String> property = new BeanProperty<>(Model.class, "observableMapProperty", "new");
+
+		// WHEN
+		property.setValue(model, "value");
+
+		// THEN
+		assertThat(model.observableMapProperty).containsEntry("new", "value");
+	}
+
+	@Test
+	void testSetValue_mappedProperty_mappedSetter() {
+		// GIVEN
+		final Model model = model();
+		final BeanProperty<String> property = new BeanProperty<>(Model.class, "attribute", "color");
+
+		// WHEN
+		property.setValue(model, "blue");
+
+		// THEN
+		assertThat(model.getAttribute("color")).isEqualTo("blue");
+	}
+
+	@Test
+	void testGetValue_generatedAccessor() {
+		// GIVEN
+		final Model model = model();
+		final BeanProperty<String> property = new BeanProperty<>(Model.class, "javaFXProperty", -1, null,
+				generatedAccessorForJavaFXProperty());
+
+		// WHEN and THEN
+		assertThat(property.getValue(model)).isEqualTo("Hello");
+		assertThat(property.getType()).isEqualTo(String.class);
+		assertThat(property.isReadable()).isTrue();
+		assertThat(property.isWritable()).isTrue();
+		assertThat(property.hasFxProperty()).isTrue();
+	}
+
+	@Test
+	void testSetValue_generatedAccessor() {
+		// GIVEN
+		final Model model = model();
+		final BeanProperty<String> property = new BeanProperty<>(Model.class, "javaFXProperty", -1, null,
+				generatedAccessorForJavaFXProperty());
+
+		// WHEN
+		property.setValue(model, "Hello World");
+
+		// THEN
+		assertThat(model.getJavaFXProperty()).isEqualTo("Hello World");
+		assertThat(property.getFxProperty(model)).isSameAs(model.javaFXProperty);
+	}
+
+	@Test
+	void testGetValue_generatedAccessor_onlyPropertyGetter() {
+		// GIVEN
+		final Model model = model();
+		final BeanProperty<String> property = new BeanProperty<>(Model.class, "javaFXPropertyWithoutGetterSetter", -1,
+				null, new GeneratedPropertyAccessor("javaFXPropertyWithoutGetterSetter", null, null, null,
+						bean -> ((Model) bean).javaFXPropertyWithoutGetterSetterProperty()));
+
+		// WHEN and THEN
+		assertThat(property.getValue(model)).isEqualTo("Hello World");
+		assertThat(property.hasFxProperty()).isTrue();
+	}
+
+	@Test
+	void testGetValue_generatedAccessor_missingGetterIsCompensatedByField() {
+		// GIVEN
+		final Model model = model();
+		final BeanProperty<String> property = new BeanProperty<>(Model.class, "fieldProperty", -1, null,
+				new GeneratedPropertyAccessor("fieldProperty", String.class, null,
+						(bean, value) -> ((Model) bean).fieldProperty = (String) value, null));
+
+		// WHEN
+		property.setValue(model, "Hello");
+
+		// THEN
+		assertThat(property.getValue(model)).isEqualTo("Hello");
+	}
+
+	private static GeneratedPropertyAccessor generatedAccessorForJavaFXProperty() {
+		return new GeneratedPropertyAccessor("javaFXProperty", String.class, bean -> ((Model) bean).getJavaFXProperty(),
+				(bean, value) -> ((Model) bean).setJavaFXProperty((String) value),
+				bean -> ((Model) bean).javaFXPropertyProperty());
+	}
+
 	private Model model() {
 		final Model model = new Model();
 		model.setJavaFXProperty("Hello");
@@ -336,6 +621,9 @@ class BeanPropertyTest {
 		model.indexedProperty[1] = "World";
 		model.indexedProperty[2] = "!";
 		model.mappedProperty.put("hello", "world");
+		model.observableListProperty.addAll("Hello", "World");
+		model.observableMapProperty.put("hello", "observable world");
+		model.setSlot(1, "slot-1");
 		return model;
 	}
 
@@ -357,6 +645,24 @@ class BeanPropertyTest {
 
 		Map<String, String> mappedProperty = new HashMap<>();
 
+		// no getter, no setter - direct field access to observable collections
+		ObservableList<String> observableListProperty = FXCollections.observableArrayList();
+
+		ObservableMap<String, String> observableMapProperty = FXCollections.observableHashMap();
+
+		int[] primitiveArrayProperty = { 1, 2, 3 };
+
+		String[] nullIndexedProperty;
+
+		// accessed via indexed getter and setter
+		private final String[] slots = new String[3];
+
+		// accessed via mapped getter and setter
+		private final Map<String, String> attributes = new HashMap<>();
+
+		// final field without setter - can only be written via reflection
+		final String finalFieldProperty = "final";
+
 		public final StringProperty javaFXPropertyProperty() {
 			return javaFXProperty;
 		}
@@ -388,6 +694,26 @@ class BeanPropertyTest {
 		public Map<String, String> getMappedProperty() {
 			return mappedProperty;
 		}
+
+		public String getSlot(final int index) {
+			return slots[index];
+		}
+
+		public void setSlot(final int index, final String value) {
+			slots[index] = value;
+		}
+
+		public String getAttribute(final String key) {
+			return attributes.get(key);
+		}
+
+		public void setAttribute(final String key, final String value) {
+			attributes.put(key, value);
+		}
+
+		public String getFailingProperty() {
+			throw new UnsupportedOperationException("failingProperty can not be read");
+		}
 	}
 
 }
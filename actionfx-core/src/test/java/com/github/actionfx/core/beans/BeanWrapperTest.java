@@ -172,6 +172,20 @@ class BeanWrapperTest {
 				.getFxProperty("nestedElementWithProperties.fieldWithoutGetter.value")).isSameAs(worldPropertyType.valueProperty());
 	}
 
+	@Test
+	void isReadablePropertyPath() {
+		// WHEN and THEN
+		assertThat(BeanWrapper.isReadablePropertyPath(ClassWithNestedElement.class, "nestedElement.fieldWithGetter.value")).isTrue();
+		assertThat(BeanWrapper.isReadablePropertyPath(ClassWithNestedElement.class, "nestedElement.fieldWithoutGetter.value")).isTrue();
+		assertThat(BeanWrapper.isReadablePropertyPath(ClassWithNestedElement.class, "nestedElementWithProperties.fieldWithGetter.value")).isTrue();
+		assertThat(BeanWrapper.isReadablePropertyPath(ClassWithArray.class, "array[0].value")).isTrue();
+		assertThat(BeanWrapper.isReadablePropertyPath(ClassWithList.class, "list[0].value")).isTrue();
+		assertThat(BeanWrapper.isReadablePropertyPath(ClassWithNestedElement.class, "nestedElement.fieldWithGetter.notExisting")).isFalse();
+		assertThat(BeanWrapper.isReadablePropertyPath(ClassWithNestedElement.class, "notExisting")).isFalse();
+		assertThat(BeanWrapper.isReadablePropertyPath(ClassWithArray.class, "array[0].notExisting")).isFalse();
+		assertThat(BeanWrapper.isReadablePropertyPath(ClassWithNestedElement.class, null)).isFalse();
+	}
+
 	/**
 	 * Class that holds a nested element
 	 *
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2026 Martin Koster
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.actionfx.core.beans;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.actionfx.core.beans.BeanWrapperTest.ClassWithNestedElement;
+import com.github.actionfx.core.beans.BeanWrapperTest.NestedElement;
+import com.github.actionfx.core.beans.BeanWrapperTest.StringValueType;
+import com.github.actionfx.core.utils.MetadataCache;
+
+/**
+ * JUnit test case for {@link CompiledPropertyPath}.
+ *
+ * @author koster
+ *
+ */
+class CompiledPropertyPathTest {
+
+	@Test
+	void testOf_pathIsCachedPerRootClass() {
+		// WHEN
+		final CompiledPropertyPath path1 = CompiledPropertyPath.of(ClassWithNestedElement.class,
+				"nestedElement.fieldWithGetter.value");
+		final CompiledPropertyPath path2 = CompiledPropertyPath.of(ClassWithNestedElement.class,
+				"nestedElement.fieldWithGetter.value");
+		final CompiledPropertyPath path3 = CompiledPropertyPath.of(NestedElement.class, "fieldWithGetter.value");
+
+		// THEN
+		assertThat(path1).isSameAs(path2);
+		assertThat(path1).isNotSameAs(path3);
+		assertThat(path1.getPath()).isEqualTo("nestedElement.fieldWithGetter.value");
+		assertThat(path1.getSegmentCount()).isEqualTo(3);
+		assertThat(path3.getSegmentCount()).isEqualTo(2);
+	}
+
+	@Test
+	void testOf_numberOfPathsPerRootClassIsBounded() {
+		// GIVEN
+		final long evictionsBefore = pathCacheStatistics().getEvictionCount();
+
+		// WHEN
+		for (int i = 0; i < 300; i++) {
+			CompiledPropertyPath.of(Hello.class, "property" + i);
+		}
+
+		// THEN
+		assertThat(pathCacheStatistics().getEvictionCount() - evictionsBefore).isGreaterThanOrEqualTo(300 - 256);
+		assertThat((Object) CompiledPropertyPath.of(Hello.class, "text").getValue(new Hello())).isEqualTo("hello");
+	}
+
+	@Test
+	void testGetValue() {
+		// GIVEN
+		final CompiledPropertyPath path = CompiledPropertyPath.of(ClassWithNestedElement.class,
+				"nestedElement.fieldWithGetter.value");
+
+		// WHEN and THEN
+		assertThat((Object) path.getValue(bean("hello"))).isEqualTo("hello");
+		assertThat((Object) path.getValue(bean("world"))).isEqualTo("world");
+	}
+
+	@Test
+	void testGetValue_onePathElementIsNull() {
+		// GIVEN
+		final CompiledPropertyPath path = CompiledPropertyPath.of(ClassWithNestedElement.class,
+				"nestedElement.fieldWithGetter.value");
+
+		// WHEN and THEN
+		assertThat((Object) path.getValue(new ClassWithNestedElement(null, null))).isNull();
+	}
+
+	@Test
+	void testGetValue_emptyPath() {
+		// GIVEN
+		final CompiledPropertyPath path = CompiledPropertyPath.of(ClassWithNestedElement.class, "");
+
+		// WHEN and THEN
+		assertThat(path.getSegmentCount()).isZero();
+		assertThat((Object) path.getValue(bean("hello"))).isNull();
+	}
+
+	@Test
+	void testResolve() {
+		// GIVEN
+		final ClassWithNestedElement bean = bean("hello");
+		final CompiledPropertyPath path = CompiledPropertyPath.of(ClassWithNestedElement.class,
+				"nestedElement.fieldWithGetter.value");
+
+		// WHEN
+		final BeanPropertyReference<String> reference = path.resolve(bean);
+
+		// THEN
+		assertThat(reference.getValue()).isEqualTo("hello");
+		assertThat(reference.getBean()).isSameAs(bean.getNestedElement().getFieldWithGetter());
+		assertThat(reference.getBeanClass()).isEqualTo(StringValueType.class);
+	}
+
+	@Test
+	void testResolve_intermediateElementHasDifferentRuntimeTypes() {
+		// GIVEN
+		final CompiledPropertyPath path = CompiledPropertyPath.of(ClassWithGreeting.class, "greeting.text");
+
+		// WHEN
+		final BeanPropertyReference<String> reference1 = path.resolve(new ClassWithGreeting(new Hello()));
+		final BeanPropertyReference<String> reference2 = path.resolve(new ClassWithGreeting(new World()));
+
+		// THEN (property is resolved for the runtime type of the intermediate element)
+		assertThat(reference1.getBeanClass()).isEqualTo(Hello.class);
+		assertThat(reference1.getValue()).isEqualTo("hello");
+		assertThat(reference2.getBeanClass()).isEqualTo(World.class);
+		assertThat(reference2.getValue()).isEqualTo("world");
+	}
+
+	private static MetadataCache.Statistics pathCacheStatistics() {
+		return MetadataCache.getStatisticsOfAllCaches().stream()
+				.filter(statistics -> "CompiledPropertyPath.paths".equals(statistics.getName())).findFirst()
+				.orElseThrow();
+	}
+
+	private static ClassWithNestedElement bean(final String value) {
+		return new ClassWithNestedElement(new NestedElement(new StringValueType(value), null), null);
+	}
+
+	public interface Greeting {
+	}
+
+	public static class Hello implements Greeting {
+
+		public String getText() {
+			return "hello";
+		}
+	}
+
+	public static class World implements Greeting {
+
+		// no getter - direct field access
+		@SuppressWarnings("unused")
+		private final String text = "world";
+	}
+
+	public static class ClassWithGreeting {
+
+		private final Greeting greeting;
+
+		public ClassWithGreeting(final Greeting greeting) {
+			this.greeting = greeting;
+		}
+
+		public Greeting getGreeting() {
+			return greeting;
+		}
+	}
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026 Martin Koster
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.actionfx.core.beans;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.actionfx.core.test.IndexedBean;
+
+/**
+ * JUnit test case for {@link PropertyAccessors}.
+ *
+ * @author koster
+ *
+ */
+class PropertyAccessorsTest {
+
+	@Test
+	void testReaderAndWriter_beanInOtherPackage_lambdaMetafactoryIsUsed() throws NoSuchMethodException {
+		// GIVEN
+		final IndexedBean bean = new IndexedBean();
+
+		// WHEN
+		final Function<Object, Object> reader = PropertyAccessors.reader(IndexedBean.class.getMethod("getName"));
+		final BiConsumer<Object, Object> writer = PropertyAccessors
+				.writer(IndexedBean.class.getMethod("setName", String.class));
+		writer.accept(bean, "Hello");
+
+		// THEN
+		assertThat(reader.apply(bean)).isEqualTo("Hello");
+		assertSpunInsideBeanPackage(reader);
+		assertSpunInsideBeanPackage(writer);
+	}
+
+	@Test
+	void testKeyedReaderAndKeyedWriter_beanInOtherPackage_lambdaMetafactoryIsUsed() throws NoSuchMethodException {
+		// GIVEN
+		final IndexedBean bean = new IndexedBean();
+
+		// WHEN
+		final BiFunction<Object, Object, Object> keyedReader = PropertyAccessors
+				.keyedReader(IndexedBean.class.getMethod("getValue", int.class));
+		final KeyedWriter keyedWriter = PropertyAccessors
+				.keyedWriter(IndexedBean.class.getMethod("setValue", int.class, String.class));
+		keyedWriter.write(bean, 1, "Hello");
+
+		// THEN
+		assertThat(keyedReader.apply(bean, 1)).isEqualTo("Hello");
+		assertSpunInsideBeanPackage(keyedReader);
+		assertSpunInsideBeanPackage(keyedWriter);
+	}
+
+	private static void assertSpunInsideBeanPackage(final Object accessor) {
+		// lambdas spun via LambdaMetafactory are defined as nestmates of the bean class, while the method handle and
+		// reflection fallbacks are lambdas of PropertyAccessors
+		assertThat(accessor.getClass().getName()).startsWith(IndexedBean.class.getName() + "$$Lambda");
+	}
+}
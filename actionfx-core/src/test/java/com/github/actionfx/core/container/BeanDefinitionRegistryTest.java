@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2026 Martin Koster
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.actionfx.core.container;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * JUnit test case for {@link BeanDefinitionRegistry}.
+ *
+ * @author koster
+ *
+ */
+class BeanDefinitionRegistryTest {
+
+    @Test
+    void testGetById() {
+        // GIVEN
+        final BeanDefinitionRegistry registry = new BeanDefinitionRegistry();
+        final BeanDefinition definition = definition("bean", Derived.class);
+        registry.register(definition);
+
+        // WHEN and THEN
+        assertThat(registry.getById("bean")).isSameAs(definition);
+        assertThat(registry.getById("unknown")).isNull();
+    }
+
+    @Test
+    void testGetByType_allSuperTypesAreIndexed() {
+        // GIVEN
+        final BeanDefinitionRegistry registry = new BeanDefinitionRegistry();
+        final BeanDefinition definition = definition("bean", Derived.class);
+        registry.register(definition);
+
+        // WHEN and THEN
+        assertThat(registry.getByType(Derived.class)).isSameAs(definition);
+        assertThat(registry.getByType(Base.class)).isSameAs(definition);
+        assertThat(registry.getByType(SomeInterface.class)).isSameAs(definition);
+        assertThat(registry.getByType(Serializable.class)).isSameAs(definition);
+        assertThat(registry.getByType(Object.class)).isSameAs(definition);
+        assertThat(registry.getByType(String.class)).isNull();
+    }
+
+    @Test
+    void testGetByType_exactMatchIsPreferred() {
+        // GIVEN (derived class is registered before the base class)
+        final BeanDefinitionRegistry registry = new BeanDefinitionRegistry();
+        final BeanDefinition derived = definition("derived", Derived.class);
+        final BeanDefinition base = definition("base", Base.class);
+        registry.register(derived);
+        registry.register(base);
+
+        // WHEN and THEN
+        assertThat(registry.getByType(Base.class)).isSameAs(base);
+        assertThat(registry.getByType(Derived.class)).isSameAs(derived);
+        // no exact match - first registered definition wins
+        assertThat(registry.getByType(SomeInterface.class)).isSameAs(derived);
+    }
+
+    @Test
+    void testGetByType_firstRegisteredWins() {
+        // GIVEN
+        final BeanDefinitionRegistry registry = new BeanDefinitionRegistry();
+        final BeanDefinition first = definition("first", Derived.class);
+        final BeanDefinition second = definition("second", Derived.class);
+        registry.register(first);
+        registry.register(second);
+
+        // WHEN and THEN
+        assertThat(registry.getByType(Derived.class)).isSameAs(first);
+        assertThat(registry.getByType(Base.class)).isSameAs(first);
+    }
+
+    @Test
+    void testRegister_replaceDefinitionWithSameId() {
+        // GIVEN
+        final BeanDefinitionRegistry registry = new BeanDefinitionRegistry();
+        final BeanDefinition original = definition("bean", Derived.class);
+        final BeanDefinition other = definition("other", Base.class);
+        final BeanDefinition replacement = definition("bean", String.class);
+        registry.register(original);
+        registry.register(other);
+
+        // WHEN
+        registry.register(replacement);
+
+        // THEN
+        assertThat(registry.getById("bean")).isSameAs(replacement);
+        assertThat(registry.getByType(Derived.class)).isNull();
+        assertThat(registry.getByType(Base.class)).isSameAs(other);
+        assertThat(registry.getByType(String.class)).isSameAs(replacement);
+        assertThat(registry.getBeanDefinitions()).containsExactly(other, replacement);
+    }
+
+    @Test
+    void testGetBeanDefinitions_registrationOrder() {
+        // GIVEN
+        final BeanDefinitionRegistry registry = new BeanDefinitionRegistry();
+        final BeanDefinition first = definition("z", Derived.class);
+        final BeanDefinition second = definition("a", Base.class);
+        registry.register(first);
+        registry.register(second);
+
+        // WHEN and THEN
+        assertThat(registry.getBeanDefinitions()).containsExactly(first, second);
+    }
+
+    @Test
+    void testRegisterIfAbsent() {
+        // GIVEN
+        final BeanDefinitionRegistry registry = new BeanDefinitionRegistry();
+        final BeanDefinition existing = definition("bean", Derived.class);
+        final BeanDefinition candidate = definition("bean", Base.class);
+        final BeanDefinition other = definition("other", Base.class);
+        registry.register(existing);
+
+        // WHEN
+        final BeanDefinition result1 = registry.registerIfAbsent(candidate);
+        final BeanDefinition result2 = registry.registerIfAbsent(other);
+
+        // THEN
+        assertThat(result1).isSameAs(existing);
+        assertThat(result2).isSameAs(other);
+        assertThat(registry.getById("bean")).isSameAs(existing);
+        assertThat(registry.getBeanDefinitions()).containsExactly(existing, other);
+    }
+
+    @Test
+    void testRegister_concurrentRegistrationAndLookup() throws Exception {
+        // GIVEN
+        final BeanDefinitionRegistry registry = new BeanDefinitionRegistry();
+        final int threadCount = 16;
+        final int definitionsPerThread = 200;
+        final ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        final CountDownLatch startSignal = new CountDownLatch(1);
+        final List<Future<?>> futures = new ArrayList<>();
+
+        // WHEN (half of the threads register, the other half permanently reads)
+        try {
+            for (int t = 0; t < threadCount; t++) {
+                final int threadIndex = t;
+                futures.add(executorService.submit(() -> {
+                    startSignal.await();
+                    for (int i = 0; i < definitionsPerThread; i++) {
+                        if (threadIndex % 2 == 0) {
+                            registry.register(definition("bean-" + threadIndex + "-" + i, Derived.class));
+                        } else {
+                            registry.getByType(Base.class);
+                            registry.getById("bean-0-" + i);
+                            registry.getBeanDefinitions();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            startSignal.countDown();
+            for (final Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        // THEN (no definition is lost)
+        final int registeringThreads = threadCount / 2;
+        assertThat(registry.getBeanDefinitions()).hasSize(registeringThreads * definitionsPerThread);
+        for (int t = 0; t < threadCount; t += 2) {
+            for (int i = 0; i < definitionsPerThread; i++) {
+                assertThat(registry.getById("bean-" + t + "-" + i)).isNotNull();
+            }
+        }
+        assertThat(registry.getByType(Base.class)).isNotNull();
+    }
+
+    private static BeanDefinition definition(final String id, final Class<?> beanClass) {
+        return new BeanDefinition(id, beanClass, true, true, () -> null);
+    }
+
+    public interface SomeInterface extends Serializable {
+    }
+
+    public static class Base implements SomeInterface {
+
+        private static final long serialVersionUID = 1L;
+    }
+
+    public static class Derived extends Base {
+
+        private static final long serialVersionUID = 1L;
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026 Martin Koster
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.actionfx.core.container;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * JUnit test case for {@link BeanDependencyGraph}.
+ *
+ * @author koster
+ *
+ */
+class BeanDependencyGraphTest {
+
+    private final BeanDefinition a = definition("a");
+
+    private final BeanDefinition b = definition("b");
+
+    private final BeanDefinition c = definition("c");
+
+    private final BeanDefinition d = definition("d");
+
+    @Test
+    void testBuild_dependenciesAreAddedTransitively() {
+        // GIVEN
+        final Map<BeanDefinition, List<BeanDefinition>> dependencies = new HashMap<>();
+        dependencies.put(a, List.of(b));
+        dependencies.put(b, List.of(c));
+
+        // WHEN
+        final BeanDependencyGraph graph = BeanDependencyGraph.build(List.of(a), resolver(dependencies));
+
+        // THEN
+        assertThat(graph.getBeanDefinitions()).containsExactly(a, b, c);
+        assertThat(graph.getDependencies(a)).containsExactly(b);
+        assertThat(graph.getDependencies(c)).isEmpty();
+    }
+
+    @Test
+    void testTopologicalOrder() {
+        // GIVEN (a -> b, a -> c, b -> d, c -> d)
+        final Map<BeanDefinition, List<BeanDefinition>> dependencies = new HashMap<>();
+        dependencies.put(a, List.of(b, c));
+        dependencies.put(b, List.of(d));
+        dependencies.put(c, List.of(d));
+        final BeanDependencyGraph graph = BeanDependencyGraph.build(List.of(a), resolver(dependencies));
+
+        // WHEN
+        final List<BeanDefinition> order = graph.topologicalOrder();
+
+        // THEN
+        assertThat(order).containsExactly(d, b, c, a);
+    }
+
+    @Test
+    void testTopologicalOrder_independentBeans() {
+        // GIVEN
+        final BeanDependencyGraph graph = BeanDependencyGraph.build(List.of(a, b, c),
+                resolver(Collections.emptyMap()));
+
+        // WHEN
+        final List<BeanDefinition> order = graph.topologicalOrder();
+
+        // THEN (registration order is kept)
+        assertThat(order).containsExactly(a, b, c);
+    }
+
+    @Test
+    void testTopologicalOrder_cycleIsDetected() {
+        // GIVEN (a -> b -> c -> b)
+        final Map<BeanDefinition, List<BeanDefinition>> dependencies = new HashMap<>();
+        dependencies.put(a, List.of(b));
+        dependencies.put(b, List.of(c));
+        dependencies.put(c, List.of(b));
+        final BeanDependencyGraph graph = BeanDependencyGraph.build(List.of(a), resolver(dependencies));
+
+        // WHEN
+        final IllegalStateException ex = assertThrows(IllegalStateException.class, graph::topologicalOrder);
+
+        // THEN
+        assertThat(ex.getMessage()).isEqualTo("Cyclic dependency detected between beans: b -> c -> b");
+    }
+
+    @Test
+    void testTopologicalOrder_selfReferenceIsDetected() {
+        // GIVEN
+        final BeanDependencyGraph graph = BeanDependencyGraph.build(List.of(a), resolver(Map.of(a, List.of(a))));
+
+        // WHEN
+        final IllegalStateException ex = assertThrows(IllegalStateException.class, graph::topologicalOrder);
+
+        // THEN
+        assertThat(ex.getMessage()).isEqualTo("Cyclic dependency detected between beans: a -> a");
+    }
+
+    private static Function<BeanDefinition, Collection<BeanDefinition>> resolver(
+            final Map<BeanDefinition, List<BeanDefinition>> dependencies) {
+        return beanDefinition -> dependencies.getOrDefault(beanDefinition, Collections.emptyList());
+    }
+
+    private static BeanDefinition definition(final String id) {
+        return new BeanDefinition(id, Object.class, true, false, Object::new);
+    }
+}
@@ -28,23 +28,60 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import jakarta.inject.Inject;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 
 import com.github.actionfx.core.ActionFX;
+import com.github.actionfx.core.container.index.ControllerIndex;
+import com.github.actionfx.core.container.index.ControllerIndexProcessor;
 import com.github.actionfx.core.container.instantiation.BeanDefinitionPostProcessor;
+import com.github.actionfx.core.container.instantiation.ControllerInstantiationSupplier;
 import com.github.actionfx.core.container.instantiation.ControllerInstancePostProcessor;
 import com.github.actionfx.core.container.instantiation.MultilingualViewController;
 import com.github.actionfx.core.container.instantiation.SampleViewController;
 import com.github.actionfx.core.converter.ConversionService;
 import com.github.actionfx.core.dialogs.DialogController;
+import com.github.actionfx.core.events.AsyncPriorityAwareEventBus;
 import com.github.actionfx.core.events.PriorityAwareEventBus;
 import com.github.actionfx.core.extension.ActionFXExtensionsBean;
 import com.github.actionfx.core.extension.beans.BeanExtension;
@@ -60,6 +97,7 @@ import com.github.actionfx.core.view.FxmlView;
 import com.github.actionfx.core.view.View;
 import com.github.actionfx.testing.junit5.FxThreadForAllMonocleExtension;
 
+import javafx.application.Platform;
 import javafx.beans.property.SimpleObjectProperty;
 
 /**
@@ -71,6 +109,11 @@ import javafx.beans.property.SimpleObjectProperty;
 @ExtendWith(FxThreadForAllMonocleExtension.class)
 class DefaultActionFXBeanContainerTest {
 
+    private static final String INDEXED_TEST_PACKAGE = "com.github.actionfx.core.test.indexed";
+
+    @TempDir
+    Path tempDir;
+
     @BeforeAll
     static void beforeAll() {
         ActionFX.builder().build();
@@ -94,6 +137,26 @@ class DefaultActionFXBeanContainerTest {
         assertThat(view1).isSameAs(view2); // consecutive calls to getBean yield the same instance
     }
 
+    @Test
+    void testGetBean_singletonSupplierReturnsNull() {
+        // GIVEN
+        final AtomicInteger instantiations = new AtomicInteger();
+        final DefaultActionFXBeanContainer container = new DefaultActionFXBeanContainer();
+        container.addBeanDefinition("beanId", TestView.class, true, true, () -> {
+            instantiations.incrementAndGet();
+            return null;
+        });
+
+        // WHEN
+        final TestView view1 = container.getBean("beanId");
+        final TestView view2 = container.getBean("beanId");
+
+        // THEN (null is treated as created singleton and not as cyclic dependency)
+        assertThat(view1).isNull();
+        assertThat(view2).isNull();
+        assertThat(instantiations).hasValue(1);
+    }
+
     @Test
     void testGetBean_singletonByType() {
         // GIVEN
@@ -215,6 +278,108 @@ class DefaultActionFXBeanContainerTest {
         assertThat(LazilyInitializedController.isConstructed()).isFalse();
     }
 
+    @Test
+    void testRunComponentScan_withControllerIndex() {
+        // GIVEN (index only contains 'MainController' and 'LazilyInitializedController' out of package 'test.app')
+        final ControllerIndex controllerIndex = Mockito.spy(
+                ControllerIndex.load(getClass().getClassLoader(), "controllerindex/test"));
+        // test index is located in the resources root - let's pretend that it covers the test classes as well
+        Mockito.doReturn(true).when(controllerIndex).isComplete(Mockito.any(), Mockito.anyString());
+        final DefaultActionFXBeanContainer container = new DefaultActionFXBeanContainer() {
+            @Override
+            protected ControllerIndex loadControllerIndex() {
+                return controllerIndex;
+            }
+        };
+
+        // WHEN
+        container.runComponentScan(SampleApp.class.getPackageName());
+
+        // THEN (controllers are taken from the index, no classpath scan is performed)
+        assertThat((Object) container.getBean("mainController")).isInstanceOf(MainController.class);
+        assertThat((Object) container.getBean("lazilyInitializedController"))
+                .isInstanceOf(LazilyInitializedController.class);
+        assertThat((Object) container.getBean("nonLazilyInitializedController")).isNull();
+        // controller from other package in index is not considered
+        assertThat((Object) container.getBean("sampleViewController")).isNull();
+    }
+
+    @Test
+    void testRunComponentScan_withControllerIndex_noEntriesForPackage() {
+        // GIVEN (index does not contain controllers for the scanned package)
+        final DefaultActionFXBeanContainer container = new DefaultActionFXBeanContainer() {
+            @Override
+            protected ControllerIndex loadControllerIndex() {
+                return ControllerIndex.load(getClass().getClassLoader(), "non/existing/location");
+            }
+        };
+
+        // WHEN
+        container.runComponentScan(SampleApp.class.getPackageName());
+
+        // THEN (fallback to a classpath scan)
+        assertThat((Object) container.getBean("mainController")).isInstanceOf(MainController.class);
+        assertThat((Object) container.getBean("nonLazilyInitializedController"))
+                .isInstanceOf(NonLazilyInitializedController.class);
+    }
+
+    @Test
+    void testRunComponentScan_withControllerIndex_classpathRootWithoutIndex() {
+        // GIVEN (index is only present in the resources root, but not in the root containing the test classes)
+        final DefaultActionFXBeanContainer container = new DefaultActionFXBeanContainer() {
+            @Override
+            protected ControllerIndex loadControllerIndex() {
+                return ControllerIndex.load(getClass().getClassLoader(), "controllerindex/test");
+            }
+        };
+
+        // WHEN
+        container.runComponentScan(SampleApp.class.getPackageName());
+
+        // THEN (index is incomplete, so controllers missing in the index are found by the classpath scan)
+        assertThat((Object) container.getBean("mainController")).isInstanceOf(MainController.class);
+        assertThat((Object) container.getBean("nonLazilyInitializedController"))
+                .isInstanceOf(NonLazilyInitializedController.class);
+    }
+
+    @Test
+    void testFindControllerClasses_classpathRootWithIndex_noClasspathScan() throws Exception {
+        // GIVEN (a classpath root that is compiled with the annotation processor, i.e. it contains a real index)
+        final Path indexedRoot = compile("indexed", true, "IndexedController");
+        // further classes inside the indexed root must not be visited
+        final Path packageDirectory = indexedRoot.resolve(INDEXED_TEST_PACKAGE.replace('.', '/'));
+        for (int i = 0; i < 100; i++) {
+            Files.createFile(packageDirectory.resolve("Model" + i + ".class"));
+        }
+        final CountingContainer container = new CountingContainer();
+
+        // WHEN
+        final List<Class<?>> controllerClasses = findControllerClassesWithClasspathRoots(container, indexedRoot);
+
+        // THEN (controllers are taken from the index, only the index file is visited)
+        assertThat(controllerClasses).extracting(Class::getName)
+                .containsExactly(INDEXED_TEST_PACKAGE + ".IndexedController");
+        assertThat(container.classpathScans.get()).isZero();
+        assertThat(container.controllerIndex.getVisitedEntries()).isEqualTo(1);
+    }
+
+    @Test
+    void testFindControllerClasses_additionalClasspathRootWithoutIndex_classpathScan() throws Exception {
+        // GIVEN (a second classpath root with classes of the same package is compiled without annotation processor)
+        final Path indexedRoot = compile("indexed", true, "IndexedController");
+        final Path unindexedRoot = compile("unindexed", false, "UnindexedController");
+        final CountingContainer container = new CountingContainer();
+
+        // WHEN
+        final List<Class<?>> controllerClasses = findControllerClassesWithClasspathRoots(container, indexedRoot,
+                unindexedRoot);
+
+        // THEN (index is not complete, controllers of both roots are found by the classpath scan)
+        assertThat(controllerClasses).extracting(Class::getName).containsExactlyInAnyOrder(
+                INDEXED_TEST_PACKAGE + ".IndexedController", INDEXED_TEST_PACKAGE + ".UnindexedController");
+        assertThat(container.classpathScans.get()).isEqualTo(1);
+    }
+
     @Test
     void testGetBean_withDependencyInjection() {
         // GIVEN
@@ -316,6 +481,21 @@ class DefaultActionFXBeanContainerTest {
         verify(beanExtension, times(1)).extendBean(NonController.class, "nonController", true, false);
     }
 
+    @Test
+    void testAddActionFXBeans_withCustomEventBus() {
+        // GIVEN
+        final PriorityAwareEventBus eventBus = new AsyncPriorityAwareEventBus();
+        final ActionFXExtensionsBean extensionsBean = new ActionFXExtensionsBean(Collections.emptyList(),
+                Collections.emptyList(), eventBus);
+        final BeanContainerFacade beanContainer = new DefaultActionFXBeanContainer(extensionsBean);
+
+        // WHEN
+        beanContainer.addActionFXBeans(ActionFX.getInstance());
+
+        // THEN
+        assertThat((Object) beanContainer.getBean(BeanContainerFacade.EVENT_BUS_BEANNAME)).isSameAs(eventBus);
+    }
+
     @Test
     void testAddActionFXBeans() {
         // GIVEN
@@ -336,7 +516,393 @@ class DefaultActionFXBeanContainerTest {
         assertThat((Object) beanContainer.getBean(BeanContainerFacade.CONVERSION_SERVICE_BEANNAME)).isInstanceOf(ConversionService.class);
     }
 
+    @Test
+    void testRunComponentScan_parallelInstantiation() {
+        // GIVEN
+        final DefaultActionFXBeanContainer container = new DefaultActionFXBeanContainer();
+        container.setInstantiationParallelism(4);
+        ServiceA.INSTANCE_COUNT.set(0);
+        ServiceB.INSTANCE_COUNT.set(0);
+        container.addBeanDefinition("serviceC", ServiceC.class, true, false, ServiceC::new);
+        container.addBeanDefinition("serviceB", ServiceB.class, true, false, ServiceB::new);
+        container.addBeanDefinition("serviceA", ServiceA.class, true, true, ServiceA::new);
+
+        // WHEN
+        container.runComponentScan(SampleApp.class.getPackageName());
+
+        // THEN (dependencies are injected and each singleton is created exactly once)
+        final ServiceA serviceA = container.getBean("serviceA");
+        final ServiceB serviceB = container.getBean("serviceB");
+        final ServiceC serviceC = container.getBean("serviceC");
+        assertThat(serviceB.serviceA).isSameAs(serviceA);
+        assertThat(serviceC.serviceA).isSameAs(serviceA);
+        assertThat(serviceC.serviceB).isSameAs(serviceB);
+        assertThat(ServiceA.INSTANCE_COUNT.get()).isEqualTo(1);
+        assertThat(ServiceB.INSTANCE_COUNT.get()).isEqualTo(1);
+        assertThat((Object) container.getBean("mainController")).isInstanceOf(MainController.class);
+    }
+
+    @Test
+    void testInstantiateNonLazyBeans_parallelInstantiation_cyclicDependency() {
+        // GIVEN
+        final DefaultActionFXBeanContainer container = new DefaultActionFXBeanContainer();
+        container.setInstantiationParallelism(2);
+        container.addBeanDefinition("cycleA", CycleA.class, true, false, CycleA::new);
+        container.addBeanDefinition("cycleB", CycleB.class, true, false, CycleB::new);
+
+        // WHEN
+        final IllegalStateException ex = assertThrows(IllegalStateException.class,
+                container::instantiateNonLazyBeans);
+
+        // THEN
+        assertThat(ex.getMessage()).contains("Cyclic dependency detected between beans: cycleA -> cycleB -> cycleA");
+    }
+
+    @Test
+    void testInstantiateNonLazyBeans_parallelInstantiation_controllersAreInstantiatedSequentially() {
+        // GIVEN
+        final DefaultActionFXBeanContainer container = new DefaultActionFXBeanContainer();
+        container.setInstantiationParallelism(4);
+        final Set<String> controllerThreads = ConcurrentHashMap.newKeySet();
+        final Set<String> beanThreads = ConcurrentHashMap.newKeySet();
+        addRecordingBeanDefinitions(container, controllerThreads, beanThreads);
+
+        // WHEN
+        container.instantiateNonLazyBeans();
+
+        // THEN (controllers share a single lane, other beans use the parallel pool)
+        assertThat(controllerThreads).containsExactly("actionfx-controller-instantiation-1");
+        assertThat(beanThreads).isNotEmpty().allMatch(name -> name.startsWith("actionfx-bean-instantiation-"));
+    }
+
+    @Test
+    void testInstantiateNonLazyBeans_parallelInstantiation_offFxThreadViewCreation() {
+        // GIVEN
+        final DefaultActionFXBeanContainer container = new DefaultActionFXBeanContainer();
+        container.setInstantiationParallelism(4);
+        container.setOffFxThreadViewCreation(true);
+        final Set<String> controllerThreads = ConcurrentHashMap.newKeySet();
+        final Set<String> beanThreads = ConcurrentHashMap.newKeySet();
+        addRecordingBeanDefinitions(container, controllerThreads, beanThreads);
+
+        // WHEN
+        container.instantiateNonLazyBeans();
+
+        // THEN (controllers are instantiated by the parallel pool as well)
+        assertThat(controllerThreads).isNotEmpty()
+                .allMatch(name -> name.startsWith("actionfx-bean-instantiation-"));
+        assertThat(beanThreads).isNotEmpty().allMatch(name -> name.startsWith("actionfx-bean-instantiation-"));
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static void addRecordingBeanDefinitions(final DefaultActionFXBeanContainer container,
+            final Set<String> controllerThreads, final Set<String> beanThreads) {
+        for (int i = 0; i < 4; i++) {
+            final ControllerInstantiationSupplier controllerSupplier = Mockito
+                    .mock(ControllerInstantiationSupplier.class);
+            Mockito.when(controllerSupplier.get()).thenAnswer(invocation -> {
+                controllerThreads.add(Thread.currentThread().getName());
+                return new Object();
+            });
+            container.addBeanDefinition("controller" + i, Object.class, true, false, controllerSupplier);
+            container.addBeanDefinition("bean" + i, Object.class, true, false, () -> {
+                beanThreads.add(Thread.currentThread().getName());
+                return new Object();
+            });
+        }
+    }
+
+    @Test
+    void testGetBean_concurrentAccess_singletonIsCreatedExactlyOnce() throws Exception {
+        // GIVEN
+        final DefaultActionFXBeanContainer container = new DefaultActionFXBeanContainer();
+        final AtomicInteger instantiationCount = new AtomicInteger();
+        container.addBeanDefinition("slowBean", ServiceC.class, true, true, () -> {
+            instantiationCount.incrementAndGet();
+            sleep(50);
+            return new ServiceC();
+        });
+
+        // WHEN
+        final Set<Object> beans = requestConcurrently(32, () -> container.getBean("slowBean"));
+
+        // THEN
+        assertThat(beans).hasSize(1);
+        assertThat(instantiationCount.get()).isEqualTo(1);
+        // dependencies are singletons as well
+        final ServiceC bean = container.getBean("slowBean");
+        assertThat(bean.serviceB).isNotNull();
+        assertThat(bean.serviceB.serviceA).isSameAs(bean.serviceA);
+    }
+
+    @Test
+    void testGetBean_concurrentInjection_implicitlyAddedBeanIsSingleton() throws Exception {
+        // GIVEN
+        final DefaultActionFXBeanContainer container = new DefaultActionFXBeanContainer();
+        container.addBeanDefinition("prototype", ServiceB.class, false, true, ServiceB::new);
+
+        // WHEN (the injected ServiceA is not known to the container and is added during injection)
+        final Set<Object> injectedServices = requestConcurrently(32,
+                () -> ((ServiceB) container.getBean("prototype")).serviceA);
+
+        // THEN
+        assertThat(injectedServices).hasSize(1);
+        assertThat(injectedServices).containsExactly(container.getBean("serviceA"));
+    }
+
+    @Test
+    void testGetBean_controllerIsRequestedByWorkerAndFxThreadAtTheSameTime() throws Exception {
+        // GIVEN
+        final DefaultActionFXBeanContainer container = new DefaultActionFXBeanContainer();
+        container.addControllerBeanDefinition(TestController.class);
+        final CountDownLatch workerStarted = new CountDownLatch(1);
+        final CompletableFuture<Object> fxThreadRequest = new CompletableFuture<>();
+        // the JavaFX thread requests the controller, while the worker waits for the JavaFX thread to create it
+        Platform.runLater(() -> {
+            try {
+                workerStarted.await();
+                sleep(100);
+                fxThreadRequest.complete(container.getBean("testController"));
+            } catch (final Throwable e) { // NOSONAR
+                fxThreadRequest.completeExceptionally(e);
+            }
+        });
+
+        // WHEN
+        final CompletableFuture<Object> workerRequest = CompletableFuture.supplyAsync(() -> {
+            workerStarted.countDown();
+            return container.getBean("testController");
+        });
+
+        // THEN (no deadlock and both threads receive the same instance)
+        final Object controller = workerRequest.get(10, TimeUnit.SECONDS);
+        assertThat(controller).isNotNull();
+        assertThat(fxThreadRequest.get(10, TimeUnit.SECONDS)).isSameAs(controller);
+    }
+
+    @Test
+    void testGetBean_cyclicDependency_acrossThreads() throws Exception {
+        // GIVEN
+        final DefaultActionFXBeanContainer container = new DefaultActionFXBeanContainer();
+        final CyclicBarrier barrier = new CyclicBarrier(2);
+        container.addBeanDefinition("beanA", Object.class, true, true, () -> {
+            awaitBarrier(barrier);
+            return container.getBean("beanB");
+        });
+        container.addBeanDefinition("beanB", Object.class, true, true, () -> {
+            awaitBarrier(barrier);
+            return container.getBean("beanA");
+        });
+
+        // WHEN (beanA is created by one thread and beanB by another thread)
+        final CompletableFuture<Object> requestA = CompletableFuture.supplyAsync(() -> container.getBean("beanA"));
+        final CompletableFuture<Object> requestB = CompletableFuture.supplyAsync(() -> container.getBean("beanB"));
+
+        // THEN (no deadlock, the cycle is detected)
+        final ExecutionException exA = assertThrows(ExecutionException.class, () -> requestA.get(10, TimeUnit.SECONDS));
+        final ExecutionException exB = assertThrows(ExecutionException.class, () -> requestB.get(10, TimeUnit.SECONDS));
+        assertThat(exA.getCause()).hasMessageContaining("Is there a cyclic dependency?");
+        assertThat(exB.getCause()).hasMessageContaining("Is there a cyclic dependency?");
+    }
+
+    @Test
+    void testGetBean_cyclicDependency() {
+        // GIVEN
+        final DefaultActionFXBeanContainer container = new DefaultActionFXBeanContainer();
+        container.addBeanDefinition("cycleA", CycleA.class, true, true, CycleA::new);
+        container.addBeanDefinition("cycleB", CycleB.class, true, true, CycleB::new);
+
+        // WHEN
+        final IllegalStateException ex = assertThrows(IllegalStateException.class, () -> container.getBean("cycleA"));
+
+        // THEN
+        assertThat(ex.getMessage()).isEqualTo(
+                "Bean with ID 'cycleA' is requested while being created. Is there a cyclic dependency?");
+    }
+
+    @Test
+    void testSetInstantiationParallelism_invalidValue() {
+        // GIVEN
+        final DefaultActionFXBeanContainer container = new DefaultActionFXBeanContainer();
+
+        // WHEN and THEN
+        assertThrows(IllegalArgumentException.class, () -> container.setInstantiationParallelism(0));
+    }
+
+    /**
+     * Requests a bean from the given number of threads at the same time.
+     *
+     * @param threadCount
+     *            the number of threads
+     * @param beanRequest
+     *            the request to execute in each thread
+     * @return the distinct beans returned by the requests (compared by identity)
+     */
+    private static Set<Object> requestConcurrently(final int threadCount, final Callable<Object> beanRequest)
+            throws Exception {
+        final ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        final CountDownLatch startSignal = new CountDownLatch(1);
+        final List<Future<Object>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < threadCount; i++) {
+                futures.add(executorService.submit(() -> {
+                    startSignal.await();
+                    return beanRequest.call();
+                }));
+            }
+            startSignal.countDown();
+            final Set<Object> beans = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (final Future<Object> future : futures) {
+                beans.add(future.get(30, TimeUnit.SECONDS));
+            }
+            return beans;
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private static void awaitBarrier(final CyclicBarrier barrier) {
+        try {
+            barrier.await(10, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (final BrokenBarrierException | TimeoutException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     public static class NonController {
 
     }
+
+    public static class ServiceA {
+
+        static final AtomicInteger INSTANCE_COUNT = new AtomicInteger();
+
+        public ServiceA() {
+            INSTANCE_COUNT.incrementAndGet();
+        }
+    }
+
+    public static class ServiceB {
+
+        static final AtomicInteger INSTANCE_COUNT = new AtomicInteger();
+
+        @Inject
+        ServiceA serviceA;
+
+        public ServiceB() {
+            INSTANCE_COUNT.incrementAndGet();
+        }
+    }
+
+    public static class ServiceC {
+
+        @Inject
+        ServiceA serviceA;
+
+        @Inject
+        ServiceB serviceB;
+    }
+
+    public static class CycleA {
+
+        @Inject
+        CycleB cycleB;
+    }
+
+    public static class CycleB {
+
+        @Inject
+        CycleA cycleA;
+    }
+
+    /**
+     * Compiles a controller with the given {@code simpleClassName} into a new classpath root.
+     *
+     * @param rootName
+     *            the name of the classpath root directory
+     * @param withAnnotationProcessor
+     *            {@code true}, if the {@link ControllerIndexProcessor} shall create an index
+     * @param simpleClassName
+     *            the simple name of the controller class
+     * @return the classpath root
+     */
+    private Path compile(final String rootName, final boolean withAnnotationProcessor, final String simpleClassName)
+            throws IOException {
+        final Path sourceFile = tempDir.resolve(simpleClassName + ".java");
+        Files.writeString(sourceFile, String.join("\n", "package " + INDEXED_TEST_PACKAGE + ";",
+                "@com.github.actionfx.core.annotation.AFXController(viewId = \"" + simpleClassName
+                        + "View\", fxml = \"/testfxml/SampleView.fxml\")",
+                "public class " + simpleClassName + " {}"), StandardCharsets.UTF_8);
+        final Path outputDir = Files.createDirectory(tempDir.resolve(rootName));
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null,
+                StandardCharsets.UTF_8)) {
+            final String classpath = Stream.of(System.getProperty("java.class.path"),
+                    System.getProperty("jdk.module.path")).filter(path -> path != null && !path.isEmpty())
+                    .collect(Collectors.joining(File.pathSeparator));
+            final List<String> options = new ArrayList<>(List.of("-classpath", classpath, "-d", outputDir.toString()));
+            if (!withAnnotationProcessor) {
+                options.add("-proc:none");
+            }
+            final JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null, options, null,
+                    fileManager.getJavaFileObjects(sourceFile.toFile()));
+            if (withAnnotationProcessor) {
+                task.setProcessors(List.of(new ControllerIndexProcessor()));
+            }
+            assertThat(task.call()).isTrue();
+        }
+        assertThat(outputDir.resolve(ControllerIndex.INDEX_DIRECTORY).toFile().exists())
+                .isEqualTo(withAnnotationProcessor);
+        return outputDir;
+    }
+
+    private static List<Class<?>> findControllerClassesWithClasspathRoots(final DefaultActionFXBeanContainer container,
+            final Path... classpathRoots) throws IOException {
+        final URL[] urls = new URL[classpathRoots.length];
+        for (int i = 0; i < classpathRoots.length; i++) {
+            urls[i] = classpathRoots[i].toUri().toURL();
+        }
+        final Thread currentThread = Thread.currentThread();
+        final ClassLoader previousClassLoader = currentThread.getContextClassLoader();
+        try (URLClassLoader classLoader = new URLClassLoader(urls, DefaultActionFXBeanContainerTest.class
+                .getClassLoader())) {
+            currentThread.setContextClassLoader(classLoader);
+            return container.findControllerClasses(INDEXED_TEST_PACKAGE);
+        } finally {
+            currentThread.setContextClassLoader(previousClassLoader);
+        }
+    }
+
+    /**
+     * Container that counts the performed classpath scans and keeps the loaded controller index.
+     */
+    private static class CountingContainer extends DefaultActionFXBeanContainer {
+
+        private final AtomicInteger classpathScans = new AtomicInteger();
+
+        private ControllerIndex controllerIndex;
+
+        @Override
+        protected ControllerIndex loadControllerIndex() {
+            controllerIndex = super.loadControllerIndex();
+            return controllerIndex;
+        }
+
+        @Override
+        protected List<Class<?>> scanControllerClasses(final String rootPackage) {
+            classpathScans.incrementAndGet();
+            return super.scanControllerClasses(rootPackage);
+        }
+    }
 }
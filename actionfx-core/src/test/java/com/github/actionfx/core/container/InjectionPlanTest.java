@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026 Martin Koster
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.actionfx.core.container;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.actionfx.core.annotation.AFXController;
+import com.github.actionfx.core.view.View;
+
+/**
+ * JUnit test case for {@link InjectionPlan}.
+ *
+ * @author koster
+ *
+ */
+class InjectionPlanTest {
+
+    @Test
+    void testForClass() {
+        // WHEN
+        final InjectionPlan plan = InjectionPlan.forClass(DerivedBean.class);
+
+        // THEN (fields of the class itself come first, followed by super-class fields)
+        final List<InjectionPlan.InjectionPoint> injectionPoints = plan.getInjectionPoints();
+        assertThat(plan.isEmpty()).isFalse();
+        assertThat(injectionPoints).extracting(InjectionPlan.InjectionPoint::getName).containsExactly("derivedValue",
+                "baseValue");
+        assertThat(injectionPoints).extracting(InjectionPlan.InjectionPoint::getType)
+                .containsExactly(Integer.class, String.class);
+        assertThat(injectionPoints).noneMatch(InjectionPlan.InjectionPoint::isViewInjection);
+    }
+
+    @Test
+    void testForClass_isCached() {
+        // WHEN
+        final InjectionPlan plan1 = InjectionPlan.forClass(DerivedBean.class);
+        final InjectionPlan plan2 = InjectionPlan.forClass(DerivedBean.class);
+
+        // THEN
+        assertThat(plan1).isSameAs(plan2);
+    }
+
+    @Test
+    void testForClass_noInjectableFields() {
+        // WHEN
+        final InjectionPlan plan = InjectionPlan.forClass(Object.class);
+
+        // THEN
+        assertThat(plan.isEmpty()).isTrue();
+    }
+
+    @Test
+    void testForClass_viewInjection() {
+        // WHEN
+        final InjectionPlan plan = InjectionPlan.forClass(ControllerWithView.class);
+
+        // THEN
+        assertThat(plan.getInjectionPoints()).hasSize(2);
+        assertThat(plan.getInjectionPoints().get(0).getName()).isEqualTo("myView");
+        assertThat(plan.getInjectionPoints().get(0).isViewInjection()).isTrue();
+        assertThat(plan.getInjectionPoints().get(1).getName()).isEqualTo("baseValue");
+        assertThat(plan.getInjectionPoints().get(1).isViewInjection()).isFalse();
+    }
+
+    @Test
+    void testInject() {
+        // GIVEN
+        final DerivedBean bean = new DerivedBean();
+        final InjectionPlan plan = InjectionPlan.forClass(DerivedBean.class);
+
+        // WHEN
+        plan.getInjectionPoints().get(0).inject(bean, Integer.valueOf(42));
+        plan.getInjectionPoints().get(1).inject(bean, "Hello World");
+
+        // THEN
+        assertThat(bean.derivedValue).isEqualTo(42);
+        assertThat(bean.getBaseValue()).isEqualTo("Hello World");
+    }
+
+    @Test
+    void testInject_staticField() {
+        // GIVEN
+        final InjectionPlan plan = InjectionPlan.forClass(BeanWithStaticField.class);
+
+        // WHEN
+        plan.getInjectionPoints().get(0).inject(new BeanWithStaticField(), "Hello World");
+
+        // THEN
+        assertThat(BeanWithStaticField.staticValue).isEqualTo("Hello World");
+    }
+
+    public static class BaseBean {
+
+        @Inject
+        private String baseValue;
+
+        private String notInjected;
+
+        public String getBaseValue() {
+            return baseValue;
+        }
+
+        public String getNotInjected() {
+            return notInjected;
+        }
+    }
+
+    public static class DerivedBean extends BaseBean {
+
+        @Inject
+        Integer derivedValue;
+    }
+
+    @AFXController(viewId = "myView", fxml = "/testfxml/SampleView.fxml")
+    public static class ControllerWithView extends BaseBean {
+
+        @Inject
+        View myView;
+    }
+
+    public static class BeanWithStaticField {
+
+        @Inject
+        static String staticValue;
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026 Martin Koster
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.actionfx.core.container.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * JUnit test case for {@link ControllerIndexProcessor}.
+ *
+ * @author koster
+ *
+ */
+class ControllerIndexProcessorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testProcess() throws IOException {
+        // GIVEN
+        final Path sourceFile = tempDir.resolve("SomeController.java");
+        Files.writeString(sourceFile, String.join("\n", "package some.pkg;",
+                "import com.github.actionfx.core.annotation.AFXController;",
+                "@AFXController(viewId = \"someView\", fxml = \"/some.fxml\", lazyInit = false)",
+                "public class SomeController {",
+                "  @AFXController(viewId = \"nestedView\", fxml = \"/nested.fxml\", singleton = false)",
+                "  public static class NestedController {}", "}"), StandardCharsets.UTF_8);
+        final Path outputDir = Files.createDirectory(tempDir.resolve("classes"));
+
+        // WHEN
+        final boolean success = compile(outputDir, sourceFile);
+
+        // THEN
+        assertThat(success).isTrue();
+        final List<String> lines = readIndexLines(outputDir);
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0)).startsWith("#");
+        assertThat(lines.get(1)).isEqualTo("some.pkg.SomeController");
+        assertThat(lines.get(2)).isEqualTo("some.pkg.SomeController$NestedController");
+    }
+
+    @Test
+    void testProcess_noControllers() throws IOException {
+        // GIVEN
+        final Path sourceFile = tempDir.resolve("NoController.java");
+        Files.writeString(sourceFile, "package some.pkg; public class NoController {}", StandardCharsets.UTF_8);
+        final Path outputDir = Files.createDirectory(tempDir.resolve("classes"));
+
+        // WHEN
+        final boolean success = compile(outputDir, sourceFile);
+
+        // THEN (an empty index is written, so that the classpath root is known to be indexed)
+        assertThat(success).isTrue();
+        final List<String> lines = readIndexLines(outputDir);
+        assertThat(lines).hasSize(1);
+        assertThat(lines.get(0)).startsWith("#");
+    }
+
+    @Test
+    void testIndexFileName() {
+        // WHEN
+        final String name = ControllerIndexProcessor.indexFileName("a.b.C\n");
+
+        // THEN (name is reproducible and differs for different content)
+        assertThat(name).matches("[0-9a-f]{32}\\.index");
+        assertThat(ControllerIndexProcessor.indexFileName("a.b.C\n")).isEqualTo(name);
+        assertThat(ControllerIndexProcessor.indexFileName("a.b.D\n")).isNotEqualTo(name);
+    }
+
+    private static List<String> readIndexLines(final Path outputDir) throws IOException {
+        final List<Path> indexFiles;
+        try (Stream<Path> paths = Files.list(outputDir.resolve(ControllerIndex.INDEX_DIRECTORY))) {
+            indexFiles = paths.collect(Collectors.toList());
+        }
+        assertThat(indexFiles).hasSize(1);
+        assertThat(indexFiles.get(0).getFileName().toString()).endsWith(ControllerIndex.INDEX_FILE_SUFFIX);
+        return Files.readAllLines(indexFiles.get(0), StandardCharsets.UTF_8);
+    }
+
+    private static boolean compile(final Path outputDir, final Path... sourceFiles) throws IOException {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null,
+                StandardCharsets.UTF_8)) {
+            final Iterable<? extends JavaFileObject> compilationUnits = fileManager
+                    .getJavaFileObjects(sourceFiles);
+            final List<String> options = Arrays.asList("-classpath", testClasspath(), "-d", outputDir.toString(),
+                    "-proc:only");
+            final JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null, options, null,
+                    compilationUnits);
+            task.setProcessors(List.of(new ControllerIndexProcessor()));
+            return task.call();
+        }
+    }
+
+    private static String testClasspath() {
+        // JavaFX might be placed on the module path - we need it on the classpath for compilation
+        return Stream.of(System.getProperty("java.class.path"), System.getProperty("jdk.module.path"))
+                .filter(path -> path != null && !path.isEmpty()).collect(Collectors.joining(File.pathSeparator));
+    }
+}
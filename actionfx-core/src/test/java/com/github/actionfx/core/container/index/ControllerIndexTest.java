@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2026 Martin Koster
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.actionfx.core.container.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.github.actionfx.core.test.app.MainController;
+
+/**
+ * JUnit test case for {@link ControllerIndex}.
+ *
+ * @author koster
+ *
+ */
+class ControllerIndexTest {
+
+    private static final String TEST_INDEX_DIRECTORY = "controllerindex/test";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testLoad() {
+        // WHEN
+        final ControllerIndex index = ControllerIndex.load(getClass().getClassLoader(), TEST_INDEX_DIRECTORY);
+
+        // THEN (comment and malformed line are skipped)
+        assertThat(index.isPresent()).isTrue();
+        assertThat(index.getEntries()).hasSize(3);
+        final ControllerIndex.Entry entry = index.getEntries().get(0);
+        assertThat(entry.getClassName()).isEqualTo(MainController.class.getName());
+    }
+
+    @Test
+    void testLoad_indexNotPresent() {
+        // WHEN
+        final ControllerIndex index = ControllerIndex.load(getClass().getClassLoader(), "non/existing/location.index");
+
+        // THEN
+        assertThat(index.isPresent()).isFalse();
+        assertThat(index.getEntries()).isEmpty();
+    }
+
+    @Test
+    void testGetEntries_byPackage() {
+        // GIVEN
+        final ControllerIndex index = ControllerIndex.load(getClass().getClassLoader(), TEST_INDEX_DIRECTORY);
+
+        // WHEN
+        final List<ControllerIndex.Entry> appEntries = index.getEntries("com.github.actionfx.core.test.app");
+        final List<ControllerIndex.Entry> rootEntries = index.getEntries("com.github.actionfx.core");
+        final List<ControllerIndex.Entry> otherEntries = index.getEntries("com.github.actionfx.core.test.ap");
+
+        // THEN
+        assertThat(appEntries).hasSize(2);
+        assertThat(rootEntries).hasSize(3);
+        assertThat(otherEntries).isEmpty();
+    }
+
+    @Test
+    void testIsComplete() {
+        // GIVEN (test index is located in the resources root, while the controllers reside in the classes root)
+        final ControllerIndex index = ControllerIndex.load(getClass().getClassLoader(), TEST_INDEX_DIRECTORY);
+
+        // WHEN and THEN
+        assertThat(index.isComplete(getClass().getClassLoader(), "com.github.actionfx.core.test.app")).isFalse();
+        assertThat(index.isComplete(getClass().getClassLoader(), "controllerindex")).isTrue();
+        assertThat(index.isComplete(getClass().getClassLoader(), "")).isFalse();
+    }
+
+    @Test
+    void testIsComplete_indexNotPresent() {
+        // GIVEN
+        final ControllerIndex index = ControllerIndex.load(getClass().getClassLoader(), "non/existing/location.index");
+
+        // WHEN and THEN
+        assertThat(index.isComplete(getClass().getClassLoader(), "controllerindex")).isFalse();
+    }
+
+    @Test
+    void testIsComplete_fatJarWithIndexesOfSeveralModules() throws IOException {
+        // GIVEN (fat JAR with classes and index files of two modules and many further classes)
+        final List<String> classFiles = new ArrayList<>(List.of("merged/app/a/ControllerA.class",
+                "merged/app/b/ControllerB.class"));
+        for (int i = 0; i < 100; i++) {
+            classFiles.add("merged/app/a/Model" + i + ".class");
+        }
+        final Path fatJar = createJar("fat.jar",
+                Map.of("a.index", "merged.app.a.ControllerA\n", "b.index", "merged.app.b.ControllerB\n"),
+                classFiles);
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { fatJar.toUri().toURL() }, null)) {
+            // WHEN
+            final ControllerIndex index = ControllerIndex.load(classLoader);
+
+            // THEN (both index files survived the merge)
+            assertThat(index.isComplete(classLoader, "merged.app")).isTrue();
+            assertThat(index.getEntries("merged.app")).extracting(ControllerIndex.Entry::getClassName)
+                    .containsExactly("merged.app.a.ControllerA", "merged.app.b.ControllerB");
+            // only the index files are visited, not the classes of the JAR
+            assertThat(index.getVisitedEntries()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void testIsComplete_indexedDirectoryIsNotScanned() throws IOException {
+        // GIVEN (classpath root directory with an index file and many classes)
+        final Path root = Files.createDirectory(tempDir.resolve("classes"));
+        Files.createDirectories(root.resolve(ControllerIndex.INDEX_DIRECTORY));
+        Files.writeString(root.resolve(ControllerIndex.INDEX_DIRECTORY).resolve("a.index"), "dir.app.ControllerA\n",
+                StandardCharsets.UTF_8);
+        Files.createDirectories(root.resolve("dir/app"));
+        for (int i = 0; i < 100; i++) {
+            Files.createFile(root.resolve("dir/app/Model" + i + ".class"));
+        }
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { root.toUri().toURL() }, null)) {
+            // WHEN
+            final ControllerIndex index = ControllerIndex.load(classLoader);
+
+            // THEN
+            assertThat(index.isComplete(classLoader, "dir.app")).isTrue();
+            assertThat(index.getEntries("dir.app")).hasSize(1);
+            assertThat(index.getVisitedEntries()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void testIsComplete_additionalJarWithoutIndex() throws IOException {
+        // GIVEN (JAR with index and a second JAR with classes of the same package, but without index)
+        final Path indexedJar = createJar("indexed.jar", Map.of("a.index", "merged.app.a.ControllerA\n"),
+                List.of("merged/app/a/ControllerA.class"));
+        final Path unindexedJar = createJar("unindexed.jar", Map.of(), List.of("merged/app/b/ControllerB.class"));
+
+        try (URLClassLoader classLoader = new URLClassLoader(
+                new URL[] { indexedJar.toUri().toURL(), unindexedJar.toUri().toURL() }, null)) {
+            // WHEN
+            final ControllerIndex index = ControllerIndex.load(classLoader);
+
+            // THEN (index is not complete for packages containing classes of the JAR without index)
+            assertThat(index.isPresent()).isTrue();
+            assertThat(index.isComplete(classLoader, "merged.app")).isFalse();
+            assertThat(index.isComplete(classLoader, "merged.app.b")).isFalse();
+            assertThat(index.isComplete(classLoader, "merged.app.a")).isTrue();
+        }
+    }
+
+    @Test
+    void testRootOf() throws MalformedURLException {
+        // WHEN and THEN
+        assertThat(ControllerIndex.rootOf(new URL("file:/build/classes/com/example/"), "com/example"))
+                .isEqualTo("file:/build/classes/");
+        assertThat(ControllerIndex.rootOf(new URL("jar:file:/lib/app.jar!/" + ControllerIndex.INDEX_DIRECTORY + "/"),
+                ControllerIndex.INDEX_DIRECTORY)).isEqualTo("jar:file:/lib/app.jar!/");
+    }
+
+    @Test
+    void testParseLine() {
+        // WHEN and THEN
+        assertThat(ControllerIndex.parseLine("")).isNull();
+        assertThat(ControllerIndex.parseLine("# comment")).isNull();
+        assertThat(ControllerIndex.parseLine("this line is malformed")).isNull();
+        assertThat(ControllerIndex.parseLine("a.b.C;c;view")).isNull();
+        assertThat(ControllerIndex.parseLine("a.b.C$D").getClassName()).isEqualTo("a.b.C$D");
+    }
+
+    @Test
+    void testEntry_toIndexLine() {
+        // GIVEN
+        final ControllerIndex.Entry entry = new ControllerIndex.Entry("a.b.C");
+
+        // WHEN
+        final String line = entry.toIndexLine();
+
+        // THEN
+        assertThat(line).isEqualTo("a.b.C");
+        assertThat(ControllerIndex.parseLine(line).getClassName()).isEqualTo("a.b.C");
+    }
+
+    @Test
+    void testEntry_loadClass() {
+        // GIVEN
+        final ControllerIndex.Entry entry = new ControllerIndex.Entry(MainController.class.getName());
+
+        // WHEN and THEN
+        assertThat(entry.loadClass(getClass().getClassLoader())).isEqualTo(MainController.class);
+    }
+
+    @Test
+    void testEntry_loadClass_classDoesNotExist() {
+        // GIVEN
+        final ControllerIndex.Entry entry = new ControllerIndex.Entry("a.b.NonExisting");
+
+        // WHEN
+        final IllegalStateException ex = assertThrows(IllegalStateException.class,
+                () -> entry.loadClass(getClass().getClassLoader()));
+
+        // THEN
+        assertThat(ex.getMessage()).contains("can not be loaded");
+    }
+
+    private Path createJar(final String jarName, final Map<String, String> indexFiles,
+            final List<String> classFiles) throws IOException {
+        final Path jar = tempDir.resolve(jarName);
+        final List<String> files = new ArrayList<>(classFiles);
+        indexFiles.keySet().forEach(indexFile -> files.add(ControllerIndex.INDEX_DIRECTORY + "/" + indexFile));
+        // directory entries are required for looking up packages via ClassLoader.getResources
+        final Set<String> directories = new TreeSet<>();
+        for (final String file : files) {
+            for (int index = file.indexOf('/'); index > 0; index = file.indexOf('/', index + 1)) {
+                directories.add(file.substring(0, index + 1));
+            }
+        }
+        try (JarOutputStream outputStream = new JarOutputStream(Files.newOutputStream(jar))) {
+            for (final String directory : directories) {
+                addJarEntry(outputStream, directory, new byte[0]);
+            }
+            for (final Map.Entry<String, String> indexFile : new TreeMap<>(indexFiles).entrySet()) {
+                addJarEntry(outputStream, ControllerIndex.INDEX_DIRECTORY + "/" + indexFile.getKey(),
+                        indexFile.getValue().getBytes(StandardCharsets.UTF_8));
+            }
+            for (final String classFile : classFiles) {
+                // the content of the class files is irrelevant for checking the completeness of the index
+                addJarEntry(outputStream, classFile, new byte[0]);
+            }
+        }
+        return jar;
+    }
+
+    private static void addJarEntry(final JarOutputStream outputStream, final String name, final byte[] content)
+            throws IOException {
+        outputStream.putNextEntry(new JarEntry(name));
+        outputStream.write(content);
+        outputStream.closeEntry();
+    }
+}
@@ -23,16 +23,21 @@
  */
 package com.github.actionfx.core.container.instantiation;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import com.github.actionfx.core.annotation.AFXSubscribe;
 import com.github.actionfx.core.events.PriorityAwareEventBus;
+import com.github.actionfx.core.events.Subscription;
 import com.github.actionfx.core.extension.beans.BeanExtension;
 
 /**
@@ -62,4 +67,43 @@ class BeanDefinitionPostProcessorTest {
 				eq(false));
 	}
 
+	@Test
+	void testUnsubscribe() {
+		// GIVEN
+		final PriorityAwareEventBus eventBus = Mockito.mock(PriorityAwareEventBus.class);
+		final Subscription subscription = Mockito.mock(Subscription.class);
+		when(eventBus.subscribe(eq(String.class), any(), anyInt())).thenReturn(subscription);
+		final BeanDefinitionPostProcessor processor = new BeanDefinitionPostProcessor(eventBus);
+		processor.postProcess(BeanWithSubscribeMethod.class, "beanWithSubscribeMethod", true, true);
+
+		// WHEN
+		processor.unsubscribe("beanWithSubscribeMethod");
+
+		// THEN
+		verify(subscription, times(1)).unsubscribe();
+	}
+
+	@Test
+	void testUnsubscribeAll() {
+		// GIVEN
+		final PriorityAwareEventBus eventBus = Mockito.mock(PriorityAwareEventBus.class);
+		final Subscription subscription = Mockito.mock(Subscription.class);
+		when(eventBus.subscribe(eq(String.class), any(), anyInt())).thenReturn(subscription);
+		final BeanDefinitionPostProcessor processor = new BeanDefinitionPostProcessor(eventBus);
+		processor.postProcess(BeanWithSubscribeMethod.class, "bean1", true, true);
+		processor.postProcess(BeanWithSubscribeMethod.class, "bean2", true, true);
+
+		// WHEN
+		processor.unsubscribeAll();
+
+		// THEN
+		verify(subscription, times(2)).unsubscribe();
+	}
+
+	public static class BeanWithSubscribeMethod {
+
+		@AFXSubscribe(String.class)
+		public void onEvent(final String event) {
+		}
+	}
 }
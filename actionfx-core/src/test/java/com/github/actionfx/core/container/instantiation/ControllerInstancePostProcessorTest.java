@@ -24,13 +24,16 @@
 package com.github.actionfx.core.container.instantiation;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
 import java.util.function.Consumer;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mockito;
 
 import com.github.actionfx.core.extension.controller.CellValueConfigControllerExtension;
@@ -52,6 +55,11 @@ import com.github.actionfx.core.extension.controller.ValidateRequiredControllerE
 import com.github.actionfx.core.extension.controller.ValidateSizeControllerExtension;
 import com.github.actionfx.core.extension.controller.ValidateTemporalControllerExtension;
 import com.github.actionfx.core.view.View;
+import com.github.actionfx.testing.annotation.TestInFxThread;
+import com.github.actionfx.testing.junit5.FxThreadForAllMonocleExtension;
+
+import javafx.scene.Scene;
+import javafx.scene.layout.StackPane;
 
 /**
  * JUnit test for {@link ControllerInstancePostProcessor}.
@@ -59,6 +67,7 @@ import com.github.actionfx.core.view.View;
  * @author koster
  *
  */
+@ExtendWith(FxThreadForAllMonocleExtension.class)
 class ControllerInstancePostProcessorTest {
 
     private final Class<?>[] expectedExtension = new Class[] { //
@@ -131,6 +140,66 @@ class ControllerInstancePostProcessorTest {
         verify(view, times(1)).validate(false);
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    @TestInFxThread
+    void testPostProcess_deferredViewExtensions() {
+        // GIVEN
+        final TestController controller = new TestController();
+        final View view = Mockito.mock(View.class);
+        final StackPane rootNode = new StackPane();
+        when(view.getRootNode()).thenReturn(rootNode);
+        controller.setView(view);
+        final Consumer<Object> extension = Mockito.mock(Consumer.class);
+        final ControllerInstancePostProcessor postProcessor = new ControllerInstancePostProcessor(
+                Arrays.asList(extension));
+
+        // WHEN
+        postProcessor.postProcess(controller, true);
+
+        // THEN (custom extensions and initial validation are deferred)
+        verify(extension, never()).accept(controller);
+        verify(view, never()).validate(false);
+
+        // and WHEN (view is attached to a scene)
+        final Scene scene = new Scene(rootNode);
+
+        // THEN
+        verify(extension, times(1)).accept(controller);
+        verify(view, times(1)).validate(false);
+
+        // and WHEN (view is detached and attached to a scene again)
+        scene.setRoot(new StackPane());
+        new Scene(rootNode);
+
+        // THEN (extensions are only applied once)
+        verify(extension, times(1)).accept(controller);
+        verify(view, times(1)).validate(false);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @TestInFxThread
+    void testPostProcess_deferredViewExtensions_viewAlreadyAttachedToScene() {
+        // GIVEN
+        final TestController controller = new TestController();
+        final View view = Mockito.mock(View.class);
+        final StackPane rootNode = new StackPane();
+        new Scene(rootNode);
+        when(view.getRootNode()).thenReturn(rootNode);
+        controller.setView(view);
+        final Consumer<Object> extension = Mockito.mock(Consumer.class);
+        final ControllerInstancePostProcessor postProcessor = new ControllerInstancePostProcessor(
+                Arrays.asList(extension));
+
+        // WHEN
+        postProcessor.postProcess(controller, true);
+
+        // THEN
+        verify(extension, times(1)).accept(controller);
+        verify(view, times(1)).validate(false);
+    }
+
     public static class TestController {
         public View _view;
 
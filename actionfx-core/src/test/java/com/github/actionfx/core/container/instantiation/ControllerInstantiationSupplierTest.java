@@ -28,8 +28,11 @@ import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.HashSet;
 import java.util.Locale;
 import java.util.ResourceBundle;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -43,6 +46,7 @@ import com.github.actionfx.core.view.ParentView;
 import com.github.actionfx.core.view.View;
 import com.github.actionfx.testing.junit5.FxThreadForEachMonocleExtension;
 
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.Node;
 import javafx.scene.control.Label;
@@ -160,6 +164,75 @@ class ControllerInstantiationSupplierTest {
 		assertThat(ex.getMessage()).isEqualTo("Failed to instantiate class in JavaFX thread!");
 	}
 
+	@Test
+	void testCreateInstance_viewIsCreatedInFxThreadByDefault() {
+		// GIVEN
+		final ControllerInstantiationSupplier<ThreadRecordingController> supplier = new ControllerInstantiationSupplier<>(
+				ThreadRecordingController.class, null, false);
+
+		// WHEN
+		final ThreadRecordingController controller = supplier.get();
+
+		// THEN
+		assertThat(controller.initializedInFxThread).isTrue();
+	}
+
+	@Test
+	void testCreateInstance_offFxThreadViewCreation() {
+		// GIVEN
+		final ControllerInstantiationSupplier<ThreadRecordingController> supplier = new ControllerInstantiationSupplier<>(
+				ThreadRecordingController.class, null, true);
+
+		// WHEN (instantiate in a worker thread)
+		final ThreadRecordingController controller = CompletableFuture.supplyAsync(supplier).join();
+
+		// THEN (FXML is loaded in the worker thread)
+		assertThat(controller.initializedInFxThread).isFalse();
+		final View view = ControllerWrapper.getViewFrom(controller);
+		assertThat(view).isInstanceOf(FxmlView.class);
+		assertThat((Object) view.getRootNode()).isNotNull();
+	}
+
+	@Test
+	void testCreateInstance_offFxThreadViewCreation_viewRequiresFxThread() {
+		// GIVEN
+		FxThreadOnlyViewController.instances.set(0);
+		final ControllerInstantiationSupplier<FxThreadOnlyViewController> supplier = new ControllerInstantiationSupplier<>(
+				FxThreadOnlyViewController.class, null, true);
+
+		// WHEN
+		final FxThreadOnlyViewController controller = CompletableFuture.supplyAsync(supplier).join();
+
+		// THEN (controller is directly created inside the JavaFX thread and is constructed only once)
+		assertThat(controller).isNotNull();
+		assertThat(FxThreadOnlyViewController.instances.get()).isEqualTo(1);
+		final View view = ControllerWrapper.getViewFrom(controller);
+		assertThat(view).isInstanceOf(ParentView.class);
+		assertThat((Object) view.getRootNode()).isInstanceOf(FxThreadOnlyPane.class);
+	}
+
+	@Test
+	void testRequiresFxThread() {
+		// WHEN and THEN
+		assertThat(ControllerInstantiationSupplier
+				.requiresFxThread(FxThreadOnlyViewController.class.getAnnotation(AFXController.class))).isTrue();
+		assertThat(ControllerInstantiationSupplier
+				.requiresFxThread(WebViewController.class.getAnnotation(AFXController.class))).isTrue();
+		assertThat(ControllerInstantiationSupplier
+				.requiresFxThread(IncludingWebViewController.class.getAnnotation(AFXController.class))).isTrue();
+		assertThat(ControllerInstantiationSupplier
+				.requiresFxThread(ThreadRecordingController.class.getAnnotation(AFXController.class))).isFalse();
+		assertThat(ControllerInstantiationSupplier
+				.requiresFxThread(SampleViewController.class.getAnnotation(AFXController.class))).isFalse();
+		assertThat(ControllerInstantiationSupplier.requiresFxThread(null)).isFalse();
+	}
+
+	@Test
+	void testContainsFxThreadOnlyNodes_fxmlDoesNotExist() {
+		// WHEN and THEN
+		assertThat(ControllerInstantiationSupplier.containsFxThreadOnlyNodes(null, new HashSet<>())).isFalse();
+	}
+
 	/**
 	 * View class with constructor accepting a {@link ResourceBundle}.
 	 *
@@ -210,4 +283,75 @@ class ControllerInstantiationSupplierTest {
 	public static class ViewControllerWithInvalidAFXControllerAnnotation {
 
 	}
+
+	/**
+	 * Controller that records, whether its FXML view has been loaded inside the JavaFX thread.
+	 *
+	 * @author koster
+	 *
+	 */
+	@AFXController(viewId = "threadRecordingView", fxml = "/testfxml/SampleView.fxml")
+	public static class ThreadRecordingController {
+
+		protected boolean initializedInFxThread;
+
+		@FXML
+		public void initialize() {
+			initializedInFxThread = Platform.isFxApplicationThread();
+		}
+	}
+
+	/**
+	 * View class simulating a node that can be exclusively created inside the JavaFX thread (like a WebView).
+	 *
+	 * @author koster
+	 *
+	 */
+	public static class FxThreadOnlyPane extends AnchorPane {
+
+		public FxThreadOnlyPane() {
+			if (!Platform.isFxApplicationThread()) {
+				throw new IllegalStateException(
+						"Not on FX application thread; currentThread = " + Thread.currentThread().getName());
+			}
+		}
+	}
+
+	/**
+	 * Controller class for {@link FxThreadOnlyPane}.
+	 *
+	 * @author koster
+	 *
+	 */
+	@AFXController(viewId = "fxThreadOnlyView", viewClass = FxThreadOnlyPane.class, fxThreadOnly = true)
+	public static class FxThreadOnlyViewController {
+
+		protected static final AtomicInteger instances = new AtomicInteger();
+
+		public FxThreadOnlyViewController() {
+			instances.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Controller with an FXML view containing a {@link javafx.scene.web.WebView}.
+	 *
+	 * @author koster
+	 *
+	 */
+	@AFXController(viewId = "webView", fxml = "/testfxml/WebViewView.fxml")
+	public static class WebViewController {
+
+	}
+
+	/**
+	 * Controller with an FXML view that includes an FXML with a {@link javafx.scene.web.WebView}.
+	 *
+	 * @author koster
+	 *
+	 */
+	@AFXController(viewId = "includingWebView", fxml = "/testfxml/ViewIncludingWebView.fxml")
+	public static class IncludingWebViewController {
+
+	}
 }
@@ -0,0 +1,288 @@
+/*
+ * Copyright (c) 2026 Martin Koster
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.actionfx.core.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.actionfx.core.events.AsyncPriorityAwareEventBus.OverflowPolicy;
+
+/**
+ * JUnit test case for {@link AsyncPriorityAwareEventBus}.
+ *
+ * @author koster
+ *
+ */
+class AsyncPriorityAwareEventBusTest {
+
+	private ExecutorService executor;
+
+	@BeforeEach
+	void onSetup() {
+		executor = Executors.newFixedThreadPool(4);
+	}
+
+	@AfterEach
+	void onTearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void testSubscribePublish_eventsAreDeliveredInOrder() throws InterruptedException {
+		// GIVEN
+		final AsyncPriorityAwareEventBus eventBus = new AsyncPriorityAwareEventBus(executor, 8,
+				OverflowPolicy.BLOCK);
+		final List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+		final CountDownLatch latch = new CountDownLatch(1000);
+		eventBus.subscribe(Integer.class, event -> {
+			received.add(event);
+			latch.countDown();
+		}, 1);
+
+		// WHEN
+		for (int i = 0; i < 1000; i++) {
+			eventBus.publish(i);
+		}
+
+		// THEN
+		assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(received).hasSize(1000);
+		for (int i = 0; i < 1000; i++) {
+			assertThat(received.get(i)).isEqualTo(i);
+		}
+		assertThat(eventBus.getDroppedEventCount()).isZero();
+	}
+
+	@Test
+	void testPublish_slowSubscriberDoesNotStallOtherSubscribers() throws InterruptedException {
+		// GIVEN
+		final AsyncPriorityAwareEventBus eventBus = new AsyncPriorityAwareEventBus(executor, 8,
+				OverflowPolicy.DROP_OLDEST);
+		final CountDownLatch slowSubscriberBlocker = new CountDownLatch(1);
+		final CountDownLatch fastSubscriberLatch = new CountDownLatch(1);
+		eventBus.subscribe(String.class, event -> awaitQuietly(slowSubscriberBlocker), 1);
+		eventBus.subscribe(String.class, event -> fastSubscriberLatch.countDown(), 2);
+
+		// WHEN
+		eventBus.publish("Hello World");
+
+		// THEN
+		assertThat(fastSubscriberLatch.await(5, TimeUnit.SECONDS)).isTrue();
+		slowSubscriberBlocker.countDown();
+	}
+
+	@Test
+	void testPublish_dropOldest() throws InterruptedException {
+		// GIVEN
+		final AsyncPriorityAwareEventBus eventBus = new AsyncPriorityAwareEventBus(executor, 2,
+				OverflowPolicy.DROP_OLDEST);
+		final BlockingSubscriber subscriber = new BlockingSubscriber(3);
+		eventBus.subscribe(Object.class, subscriber, 1);
+		eventBus.publish("first");
+		subscriber.awaitFirstEvent();
+
+		// WHEN (mailbox has a capacity of 2)
+		eventBus.publish(1);
+		eventBus.publish(2);
+		eventBus.publish(3);
+		subscriber.unblock();
+
+		// THEN
+		assertThat(subscriber.awaitAllEvents()).isTrue();
+		assertThat(subscriber.received).containsExactly("first", 2, 3);
+		assertThat(eventBus.getDroppedEventCount()).isEqualTo(1);
+	}
+
+	@Test
+	void testPublish_coalesce() throws InterruptedException {
+		// GIVEN
+		final AsyncPriorityAwareEventBus eventBus = new AsyncPriorityAwareEventBus(executor, 2,
+				OverflowPolicy.COALESCE);
+		final BlockingSubscriber subscriber = new BlockingSubscriber(3);
+		eventBus.subscribe(Object.class, subscriber, 1);
+		eventBus.publish("first");
+		subscriber.awaitFirstEvent();
+
+		// WHEN (mailbox has a capacity of 2, "a" is replaced by "b")
+		eventBus.publish(1);
+		eventBus.publish("a");
+		eventBus.publish("b");
+		subscriber.unblock();
+
+		// THEN
+		assertThat(subscriber.awaitAllEvents()).isTrue();
+		assertThat(subscriber.received).containsExactly("first", 1, "b");
+		assertThat(eventBus.getDroppedEventCount()).isEqualTo(1);
+	}
+
+	@Test
+	void testPublish_withOverflowPolicyPerSubscriber() throws InterruptedException {
+		// GIVEN
+		final AsyncPriorityAwareEventBus eventBus = new AsyncPriorityAwareEventBus(executor, 1,
+				OverflowPolicy.BLOCK);
+		final BlockingSubscriber subscriber = new BlockingSubscriber(2);
+		eventBus.subscribe(Object.class, subscriber, 1, OverflowPolicy.DROP_OLDEST);
+		eventBus.publish("first");
+		subscriber.awaitFirstEvent();
+
+		// WHEN (publishing does not block, although the mailbox is full)
+		eventBus.publish(1);
+		eventBus.publish(2);
+		subscriber.unblock();
+
+		// THEN
+		assertThat(subscriber.awaitAllEvents()).isTrue();
+		assertThat(subscriber.received).containsExactly("first", 2);
+	}
+
+	@Test
+	void testPublish_exceptionIsPassedToCallback() throws InterruptedException {
+		// GIVEN
+		final AsyncPriorityAwareEventBus eventBus = new AsyncPriorityAwareEventBus(executor, 8,
+				OverflowPolicy.BLOCK);
+		final IllegalStateException ex = new IllegalStateException();
+		final AtomicReference<Exception> caught = new AtomicReference<>();
+		final CountDownLatch latch = new CountDownLatch(1);
+		eventBus.subscribe(String.class, event -> {
+			throw ex;
+		}, 1);
+
+		// WHEN
+		eventBus.publish("Hello World", e -> {
+			caught.set(e);
+			latch.countDown();
+		});
+
+		// THEN
+		assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(caught.get()).isSameAs(ex);
+	}
+
+	@Test
+	void testUnsubscribe_pendingEventsAreDiscarded() throws InterruptedException {
+		// GIVEN
+		final AsyncPriorityAwareEventBus eventBus = new AsyncPriorityAwareEventBus(executor, 8,
+				OverflowPolicy.BLOCK);
+		final BlockingSubscriber subscriber = new BlockingSubscriber(1);
+		final Subscription subscription = eventBus.subscribe(Object.class, subscriber, 1);
+		eventBus.publish("first");
+		subscriber.awaitFirstEvent();
+		eventBus.publish("second");
+
+		// WHEN
+		subscription.unsubscribe();
+		eventBus.publish("third");
+		subscriber.unblock();
+
+		// THEN (all draining is finished once the executor has terminated)
+		assertThat(subscriber.awaitAllEvents()).isTrue();
+		executor.shutdown();
+		assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(subscriber.received).containsExactly("first");
+	}
+
+	@Test
+	void testPublish_executorRejectsDrain_eventIsDropped() {
+		// GIVEN
+		final AsyncPriorityAwareEventBus eventBus = new AsyncPriorityAwareEventBus(executor, 8,
+				OverflowPolicy.BLOCK);
+		final List<String> received = Collections.synchronizedList(new ArrayList<>());
+		eventBus.subscribe(String.class, received::add, 0);
+		executor.shutdown();
+
+		// WHEN
+		eventBus.publish("event");
+
+		// THEN
+		assertThat(received).isEmpty();
+		assertThat(eventBus.getDroppedEventCount()).isEqualTo(1);
+	}
+
+	@Test
+	void testConstructor_invalidMailboxCapacity() {
+		// WHEN and THEN
+		assertThrows(IllegalArgumentException.class,
+				() -> new AsyncPriorityAwareEventBus(executor, 0, OverflowPolicy.BLOCK));
+	}
+
+	private static void awaitQuietly(final CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Subscriber that blocks on the first received event until it is unblocked.
+	 */
+	private static class BlockingSubscriber implements Consumer<Object> {
+
+		private final List<Object> received = Collections.synchronizedList(new ArrayList<>());
+
+		private final CountDownLatch firstEventLatch = new CountDownLatch(1);
+
+		private final CountDownLatch unblockLatch = new CountDownLatch(1);
+
+		private final CountDownLatch allEventsLatch;
+
+		BlockingSubscriber(final int expectedEvents) {
+			allEventsLatch = new CountDownLatch(expectedEvents);
+		}
+
+		@Override
+		public void accept(final Object event) {
+			received.add(event);
+			firstEventLatch.countDown();
+			awaitQuietly(unblockLatch);
+			allEventsLatch.countDown();
+		}
+
+		void awaitFirstEvent() throws InterruptedException {
+			firstEventLatch.await(5, TimeUnit.SECONDS);
+		}
+
+		void unblock() {
+			unblockLatch.countDown();
+		}
+
+		boolean awaitAllEvents() throws InterruptedException {
+			return allEventsLatch.await(5, TimeUnit.SECONDS);
+		}
+	}
+}
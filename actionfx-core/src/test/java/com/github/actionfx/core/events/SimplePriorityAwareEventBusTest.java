@@ -29,6 +29,7 @@ import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
@@ -141,6 +142,105 @@ class SimplePriorityAwareEventBusTest {
 		assertThat(invocationOrder).containsExactly(1, 2, 3);
 	}
 
+	@Test
+	void testSubscribePublish_subscriptionAfterPublish_isConsideredOnNextPublish() {
+		// GIVEN
+		final SimplePriorityAwareEventBus eventBus = new SimplePriorityAwareEventBus();
+		final List<Integer> invocationOrder = new ArrayList<>();
+		eventBus.subscribe(DerivedType.class, event -> invocationOrder.add(2), 2);
+		eventBus.publish(new DerivedType());
+
+		// WHEN (subscription changes after the dispatch table has been built)
+		eventBus.subscribe(BaseType.class, event -> invocationOrder.add(1), 1);
+		eventBus.publish(new DerivedType());
+
+		// THEN
+		assertThat(invocationOrder).containsExactly(2, 1, 2);
+	}
+
+	@Test
+	void testSubscribePublish_subscribersWithSamePriority_keepSubscriptionOrder() {
+		// GIVEN
+		final SimplePriorityAwareEventBus eventBus = new SimplePriorityAwareEventBus();
+		final List<Integer> invocationOrder = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			final int index = i;
+			eventBus.subscribe(DerivedType.class, event -> invocationOrder.add(index), 1);
+		}
+
+		// WHEN
+		eventBus.publish(new DerivedType());
+		eventBus.publish(new DerivedType());
+
+		// THEN
+		assertThat(invocationOrder).containsExactly(0, 1, 2, 3, 4, 0, 1, 2, 3, 4);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	void testPublish_noSubscribers() {
+		// GIVEN
+		final SimplePriorityAwareEventBus eventBus = new SimplePriorityAwareEventBus();
+		final Consumer<Exception> exceptionCallback = Mockito.mock(Consumer.class);
+
+		// WHEN
+		eventBus.publish(new DerivedType(), exceptionCallback);
+
+		// THEN
+		Mockito.verifyNoInteractions(exceptionCallback);
+	}
+
+	@Test
+	void testUnsubscribe() {
+		// GIVEN
+		final SimplePriorityAwareEventBus eventBus = new SimplePriorityAwareEventBus();
+		final List<Integer> invocationOrder = new ArrayList<>();
+		final Subscription subscription = eventBus.subscribe(DerivedType.class, event -> invocationOrder.add(1), 1);
+		eventBus.subscribe(BaseType.class, event -> invocationOrder.add(2), 2);
+		eventBus.publish(new DerivedType());
+
+		// WHEN
+		subscription.unsubscribe();
+		subscription.unsubscribe();
+		eventBus.publish(new DerivedType());
+
+		// THEN
+		assertThat(invocationOrder).containsExactly(1, 2, 2);
+	}
+
+	@Test
+	void testSubscribeWeakly() {
+		// GIVEN
+		final SimplePriorityAwareEventBus eventBus = new SimplePriorityAwareEventBus();
+		final List<String> received = new ArrayList<>();
+		final StringBuilder owner = new StringBuilder("owner");
+		eventBus.subscribeWeakly(String.class, owner, (o, event) -> received.add(o + ":" + event), 1);
+
+		// WHEN
+		eventBus.publish("Hello World");
+
+		// THEN
+		assertThat(received).containsExactly("owner:Hello World");
+	}
+
+	@Test
+	void testSubscribeWeakly_ownerIsGarbageCollected() {
+		// GIVEN
+		final SimplePriorityAwareEventBus eventBus = new SimplePriorityAwareEventBus();
+		final List<String> received = new ArrayList<>();
+		final WeakReference<Object> ownerReference = new WeakReference<>(new Object());
+		eventBus.subscribeWeakly(String.class, ownerReference, (o, event) -> received.add(event), 1);
+		assertThat(eventBus.getNumberOfSubscriptions()).isOne();
+
+		// WHEN (clearing the reference is what the garbage collector does)
+		ownerReference.clear();
+		eventBus.publish("Hello World");
+
+		// THEN (subscription is removed on publish)
+		assertThat(received).isEmpty();
+		assertThat(eventBus.getNumberOfSubscriptions()).isZero();
+	}
+
 	public static class BaseType {
 
 	}
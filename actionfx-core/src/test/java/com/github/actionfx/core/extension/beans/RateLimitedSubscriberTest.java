@@ -0,0 +1,343 @@
+/*
+ * Copyright (c) 2026 Martin Koster
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.actionfx.core.extension.beans;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.Thread.UncaughtExceptionHandler;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.testfx.util.WaitForAsyncUtils;
+
+import com.github.actionfx.core.extension.beans.RateLimitedSubscriber.FlushScheduler;
+import com.github.actionfx.core.extension.beans.RateLimitedSubscriber.Mode;
+import com.github.actionfx.testing.junit5.FxThreadForAllMonocleExtension;
+
+import javafx.application.Platform;
+
+/**
+ * JUnit test case for {@link RateLimitedSubscriber}.
+ *
+ * @author koster
+ *
+ */
+@ExtendWith(FxThreadForAllMonocleExtension.class)
+class RateLimitedSubscriberTest {
+
+	private final List<Object> deliveredEvents = new CopyOnWriteArrayList<>();
+
+	private final List<Boolean> deliveredInFxThread = new CopyOnWriteArrayList<>();
+
+	private final ManualFlushScheduler scheduler = new ManualFlushScheduler();
+
+	@Test
+	void testAccept_throttle_defaultScheduler() throws Exception {
+		// GIVEN
+		final RateLimitedSubscriber subscriber = new RateLimitedSubscriber(this::deliver, Mode.THROTTLE, 200, "");
+
+		// WHEN
+		subscriber.accept("Event 1");
+
+		// THEN
+		WaitForAsyncUtils.waitFor(5, TimeUnit.SECONDS, () -> !deliveredEvents.isEmpty());
+		assertThat(deliveredEvents).containsExactly("Event 1");
+		assertThat(deliveredInFxThread).containsOnly(Boolean.TRUE);
+	}
+
+	@Test
+	void testAccept_throttle_onlyLatestEventIsDelivered() {
+		// GIVEN
+		final RateLimitedSubscriber subscriber = rateLimitedSubscriber(Mode.THROTTLE, 200, "");
+
+		// WHEN
+		for (int i = 0; i < 100; i++) {
+			subscriber.accept("Event " + i);
+		}
+		scheduler.advance(0);
+
+		// THEN
+		assertThat(deliveredEvents).containsExactly("Event 99");
+		assertThat(deliveredInFxThread).containsOnly(Boolean.TRUE);
+		scheduler.advance(400);
+		assertThat(deliveredEvents).containsExactly("Event 99");
+	}
+
+	@Test
+	void testAccept_throttle_atMostOneDeliveryPerWindow() {
+		// GIVEN
+		final RateLimitedSubscriber subscriber = rateLimitedSubscriber(Mode.THROTTLE, 200, "");
+		subscriber.accept("Event 1");
+		scheduler.advance(50);
+
+		// WHEN (next event is published shortly after the first delivery)
+		subscriber.accept("Event 2");
+
+		// THEN (second event is delayed until the window has elapsed)
+		scheduler.advance(149);
+		assertThat(deliveredEvents).containsExactly("Event 1");
+		scheduler.advance(1);
+		assertThat(deliveredEvents).containsExactly("Event 1", "Event 2");
+	}
+
+	@Test
+	void testAccept_debounce() {
+		// GIVEN
+		final RateLimitedSubscriber subscriber = rateLimitedSubscriber(Mode.DEBOUNCE, 200, "");
+
+		// WHEN (events are published with a pause shorter than the window)
+		subscriber.accept("Event 1");
+		scheduler.advance(100);
+		subscriber.accept("Event 2");
+		scheduler.advance(100);
+		subscriber.accept("Event 3");
+
+		// THEN
+		scheduler.advance(199);
+		assertThat(deliveredEvents).isEmpty();
+		scheduler.advance(1);
+		assertThat(deliveredEvents).containsExactly("Event 3");
+		assertThat(deliveredInFxThread).containsOnly(Boolean.TRUE);
+	}
+
+	@Test
+	void testAccept_fxPulse() {
+		// GIVEN
+		final RateLimitedSubscriber subscriber = new RateLimitedSubscriber(this::deliver, Mode.FX_PULSE, 0, "");
+
+		// WHEN
+		for (int i = 0; i < 100; i++) {
+			subscriber.accept("Event " + i);
+		}
+
+		// THEN
+		WaitForAsyncUtils.sleep(300, TimeUnit.MILLISECONDS);
+		assertThat(deliveredEvents).containsExactly("Event 99");
+		assertThat(deliveredInFxThread).containsOnly(Boolean.TRUE);
+	}
+
+	@Test
+	void testAccept_coalesceByKey() {
+		// GIVEN
+		final RateLimitedSubscriber subscriber = rateLimitedSubscriber(Mode.THROTTLE, 200, "id");
+		final StateChangedEvent event1 = new StateChangedEvent("a", 1);
+		final StateChangedEvent event2 = new StateChangedEvent("b", 1);
+		final StateChangedEvent event3 = new StateChangedEvent("a", 2);
+
+		// WHEN
+		subscriber.accept(event1);
+		subscriber.accept(event2);
+		subscriber.accept(event3);
+		scheduler.advance(0);
+
+		// THEN (latest event per key, in the order of the latest arrival)
+		assertThat(deliveredEvents).containsExactly(event2, event3);
+	}
+
+	@Test
+	void testAccept_coalesceByEventClass() {
+		// GIVEN
+		final RateLimitedSubscriber subscriber = rateLimitedSubscriber(Mode.THROTTLE, 200, "");
+
+		// WHEN
+		subscriber.accept("Event 1");
+		subscriber.accept(Integer.valueOf(1));
+		subscriber.accept("Event 2");
+		scheduler.advance(0);
+
+		// THEN
+		assertThat(deliveredEvents).containsExactly(Integer.valueOf(1), "Event 2");
+	}
+
+	@Test
+	void testCancel_pendingEventsAreDiscarded() {
+		// GIVEN
+		final RateLimitedSubscriber subscriber = rateLimitedSubscriber(Mode.THROTTLE, 200, "");
+		subscriber.accept("Event 1");
+		scheduler.advance(50);
+		subscriber.accept("Event 2");
+
+		// WHEN
+		subscriber.cancel();
+
+		// THEN
+		scheduler.advance(400);
+		assertThat(deliveredEvents).containsExactly("Event 1");
+	}
+
+	@Test
+	void testCancel_fxPulse_pendingEventsAreDiscarded() {
+		// GIVEN
+		final RateLimitedSubscriber subscriber = new RateLimitedSubscriber(this::deliver, Mode.FX_PULSE, 0, "");
+		subscriber.accept("Event 1");
+
+		// WHEN
+		subscriber.cancel();
+
+		// THEN
+		WaitForAsyncUtils.sleep(300, TimeUnit.MILLISECONDS);
+		assertThat(deliveredEvents).isEmpty();
+	}
+
+	@Test
+	void testAccept_delegateThrowsException_remainingEventsAreDelivered() throws Exception {
+		// GIVEN
+		final List<Throwable> uncaughtExceptions = new CopyOnWriteArrayList<>();
+		final UncaughtExceptionHandler previousHandler = WaitForAsyncUtils.asyncFx(() -> {
+			final Thread fxThread = Thread.currentThread();
+			final UncaughtExceptionHandler handler = fxThread.getUncaughtExceptionHandler();
+			fxThread.setUncaughtExceptionHandler((thread, throwable) -> uncaughtExceptions.add(throwable));
+			return handler;
+		}).get(5, TimeUnit.SECONDS);
+		final RateLimitedSubscriber subscriber = new RateLimitedSubscriber(event -> {
+			if (Integer.valueOf(1).equals(event)) {
+				throw new IllegalStateException("Failed");
+			}
+			deliver(event);
+		}, Mode.THROTTLE, 200, "", scheduler::nanoTime, scheduler);
+
+		try {
+			// WHEN
+			subscriber.accept(Integer.valueOf(1));
+			subscriber.accept("Event 1");
+			scheduler.advance(0);
+
+			// THEN
+			assertThat(deliveredEvents).containsExactly("Event 1");
+			assertThat(uncaughtExceptions).hasSize(1);
+			assertThat(uncaughtExceptions.get(0)).isInstanceOf(IllegalStateException.class);
+		} finally {
+			WaitForAsyncUtils.asyncFx(() -> Thread.currentThread().setUncaughtExceptionHandler(previousHandler))
+					.get(5, TimeUnit.SECONDS);
+		}
+	}
+
+	private RateLimitedSubscriber rateLimitedSubscriber(final Mode mode, final long windowMs,
+			final String coalesceKey) {
+		return new RateLimitedSubscriber(this::deliver, mode, windowMs, coalesceKey, scheduler::nanoTime, scheduler);
+	}
+
+	private void deliver(final Object event) {
+		deliveredEvents.add(event);
+		deliveredInFxThread.add(Platform.isFxApplicationThread());
+	}
+
+	/**
+	 * Flush scheduler with a manually advanced clock. Flushes that are due are
+	 * executed inside the JavaFX thread, when the clock is advanced.
+	 */
+	private static class ManualFlushScheduler implements FlushScheduler {
+
+		private volatile long nanos;
+
+		private final List<ScheduledFlush> scheduledFlushes = new ArrayList<>();
+
+		@Override
+		public Future<?> schedule(final Runnable flush, final long delayMs) {
+			final FutureTask<Void> task = new FutureTask<>(flush, null);
+			scheduledFlushes.add(new ScheduledFlush(nanos + TimeUnit.MILLISECONDS.toNanos(delayMs), task));
+			return task;
+		}
+
+		long nanoTime() {
+			return nanos;
+		}
+
+		/**
+		 * Advances the clock by {@code millis} and executes all flushes that are
+		 * due, in the order of their due time.
+		 *
+		 * @param millis the milliseconds to advance the clock by
+		 */
+		void advance(final long millis) {
+			final long targetNanos = nanos + TimeUnit.MILLISECONDS.toNanos(millis);
+			while (!scheduledFlushes.isEmpty()) {
+				// flushes might schedule further flushes, so sort in each iteration
+				scheduledFlushes.sort(Comparator.comparingLong(ScheduledFlush::getDueNanos));
+				if (scheduledFlushes.get(0).getDueNanos() > targetNanos) {
+					break;
+				}
+				final ScheduledFlush scheduledFlush = scheduledFlushes.remove(0);
+				// the flush sees the time it was due at
+				nanos = scheduledFlush.getDueNanos();
+				final FutureTask<Void> task = scheduledFlush.getTask();
+				try {
+					WaitForAsyncUtils.asyncFx(task).get(5, TimeUnit.SECONDS);
+				} catch (InterruptedException | ExecutionException | TimeoutException e) {
+					throw new IllegalStateException("Flush did not complete!", e);
+				}
+			}
+			nanos = targetNanos;
+		}
+	}
+
+	private static class ScheduledFlush {
+
+		private final long dueNanos;
+
+		private final FutureTask<Void> task;
+
+		ScheduledFlush(final long dueNanos, final FutureTask<Void> task) {
+			this.dueNanos = dueNanos;
+			this.task = task;
+		}
+
+		long getDueNanos() {
+			return dueNanos;
+		}
+
+		FutureTask<Void> getTask() {
+			return task;
+		}
+	}
+
+	public static class StateChangedEvent {
+
+		private final String id;
+
+		private final int state;
+
+		public StateChangedEvent(final String id, final int state) {
+			this.id = id;
+			this.state = state;
+		}
+
+		public String getId() {
+			return id;
+		}
+
+		public int getState() {
+			return state;
+		}
+	}
+}
@@ -23,21 +23,31 @@
  */
 package com.github.actionfx.core.extension.beans;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 import com.github.actionfx.core.ActionFX;
 import com.github.actionfx.core.annotation.AFXSubscribe;
 import com.github.actionfx.core.container.BeanContainerFacade;
 import com.github.actionfx.core.events.PriorityAwareEventBus;
+import com.github.actionfx.core.events.Subscription;
 import com.github.actionfx.testing.annotation.TestInFxThread;
 import com.github.actionfx.testing.junit5.FxThreadForEachMonocleExtension;
 
@@ -53,10 +63,12 @@ class SubscribeMethodBeanExtensionTest {
 
 	private final PriorityAwareEventBus eventBus = Mockito.mock(PriorityAwareEventBus.class);
 
+	private final BeanContainerFacade container = Mockito.mock(BeanContainerFacade.class);
+
+	private final ControllerWithAFXSubscribe controller = new ControllerWithAFXSubscribe();
+
 	@BeforeEach
 	void onSetup() {
-		final BeanContainerFacade container = Mockito.mock(BeanContainerFacade.class);
-		final ControllerWithAFXSubscribe controller = new ControllerWithAFXSubscribe();
 		when(container.getBean(PriorityAwareEventBus.class)).thenReturn(eventBus);
 		when(container.getBean("controllerWithAFXSubscribe")).thenReturn(controller);
 		ActionFX.builder().beanContainer(container).build().scanForActionFXComponents();
@@ -76,6 +88,155 @@ class SubscribeMethodBeanExtensionTest {
 		verify(eventBus, times(1)).subscribe(eq(String.class), any(), eq(3));
 	}
 
+	@Test
+	void testUnsubscribe() {
+		// GIVEN
+		final Subscription subscription = Mockito.mock(Subscription.class);
+		when(eventBus.subscribe(eq(String.class), any(), Mockito.anyInt())).thenReturn(subscription);
+		final SubscribeMethodBeanExtension extension = new SubscribeMethodBeanExtension(eventBus);
+		extension.extendBean(ControllerWithAFXSubscribe.class, "controllerWithAFXSubscribe", false, false);
+
+		// WHEN
+		extension.unsubscribe("controllerWithAFXSubscribe");
+		extension.unsubscribe("controllerWithAFXSubscribe");
+
+		// THEN (all 4 subscriptions are removed exactly once)
+		verify(subscription, times(4)).unsubscribe();
+	}
+
+	@Test
+	void testUnsubscribeAll() {
+		// GIVEN
+		final Subscription subscription = Mockito.mock(Subscription.class);
+		when(eventBus.subscribe(eq(String.class), any(), Mockito.anyInt())).thenReturn(subscription);
+		final SubscribeMethodBeanExtension extension = new SubscribeMethodBeanExtension(eventBus);
+		extension.extendBean(ControllerWithAFXSubscribe.class, "controller1", false, false);
+		extension.extendBean(ControllerWithAFXSubscribe.class, "controller2", false, false);
+
+		// WHEN
+		extension.unsubscribeAll();
+		extension.unsubscribe("controller1");
+
+		// THEN (all 2 x 4 subscriptions are removed exactly once)
+		verify(subscription, times(8)).unsubscribe();
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	@Test
+	void testExtend_singleton_beanIsRetrievedOnce() {
+		// GIVEN
+		final SubscribeMethodBeanExtension extension = new SubscribeMethodBeanExtension(eventBus);
+		final ArgumentCaptor<Consumer> captor = ArgumentCaptor.forClass(Consumer.class);
+
+		// WHEN
+		extension.extendBean(ControllerWithAFXSubscribe.class, "controllerWithAFXSubscribe", true, true);
+
+		// THEN (bean is not retrieved on subscription)
+		verify(eventBus, times(1)).subscribe(eq(String.class), captor.capture(), eq(3));
+		verify(container, never()).getBean("controllerWithAFXSubscribe");
+
+		// WHEN
+		captor.getValue().accept("Hello World");
+		captor.getValue().accept("Hello again");
+
+		// THEN
+		verify(container, times(1)).getBean("controllerWithAFXSubscribe");
+		assertThat(controller.messages).containsExactly("Hello World", "Hello again");
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	@Test
+	void testExtend_prototype_beanIsRetrievedOnEachEvent() {
+		// GIVEN
+		final SubscribeMethodBeanExtension extension = new SubscribeMethodBeanExtension(eventBus);
+		final ArgumentCaptor<Consumer> captor = ArgumentCaptor.forClass(Consumer.class);
+		extension.extendBean(ControllerWithAFXSubscribe.class, "controllerWithAFXSubscribe", false, false);
+		verify(eventBus, times(1)).subscribe(eq(String.class), captor.capture(), eq(3));
+
+		// WHEN
+		captor.getValue().accept("Hello World");
+		captor.getValue().accept("Hello again");
+
+		// THEN
+		verify(container, times(2)).getBean("controllerWithAFXSubscribe");
+		assertThat(controller.messages).containsExactly("Hello World", "Hello again");
+	}
+
+	@SuppressWarnings("rawtypes")
+	@Test
+	void testExtend_subscriberIsLabelledByMethod() {
+		// GIVEN
+		final SubscribeMethodBeanExtension extension = new SubscribeMethodBeanExtension(eventBus);
+		final ArgumentCaptor<Consumer> captor = ArgumentCaptor.forClass(Consumer.class);
+
+		// WHEN
+		extension.extendBean(ControllerWithAFXSubscribe.class, "controllerWithAFXSubscribe", false, false);
+
+		// THEN (label is e.g. used for JFR events)
+		verify(eventBus, times(1)).subscribe(eq(String.class), captor.capture(), eq(3));
+		assertThat(captor.getValue()).hasToString(ControllerWithAFXSubscribe.class.getName() + ".anotherOnPublish");
+	}
+
+	@Test
+	void testExtend_rateLimitedSubscriber() {
+		// GIVEN
+		final Subscription subscription = Mockito.mock(Subscription.class);
+		when(eventBus.subscribe(eq(String.class), any(), Mockito.anyInt())).thenReturn(subscription);
+		final SubscribeMethodBeanExtension extension = new SubscribeMethodBeanExtension(eventBus);
+
+		// WHEN
+		extension.extendBean(ControllerWithRateLimitedAFXSubscribe.class, "controllerWithRateLimitedAFXSubscribe",
+				false, false);
+		extension.unsubscribe("controllerWithRateLimitedAFXSubscribe");
+
+		// THEN
+		verify(eventBus, times(3)).subscribe(eq(String.class), isA(RateLimitedSubscriber.class), eq(1));
+		verify(subscription, times(3)).unsubscribe();
+	}
+
+	@Test
+	void testExtend_moreThanOneRateLimit() {
+		// GIVEN
+		final SubscribeMethodBeanExtension extension = new SubscribeMethodBeanExtension(eventBus);
+
+		// WHEN
+		final IllegalStateException ex = assertThrows(IllegalStateException.class,
+				() -> extension.extendBean(ControllerWithInvalidRateLimit.class, "controllerWithInvalidRateLimit",
+						false, false));
+
+		// THEN
+		assertThat(ex.getMessage()).contains("Only one of the attributes");
+	}
+
+	@Test
+	void testExtend_coalesceKeyWithoutRateLimit() {
+		// GIVEN
+		final SubscribeMethodBeanExtension extension = new SubscribeMethodBeanExtension(eventBus);
+
+		// WHEN
+		final IllegalStateException ex = assertThrows(IllegalStateException.class,
+				() -> extension.extendBean(ControllerWithCoalesceKeyOnly.class, "controllerWithCoalesceKeyOnly",
+						false, false));
+
+		// THEN
+		assertThat(ex.getMessage()).contains("requires one of");
+	}
+
+	@Test
+	void testExtend_coalesceKeyIsNotReadableFromEventType() {
+		// GIVEN
+		final SubscribeMethodBeanExtension extension = new SubscribeMethodBeanExtension(eventBus);
+
+		// WHEN
+		final IllegalStateException ex = assertThrows(IllegalStateException.class,
+				() -> extension.extendBean(ControllerWithUnknownCoalesceKey.class, "controllerWithUnknownCoalesceKey",
+						false, false));
+
+		// THEN (nothing is subscribed)
+		assertThat(ex.getMessage()).contains("onDebouncedPublish", "'length'", "java.lang.String");
+		verify(eventBus, never()).subscribe(any(), any(), Mockito.anyInt());
+	}
+
 	private static class ControllerWithAFXSubscribe {
 
 		@AFXSubscribe(value = String.class, order = 2)
@@ -88,9 +249,11 @@ class SubscribeMethodBeanExtensionTest {
 
 		}
 
+		private final List<String> messages = new ArrayList<>();
+
 		@AFXSubscribe(value = String.class, order = 3)
 		public void anotherOnPublish(final String message) {
-
+			messages.add(message);
 		}
 
 		@AFXSubscribe(value = String.class, async = true)
@@ -99,4 +262,47 @@ class SubscribeMethodBeanExtensionTest {
 		}
 	}
 
+	private static class ControllerWithRateLimitedAFXSubscribe {
+
+		@AFXSubscribe(value = String.class, throttleMs = 100)
+		public void onThrottledPublish(final String message) {
+
+		}
+
+		@AFXSubscribe(value = String.class, debounceMs = 100, coalesceKey = "empty")
+		public void onDebouncedPublish(final String message) {
+
+		}
+
+		@AFXSubscribe(value = String.class, fxPulse = true)
+		public void onPulsePublish(final String message) {
+
+		}
+	}
+
+	private static class ControllerWithInvalidRateLimit {
+
+		@AFXSubscribe(value = String.class, throttleMs = 100, fxPulse = true)
+		public void onPublish(final String message) {
+
+		}
+	}
+
+	private static class ControllerWithCoalesceKeyOnly {
+
+		@AFXSubscribe(value = String.class, coalesceKey = "empty")
+		public void onPublish(final String message) {
+
+		}
+	}
+
+	private static class ControllerWithUnknownCoalesceKey {
+
+		// "length()" is not a getter, so there is no readable property "length"
+		@AFXSubscribe(value = String.class, debounceMs = 100, coalesceKey = "length")
+		public void onDebouncedPublish(final String message) {
+
+		}
+	}
+
 }
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2026 Martin Koster
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.actionfx.core.extension.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.actionfx.core.annotation.AFXLoadControlData;
+import com.github.actionfx.core.annotation.AFXOnAction;
+import com.github.actionfx.core.annotation.AFXValidateRequired;
+import com.github.actionfx.core.extension.controller.AbstractAnnotatedMethodControllerExtension.OrderBasedAnnotatedMethodComparator;
+
+/**
+ * JUnit test case for {@link ControllerMetadata}.
+ *
+ * @author koster
+ *
+ */
+class ControllerMetadataTest {
+
+    private static final Comparator<Method> LOAD_CONTROL_DATA_COMPARATOR = new OrderBasedAnnotatedMethodComparator<>(
+            AFXLoadControlData.class, AFXLoadControlData::controlId, AFXLoadControlData::order);
+
+    @Test
+    void testOf_isCached() {
+        // WHEN
+        final ControllerMetadata metadata = ControllerMetadata.of(SubController.class);
+
+        // THEN
+        assertThat(metadata.getControllerClass()).isEqualTo(SubController.class);
+        assertThat(ControllerMetadata.of(SubController.class)).isSameAs(metadata);
+        assertThat(metadata.getAnnotatedFields(AFXValidateRequired.class))
+                .isSameAs(metadata.getAnnotatedFields(AFXValidateRequired.class));
+        assertThat(metadata.getAnnotatedMethods(AFXOnAction.class))
+                .isSameAs(metadata.getAnnotatedMethods(AFXOnAction.class));
+    }
+
+    @Test
+    void testGetAnnotatedFields() throws NoSuchFieldException {
+        // WHEN
+        final Map<Field, List<AFXValidateRequired>> fields = ControllerMetadata.of(SubController.class)
+                .getAnnotatedFields(AFXValidateRequired.class);
+
+        // THEN (fields of super-class are included, repeatable annotations are unwrapped)
+        assertThat(fields).containsOnlyKeys(SubController.class.getDeclaredField("subField"),
+                SuperController.class.getDeclaredField("superField"));
+        assertThat(fields.get(SubController.class.getDeclaredField("subField"))).hasSize(2);
+        assertThat(fields.get(SuperController.class.getDeclaredField("superField"))).hasSize(1);
+    }
+
+    @Test
+    void testGetAnnotatedFields_notPresent() {
+        // WHEN and THEN
+        assertThat(ControllerMetadata.of(SubController.class).getAnnotatedFields(AFXOnAction.class)).isEmpty();
+    }
+
+    @Test
+    void testGetAnnotatedMethods() throws NoSuchMethodException {
+        // WHEN
+        final Map<Method, List<AFXOnAction>> methods = ControllerMetadata.of(SubController.class)
+                .getAnnotatedMethods(AFXOnAction.class);
+
+        // THEN (method overridden by an annotated method is only contained once, sub-class methods come first)
+        assertThat(methods.keySet()).containsExactly(SubController.class.getDeclaredMethod("onAction"),
+                SuperController.class.getDeclaredMethod("onSuperAction"));
+        assertThat(methods.get(SubController.class.getDeclaredMethod("onAction")).get(0).nodeId())
+                .isEqualTo("subButton");
+    }
+
+    @Test
+    void testGetAnnotatedMethods_overriddenWithoutAnnotation() throws NoSuchMethodException {
+        // WHEN
+        final Map<Method, List<AFXOnAction>> methods = ControllerMetadata.of(OverridingWithoutAnnotationController.class)
+                .getAnnotatedMethods(AFXOnAction.class);
+
+        // THEN (annotated super-class method is used)
+        assertThat(methods.keySet()).containsExactlyInAnyOrder(SuperController.class.getDeclaredMethod("onAction"),
+                SuperController.class.getDeclaredMethod("onSuperAction"));
+    }
+
+    @Test
+    void testGetAnnotatedMethods_withComparator() throws NoSuchMethodException {
+        // WHEN
+        final Map<Method, List<AFXLoadControlData>> methods = ControllerMetadata.of(SubController.class)
+                .getAnnotatedMethods(AFXLoadControlData.class, LOAD_CONTROL_DATA_COMPARATOR);
+
+        // THEN
+        assertThat(methods.keySet()).containsExactly(SubController.class.getDeclaredMethod("loadFirst"),
+                SubController.class.getDeclaredMethod("loadSecond"));
+        assertThat(ControllerMetadata.of(SubController.class).getAnnotatedMethods(AFXLoadControlData.class,
+                LOAD_CONTROL_DATA_COMPARATOR)).isSameAs(methods);
+    }
+
+    @Test
+    void testGetAnnotatedMethods_isUnmodifiable() {
+        // GIVEN
+        final Map<Method, List<AFXOnAction>> methods = ControllerMetadata.of(SubController.class)
+                .getAnnotatedMethods(AFXOnAction.class);
+
+        // WHEN and THEN
+        assertThrows(UnsupportedOperationException.class, methods::clear);
+    }
+
+    public static class SuperController {
+
+        @AFXValidateRequired
+        protected String superField;
+
+        @AFXOnAction(nodeId = "superButton")
+        public void onAction() {
+        }
+
+        @AFXOnAction(nodeId = "otherButton")
+        public void onSuperAction() {
+        }
+    }
+
+    public static class SubController extends SuperController {
+
+        @AFXValidateRequired
+        @AFXValidateRequired(message = "Second")
+        protected String subField;
+
+        protected String notAnnotated;
+
+        @Override
+        @AFXOnAction(nodeId = "subButton")
+        public void onAction() {
+        }
+
+        @AFXLoadControlData(controlId = "table", order = 2)
+        public List<String> loadSecond() {
+            return List.of();
+        }
+
+        @AFXLoadControlData(controlId = "table", order = 1)
+        public List<String> loadFirst() {
+            return List.of();
+        }
+    }
+
+    public static class OverridingWithoutAnnotationController extends SuperController {
+
+        @Override
+        public void onAction() {
+        }
+    }
+}
@@ -27,7 +27,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -137,6 +140,76 @@ class OnLoadControlDataMethodControllerExtensionTest {
 		assertThat(treeTableView.getRoot().getValue()).isEqualTo("root");
 	}
 
+	@Test
+	void testAccept_dataIsLoadedAsynchronously_staleLoadIsDiscarded() throws TimeoutException {
+		// GIVEN
+		final TableView<String> tableView = new TableView<>();
+		final ControllerWithSlowTableAsync controller = Mockito
+				.spy(new ControllerWithSlowTableAsync(ViewCreator.create(tableView, "tableView")));
+		final OnLoadControlDataMethodControllerExtension extension = new OnLoadControlDataMethodControllerExtension();
+		extension.accept(controller);
+
+		// WHEN (first load is running and blocked, when the second load is started)
+		controller.listenerEnabled.set(true);
+		WaitForAsyncUtils.waitFor(5, TimeUnit.SECONDS, () -> controller.loadCount.get() == 1);
+		controller.listenerEnabled.set(false);
+		controller.listenerEnabled.set(true);
+
+		// THEN (second load is applied)
+		WaitForAsyncUtils.waitFor(5, TimeUnit.SECONDS, () -> tableView.getItems().equals(List.of("Load 2")));
+
+		// and WHEN (first load completes after the second load)
+		controller.firstLoadReleased.countDown();
+		WaitForAsyncUtils.waitFor(5, TimeUnit.SECONDS, () -> controller.firstLoadFinished.getCount() == 0);
+		WaitForAsyncUtils.waitForFxEvents();
+
+		// and THEN (result of the first load does not overwrite the result of the second load)
+		assertThat(controller.loadCount.get()).isEqualTo(2);
+		assertThat(tableView.getItems()).containsExactly("Load 2");
+	}
+
+	@Test
+	void testAccept_minReloadInterval_reloadsAreCollapsed() {
+		// GIVEN
+		final TableView<String> tableView = new TableView<>();
+		final ControllerWithThrottledTable controller = Mockito
+				.spy(new ControllerWithThrottledTable(ViewCreator.create(tableView, "tableView")));
+		final OnLoadControlDataMethodControllerExtension extension = new OnLoadControlDataMethodControllerExtension();
+		extension.accept(controller);
+
+		// WHEN (reload is requested 3 times within the minimum interval)
+		for (int i = 0; i < 3; i++) {
+			controller.listenerEnabled.set(false);
+			controller.listenerEnabled.set(true);
+		}
+
+		// THEN (initial load and a single deferred reload)
+		assertThat(controller.loadCount.get()).isEqualTo(1);
+		WaitForAsyncUtils.sleep(600, TimeUnit.MILLISECONDS);
+		assertThat(controller.loadCount.get()).isEqualTo(2);
+		assertThat(tableView.getItems()).containsExactly("Load 2");
+	}
+
+	@Test
+	void testAccept_minReloadInterval_deferredReloadIsDroppedWhenLoadingIsDeactivated() {
+		// GIVEN
+		final TableView<String> tableView = new TableView<>();
+		final ControllerWithThrottledTable controller = Mockito
+				.spy(new ControllerWithThrottledTable(ViewCreator.create(tableView, "tableView")));
+		final OnLoadControlDataMethodControllerExtension extension = new OnLoadControlDataMethodControllerExtension();
+		extension.accept(controller);
+
+		// WHEN (reload is requested within the minimum interval and loading is deactivated afterwards)
+		controller.listenerEnabled.set(false);
+		controller.listenerEnabled.set(true);
+		controller.listenerEnabled.set(false);
+
+		// THEN (only the initial load is executed)
+		WaitForAsyncUtils.sleep(600, TimeUnit.MILLISECONDS);
+		assertThat(controller.loadCount.get()).isEqualTo(1);
+		assertThat(tableView.getItems()).containsExactly("Load 1");
+	}
+
 	public class ControllerWithTable {
 
 		public View _view;
@@ -205,4 +278,55 @@ class OnLoadControlDataMethodControllerExtensionTest {
 		}
 	}
 
+	public class ControllerWithSlowTableAsync {
+
+		public View _view;
+
+		protected final BooleanProperty listenerEnabled = new SimpleBooleanProperty(false);
+
+		protected final AtomicInteger loadCount = new AtomicInteger();
+
+		protected final CountDownLatch firstLoadReleased = new CountDownLatch(1);
+
+		protected final CountDownLatch firstLoadFinished = new CountDownLatch(1);
+
+		public ControllerWithSlowTableAsync(final View view) {
+			_view = view;
+		}
+
+		@AFXLoadControlData(controlId = "tableView", async = true, loadingActiveBooleanProperty = "listenerEnabled")
+		public List<String> loadTableViewDataAsynchronously() {
+			final int load = loadCount.incrementAndGet();
+			if (load == 1) {
+				try {
+					firstLoadReleased.await(5, TimeUnit.SECONDS);
+				} catch (final InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} finally {
+					firstLoadFinished.countDown();
+				}
+			}
+			return Arrays.asList("Load " + load);
+		}
+	}
+
+	public class ControllerWithThrottledTable {
+
+		public View _view;
+
+		protected final BooleanProperty listenerEnabled = new SimpleBooleanProperty(true);
+
+		protected final AtomicInteger loadCount = new AtomicInteger();
+
+		public ControllerWithThrottledTable(final View view) {
+			_view = view;
+		}
+
+		@AFXLoadControlData(controlId = "tableView", loadingActiveBooleanProperty = "listenerEnabled",
+				minReloadIntervalMs = 300)
+		public List<String> loadTableViewData() {
+			return Arrays.asList("Load " + loadCount.incrementAndGet());
+		}
+	}
+
 }
@@ -31,21 +31,29 @@ import static org.mockito.Mockito.verify;
 
 import java.lang.reflect.Method;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mockito;
+import org.slf4j.LoggerFactory;
 import org.testfx.util.WaitForAsyncUtils;
 
 import com.github.actionfx.core.ActionFX;
 import com.github.actionfx.core.annotation.AFXControlValue;
+import com.github.actionfx.core.utils.AsyncUtils;
 import com.github.actionfx.core.utils.ReflectionUtils;
 import com.github.actionfx.core.view.ParentView;
 import com.github.actionfx.core.view.View;
 import com.github.actionfx.testing.junit5.FxThreadForAllMonocleExtension;
 
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+
 import javafx.event.ActionEvent;
 import javafx.event.EventHandler;
 import javafx.scene.control.TextField;
@@ -252,6 +260,65 @@ class ActionFXMethodInvocationTest {
         verify(consumer, times(1)).accept(eq(43));
     }
 
+    @Test
+    void testResolveMethod_resolvedMethodIsReused() {
+        // WHEN
+        final Method first = ActionFXMethodInvocation.resolveMethod(MethodHolder.class, "intMethod", false, 42);
+        final Method second = ActionFXMethodInvocation.resolveMethod(MethodHolder.class, "intMethod", false, 43);
+
+        // THEN
+        assertThat(first.getName()).isEqualTo("intMethod");
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void testResolveMethod_argumentTypesAreConsidered() {
+        // WHEN
+        final Method withArgs = ActionFXMethodInvocation.resolveMethod(MethodHolder.class, "methodWithArgs", true,
+                "Hello World", 42, new ActionEvent());
+        final IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> ActionFXMethodInvocation.resolveMethod(MethodHolder.class, "methodWithArgs", true, 42,
+                        "Hello World"));
+
+        // THEN
+        assertThat(withArgs.getParameterCount()).isEqualTo(3);
+        assertThat(ex.getMessage()).contains("does not have method with name 'methodWithArgs'");
+    }
+
+    @Test
+    void testResolveMethod_noMatchingMethod_failureIsRepeated() {
+        // WHEN
+        final IllegalArgumentException first = assertThrows(IllegalArgumentException.class,
+                () -> ActionFXMethodInvocation.resolveMethod(MethodHolder.class, "voidMethod", false, "Hello", 42));
+        final IllegalArgumentException second = assertThrows(IllegalArgumentException.class,
+                () -> ActionFXMethodInvocation.resolveMethod(MethodHolder.class, "voidMethod", false, "World", 43));
+
+        // THEN (the message is built from the actual arguments, although the resolution is cached)
+        assertThat(first.getMessage()).contains("[Hello, 42]").doesNotContain("World");
+        assertThat(second.getMessage()).contains("[World, 43]");
+    }
+
+    @Test
+    void testResolveMethod_ambiguousMethod_failureIsRepeated() {
+        // WHEN and THEN
+        for (int i = 0; i < 2; i++) {
+            final IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                    () -> ActionFXMethodInvocation.resolveMethod(MethodHolder.class, "ambigiousMethod", false,
+                            "Hello World", 42));
+            assertThat(ex.getMessage()).contains("has ambiguously matching methods with name 'ambigiousMethod'");
+        }
+    }
+
+    @Test
+    void testForOnActionProperty_unknownMethod_failsOnHandlerCreation() {
+        // WHEN
+        final IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> ActionFXMethodInvocation.forOnActionProperty(holder, "unknownMethod"));
+
+        // THEN
+        assertThat(ex.getMessage()).contains("does not have method with name 'unknownMethod'");
+    }
+
     @Test
     void testForSubscriber() {
         // GIVEN
@@ -282,6 +349,67 @@ class ActionFXMethodInvocationTest {
         verify(proxy, times(1)).onPublish(eq("Hello World"));
     }
 
+    @Test
+    void testForSingletonSubscriber() {
+        // GIVEN
+        final Method method = ReflectionUtils.findMethod(holder.getClass(), "onPublish", String.class);
+        final MethodHolder proxy = Mockito.spy(holder);
+        final Consumer<String> subscriber = ActionFXMethodInvocation.forSingletonSubscriber(proxy, method,
+                String.class);
+
+        // WHEN
+        subscriber.accept("Hello World");
+        subscriber.accept("Hello again");
+
+        // THEN
+        verify(proxy, times(1)).onPublish(eq("Hello World"));
+        verify(proxy, times(1)).onPublish(eq("Hello again"));
+    }
+
+    @Test
+    void testForSingletonSubscriberWithAsyncCall() {
+        // GIVEN
+        final Method method = ReflectionUtils.findMethod(holder.getClass(), "onPublish", String.class);
+        final MethodHolder proxy = Mockito.spy(holder);
+        final Consumer<String> subscriberWithAsyncCall = ActionFXMethodInvocation
+                .forSingletonSubscriberWithAsyncCall(AsyncUtils.DEFAULT_EXECUTOR, proxy, method, String.class);
+
+        // WHEN
+        subscriberWithAsyncCall.accept("Hello World");
+
+        // THEN
+        WaitForAsyncUtils.sleep(500, TimeUnit.MILLISECONDS);
+        verify(proxy, times(1)).onPublish(eq("Hello World"));
+    }
+
+    @Test
+    void testForSingletonSubscriberWithAsyncCall_exceptionIsLogged() throws TimeoutException {
+        // GIVEN
+        final MethodHolder holder = new MethodHolder();
+        final Method method = ReflectionUtils.findMethod(holder.getClass(), "onPublishFailing", String.class);
+        final Consumer<String> subscriberWithAsyncCall = ActionFXMethodInvocation
+                .forSingletonSubscriberWithAsyncCall(AsyncUtils.DEFAULT_EXECUTOR, holder, method, String.class);
+        final Logger logger = (Logger) LoggerFactory.getLogger(ActionFXMethodInvocation.class);
+        final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+
+        try {
+            // WHEN
+            subscriberWithAsyncCall.accept("Hello World");
+
+            // THEN
+            WaitForAsyncUtils.waitFor(5, TimeUnit.SECONDS, () -> !appender.list.isEmpty());
+            final ILoggingEvent loggingEvent = appender.list.get(0);
+            assertThat(loggingEvent.getLevel()).isEqualTo(Level.ERROR);
+            assertThat(loggingEvent.getFormattedMessage()).contains("onPublishFailing");
+            assertThat(loggingEvent.getThrowableProxy().getClassName())
+                    .isEqualTo(IllegalStateException.class.getName());
+        } finally {
+            logger.detachAppender(appender);
+        }
+    }
+
     public class MethodHolder {
 
         public View _view;
@@ -301,6 +429,10 @@ class ActionFXMethodInvocationTest {
 
         }
 
+        protected void onPublishFailing(final String message) {
+            throw new IllegalStateException("Failed");
+        }
+
         protected void methodWithArgs(final String arg1, final Integer arg2, final ActionEvent actionEvent) {
         }
 
@@ -76,7 +76,7 @@ class ControlValueAnnotatedParameterResolverTest {
 		final ControlValueAnnotatedParameterResolver resolver = new ControlValueAnnotatedParameterResolver();
 
 		// WHEN
-		final String value = resolver.resolve(instance, method, parameter, annotation, String.class);
+		final String value = resolver.resolve(instance, method, parameter, annotation, String.class).getValue();
 
 		// THEN
 		assertThat(value).isEqualTo("Hello World");
@@ -92,7 +92,7 @@ class ControlValueAnnotatedParameterResolverTest {
 		final ControlValueAnnotatedParameterResolver resolver = new ControlValueAnnotatedParameterResolver();
 
 		// WHEN
-		final String value = resolver.resolve(instance, method, parameter, annotation, String.class);
+		final String value = resolver.resolve(instance, method, parameter, annotation, String.class).getValue();
 
 		// THEN
 		assertThat(value).isEqualTo("Hello World");
@@ -108,7 +108,7 @@ class ControlValueAnnotatedParameterResolverTest {
 		final ControlValueAnnotatedParameterResolver resolver = new ControlValueAnnotatedParameterResolver();
 
 		// WHEN
-		final Double value = resolver.resolve(instance, method, parameter, annotation, Double.class);
+		final Double value = resolver.resolve(instance, method, parameter, annotation, Double.class).getValue();
 
 		// THEN
 		assertThat(value).isEqualTo(Double.valueOf(42.0));
@@ -125,7 +125,7 @@ class ControlValueAnnotatedParameterResolverTest {
 		final ControlValueAnnotatedParameterResolver resolver = new ControlValueAnnotatedParameterResolver();
 
 		// WHEN
-		final List<String> value = resolver.resolve(instance, method, parameter, annotation, List.class);
+		final List<String> value = resolver.resolve(instance, method, parameter, annotation, List.class).getValue();
 
 		// THEN
 		assertThat(value).containsExactly("Item 2", "Item 3");
@@ -142,7 +142,7 @@ class ControlValueAnnotatedParameterResolverTest {
 		final ControlValueAnnotatedParameterResolver resolver = new ControlValueAnnotatedParameterResolver();
 
 		// WHEN
-		final List<String> value = resolver.resolve(instance, method, parameter, annotation, List.class);
+		final List<String> value = resolver.resolve(instance, method, parameter, annotation, List.class).getValue();
 
 		// THEN
 		assertThat(value).containsExactly("Item 1", "Item 2", "Item 3");
@@ -25,19 +25,27 @@ package com.github.actionfx.core.method;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.File;
 import java.io.IOException;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
 import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -60,6 +68,7 @@ import com.github.actionfx.core.container.BeanContainerFacade;
 import com.github.actionfx.core.converter.ConversionService;
 import com.github.actionfx.core.dialogs.DialogController;
 import com.github.actionfx.core.instrumentation.ControllerWrapper;
+import com.github.actionfx.core.method.ControllerMethodInvocationAdapter.MethodExecutionState;
 import com.github.actionfx.core.method.ControllerMethodInvocationAdapter.ParameterValue;
 import com.github.actionfx.core.utils.ReflectionUtils;
 import com.github.actionfx.core.view.FxmlView;
@@ -543,6 +552,44 @@ class ControllerMethodInvocationAdapterTest {
         assertThat(instance.executed).isTrue();
 	}
 
+	@Test
+	void testInvoke_fromDialogs_userCancelsFirstDialog_secondDialogIsNotShown() {
+		// GIVEN
+		final ActionFXMock actionFX = new ActionFXMock();
+		final DialogController dialogController = Mockito.mock(DialogController.class);
+		actionFX.addBean(BeanContainerFacade.DIALOG_CONTROLLER_BEANNAME, dialogController);
+		final ControllerMethodInvocationAdapter adapter = methodInvocationAdapter("saveAndOpenFile");
+
+		// WHEN
+		final File result = adapter.invoke();
+
+		// THEN
+		assertThat(result).isNull();
+		assertThat(adapter.getMethodExecutionState().get()).isEqualTo(MethodExecutionState.EXECUTION_CANCELLED);
+		verify(dialogController, never()).showFileOpenDialog(any(), any(), any(), any(), any());
+		final ClassWithPublicMethods instance = (ClassWithPublicMethods) adapter.getInstance();
+		assertThat(instance.executed).isFalse();
+	}
+
+	@Test
+	void testInvoke_withCustomParameterResolver() {
+		// GIVEN
+		final UpperCaseResolver resolver = new UpperCaseResolver();
+		ParameterResolverRegistry.register(UpperCase.class, resolver);
+		try {
+			// WHEN
+			final String result1 = methodInvocationAdapter("upperCase").invoke();
+			final String result2 = methodInvocationAdapter("upperCase").invoke();
+
+			// THEN (one shared resolver instance is used for all invocations)
+			assertThat(result1).isEqualTo("HELLO WORLD");
+			assertThat(result2).isEqualTo("HELLO WORLD");
+			assertThat(resolver.invocations).hasValue(2);
+		} finally {
+			ParameterResolverRegistry.reset();
+		}
+	}
+
 	private static ControllerMethodInvocationAdapter methodInvocationAdapter(final String methodName) {
 		final ClassWithPublicMethods instance = createEnhancedInstance(true);
 		final Method method = ReflectionUtils.findMethod(ClassWithPublicMethods.class, methodName, (Class<?>[]) null);
@@ -718,6 +765,17 @@ class ControllerMethodInvocationAdapterTest {
 			return text;
 		}
 
+		public File saveAndOpenFile(@AFXFromFileSaveDialog(continueOnCancel = false) final File saveFile,
+				@AFXFromFileOpenDialog final File openFile) {
+			setExecuted();
+			return openFile;
+		}
+
+		public String upperCase(@UpperCase("Hello World") final String text) {
+			setExecuted();
+			return text;
+		}
+
 		private void setExecuted() {
 			executed = true;
 		}
@@ -731,4 +789,35 @@ class ControllerMethodInvocationAdapterTest {
 		}
 	}
 
+	/**
+	 * Custom annotation for testing custom parameter resolvers.
+	 *
+	 * @author koster
+	 *
+	 */
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target(ElementType.PARAMETER)
+	public @interface UpperCase {
+
+		String value();
+	}
+
+	/**
+	 * Custom resolver that resolves parameters annotated by {@link UpperCase}.
+	 *
+	 * @author koster
+	 *
+	 */
+	public static class UpperCaseResolver implements AnnotatedParameterResolver<UpperCase> {
+
+		private final AtomicInteger invocations = new AtomicInteger();
+
+		@Override
+		public <T> ParameterResolution<T> resolve(final Object controller, final Method method,
+				final Parameter parameter, final UpperCase annotation, final Class<T> expectedType) {
+			invocations.incrementAndGet();
+			return ParameterResolution.of(expectedType.cast(annotation.value().toUpperCase()));
+		}
+	}
+
 }
@@ -99,11 +99,12 @@ class FromDirectoryChooserDialogParameterResolverTest {
 				.thenReturn(file);
 
 		// WHEN
-		final Object result = resolver.resolve(instance, method, parameter, annotation, parameter.getType());
+		final ParameterResolution<?> resolution = resolver.resolve(instance, method, parameter, annotation,
+				parameter.getType());
 
 		// THEN
-		assertThat(result).isNotNull().isInstanceOf(File.class).isEqualTo(file);
-		assertThat(resolver.continueMethodInvocation()).isTrue();
+		assertThat(resolution.getValue()).isNotNull().isInstanceOf(File.class).isEqualTo(file);
+		assertThat(resolution.continueMethodInvocation()).isTrue();
 	}
 
 	@Test
@@ -118,11 +119,12 @@ class FromDirectoryChooserDialogParameterResolverTest {
 				.thenReturn(file);
 
 		// WHEN
-		final Object result = resolver.resolve(instance, method, parameter, annotation, parameter.getType());
+		final ParameterResolution<?> resolution = resolver.resolve(instance, method, parameter, annotation,
+				parameter.getType());
 
 		// THEN
-		assertThat(result).isNotNull().isInstanceOf(Path.class).isEqualTo(file.toPath());
-		assertThat(resolver.continueMethodInvocation()).isTrue();
+		assertThat(resolution.getValue()).isNotNull().isInstanceOf(Path.class).isEqualTo(file.toPath());
+		assertThat(resolution.continueMethodInvocation()).isTrue();
 	}
 
 	@Test
@@ -137,11 +139,12 @@ class FromDirectoryChooserDialogParameterResolverTest {
 				.thenReturn(file);
 
 		// WHEN
-		final Object result = resolver.resolve(instance, method, parameter, annotation, parameter.getType());
+		final ParameterResolution<?> resolution = resolver.resolve(instance, method, parameter, annotation,
+				parameter.getType());
 
 		// THEN
-		assertThat(result).isNotNull().isInstanceOf(URI.class).isEqualTo(file.toURI());
-		assertThat(resolver.continueMethodInvocation()).isTrue();
+		assertThat(resolution.getValue()).isNotNull().isInstanceOf(URI.class).isEqualTo(file.toURI());
+		assertThat(resolution.continueMethodInvocation()).isTrue();
 	}
 
 	@Test
@@ -156,11 +159,12 @@ class FromDirectoryChooserDialogParameterResolverTest {
 				.thenReturn(file);
 
 		// WHEN
-		final Object result = resolver.resolve(instance, method, parameter, annotation, parameter.getType());
+		final ParameterResolution<?> resolution = resolver.resolve(instance, method, parameter, annotation,
+				parameter.getType());
 
 		// THEN
-		assertThat(result).isNotNull().isInstanceOf(String.class).isEqualTo(file.getAbsolutePath());
-		assertThat(resolver.continueMethodInvocation()).isTrue();
+		assertThat(resolution.getValue()).isNotNull().isInstanceOf(String.class).isEqualTo(file.getAbsolutePath());
+		assertThat(resolution.continueMethodInvocation()).isTrue();
 	}
 
 	@Test
@@ -175,11 +179,12 @@ class FromDirectoryChooserDialogParameterResolverTest {
 				.thenReturn(null);
 
 		// WHEN
-		final Object result = resolver.resolve(instance, method, parameter, annotation, parameter.getType());
+		final ParameterResolution<?> resolution = resolver.resolve(instance, method, parameter, annotation,
+				parameter.getType());
 
 		// THEN
-		assertThat(result).isNull();
-		assertThat(resolver.continueMethodInvocation()).isFalse();
+		assertThat(resolution.getValue()).isNull();
+		assertThat(resolution.continueMethodInvocation()).isFalse();
 	}
 
 	public class ClassWithMethods {
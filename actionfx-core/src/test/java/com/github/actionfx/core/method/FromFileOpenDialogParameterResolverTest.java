@@ -104,11 +104,12 @@ class FromFileOpenDialogParameterResolverTest {
 		when(dialogController.showFileOpenDialog(anyString(), isNull(), isNull(), any(), eq(owner))).thenReturn(file);
 
 		// WHEN
-		final Object result = resolver.resolve(instance, method, parameter, annotation, parameter.getType());
+		final ParameterResolution<?> resolution = resolver.resolve(instance, method, parameter, annotation,
+				parameter.getType());
 
 		// THEN
-		assertThat(result).isNotNull().isInstanceOf(File.class).isEqualTo(file);
-        assertThat(resolver.continueMethodInvocation()).isTrue();
+		assertThat(resolution.getValue()).isNotNull().isInstanceOf(File.class).isEqualTo(file);
+        assertThat(resolution.continueMethodInvocation()).isTrue();
 		final ArgumentCaptor<ExtensionFilter> filterCaptor = ArgumentCaptor.forClass(ExtensionFilter.class);
 		verify(dialogController, times(1)).showFileOpenDialog(eq("Open Music File"), isNull(), isNull(),
 				filterCaptor.capture(), eq(owner));
@@ -128,11 +129,12 @@ class FromFileOpenDialogParameterResolverTest {
 		when(dialogController.showFileOpenDialog(anyString(), isNull(), isNull(), any(), eq(owner))).thenReturn(file);
 
 		// WHEN
-		final Object result = resolver.resolve(instance, method, parameter, annotation, parameter.getType());
+		final ParameterResolution<?> resolution = resolver.resolve(instance, method, parameter, annotation,
+				parameter.getType());
 
 		// THEN
-		assertThat(result).isNotNull().isInstanceOf(Path.class).isEqualTo(file.toPath());
-        assertThat(resolver.continueMethodInvocation()).isTrue();
+		assertThat(resolution.getValue()).isNotNull().isInstanceOf(Path.class).isEqualTo(file.toPath());
+        assertThat(resolution.continueMethodInvocation()).isTrue();
 	}
 
 	@Test
@@ -146,11 +148,12 @@ class FromFileOpenDialogParameterResolverTest {
 		when(dialogController.showFileOpenDialog(anyString(), isNull(), isNull(), any(), eq(owner))).thenReturn(file);
 
 		// WHEN
-		final Object result = resolver.resolve(instance, method, parameter, annotation, parameter.getType());
+		final ParameterResolution<?> resolution = resolver.resolve(instance, method, parameter, annotation,
+				parameter.getType());
 
 		// THEN
-		assertThat(result).isNotNull().isInstanceOf(URI.class).isEqualTo(file.toURI());
-        assertThat(resolver.continueMethodInvocation()).isTrue();
+		assertThat(resolution.getValue()).isNotNull().isInstanceOf(URI.class).isEqualTo(file.toURI());
+        assertThat(resolution.continueMethodInvocation()).isTrue();
 	}
 
 	@Test
@@ -164,11 +167,12 @@ class FromFileOpenDialogParameterResolverTest {
 		when(dialogController.showFileOpenDialog(anyString(), isNull(), isNull(), any(), eq(owner))).thenReturn(file);
 
 		// WHEN
-		final Object result = resolver.resolve(instance, method, parameter, annotation, parameter.getType());
+		final ParameterResolution<?> resolution = resolver.resolve(instance, method, parameter, annotation,
+				parameter.getType());
 
 		// THEN
-		assertThat(result).isNotNull().isInstanceOf(String.class).isEqualTo(file.getAbsolutePath());
-        assertThat(resolver.continueMethodInvocation()).isTrue();
+		assertThat(resolution.getValue()).isNotNull().isInstanceOf(String.class).isEqualTo(file.getAbsolutePath());
+        assertThat(resolution.continueMethodInvocation()).isTrue();
 	}
 
 	@Test
@@ -182,11 +186,12 @@ class FromFileOpenDialogParameterResolverTest {
 		when(dialogController.showFileOpenDialog(anyString(), isNull(), isNull(), any(), eq(owner))).thenReturn(null);
 
 		// WHEN
-		final Object result = resolver.resolve(instance, method, parameter, annotation, parameter.getType());
+		final ParameterResolution<?> resolution = resolver.resolve(instance, method, parameter, annotation,
+				parameter.getType());
 
 		// THEN
-		assertThat(result).isNull();
-        assertThat(resolver.continueMethodInvocation()).isFalse();
+		assertThat(resolution.getValue()).isNull();
+        assertThat(resolution.continueMethodInvocation()).isFalse();
 	}
 
 	public class ClassWithMethods {
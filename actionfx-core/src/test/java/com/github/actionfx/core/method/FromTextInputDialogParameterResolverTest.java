@@ -86,11 +86,12 @@ class FromTextInputDialogParameterResolverTest {
 				eq("Please enter a file name"), eq("default.wav"))).thenReturn("music.wav");
 
 		// WHEN
-		final Object result = resolver.resolve(instance, method, parameter, annotation, parameter.getType());
+		final ParameterResolution<?> resolution = resolver.resolve(instance, method, parameter, annotation,
+				parameter.getType());
 
 		// THEN
-		assertThat(result).isNotNull().isEqualTo("music.wav");
-        assertThat(resolver.continueMethodInvocation()).isTrue();
+		assertThat(resolution.getValue()).isNotNull().isEqualTo("music.wav");
+        assertThat(resolution.continueMethodInvocation()).isTrue();
 	}
 
 	@Test
@@ -105,11 +106,12 @@ class FromTextInputDialogParameterResolverTest {
 				eq("Please enter a file name"), eq("default.wav"))).thenReturn(null);
 
 		// WHEN
-		final Object result = resolver.resolve(instance, method, parameter, annotation, parameter.getType());
+		final ParameterResolution<?> resolution = resolver.resolve(instance, method, parameter, annotation,
+				parameter.getType());
 
 		// THEN
-		assertThat(result).isNull();
-        assertThat(resolver.continueMethodInvocation()).isFalse();
+		assertThat(resolution.getValue()).isNull();
+        assertThat(resolution.continueMethodInvocation()).isFalse();
 	}
 
 	public class ClassWithMethods {
@@ -0,0 +1,263 @@
+/*
+ * Copyright (c) 2026 Martin Koster
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.actionfx.core.method;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.actionfx.core.annotation.AFXArgHint;
+import com.github.actionfx.core.annotation.AFXControlValue;
+import com.github.actionfx.core.annotation.AFXRequiresUserConfirmation;
+import com.github.actionfx.core.annotation.ArgumentHint;
+import com.github.actionfx.core.method.ControllerMethodInvocationAdapter.ParameterValue;
+
+/**
+ * JUnit test case for {@link InvocationPlan}.
+ *
+ * @author koster
+ *
+ */
+class InvocationPlanTest {
+
+    private static final ControlValueAnnotatedParameterResolver CONTROL_VALUE_RESOLVER =
+            new ControlValueAnnotatedParameterResolver();
+
+    private static final Map<Class<? extends Annotation>, AnnotatedParameterResolver<?>> RESOLVERS =
+            Map.of(AFXControlValue.class, CONTROL_VALUE_RESOLVER);
+
+    @Test
+    void testOf_planIsCached() throws NoSuchMethodException {
+        // GIVEN
+        final Method method = Holder.class.getMethod("withHints", String.class, String.class, int.class, List.class);
+
+        // WHEN
+        final InvocationPlan plan1 = InvocationPlan.of(method, RESOLVERS);
+        final InvocationPlan plan2 = InvocationPlan.of(method, RESOLVERS);
+
+        // THEN
+        assertThat(plan1).isSameAs(plan2);
+        assertThat(plan1.getMethod()).isEqualTo(method);
+        assertThat(plan1.getParameterCount()).isEqualTo(4);
+        assertThat(plan1.hasResolvers()).isFalse();
+        assertThat(plan1.getUserConfirmation()).isNull();
+    }
+
+    @Test
+    void testMatchCandidates_hintsTakePrecedenceOverOrder() throws NoSuchMethodException {
+        // GIVEN
+        final InvocationPlan plan = InvocationPlan.of(
+                Holder.class.getMethod("withHints", String.class, String.class, int.class, List.class), RESOLVERS);
+        final Object[] arguments = new Object[plan.getParameterCount()];
+
+        // WHEN
+        plan.matchCandidates(new ParameterValue[] { ParameterValue.ofNewValue("new"),
+                ParameterValue.ofOldValue("old"), ParameterValue.of(42), ParameterValue.of(List.of("hello")) },
+                arguments);
+
+        // THEN
+        assertThat(arguments).containsExactly("old", "new", 42, List.of("hello"));
+    }
+
+    @Test
+    void testMatchCandidates_candidatesAreConsumedInOrder() throws NoSuchMethodException {
+        // GIVEN
+        final InvocationPlan plan = InvocationPlan.of(
+                Holder.class.getMethod("withHints", String.class, String.class, int.class, List.class), RESOLVERS);
+        final Object[] arguments = new Object[plan.getParameterCount()];
+
+        // WHEN
+        plan.matchCandidates(new ParameterValue[] { ParameterValue.of("first"), ParameterValue.of("second"),
+                ParameterValue.of(null) }, arguments);
+
+        // THEN (null can not be assigned to primitive int)
+        assertThat(arguments).containsExactly("first", "second", null, null);
+    }
+
+    @Test
+    void testMatchCandidates_resolverSlotIsSkipped() throws NoSuchMethodException {
+        // GIVEN
+        final InvocationPlan plan = InvocationPlan.of(Holder.class.getMethod("withControlValue", String.class,
+                String.class), RESOLVERS);
+        final Object[] arguments = new Object[plan.getParameterCount()];
+
+        // WHEN
+        plan.matchCandidates(new ParameterValue[] { ParameterValue.of("value") }, arguments);
+
+        // THEN
+        assertThat(plan.hasResolvers()).isTrue();
+        assertThat(plan.getSlot(0).hasResolver()).isTrue();
+        assertThat(plan.getSlot(0).getResolver()).isSameAs(CONTROL_VALUE_RESOLVER);
+        assertThat(plan.getSlot(1).hasResolver()).isFalse();
+        assertThat(arguments).containsExactly(null, "value");
+    }
+
+    @Test
+    void testInvoke() throws NoSuchMethodException {
+        // GIVEN
+        final InvocationPlan plan = InvocationPlan.of(
+                Holder.class.getMethod("withHints", String.class, String.class, int.class, List.class), RESOLVERS);
+
+        // WHEN
+        final String result = plan.invoke(new Holder(), new Object[] { "old", "new", 42, List.of() });
+
+        // THEN
+        assertThat(result).isEqualTo("old-new-42-[]");
+    }
+
+    @SuppressWarnings("deprecation")
+    @Test
+    void testInvoke_privateStaticMethod() throws NoSuchMethodException {
+        // GIVEN
+        final Method method = Holder.class.getDeclaredMethod("privateStatic", String.class);
+        final InvocationPlan plan = InvocationPlan.of(method, Collections.emptyMap());
+
+        // WHEN
+        final String result = plan.invoke(null, new Object[] { "hello" });
+
+        // THEN (the shared method instance is not made accessible - "canAccess" is true for nestmates anyway)
+        assertThat(result).isEqualTo("static-hello");
+        assertThat(method.isAccessible()).isFalse();
+    }
+
+    @Test
+    void testInvoke_voidMethodWithUserConfirmation() throws NoSuchMethodException {
+        // GIVEN
+        final Holder holder = new Holder();
+        final InvocationPlan plan = InvocationPlan.of(Holder.class.getMethod("confirmed"), RESOLVERS);
+
+        // WHEN
+        final Object result = plan.invoke(holder, new Object[0]);
+
+        // THEN
+        assertThat(result).isNull();
+        assertThat(holder.confirmedInvoked).isTrue();
+        assertThat(plan.getUserConfirmation()).isNotNull();
+    }
+
+    @Test
+    void testInvoke_methodThrowsException() throws NoSuchMethodException {
+        // GIVEN
+        final InvocationPlan plan = InvocationPlan.of(Holder.class.getMethod("failing"), RESOLVERS);
+        final Holder holder = new Holder();
+        final Object[] arguments = new Object[0];
+
+        // WHEN
+        final IllegalStateException ex = assertThrows(IllegalStateException.class,
+                () -> plan.invoke(holder, arguments));
+
+        // THEN
+        assertThat(ex.getMessage()).isEqualTo("Problem invoking method 'failing'!");
+        assertThat(ex.getCause().getCause()).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void testBindSubscriber() throws NoSuchMethodException {
+        // GIVEN
+        final Holder holder = new Holder();
+        final InvocationPlan plan = InvocationPlan.of(Holder.class.getMethod("onEvent", CharSequence.class),
+                RESOLVERS);
+
+        // WHEN
+        final Consumer<Object> subscriber = plan.bindSubscriber(holder, String.class);
+        subscriber.accept("Hello World");
+
+        // THEN
+        assertThat(holder.lastEvent).isEqualTo("Hello World");
+    }
+
+    @Test
+    void testBindSubscriber_methodWithoutArguments() throws NoSuchMethodException {
+        // GIVEN
+        final Holder holder = new Holder();
+        final InvocationPlan plan = InvocationPlan.of(Holder.class.getMethod("failing"), RESOLVERS);
+
+        // WHEN
+        final Consumer<Object> subscriber = plan.bindSubscriber(holder, String.class);
+        final IllegalStateException ex = assertThrows(IllegalStateException.class,
+                () -> subscriber.accept("Hello World"));
+
+        // THEN (event is dropped and exception is wrapped as in "invoke")
+        assertThat(ex.getMessage()).isEqualTo("Problem invoking method 'failing'!");
+        assertThat(ex.getCause().getCause()).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void testBindSubscriber_methodCanNotBeBound() throws NoSuchMethodException {
+        // GIVEN
+        final Holder holder = new Holder();
+
+        // WHEN and THEN
+        assertThat(InvocationPlan.of(Holder.class.getMethod("onEvent", CharSequence.class), RESOLVERS)
+                .bindSubscriber(holder, Integer.class)).isNull();
+        assertThat(InvocationPlan.of(Holder.class.getMethod("withHints", String.class, String.class, int.class,
+                List.class), RESOLVERS).bindSubscriber(holder, String.class)).isNull();
+        assertThat(InvocationPlan.of(Holder.class.getMethod("withControlValue", String.class, String.class),
+                RESOLVERS).bindSubscriber(holder, String.class)).isNull();
+        assertThat(InvocationPlan.of(Holder.class.getMethod("confirmed"), RESOLVERS).bindSubscriber(holder,
+                String.class)).isNull();
+    }
+
+    public static class Holder {
+
+        boolean confirmedInvoked;
+
+        String lastEvent;
+
+        public String withHints(@AFXArgHint(ArgumentHint.OLD_VALUE) final String oldValue,
+                @AFXArgHint(ArgumentHint.NEW_VALUE) final String newValue, final int number,
+                final List<String> list) {
+            return oldValue + "-" + newValue + "-" + number + "-" + list;
+        }
+
+        public void withControlValue(@AFXControlValue("textField") final String controlValue, final String value) {
+            // method is not invoked
+        }
+
+        @AFXRequiresUserConfirmation
+        public void confirmed() {
+            confirmedInvoked = true;
+        }
+
+        public void onEvent(final CharSequence event) {
+            lastEvent = event.toString();
+        }
+
+        public void failing() {
+            throw new UnsupportedOperationException("failing");
+        }
+
+        private static String privateStatic(final String value) {
+            return "static-" + value;
+        }
+    }
+}
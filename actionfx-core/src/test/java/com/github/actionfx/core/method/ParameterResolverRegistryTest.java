@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026 Martin Koster
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.actionfx.core.method;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.actionfx.core.annotation.AFXControlValue;
+import com.github.actionfx.core.annotation.AFXFromFileOpenDialog;
+
+/**
+ * JUnit test case for {@link ParameterResolverRegistry}.
+ *
+ * @author koster
+ *
+ */
+class ParameterResolverRegistryTest {
+
+    @AfterEach
+    void onTearDown() {
+        ParameterResolverRegistry.reset();
+    }
+
+    @Test
+    void testGetResolver_defaultResolvers() {
+        // WHEN and THEN
+        assertThat(ParameterResolverRegistry.getResolver(AFXControlValue.class))
+                .isInstanceOf(ControlValueAnnotatedParameterResolver.class);
+        assertThat(ParameterResolverRegistry.getResolver(AFXFromFileOpenDialog.class))
+                .isInstanceOf(FromFileOpenDialogParameterResolver.class);
+        assertThat(ParameterResolverRegistry.hasResolver(RuntimeAnnotation.class)).isFalse();
+    }
+
+    @Test
+    void testGetResolver_sameInstanceIsReturned() {
+        // WHEN
+        final AnnotatedParameterResolver<?> resolver1 = ParameterResolverRegistry.getResolver(AFXControlValue.class);
+        final AnnotatedParameterResolver<?> resolver2 = ParameterResolverRegistry.getResolver(AFXControlValue.class);
+
+        // THEN
+        assertThat(resolver1).isSameAs(resolver2);
+    }
+
+    @Test
+    void testRegister() {
+        // GIVEN
+        final AnnotatedParameterResolver<RuntimeAnnotation> resolver = new RuntimeAnnotationResolver();
+
+        // WHEN
+        ParameterResolverRegistry.register(RuntimeAnnotation.class, resolver);
+
+        // THEN
+        assertThat(ParameterResolverRegistry.hasResolver(RuntimeAnnotation.class)).isTrue();
+        assertThat(ParameterResolverRegistry.getResolver(RuntimeAnnotation.class)).isSameAs(resolver);
+    }
+
+    @Test
+    void testRegister_replaceDefaultResolver() {
+        // GIVEN
+        final AnnotatedParameterResolver<AFXControlValue> resolver = new AnnotatedParameterResolver<>() {
+            @Override
+            public <T> ParameterResolution<T> resolve(final Object controller, final Method method,
+                    final Parameter parameter, final AFXControlValue annotation, final Class<T> expectedType) {
+                return ParameterResolution.of(null);
+            }
+        };
+
+        // WHEN
+        ParameterResolverRegistry.register(AFXControlValue.class, resolver);
+
+        // THEN
+        assertThat(ParameterResolverRegistry.getResolver(AFXControlValue.class)).isSameAs(resolver);
+    }
+
+    @Test
+    void testRegister_annotationIsNotRetainedAtRuntime() {
+        // GIVEN
+        final AnnotatedParameterResolver<ClassAnnotation> resolver = new ClassAnnotationResolver();
+
+        // WHEN
+        final IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> ParameterResolverRegistry.register(ClassAnnotation.class, resolver));
+
+        // THEN
+        assertThat(ex.getMessage()).contains("is not retained at runtime");
+        assertThat(ParameterResolverRegistry.hasResolver(ClassAnnotation.class)).isFalse();
+    }
+
+    @Test
+    void testReset() {
+        // GIVEN
+        ParameterResolverRegistry.register(RuntimeAnnotation.class, new RuntimeAnnotationResolver());
+
+        // WHEN
+        ParameterResolverRegistry.reset();
+
+        // THEN
+        assertThat(ParameterResolverRegistry.hasResolver(RuntimeAnnotation.class)).isFalse();
+        assertThat(ParameterResolverRegistry.hasResolver(AFXControlValue.class)).isTrue();
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.PARAMETER)
+    @interface RuntimeAnnotation {
+    }
+
+    @Retention(RetentionPolicy.CLASS)
+    @Target(ElementType.PARAMETER)
+    @interface ClassAnnotation {
+    }
+
+    static class RuntimeAnnotationResolver implements AnnotatedParameterResolver<RuntimeAnnotation> {
+
+        @Override
+        public <T> ParameterResolution<T> resolve(final Object controller, final Method method,
+                final Parameter parameter, final RuntimeAnnotation annotation, final Class<T> expectedType) {
+            return ParameterResolution.of(null);
+        }
+    }
+
+    static class ClassAnnotationResolver implements AnnotatedParameterResolver<ClassAnnotation> {
+
+        @Override
+        public <T> ParameterResolution<T> resolve(final Object controller, final Method method,
+                final Parameter parameter, final ClassAnnotation annotation, final Class<T> expectedType) {
+            return ParameterResolution.cancel();
+        }
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026 Martin Koster
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.actionfx.core.profiling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.github.actionfx.core.events.SimplePriorityAwareEventBus;
+import com.github.actionfx.core.profiling.StartupProfilerTest.EnhancedController;
+import com.github.actionfx.core.profiling.StartupProfilerTest.SomeController;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * JUnit test case for the Java Flight Recorder events in this package.
+ *
+ * @author koster
+ *
+ */
+class ActionFXEventTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testControllerInstantiationEvent() throws IOException {
+        // GIVEN
+        try (Recording recording = new Recording()) {
+            recording.enable(ControllerInstantiationEvent.class);
+            recording.start();
+
+            // WHEN
+            final ControllerInstantiationEvent event = new ControllerInstantiationEvent();
+            event.begin();
+            event.commitFor(EnhancedController.class);
+            recording.stop();
+
+            // THEN (enhanced sub-class is reported by the original controller class)
+            final List<RecordedEvent> events = readEvents(recording, "com.github.actionfx.ControllerInstantiation");
+            assertThat(events).hasSize(1);
+            final RecordedEvent recordedEvent = events.get(0);
+            assertThat(recordedEvent.getString("controllerClass")).isEqualTo(SomeController.class.getName());
+            assertThat(recordedEvent.getString("method")).isNull();
+            assertThat(recordedEvent.getString("controlId")).isNull();
+            assertThat(recordedEvent.getEventType().getCategoryNames()).containsExactly("ActionFX");
+            assertThat(recordedEvent.getDuration()).isNotNegative();
+        }
+    }
+
+    @Test
+    void testActionInvocationEvent() throws IOException {
+        // GIVEN
+        try (Recording recording = new Recording()) {
+            recording.enable(ActionInvocationEvent.class);
+            recording.start();
+
+            // WHEN
+            final ActionInvocationEvent event = new ActionInvocationEvent();
+            event.begin();
+            event.commitFor(SomeController.class, "onClick", "actionButton", true);
+            recording.stop();
+
+            // THEN
+            final List<RecordedEvent> events = readEvents(recording, "com.github.actionfx.ActionInvocation");
+            assertThat(events).hasSize(1);
+            final RecordedEvent recordedEvent = events.get(0);
+            assertThat(recordedEvent.getString("controllerClass")).isEqualTo(SomeController.class.getName());
+            assertThat(recordedEvent.getString("method")).isEqualTo("onClick");
+            assertThat(recordedEvent.getString("controlId")).isEqualTo("actionButton");
+            assertThat(recordedEvent.getBoolean("async")).isTrue();
+        }
+    }
+
+    @Test
+    void testEventBusEvents() throws IOException {
+        // GIVEN
+        final SimplePriorityAwareEventBus eventBus = new SimplePriorityAwareEventBus();
+        eventBus.subscribe(String.class, value -> {
+        });
+        eventBus.subscribe(CharSequence.class, value -> {
+        });
+        try (Recording recording = new Recording()) {
+            recording.enable(EventBusPublishEvent.class);
+            recording.enable(EventBusDispatchEvent.class);
+            recording.start();
+
+            // WHEN
+            eventBus.publish("Hello World");
+            recording.stop();
+
+            // THEN
+            final List<RecordedEvent> publishEvents = readEvents(recording, "com.github.actionfx.EventBusPublish");
+            assertThat(publishEvents).hasSize(1);
+            assertThat(publishEvents.get(0).getString("eventType")).isEqualTo(String.class.getName());
+            assertThat(publishEvents.get(0).getInt("subscriberCount")).isEqualTo(2);
+            final List<RecordedEvent> dispatchEvents = readEvents(recording, "com.github.actionfx.EventBusDispatch");
+            assertThat(dispatchEvents).hasSize(2);
+        }
+    }
+
+    @Test
+    void testEventBusEvents_isRecorded() {
+        // WHEN and THEN (event bus does not allocate events without a running recording)
+        assertThat(EventBusPublishEvent.isRecorded()).isFalse();
+        assertThat(EventBusDispatchEvent.isRecorded()).isFalse();
+        try (Recording recording = new Recording()) {
+            recording.enable(EventBusDispatchEvent.class);
+            recording.start();
+
+            assertThat(EventBusPublishEvent.isRecorded()).isFalse();
+            assertThat(EventBusDispatchEvent.isRecorded()).isTrue();
+        }
+    }
+
+    @Test
+    void testEvent_notRecordedWhenDisabled() throws IOException {
+        // GIVEN
+        try (Recording recording = new Recording()) {
+            recording.enable(ControllerInstantiationEvent.class);
+            recording.disable(ViewLoadEvent.class);
+            recording.start();
+
+            // WHEN
+            final ViewLoadEvent event = new ViewLoadEvent();
+            event.begin();
+            event.commitFor(SomeController.class, "someView", "/some.fxml");
+            recording.stop();
+
+            // THEN
+            assertThat(readEvents(recording, "com.github.actionfx.ViewLoad")).isEmpty();
+        }
+    }
+
+    private List<RecordedEvent> readEvents(final Recording recording, final String eventName) throws IOException {
+        final Path file = tempDir.resolve("recording-" + System.nanoTime() + ".jfr");
+        recording.dump(file);
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(eventName)).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2026 Martin Koster
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.actionfx.core.profiling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.actionfx.core.annotation.AFXController;
+import com.github.actionfx.core.profiling.StartupProfiler.Category;
+
+/**
+ * JUnit test case for {@link StartupProfiler} and {@link StartupReport}.
+ *
+ * @author koster
+ *
+ */
+class StartupProfilerTest {
+
+    @Test
+    void testRecord() {
+        // GIVEN
+        final StartupProfiler profiler = new StartupProfiler(true);
+
+        // WHEN
+        final long start = profiler.start();
+        profiler.record(Category.PHASE, "somePhase", "someContext", start);
+
+        // THEN
+        assertThat(start).isNotZero();
+        final List<StartupReport.Entry> entries = profiler.getReport().getEntries();
+        assertThat(entries).hasSize(1);
+        final StartupReport.Entry entry = entries.get(0);
+        assertThat(entry.getCategory()).isEqualTo(Category.PHASE);
+        assertThat(entry.getName()).isEqualTo("somePhase");
+        assertThat(entry.getContext()).isEqualTo("someContext");
+        assertThat(entry.getThreadName()).isEqualTo(Thread.currentThread().getName());
+        assertThat(entry.getStartOffsetNanos()).isNotNegative();
+        assertThat(entry.getDurationNanos()).isNotNegative();
+    }
+
+    @Test
+    void testRecord_disabled() {
+        // GIVEN
+        final StartupProfiler profiler = StartupProfiler.disabled();
+
+        // WHEN
+        final long start = profiler.start();
+        profiler.record(Category.PHASE, "somePhase", null, start);
+
+        // THEN
+        assertThat(profiler.isRecording()).isFalse();
+        assertThat(start).isZero();
+        assertThat(profiler.getReport().getEntries()).isEmpty();
+        assertThat(profiler.getReport().getWallClockNanos()).isZero();
+    }
+
+    @Test
+    void testRecord_afterStop() {
+        // GIVEN
+        final StartupProfiler profiler = new StartupProfiler(true);
+        final long start = profiler.start();
+        profiler.record(Category.PHASE, "beforeStop", null, start);
+
+        // WHEN
+        profiler.stop();
+        profiler.record(Category.PHASE, "afterStop", null, profiler.start());
+        profiler.record(Category.PHASE, "startedBeforeStop", null, start);
+
+        // THEN
+        assertThat(profiler.isRecording()).isFalse();
+        final StartupReport report = profiler.getReport();
+        assertThat(report.getEntries()).hasSize(1);
+        assertThat(report.getEntries().get(0).getName()).isEqualTo("beforeStop");
+        assertThat(report.getWallClockNanos()).isPositive();
+    }
+
+    @Test
+    void testRecord_numberOfEntriesIsBounded() {
+        // GIVEN
+        final StartupProfiler profiler = new StartupProfiler(true);
+
+        // WHEN
+        for (int i = 0; i < StartupProfiler.MAX_ENTRIES + 10; i++) {
+            profiler.record(Category.BEAN_CREATION, "bean" + i, null, profiler.start());
+        }
+
+        // THEN
+        assertThat(profiler.getReport().getEntries()).hasSize(StartupProfiler.MAX_ENTRIES);
+    }
+
+    @Test
+    void testRecord_enhancedControllerIsReportedByOriginalClassName() {
+        // GIVEN
+        final StartupProfiler profiler = new StartupProfiler(true);
+
+        // WHEN
+        profiler.record(Category.CONTROLLER_INSTANTIATION, EnhancedController.class, null, profiler.start());
+        profiler.record(Category.CONTROLLER_EXTENSION, String.class, EnhancedController.class, profiler.start());
+
+        // THEN
+        final List<StartupReport.Entry> entries = profiler.getReport().getEntries();
+        assertThat(entries).hasSize(2);
+        assertThat(entries.get(0).getName()).isEqualTo(SomeController.class.getName());
+        assertThat(entries.get(1).getName()).isEqualTo(String.class.getName());
+        assertThat(entries.get(1).getContext()).isEqualTo(SomeController.class.getName());
+    }
+
+    @Test
+    void testRecord_concurrently() throws InterruptedException {
+        // GIVEN
+        final StartupProfiler profiler = new StartupProfiler(true);
+        final List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 100; i++) {
+                    profiler.record(Category.BEAN_CREATION, "bean" + i, null, profiler.start());
+                }
+            }));
+        }
+
+        // WHEN
+        threads.forEach(Thread::start);
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        // THEN
+        assertThat(profiler.getReport().getEntries(Category.BEAN_CREATION)).hasSize(400);
+    }
+
+    @Test
+    void testReport() {
+        // GIVEN
+        final List<StartupReport.Entry> entries = new ArrayList<>(List.of(
+                new StartupReport.Entry(Category.CONTROLLER_EXTENSION, "ext2", "controller", "main", 300, 20),
+                new StartupReport.Entry(Category.PHASE, "phase", "", "main", 0, 1000),
+                new StartupReport.Entry(Category.CONTROLLER_EXTENSION, "ext1", "controller", "main", 100, 30)));
+
+        // WHEN
+        final StartupReport report = new StartupReport(entries, 2000);
+
+        // THEN (entries are sorted by their start offset)
+        assertThat(report.getEntries()).extracting(StartupReport.Entry::getName).containsExactly("phase", "ext1",
+                "ext2");
+        assertThat(report.getEntries(Category.CONTROLLER_EXTENSION)).extracting(StartupReport.Entry::getName)
+                .containsExactly("ext1", "ext2");
+        assertThat(report.getTotalDurationNanos(Category.CONTROLLER_EXTENSION)).isEqualTo(50);
+        assertThat(report.getTotalDurationNanos(Category.VIEW_LOADING)).isZero();
+        assertThat(report.getEntry(Category.PHASE, "phase")).isNotNull();
+        assertThat(report.getEntry(Category.PHASE, "ext1")).isNull();
+        assertThat(report.getWallClockNanos()).isEqualTo(2000);
+        assertThat(report.toString()).contains("3 entries", "PHASE", "phase", "ext1 (controller)", "[main]");
+    }
+
+    @AFXController(viewId = "someView", fxml = "/some.fxml")
+    public static class SomeController {
+    }
+
+    // simulates a dynamically enhanced sub-class of a controller
+    public static class EnhancedController extends SomeController {
+    }
+}
@@ -24,11 +24,18 @@
 package com.github.actionfx.core.utils;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.testfx.util.WaitForAsyncUtils;
@@ -47,6 +54,11 @@ import javafx.beans.property.StringProperty;
 @ExtendWith(FxThreadForAllMonocleExtension.class)
 class AsyncUtilsTest {
 
+	@AfterEach
+	void onTearDown() {
+		AsyncUtils.reset();
+	}
+
 	@Test
 	void testExecuteAsynchronously() {
 		// GIVEN
@@ -69,4 +81,115 @@ class AsyncUtilsTest {
 		assertThat(result.get()).isEqualTo("Hello World");
 	}
 
+	@Test
+	void testExecuteAsynchronously_withNamedExecutor() {
+		// GIVEN
+		final AtomicInteger executions = new AtomicInteger();
+		final Executor executor = command -> {
+			executions.incrementAndGet();
+			command.run();
+		};
+		AsyncUtils.registerExecutor("io", executor);
+		final StringProperty result = new SimpleStringProperty("");
+
+		// WHEN
+		AsyncUtils.executeAsynchronously("io", () -> "Hello World", result::set);
+
+		// THEN
+		WaitForAsyncUtils.waitForFxEvents();
+		assertThat(result.get()).isEqualTo("Hello World");
+		assertThat(executions.get()).isEqualTo(1);
+	}
+
+	@Test
+	void testExecuteAsynchronously_withDefaultExecutor() {
+		// GIVEN
+		final AtomicInteger executions = new AtomicInteger();
+		AsyncUtils.setDefaultExecutor(command -> {
+			executions.incrementAndGet();
+			command.run();
+		});
+		final StringProperty result = new SimpleStringProperty("");
+
+		// WHEN
+		AsyncUtils.executeAsynchronously(() -> "Hello World", result::set);
+
+		// THEN
+		WaitForAsyncUtils.waitForFxEvents();
+		assertThat(result.get()).isEqualTo("Hello World");
+		assertThat(executions.get()).isEqualTo(1);
+	}
+
+	@Test
+	void testGetExecutor_unknownName() {
+		// WHEN
+		final IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+				() -> AsyncUtils.getExecutor("unknown"));
+
+		// THEN
+		assertThat(ex.getMessage()).contains("There is no executor registered with name 'unknown'");
+	}
+
+	@Test
+	void testRegisterExecutor_emptyName() {
+		// WHEN and THEN
+		assertThrows(IllegalArgumentException.class, () -> AsyncUtils.registerExecutor("", Runnable::run));
+	}
+
+	@Test
+	void testReset() {
+		// GIVEN
+		final Executor executor = Runnable::run;
+		AsyncUtils.setDefaultExecutor(executor);
+		AsyncUtils.registerExecutor("io", executor);
+
+		// WHEN
+		AsyncUtils.reset();
+
+		// THEN
+		assertThat(AsyncUtils.getExecutor(AsyncUtils.DEFAULT_EXECUTOR)).isNotSameAs(executor);
+		assertThrows(IllegalArgumentException.class, () -> AsyncUtils.getExecutor("io"));
+	}
+
+	@Test
+	void testNewBoundedExecutor() throws InterruptedException {
+		// GIVEN
+		final ExecutorService executor = AsyncUtils.newBoundedExecutor(2);
+		final CountDownLatch latch = new CountDownLatch(3);
+		final AtomicReference<Thread> thread = new AtomicReference<>();
+
+		// WHEN
+		for (int i = 0; i < 3; i++) {
+			executor.execute(() -> {
+				thread.set(Thread.currentThread());
+				latch.countDown();
+			});
+		}
+
+		// THEN
+		assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(thread.get().isDaemon()).isTrue();
+		executor.shutdownNow();
+	}
+
+	@Test
+	void testNewBoundedExecutor_invalidNumberOfThreads() {
+		// WHEN and THEN
+		assertThrows(IllegalArgumentException.class, () -> AsyncUtils.newBoundedExecutor(0));
+	}
+
+	@Test
+	void testNewVirtualThreadExecutor() throws InterruptedException {
+		// GIVEN
+		final ExecutorService executor = AsyncUtils.newVirtualThreadExecutor();
+		final CountDownLatch latch = new CountDownLatch(1);
+
+		// WHEN
+		executor.execute(latch::countDown);
+
+		// THEN (on JDKs without virtual threads, a platform thread pool is used)
+		assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+		executor.shutdownNow();
+	}
+
 }
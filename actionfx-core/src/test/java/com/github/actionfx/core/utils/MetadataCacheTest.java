@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2026 Martin Koster
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.actionfx.core.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * JUnit test case for {@link MetadataCache}.
+ *
+ * @author koster
+ *
+ */
+class MetadataCacheTest {
+
+    @Test
+    void testGet_forClasses() {
+        // GIVEN
+        final MetadataCache<Class<?>, String> cache = MetadataCache.forClasses("test");
+        final AtomicInteger loaderInvocations = new AtomicInteger();
+
+        // WHEN
+        final String first = cache.get(String.class, clazz -> {
+            loaderInvocations.incrementAndGet();
+            return clazz.getSimpleName();
+        });
+        final String second = cache.get(String.class, clazz -> {
+            loaderInvocations.incrementAndGet();
+            return "other";
+        });
+
+        // THEN
+        assertThat(first).isEqualTo("String");
+        assertThat(second).isEqualTo("String");
+        assertThat(loaderInvocations.get()).isEqualTo(1);
+        final MetadataCache.Statistics statistics = cache.getStatistics();
+        assertThat(statistics.getName()).isEqualTo("test");
+        assertThat(statistics.getHitCount()).isEqualTo(1);
+        assertThat(statistics.getMissCount()).isEqualTo(1);
+        assertThat(statistics.getSize()).isEqualTo(1);
+        assertThat(statistics.getHitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    void testGet_nullValueIsCached() {
+        // GIVEN
+        final MetadataCache<Class<?>, String> cache = MetadataCache.forClasses("test");
+        final AtomicInteger loaderInvocations = new AtomicInteger();
+
+        // WHEN
+        cache.get(Integer.class, clazz -> {
+            loaderInvocations.incrementAndGet();
+            return null;
+        });
+        final String value = cache.get(Integer.class, clazz -> {
+            loaderInvocations.incrementAndGet();
+            return "not expected";
+        });
+
+        // THEN
+        assertThat(value).isNull();
+        assertThat(loaderInvocations.get()).isEqualTo(1);
+    }
+
+    @Test
+    void testComputeIfAbsent_loaderIsInvokedOnceForConcurrentMisses() throws Exception {
+        // GIVEN
+        final MetadataCache<Class<?>, String> cache = MetadataCache.forClasses("test");
+        final AtomicInteger loaderInvocations = new AtomicInteger();
+        final CountDownLatch loaderStarted = new CountDownLatch(1);
+        final CountDownLatch releaseLoader = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // WHEN
+            final Future<String> first = executor.submit(() -> cache.computeIfAbsent(String.class, clazz -> {
+                loaderInvocations.incrementAndGet();
+                loaderStarted.countDown();
+                awaitQuietly(releaseLoader);
+                return clazz.getSimpleName();
+            }));
+            loaderStarted.await(5, TimeUnit.SECONDS);
+            final Future<String> second = executor.submit(() -> cache.computeIfAbsent(String.class, clazz -> {
+                loaderInvocations.incrementAndGet();
+                return "other";
+            }));
+            releaseLoader.countDown();
+
+            // THEN
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("String");
+            assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("String");
+            assertThat(loaderInvocations.get()).isEqualTo(1);
+            final MetadataCache.Statistics statistics = cache.getStatistics();
+            assertThat(statistics.getMissCount()).isEqualTo(1);
+            assertThat(statistics.getHitCount()).isEqualTo(1);
+            assertThat(statistics.getSize()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testComputeIfAbsent_nullValueIsCached() {
+        // GIVEN
+        final MetadataCache<Class<?>, String> cache = MetadataCache.forClasses("test");
+        final AtomicInteger loaderInvocations = new AtomicInteger();
+
+        // WHEN
+        cache.computeIfAbsent(Integer.class, clazz -> {
+            loaderInvocations.incrementAndGet();
+            return null;
+        });
+        final String value = cache.computeIfAbsent(Integer.class, clazz -> {
+            loaderInvocations.incrementAndGet();
+            return "not expected";
+        });
+
+        // THEN
+        assertThat(value).isNull();
+        assertThat(loaderInvocations.get()).isEqualTo(1);
+    }
+
+    @Test
+    void testGet_forClassScopedKeys() {
+        // GIVEN
+        final MetadataCache<String, Integer> cache = MetadataCache.forClassScopedKeys("test",
+                key -> key.startsWith("s") ? String.class : Integer.class);
+
+        // WHEN
+        final Integer value1 = cache.get("s1", String::length);
+        final Integer value2 = cache.get("i12", String::length);
+
+        // THEN
+        assertThat(value1).isEqualTo(2);
+        assertThat(value2).isEqualTo(3);
+        assertThat(cache.getIfPresent("s1")).isEqualTo(2);
+        assertThat(cache.getIfPresent("i12")).isEqualTo(3);
+        assertThat(cache.getStatistics().getSize()).isEqualTo(2);
+    }
+
+    @Test
+    void testGet_maximumSize() {
+        // GIVEN
+        final MetadataCache<String, String> cache = MetadataCache.create("test", 2);
+
+        // WHEN
+        cache.get("a", String::toUpperCase);
+        cache.get("b", String::toUpperCase);
+        cache.get("c", String::toUpperCase);
+
+        // THEN
+        final MetadataCache.Statistics statistics = cache.getStatistics();
+        assertThat(statistics.getSize()).isEqualTo(2);
+        assertThat(statistics.getEvictionCount()).isEqualTo(1);
+        assertThat(cache.getIfPresent("c")).isEqualTo("C");
+    }
+
+    @Test
+    void testInvalidate() {
+        // GIVEN
+        final MetadataCache<Class<?>, String> cache = MetadataCache.forClasses("test");
+        cache.get(String.class, Class::getName);
+
+        // WHEN
+        cache.invalidate(String.class);
+
+        // THEN
+        assertThat(cache.getIfPresent(String.class)).isNull();
+        assertThat(cache.getStatistics().getSize()).isZero();
+    }
+
+    @Test
+    void testClear() {
+        // GIVEN
+        final MetadataCache<Class<?>, String> cache = MetadataCache.forClasses("test");
+        cache.get(String.class, Class::getName);
+        cache.get(String.class, Class::getName);
+
+        // WHEN
+        cache.clear();
+
+        // THEN
+        final MetadataCache.Statistics statistics = cache.getStatistics();
+        assertThat(statistics.getSize()).isZero();
+        assertThat(statistics.getHitCount()).isZero();
+        assertThat(statistics.getMissCount()).isZero();
+        assertThat(cache.get(String.class, clazz -> "recomputed")).isEqualTo("recomputed");
+    }
+
+    @Test
+    void testCountLiveEntries_entryMapsOfUnloadedClassesAreNotCounted() {
+        // GIVEN
+        final Map<String, String> entries = Map.of("a", "A", "b", "B");
+        final WeakReference<Map<String, String>> liveEntries = new WeakReference<>(entries);
+        final WeakReference<Map<String, String>> unloadedEntries = new WeakReference<>(Map.of("c", "C"));
+        final Queue<WeakReference<Map<String, String>>> entryMaps = new ConcurrentLinkedQueue<>(
+                List.of(liveEntries, unloadedEntries));
+
+        // WHEN (clearing the reference is what the garbage collector does, once the class is unloaded)
+        unloadedEntries.clear();
+        final long numberOfEntries = MetadataCache.countLiveEntries(entryMaps);
+
+        // THEN (cleared references are removed)
+        assertThat(numberOfEntries).isEqualTo(2);
+        assertThat(entryMaps).containsExactly(liveEntries);
+        assertThat(liveEntries.get()).isSameAs(entries);
+    }
+
+    @Test
+    void testGetStatisticsOfAllCaches() {
+        // GIVEN
+        MetadataCache.create("MetadataCacheTest.registered");
+
+        // WHEN and THEN
+        assertThat(MetadataCache.getStatisticsOfAllCaches())
+                .anyMatch(statistics -> "MetadataCacheTest.registered".equals(statistics.getName()));
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}